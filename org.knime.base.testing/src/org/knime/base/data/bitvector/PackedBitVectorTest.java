@@ -0,0 +1,205 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.bitvector;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link PackedBitVector} and {@link PackedBitVectorBlock} against {@link BitSet}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PackedBitVectorTest {
+
+    private static BitSet randomBits(final Random random, final int length) {
+        final BitSet bits = new BitSet(length);
+        for (int i = 0; i < length; i++) {
+            if (random.nextInt(4) == 0) {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    private static double tanimoto(final BitSet b1, final BitSet b2) {
+        final BitSet and = (BitSet)b1.clone();
+        and.and(b2);
+        final int union = b1.cardinality() + b2.cardinality() - and.cardinality();
+        return union == 0 ? 0 : and.cardinality() / (double)union;
+    }
+
+    /** Tests the bit operations and the conversion from and to {@link BitSet}. */
+    @Test
+    public void testBitOperations() {
+        final Random random = new Random(48);
+        for (final int length : new int[]{0, 1, 63, 64, 65, 200, 1024}) {
+            final BitSet b1 = randomBits(random, length);
+            final BitSet b2 = randomBits(random, length);
+            final PackedBitVector v1 = PackedBitVector.fromBitSet(b1, length);
+            final PackedBitVector v2 = PackedBitVector.fromBitSet(b2, length);
+            assertEquals(length, v1.length());
+            assertEquals(b1, v1.toBitSet());
+            assertEquals(b1.cardinality(), v1.cardinality());
+            for (int i = 0; i < length; i++) {
+                assertEquals(b1.get(i), v1.get(i));
+            }
+
+            final BitSet and = (BitSet)b1.clone();
+            and.and(b2);
+            final BitSet or = (BitSet)b1.clone();
+            or.or(b2);
+            final BitSet xor = (BitSet)b1.clone();
+            xor.xor(b2);
+            assertEquals(and, v1.and(v2).toBitSet());
+            assertEquals(or, v1.or(v2).toBitSet());
+            assertEquals(xor, v1.xor(v2).toBitSet());
+            assertEquals(and.cardinality(), v1.cardinalityOfIntersection(v2));
+            assertEquals(tanimoto(b1, b2), PackedBitVector.tanimoto(v1, v2), 0);
+        }
+
+        final PackedBitVector v = new PackedBitVector(70);
+        v.set(69);
+        v.set(3);
+        assertTrue(v.get(69));
+        v.clear(69);
+        assertFalse(v.get(69));
+        assertEquals(1, v.cardinality());
+        // bits beyond the length are dropped
+        final BitSet tooLong = new BitSet();
+        tooLong.set(5);
+        tooLong.set(70);
+        assertEquals(1, PackedBitVector.fromBitSet(tooLong, 70).cardinality());
+    }
+
+    /** Tests that the hex format matches the one of the {@link BitVectorCell}. */
+    @Test
+    public void testHexString() {
+        assertEquals("0000018F", PackedBitVector.fromHexString("18F").toHexString());
+        assertEquals("1234567A0000018F", PackedBitVector.fromHexString("1234567a0000018f").toHexString());
+        assertEquals("11110001100000000000000000000000", PackedBitVector.fromHexString("18F").toString());
+        assertEquals(64, PackedBitVector.fromHexString("123456789").length());
+
+        final Random random = new Random(480);
+        final BitSet bits = randomBits(random, 100);
+        final PackedBitVector v = PackedBitVector.fromBitSet(bits, 100);
+        assertEquals(v.toHexString(), PackedBitVector.fromHexString(v.toHexString()).toHexString());
+        assertEquals(bits, PackedBitVector.fromHexString(v.toHexString()).toBitSet());
+    }
+
+    /** Tests an invalid hex character. */
+    @Test(expected = NumberFormatException.class)
+    public void testInvalidHexString() {
+        PackedBitVector.fromHexString("12G4");
+    }
+
+    /** Tests the batch similarity of a block against the pairwise similarity. */
+    @Test
+    public void testBlock() {
+        final Random random = new Random(4800);
+        final int length = 166;
+        final PackedBitVectorBlock block = new PackedBitVectorBlock(length, 2);
+        final PackedBitVector[] vectors = new PackedBitVector[100];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = PackedBitVector.fromBitSet(randomBits(random, length), length);
+            assertEquals(i, block.add(vectors[i]));
+        }
+        // an empty vector
+        vectors[7] = new PackedBitVector(length);
+        final PackedBitVectorBlock withEmpty = new PackedBitVectorBlock(length, 0);
+        for (final PackedBitVector v : vectors) {
+            withEmpty.add(v);
+        }
+        assertEquals(vectors.length, withEmpty.size());
+        assertEquals(vectors[42], withEmpty.get(42));
+        assertEquals(0, withEmpty.cardinality(7));
+
+        final PackedBitVector query = PackedBitVector.fromBitSet(randomBits(random, length), length);
+        final double[] expectedTanimoto = new double[vectors.length];
+        final double[] expectedCosine = new double[vectors.length];
+        final int[] expectedCommon = new int[vectors.length];
+        for (int i = 0; i < vectors.length; i++) {
+            expectedTanimoto[i] = PackedBitVector.tanimoto(query, vectors[i]);
+            expectedCosine[i] = PackedBitVector.cosine(query, vectors[i]);
+            expectedCommon[i] = query.cardinalityOfIntersection(vectors[i]);
+        }
+        assertEquals(0, expectedTanimoto[7], 0);
+        assertEquals(0, expectedCosine[7], 0);
+
+        final double[] tanimoto = new double[vectors.length];
+        withEmpty.tanimoto(query, tanimoto);
+        assertArrayEquals(expectedTanimoto, tanimoto, 0);
+        final double[] cosine = new double[vectors.length];
+        withEmpty.cosine(query, cosine);
+        assertArrayEquals(expectedCosine, cosine, 0);
+
+        // a sub range, written with an offset
+        final double[] range = new double[12];
+        withEmpty.tanimoto(query, 50, 60, range, 2);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(expectedTanimoto[50 + i], range[2 + i], 0);
+        }
+        final int[] common = new int[vectors.length];
+        withEmpty.cardinalityOfIntersection(query, 0, vectors.length, common, 0);
+        assertArrayEquals(expectedCommon, common);
+    }
+
+    /** Tests that vectors of a different length are rejected. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testBlockLengthMismatch() {
+        new PackedBitVectorBlock(64, 1).add(new PackedBitVector(65));
+    }
+}
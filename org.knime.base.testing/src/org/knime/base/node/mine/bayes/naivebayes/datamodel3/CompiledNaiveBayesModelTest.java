@@ -0,0 +1,191 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.bayes.naivebayes.datamodel3;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.node.mine.bayes.naivebayes.learner3.NaiveBayesLearnerNodeFactory4;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.vector.bitvector.DenseBitVectorCell;
+import org.knime.core.data.vector.bitvector.DenseBitVectorCellFactory;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the predictions of the {@link CompiledNaiveBayesModel} with the ones of the {@link NaiveBayesModel}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CompiledNaiveBayesModelTest {
+
+    private static final int BIT_VECTOR_LENGTH = 16;
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * Creates the execution context.
+     */
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(),
+            new Node(new NaiveBayesLearnerNodeFactory4()), SingleNodeContainer.MemoryPolicy.CacheSmallInMemory,
+            new HashMap<Integer, ContainerTable>());
+    }
+
+    private static DataTableSpec createSpec() {
+        return new DataTableSpec(new DataColumnSpecCreator("Numerical", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Class", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Nominal", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("BitVector", DenseBitVectorCell.TYPE).createSpec());
+    }
+
+    private static DataRow createRow(final Random random, final int r, final String nominal) {
+        final int classIdx = random.nextInt(3);
+        final DataCell numerical = random.nextInt(20) == 0 ? DataType.getMissingCell()
+            : new DoubleCell(random.nextGaussian() + classIdx);
+        final DataCell nominalCell = random.nextInt(20) == 0 ? DataType.getMissingCell() : new StringCell(nominal);
+        final DataCell bitVector;
+        if (random.nextInt(20) == 0) {
+            bitVector = DataType.getMissingCell();
+        } else {
+            final DenseBitVectorCellFactory factory = new DenseBitVectorCellFactory(BIT_VECTOR_LENGTH);
+            for (int i = 0; i < BIT_VECTOR_LENGTH; i++) {
+                if (random.nextInt(BIT_VECTOR_LENGTH) < i + classIdx) {
+                    factory.set(i);
+                }
+            }
+            bitVector = factory.createDataCell();
+        }
+        return new DefaultRow("Row" + r, numerical, new StringCell("C" + classIdx), nominalCell, bitVector);
+    }
+
+    private static BufferedDataTable createTable(final int rows, final int seed, final boolean unknownValues) {
+        final Random random = new Random(seed);
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(createSpec());
+        for (int r = 0; r < rows; r++) {
+            final int nominal = random.nextInt(unknownValues ? 6 : 5);
+            container.addRowToTable(createRow(random, r, nominal == 5 ? "unknown" : ("V" + nominal)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static void assertSamePredictions(final NaiveBayesModel model, final BufferedDataTable table) {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final String[] attributeNames = spec.getColumnNames();
+        final List<String> sortedClassValues = model.getSortedClassValues();
+        final CompiledNaiveBayesModel compiledModel = model.compile(spec);
+        assertEquals(sortedClassValues.size(), compiledModel.getNoOfClassValues());
+        for (final DataRow row : table) {
+            final double[] probabilities = new double[compiledModel.getNoOfClassValues()];
+            assertEquals(model.getMostLikelyClassCell(attributeNames, row), compiledModel.predict(row, probabilities));
+            assertArrayEquals(model.getClassProbabilities(attributeNames, row, sortedClassValues, true),
+                probabilities, 0);
+            assertEquals(model.getMostLikelyClassCell(attributeNames, row), compiledModel.predict(row, null));
+        }
+    }
+
+    /**
+     * Tests that the compiled model predicts the same classes and probabilities.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSamePredictions() throws Exception {
+        final BufferedDataTable training = createTable(1000, 42, false);
+        final BufferedDataTable test = createTable(500, 7, true);
+        for (final boolean ignoreMissingVals : new boolean[]{false, true}) {
+            final NaiveBayesModel model = new NaiveBayesModel(training, "Class", EXEC_CONTEXT, 20,
+                ignoreMissingVals, false, NaiveBayesModel.DEFAULT_MIN_PROB_THRESHOLD, 0.0001, 0);
+            assertSamePredictions(model, training);
+            assertSamePredictions(model, test);
+        }
+    }
+
+    /**
+     * Tests that the compiled model handles tables with other columns than the training table.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testDifferentColumns() throws Exception {
+        final BufferedDataTable training = createTable(1000, 42, false);
+        final NaiveBayesModel model = new NaiveBayesModel(training, "Class", EXEC_CONTEXT, 20, false, false,
+            NaiveBayesModel.DEFAULT_MIN_PROB_THRESHOLD, 0.0001, 0);
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("Other", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Nominal", StringCell.TYPE).createSpec());
+        final Random random = new Random(3);
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(spec);
+        for (int r = 0; r < 100; r++) {
+            container.addRowToTable(
+                new DefaultRow("Row" + r, new StringCell("O" + r), new StringCell("V" + random.nextInt(6))));
+        }
+        container.close();
+        assertSamePredictions(model, container.getTable());
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.mds;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.node.mine.mds.distances.DistanceManagerFactory;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Tests the sampled training of the {@link MDSManager}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class MDSManagerTest {
+
+    private static final int COLUMNS = 4;
+
+    private static final int DIMENSION = 2;
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * Creates the execution context.
+     */
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new MDSNodeFactory()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    private static BufferedDataTable createTable(final int rows, final long seed) {
+        final Random random = new Random(seed);
+        final DataColumnSpec[] specs = new DataColumnSpec[COLUMNS];
+        for (int i = 0; i < COLUMNS; i++) {
+            specs[i] = new DataColumnSpecCreator("x" + i, DoubleCell.TYPE).createSpec();
+        }
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(new DataTableSpec(specs));
+        for (int r = 0; r < rows; r++) {
+            final DataCell[] cells = new DataCell[COLUMNS];
+            for (int i = 0; i < COLUMNS; i++) {
+                cells[i] = new DoubleCell(random.nextGaussian());
+            }
+            container.addRowToTable(new DefaultRow("Row" + r, cells));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static MDSManager createManager(final BufferedDataTable table, final long seed) throws Exception {
+        final MDSManager manager =
+            new MDSManager(DIMENSION, DistanceManagerFactory.EUCLIDEAN_DIST, false, table, EXEC_CONTEXT);
+        manager.init(seed);
+        return manager;
+    }
+
+    private static Map<RowKey, double[]> getCoordinates(final MDSManager manager) {
+        final Map<RowKey, double[]> coordinates = new HashMap<>();
+        final Hashtable<RowKey, DataPoint> points = manager.getDataPoints();
+        for (final Map.Entry<RowKey, DataPoint> entry : points.entrySet()) {
+            final double[] coords = new double[DIMENSION];
+            for (int d = 0; d < DIMENSION; d++) {
+                coords[d] = entry.getValue().getElementAt(d);
+            }
+            coordinates.put(entry.getKey(), coords);
+        }
+        return coordinates;
+    }
+
+    private static void assertSameCoordinates(final Map<RowKey, double[]> expected,
+        final Map<RowKey, double[]> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (final Map.Entry<RowKey, double[]> entry : expected.entrySet()) {
+            final double[] actualCoords = actual.get(entry.getKey());
+            for (int d = 0; d < DIMENSION; d++) {
+                assertEquals(entry.getKey() + ", dimension " + d, entry.getValue()[d], actualCoords[d], 0.0);
+            }
+        }
+    }
+
+    /**
+     * Tests that the sampled training yields the same points for the same seed and different ones for another seed.
+     *
+     * @throws Exception if the training fails
+     */
+    @Test
+    public void testSampledTrainingIsDeterministic() throws Exception {
+        // more rows than points per task, hence several tasks run in parallel
+        final BufferedDataTable table = createTable(2500, 1);
+        final MDSManager first = createManager(table, 42);
+        first.trainSampled(5, 1.0, 10);
+        final MDSManager second = createManager(table, 42);
+        second.trainSampled(5, 1.0, 10);
+        assertSameCoordinates(getCoordinates(first), getCoordinates(second));
+
+        final MDSManager other = createManager(table, 43);
+        other.trainSampled(5, 1.0, 10);
+        assertNotEquals(getCoordinates(first).get(new RowKey("Row0"))[0],
+            getCoordinates(other).get(new RowKey("Row0"))[0], 0.0);
+    }
+
+    /**
+     * Tests that the sampled training performs the full training if the sample size is not smaller than the number of
+     * rows.
+     *
+     * @throws Exception if the training fails
+     */
+    @Test
+    public void testSampledTrainingFallsBackToFullTraining() throws Exception {
+        final BufferedDataTable table = createTable(50, 2);
+        for (final int sampleSize : new int[]{49, 50, 100}) {
+            final MDSManager full = createManager(table, 42);
+            full.train(5, 1.0);
+            final MDSManager sampled = createManager(table, 42);
+            sampled.trainSampled(5, 1.0, sampleSize);
+            assertSameCoordinates(getCoordinates(full), getCoordinates(sampled));
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.regression.logistic.learner4.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerNodeFactory4;
+import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingRow.FeatureIterator;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Unit tests for {@link MappedSparseRowData}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class MappedSparseRowDataTest {
+
+    private static final int N_FEATURES = 6;
+
+    private static final int N_CATS = 4;
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * Creates the execution context.
+     */
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new LogRegLearnerNodeFactory4()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    private static BufferedDataTable createTable(final int rows, final long seed) {
+        final Random random = new Random(seed);
+        final DataColumnSpec[] specs = new DataColumnSpec[N_FEATURES + 1];
+        for (int i = 0; i < N_FEATURES; i++) {
+            specs[i] = new DataColumnSpecCreator("x" + i, DoubleCell.TYPE).createSpec();
+        }
+        specs[N_FEATURES] = new DataColumnSpecCreator("class", IntCell.TYPE).createSpec();
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(new DataTableSpec(specs));
+        for (int r = 0; r < rows; r++) {
+            final DataCell[] cells = new DataCell[N_FEATURES + 1];
+            for (int i = 0; i < N_FEATURES; i++) {
+                // values that are not representable as floats
+                cells[i] = new DoubleCell(random.nextInt(3) == 0 ? 0.0 : random.nextGaussian() * 1e3 + 1e-9);
+            }
+            cells[N_FEATURES] = new IntCell(random.nextInt(N_CATS));
+            container.addRowToTable(new DefaultRow("Row" + r, cells));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static void assertSameRow(final ClassificationTrainingRow expected, final ClassificationTrainingRow actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getCategory(), actual.getCategory());
+        for (int c = 0; c < N_CATS; c++) {
+            assertEquals(expected.getProbability(c), actual.getProbability(c), 0);
+        }
+        final FeatureIterator expectedIter = expected.getFeatureIterator();
+        final FeatureIterator actualIter = actual.getFeatureIterator();
+        while (expectedIter.next()) {
+            assertTrue(actualIter.hasNext());
+            assertTrue(actualIter.next());
+            assertEquals(expectedIter.getFeatureIndex(), actualIter.getFeatureIndex());
+            // there are no differences allowed here
+            assertEquals(expectedIter.getFeatureValue(), actualIter.getFeatureValue(), 0);
+        }
+        assertFalse(actualIter.hasNext());
+        assertFalse(actualIter.next());
+    }
+
+    /**
+     * Tests that the rows read from the file are identical to the ones created by the row builder.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRoundTrip() throws Exception {
+        final BufferedDataTable table = createTable(500, 3);
+        final TestRowBuilder rowBuilder = new TestRowBuilder();
+        final MappedSparseRowData data = new MappedSparseRowData(table, 42L, rowBuilder, 16, EXEC_CONTEXT);
+        try {
+            assertEquals(500, data.getRowCount());
+            int r = 0;
+            for (final ClassificationTrainingRow row : data) {
+                assertSameRow(rowBuilder.build(table, r), row);
+                r++;
+            }
+            assertEquals(500, r);
+            assertSameRow(rowBuilder.build(table, 123), data.getRow(123));
+        } finally {
+            data.dispose();
+        }
+    }
+
+    /**
+     * Tests that {@link MappedSparseRowData#getRandomRow()} returns every row exactly once per pass.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRandomRowsWithoutReplacement() throws Exception {
+        final BufferedDataTable table = createTable(101, 5);
+        final MappedSparseRowData data = new MappedSparseRowData(table, 42L, new TestRowBuilder(), 16, EXEC_CONTEXT);
+        try {
+            for (int pass = 0; pass < 3; pass++) {
+                final boolean[] seen = new boolean[101];
+                for (int i = 0; i < seen.length; i++) {
+                    final int id = data.getRandomRow().getId();
+                    assertFalse("Row " + id + " drawn twice", seen[id]);
+                    seen[id] = true;
+                }
+            }
+        } finally {
+            data.dispose();
+        }
+    }
+
+    /**
+     * Builds rows with the intercept and the non zero feature values of a row as they are. Every fifth row has soft
+     * class probabilities.
+     */
+    private static final class TestRowBuilder implements TrainingRowBuilder<ClassificationTrainingRow> {
+
+        ClassificationTrainingRow build(final BufferedDataTable table, final int id) {
+            int r = 0;
+            for (final DataRow row : table) {
+                if (r++ == id) {
+                    return build(row, id);
+                }
+            }
+            throw new IllegalArgumentException("No row " + id);
+        }
+
+        @Override
+        public ClassificationTrainingRow build(final DataRow row, final int id) {
+            final int[] indices = new int[N_FEATURES + 1];
+            final double[] values = new double[N_FEATURES + 1];
+            values[0] = 1.0;
+            int nnz = 1;
+            for (int i = 0; i < N_FEATURES; i++) {
+                final double value = ((DoubleValue)row.getCell(i)).getDoubleValue();
+                if (value != 0.0) {
+                    indices[nnz] = i + 1;
+                    values[nnz++] = value;
+                }
+            }
+            final int category = ((IntValue)row.getCell(N_FEATURES)).getIntValue();
+            final double[] probabilities = new double[N_CATS];
+            if (id % 5 == 0) {
+                Arrays.fill(probabilities, 0.1 / (N_CATS - 1));
+                probabilities[category] = 0.9;
+            } else {
+                probabilities[category] = 1.0;
+            }
+            return new TestRow(Arrays.copyOf(indices, nnz), Arrays.copyOf(values, nnz), id, category,
+                probabilities);
+        }
+
+        @Override
+        public int getFeatureCount() {
+            return N_FEATURES + 1;
+        }
+
+        @Override
+        public int getTargetDimension() {
+            return N_CATS - 1;
+        }
+
+        @Override
+        public Map<Integer, List<DataCell>> getNominalDomainValues() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public List<Integer> getLearningColumns() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Map<Integer, Integer> getVectorLengths() {
+            return Collections.emptyMap();
+        }
+    }
+
+    private static final class TestRow implements ClassificationTrainingRow {
+
+        private final int[] m_indices;
+
+        private final double[] m_values;
+
+        private final int m_id;
+
+        private final int m_category;
+
+        private final double[] m_probabilities;
+
+        TestRow(final int[] indices, final double[] values, final int id, final int category,
+            final double[] probabilities) {
+            m_indices = indices;
+            m_values = values;
+            m_id = id;
+            m_category = category;
+            m_probabilities = probabilities;
+        }
+
+        @Override
+        public int getId() {
+            return m_id;
+        }
+
+        @Override
+        public int getCategory() {
+            return m_category;
+        }
+
+        @Override
+        public double getProbability(final int classIdx) {
+            return m_probabilities[classIdx];
+        }
+
+        @Override
+        public FeatureIterator getFeatureIterator() {
+            return new TestFeatureIterator(-1);
+        }
+
+        private final class TestFeatureIterator implements FeatureIterator {
+
+            private int m_idx;
+
+            TestFeatureIterator(final int startIdx) {
+                m_idx = startIdx;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return m_idx < m_indices.length - 1;
+            }
+
+            @Override
+            public boolean next() {
+                return ++m_idx < m_indices.length;
+            }
+
+            @Override
+            public int getFeatureIndex() {
+                return m_indices[m_idx];
+            }
+
+            @Override
+            public double getFeatureValue() {
+                return m_values[m_idx];
+            }
+
+            @Override
+            public FeatureIterator spawn() {
+                return new TestFeatureIterator(m_idx - 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.regression.logistic.learner4.sg;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerNodeFactory4;
+import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerResult;
+import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerSettings;
+import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerSettings.Solver;
+import org.knime.base.node.mine.regression.logistic.learner4.data.ClassificationTrainingRow;
+import org.knime.base.node.mine.regression.logistic.learner4.data.CompressedSparseRowData;
+import org.knime.base.node.mine.regression.logistic.learner4.data.InMemoryData;
+import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingRow.FeatureIterator;
+import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingRowBuilder;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the models the {@link SagLogRegLearner} learns on {@link CompressedSparseRowData} and on
+ * {@link InMemoryData}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class SagLogRegLearnerTest {
+
+    private static final int N_FEATURES = 5;
+
+    private static final int N_CATS = 3;
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * Creates the execution context.
+     */
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new LogRegLearnerNodeFactory4()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Creates a table with sparse feature values that are not representable as floats and a class column.
+     */
+    private static BufferedDataTable createTable(final int rows, final long seed) {
+        final Random random = new Random(seed);
+        final DataColumnSpec[] specs = new DataColumnSpec[N_FEATURES + 1];
+        for (int i = 0; i < N_FEATURES; i++) {
+            specs[i] = new DataColumnSpecCreator("x" + i, DoubleCell.TYPE).createSpec();
+        }
+        specs[N_FEATURES] = new DataColumnSpecCreator("class", IntCell.TYPE).createSpec();
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(new DataTableSpec(specs));
+        for (int r = 0; r < rows; r++) {
+            final int category = random.nextInt(N_CATS);
+            final DataCell[] cells = new DataCell[N_FEATURES + 1];
+            for (int i = 0; i < N_FEATURES; i++) {
+                cells[i] = new DoubleCell(random.nextInt(3) == 0 ? 0.0 : random.nextGaussian() + 0.1 * i * category);
+            }
+            cells[N_FEATURES] = new IntCell(category);
+            container.addRowToTable(new DefaultRow("Row" + r, cells));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static LogRegLearnerSettings createSettings() {
+        final LogRegLearnerSettings settings = new LogRegLearnerSettings();
+        settings.setSolver(Solver.SAG);
+        settings.setMaxEpoch(20);
+        settings.setCalcCovMatrix(false);
+        settings.setThreadCount(1);
+        return settings;
+    }
+
+    /**
+     * Tests that the learner finds exactly the same coefficients on the compressed sparse row representation as on
+     * the plain in memory rows, i.e. that the compressed representation doesn't change any feature value.
+     *
+     * @throws Exception if the training fails
+     */
+    @Test
+    public void testCompressedSparseRowDataSameAsInMemory() throws Exception {
+        final BufferedDataTable table = createTable(300, 7);
+        for (final boolean lazy : new boolean[]{false, true}) {
+            final LogRegLearnerSettings settings = createSettings();
+            settings.setPerformLazy(lazy);
+            final LogRegLearnerResult inMemory = new SagLogRegLearner(settings)
+                .learn(new InMemoryData<>(table, 42L, new MockRowBuilder()), EXEC_CONTEXT);
+            final LogRegLearnerResult csr = new SagLogRegLearner(settings)
+                .learn(new CompressedSparseRowData(table, 42L, new MockRowBuilder()), EXEC_CONTEXT);
+            assertEquals("Number of epochs", inMemory.getIter(), csr.getIter());
+            final double[][] expected = inMemory.getBeta().getData();
+            final double[][] actual = csr.getBeta().getData();
+            assertEquals(expected.length, actual.length);
+            for (int i = 0; i < expected.length; i++) {
+                assertArrayEquals(expected[i], actual[i], 0.0);
+            }
+        }
+    }
+
+    /**
+     * Tests that the feature values of the compressed sparse row representation are the ones of the training rows.
+     */
+    @Test
+    public void testCompressedSparseRowDataKeepsFeatureValues() {
+        final BufferedDataTable table = createTable(50, 11);
+        final MockRowBuilder rowBuilder = new MockRowBuilder();
+        final CompressedSparseRowData csr = new CompressedSparseRowData(table, 42L, rowBuilder);
+        int r = 0;
+        for (final DataRow row : table) {
+            final ClassificationTrainingRow expected = rowBuilder.build(row, r);
+            final ClassificationTrainingRow actual = csr.getRow(r);
+            assertEquals(expected.getCategory(), actual.getCategory());
+            final FeatureIterator expectedIter = expected.getFeatureIterator();
+            final FeatureIterator actualIter = actual.getFeatureIterator();
+            while (expectedIter.next()) {
+                assertTrue(actualIter.next());
+                assertEquals(expectedIter.getFeatureIndex(), actualIter.getFeatureIndex());
+                assertEquals(expectedIter.getFeatureValue(), actualIter.getFeatureValue(), 0.0);
+            }
+            assertFalse(actualIter.next());
+            r++;
+        }
+    }
+
+    /**
+     * Creates {@link MockClassificationTrainingRow MockClassificationTrainingRows} from the first {@link #N_FEATURES}
+     * columns and the class column without any loss of precision.
+     */
+    private static final class MockRowBuilder implements TrainingRowBuilder<ClassificationTrainingRow> {
+
+        @Override
+        public ClassificationTrainingRow build(final DataRow row, final int id) {
+            final double[] features = new double[N_FEATURES];
+            for (int i = 0; i < N_FEATURES; i++) {
+                features[i] = ((DoubleValue)row.getCell(i)).getDoubleValue();
+            }
+            return new MockClassificationTrainingRow(features, id,
+                ((IntValue)row.getCell(N_FEATURES)).getIntValue());
+        }
+
+        @Override
+        public int getFeatureCount() {
+            // the intercept and the features
+            return N_FEATURES + 1;
+        }
+
+        @Override
+        public int getTargetDimension() {
+            return N_CATS - 1;
+        }
+
+        @Override
+        public Map<Integer, List<DataCell>> getNominalDomainValues() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public List<Integer> getLearningColumns() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Map<Integer, Integer> getVectorLengths() {
+            return Collections.emptyMap();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.scorer.accuracy;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.base.node.parallel.ParallelChunkProcessor;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Tests for {@link ConfusionMatrixCounter}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ConfusionMatrixCounterTest {
+
+    private static final int CHUNK_SIZE = ParallelChunkProcessor.DEFAULT_CHUNK_SIZE;
+
+    private static ParallelChunkProcessor createProcessor(final int maxPendingChunks) {
+        return new ParallelChunkProcessor(KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(4), CHUNK_SIZE,
+            maxPendingChunks);
+    }
+
+    private static final DataCell[] VALUES = {new StringCell("A"), new StringCell("B"), new StringCell("C")};
+
+    /** Rows with the actual class in the first and the predicted class in the second column. */
+    private static List<DataRow> createRows(final Random random, final int count, final boolean withMissingValues) {
+        final List<DataRow> rows = new ArrayList<>();
+        for (int r = 0; r < count; r++) {
+            final DataCell actual = VALUES[random.nextInt(VALUES.length)];
+            final DataCell predicted = withMissingValues && random.nextInt(20) == 0 ? DataType.getMissingCell()
+                : (random.nextBoolean() ? actual : new StringCell(VALUES[random.nextInt(VALUES.length)].toString()));
+            rows.add(new DefaultRow("Row" + r, actual, predicted));
+        }
+        return rows;
+    }
+
+    private static ConfusionMatrixCounter createCounter(final boolean ignoreMissingValues) {
+        return new ConfusionMatrixCounter(VALUES, 0, 1, ignoreMissingValues, createProcessor(3));
+    }
+
+    /**
+     * Tests that the counts and keys are the ones of a sequential count.
+     *
+     * @throws CanceledExecutionException not expected
+     */
+    @Test
+    public void testCount() throws CanceledExecutionException {
+        final List<DataRow> rows = createRows(new Random(42), 10 * CHUNK_SIZE + 17, true);
+        final int[][] expectedMatrix = new int[VALUES.length][VALUES.length];
+        final List<RowKey>[][] expectedKeys = ConfusionMatrixCounter.createKeyStore(VALUES.length);
+        int expectedCorrect = 0;
+        int expectedFalse = 0;
+        for (final DataRow row : rows) {
+            if (row.getCell(1).isMissing()) {
+                continue;
+            }
+            final int i1 = indexOf(row.getCell(0));
+            final int i2 = indexOf(row.getCell(1));
+            expectedMatrix[i1][i2]++;
+            expectedKeys[i1][i2].add(row.getKey());
+            if (i1 == i2) {
+                expectedCorrect++;
+            } else {
+                expectedFalse++;
+            }
+        }
+
+        final ConfusionMatrixCounter counter = createCounter(true);
+        final List<RowKey>[][] keys = ConfusionMatrixCounter.createKeyStore(VALUES.length);
+        counter.count(rows.iterator(), rows.size(), keys, new ExecutionMonitor());
+        assertEquals(rows.size(), counter.getRowCount());
+        assertEquals(expectedCorrect, counter.getCorrectCount());
+        assertEquals(expectedFalse, counter.getFalseCount());
+        assertTrue(counter.hasMissingValues());
+        for (int i = 0; i < VALUES.length; i++) {
+            assertArrayEquals(expectedMatrix[i], counter.getConfusionMatrix()[i]);
+            for (int j = 0; j < VALUES.length; j++) {
+                assertEquals(expectedKeys[i][j], keys[i][j]);
+            }
+        }
+
+        counter.count(rows.iterator(), rows.size(), null, new ExecutionMonitor());
+        for (int i = 0; i < VALUES.length; i++) {
+            assertArrayEquals(expectedMatrix[i], counter.getConfusionMatrix()[i]);
+        }
+    }
+
+    /**
+     * Tests that a table without rows gives an empty matrix.
+     *
+     * @throws CanceledExecutionException not expected
+     */
+    @Test
+    public void testEmpty() throws CanceledExecutionException {
+        final ConfusionMatrixCounter counter = createCounter(false);
+        counter.count(new ArrayList<DataRow>().iterator(), 0, null, new ExecutionMonitor());
+        assertEquals(0, counter.getRowCount());
+        assertEquals(0, counter.getCorrectCount());
+        assertFalse(counter.hasMissingValues());
+        assertArrayEquals(new int[VALUES.length], counter.getConfusionMatrix()[0]);
+    }
+
+    /**
+     * Tests that missing values fail if they are not ignored.
+     *
+     * @throws CanceledExecutionException not expected
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testMissingValuesNotIgnored() throws CanceledExecutionException {
+        final List<DataRow> rows = createRows(new Random(7), 5 * CHUNK_SIZE, true);
+        createCounter(false).count(rows.iterator(), rows.size(), null, new ExecutionMonitor());
+    }
+
+    private static int indexOf(final DataCell cell) {
+        for (int i = 0; i < VALUES.length; i++) {
+            if (VALUES[i].equals(cell)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(cell.toString());
+    }
+}
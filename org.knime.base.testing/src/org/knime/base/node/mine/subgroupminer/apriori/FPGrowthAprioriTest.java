@@ -0,0 +1,174 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.subgroupminer.apriori;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.base.node.mine.subgroupminer.freqitemset.AssociationRule;
+import org.knime.base.node.mine.subgroupminer.freqitemset.FrequentItemSet;
+import org.knime.core.data.vector.bitvector.BitVectorValue;
+import org.knime.core.data.vector.bitvector.DenseBitVectorCellFactory;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Checks that the {@link FPGrowthApriori} finds the same itemsets and rules as
+ * the {@link ArrayApriori}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public class FPGrowthAprioriTest {
+
+    private static final int NR_ITEMS = 12;
+
+    private static List<BitVectorValue> createTransactions(final Random random,
+            final int nrTransactions, final boolean alwaysFrequent) {
+        final List<BitVectorValue> transactions =
+            new ArrayList<BitVectorValue>();
+        for (int i = 0; i < nrTransactions; i++) {
+            final DenseBitVectorCellFactory fac =
+                new DenseBitVectorCellFactory(NR_ITEMS + 1);
+            for (int j = 0; j < NR_ITEMS; j++) {
+                if (random.nextDouble() < (j % 4 == 0 ? 0.7 : 0.3)) {
+                    fac.set(j);
+                }
+            }
+            if (alwaysFrequent) {
+                fac.set(NR_ITEMS);
+            }
+            transactions.add(fac.createDataCell());
+        }
+        return transactions;
+    }
+
+    private static Set<String> toStrings(final List<FrequentItemSet> sets) {
+        final Set<String> result = new TreeSet<String>();
+        for (FrequentItemSet s : sets) {
+            final List<Integer> items = new ArrayList<Integer>(s.getItems());
+            Collections.sort(items);
+            result.add(items + ":" + Math.round(s.getSupport() * 1e6));
+        }
+        return result;
+    }
+
+    private static Set<String> rulesToStrings(
+            final List<AssociationRule> rules) {
+        final Set<String> result = new TreeSet<String>();
+        for (AssociationRule r : rules) {
+            final List<Integer> antecedent =
+                new ArrayList<Integer>(r.getAntecedent().getItems());
+            Collections.sort(antecedent);
+            result.add(antecedent + "->" + r.getConsequent().getItems() + ":"
+                    + Math.round(r.getSupport() * 1e6) + ":"
+                    + Math.round(r.getConfidence() * 1e6) + ":"
+                    + Math.round(r.getLift() * 1e6));
+        }
+        return result;
+    }
+
+    private static void assertSameItemSets(final List<BitVectorValue> data,
+            final double minSupport, final int maxDepth, final boolean parallel)
+            throws CanceledExecutionException {
+        for (FrequentItemSet.Type type : FrequentItemSet.Type.values()) {
+            final ArrayApriori expected =
+                new ArrayApriori(NR_ITEMS + 1, data.size());
+            expected.findFrequentItemSets(data, minSupport, maxDepth, type,
+                    new ExecutionMonitor());
+            final FPGrowthApriori actual =
+                new FPGrowthApriori(NR_ITEMS + 1, data.size(), parallel);
+            actual.findFrequentItemSets(data, minSupport, maxDepth, type,
+                    new ExecutionMonitor());
+            Assert.assertEquals("Different " + type + " itemsets",
+                    toStrings(expected.getFrequentItemSets(type)),
+                    toStrings(actual.getFrequentItemSets(type)));
+        }
+    }
+
+    @Test
+    public void testFrequentItemSets() throws CanceledExecutionException {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10; i++) {
+            final List<BitVectorValue> data =
+                createTransactions(random, 200, i % 3 == 0);
+            assertSameItemSets(data, 0.05 + 0.03 * i, 1 + i % 5, i % 2 == 0);
+        }
+    }
+
+    @Test
+    public void testAssociationRules() throws CanceledExecutionException {
+        final List<BitVectorValue> data =
+            createTransactions(new Random(7), 300, true);
+        final ArrayApriori expected = new ArrayApriori(NR_ITEMS + 1, 300);
+        expected.findFrequentItemSets(data, 0.1, 4,
+                FrequentItemSet.Type.CLOSED, new ExecutionMonitor());
+        final FPGrowthApriori actual =
+            new FPGrowthApriori(NR_ITEMS + 1, 300, true);
+        actual.findFrequentItemSets(data, 0.1, 4, FrequentItemSet.Type.CLOSED,
+                new ExecutionMonitor());
+        Assert.assertEquals(rulesToStrings(expected.getAssociationRules(0.4)),
+                rulesToStrings(actual.getAssociationRules(0.4)));
+    }
+
+    @Test
+    public void testEmptyDatabase() throws CanceledExecutionException {
+        final FPGrowthApriori fpGrowth = new FPGrowthApriori(NR_ITEMS, 0, true);
+        fpGrowth.findFrequentItemSets(new ArrayList<BitVectorValue>(), 0.1, 3,
+                FrequentItemSet.Type.FREE, new ExecutionMonitor());
+        Assert.assertTrue(fpGrowth.getFrequentItemSets(
+                FrequentItemSet.Type.FREE).isEmpty());
+    }
+}
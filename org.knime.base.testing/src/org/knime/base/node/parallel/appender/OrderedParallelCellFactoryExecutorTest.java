@@ -0,0 +1,279 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.parallel.appender;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.node.preproc.sorter.SorterNodeFactory;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.container.CellFactory;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Tests the {@link OrderedParallelCellFactoryExecutor}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class OrderedParallelCellFactoryExecutorTest {
+
+    private static final int CHUNK_SIZE = 10;
+
+    private static final int ROW_COUNT = 20 * CHUNK_SIZE + 7;
+
+    private DefaultNodeProgressMonitor m_monitor;
+
+    private ExecutionContext m_exec;
+
+    /** Squares the value of the single column, the action receives the value before. */
+    private static final class SquareFactory extends SingleCellFactory {
+
+        private final LongConsumer m_beforeRow;
+
+        SquareFactory(final LongConsumer beforeRow) {
+            super(new DataColumnSpecCreator("Square", LongCell.TYPE).createSpec());
+            m_beforeRow = beforeRow;
+        }
+
+        @Override
+        public DataCell getCell(final DataRow row) {
+            final long value = ((LongValue)row.getCell(0)).getLongValue();
+            m_beforeRow.accept(value);
+            return new LongCell(value * value);
+        }
+    }
+
+    /**
+     * Creates a new execution context for each test, as a canceled one cannot be reused.
+     */
+    @Before
+    public void setUp() {
+        m_monitor = new DefaultNodeProgressMonitor();
+        m_exec = new ExecutionContext(m_monitor, new Node(new SorterNodeFactory()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    private BufferedDataTable createTable() {
+        final BufferedDataContainer container =
+            m_exec.createDataContainer(new DataTableSpec(new DataColumnSpecCreator("Value", LongCell.TYPE).createSpec()));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            container.addRowToTable(new DefaultRow("Row" + i, new LongCell(i)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private BufferedDataTable computeSquares(final SquareFactory factory, final int threads,
+        final int maxPendingChunks) throws CanceledExecutionException, InterruptedException, ExecutionException {
+        return new OrderedParallelCellFactoryExecutor(KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(threads),
+            CHUNK_SIZE, maxPendingChunks).createColumnTables(createTable(), new CellFactory[]{factory}, m_exec)[0];
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Checks that the rows are written in the order of the input although earlier chunks take longer.
+     *
+     * @throws Exception if the computation fails
+     */
+    @Test
+    public void testOrderWithUnevenLatencies() throws Exception {
+        final Queue<Long> finishedChunks = new ConcurrentLinkedQueue<>();
+        final SquareFactory factory = new SquareFactory(value -> {
+            final long chunk = value / CHUNK_SIZE;
+            if (value % CHUNK_SIZE == 0) {
+                // the first chunk of every four takes longest
+                sleep((4 - chunk % 4) * 20);
+            } else if (value % CHUNK_SIZE == CHUNK_SIZE - 1) {
+                finishedChunks.add(chunk);
+            }
+        });
+        final BufferedDataTable result = computeSquares(factory, 4, 8);
+
+        final List<Long> finishOrder = new ArrayList<>(finishedChunks);
+        boolean outOfOrder = false;
+        for (int i = 1; i < finishOrder.size(); i++) {
+            outOfOrder |= finishOrder.get(i) < finishOrder.get(i - 1);
+        }
+        assertTrue("The chunks have been finished in order: " + finishOrder, outOfOrder);
+
+        assertEquals(ROW_COUNT, result.size());
+        long i = 0;
+        try (final CloseableRowIterator it = result.iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                assertEquals("Row" + i, row.getKey().getString());
+                assertEquals(i * i, ((LongValue)row.getCell(0)).getLongValue());
+                i++;
+            }
+        }
+        assertEquals(ROW_COUNT, i);
+    }
+
+    /**
+     * Checks that no more than the maximum number of chunks are in flight while the oldest chunk is not finished,
+     * even if there are more threads.
+     *
+     * @throws Exception if the computation fails
+     */
+    @Test
+    public void testPendingChunksAreBounded() throws Exception {
+        final int maxPendingChunks = 3;
+        final CountDownLatch release = new CountDownLatch(1);
+        final Set<Long> startedChunks = ConcurrentHashMap.newKeySet();
+        final SquareFactory factory = new SquareFactory(value -> {
+            startedChunks.add(value / CHUNK_SIZE);
+            if (value == 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        final FutureTask<BufferedDataTable> task =
+            new FutureTask<>(() -> computeSquares(factory, maxPendingChunks + 2, maxPendingChunks));
+        new Thread(task).start();
+        try {
+            while (startedChunks.size() < maxPendingChunks) {
+                sleep(1);
+            }
+            // give the reader the chance to submit more chunks than allowed
+            sleep(100);
+            assertEquals(maxPendingChunks, startedChunks.size());
+        } finally {
+            release.countDown();
+        }
+        assertEquals(ROW_COUNT, task.get().size());
+        assertEquals(ROW_COUNT / CHUNK_SIZE + 1, startedChunks.size());
+    }
+
+    /**
+     * Checks that the failure of a cell factory on a worker thread is reported with its original cause.
+     *
+     * @throws Exception if the computation fails otherwise
+     */
+    @Test
+    public void testWorkerFailureIsPropagated() throws Exception {
+        final long failingRow = 5 * CHUNK_SIZE + 3;
+        final SquareFactory factory = new SquareFactory(value -> {
+            if (value == failingRow) {
+                throw new IllegalArgumentException("Failure in row " + value);
+            }
+        });
+        try {
+            computeSquares(factory, 4, 4);
+            fail("The failure of the cell factory must be reported.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+            assertEquals("Failure in row " + failingRow, e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Checks that a cancellation stops reading and computing the rows.
+     *
+     * @throws Exception if the computation fails otherwise
+     */
+    @Test
+    public void testCancellation() throws Exception {
+        final AtomicLong computedRows = new AtomicLong();
+        final SquareFactory factory = new SquareFactory(value -> {
+            if (computedRows.incrementAndGet() == 2 * CHUNK_SIZE) {
+                m_monitor.setExecuteCanceled();
+            }
+        });
+        try {
+            computeSquares(factory, 2, 2);
+            fail("The cancellation must be reported.");
+        } catch (CanceledExecutionException e) {
+            // expected
+        }
+        assertTrue("Too many rows computed after the cancellation: " + computedRows.get(),
+            computedRows.get() <= 6 * CHUNK_SIZE);
+    }
+}
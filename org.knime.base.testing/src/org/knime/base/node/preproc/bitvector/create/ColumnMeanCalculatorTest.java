@@ -0,0 +1,154 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.bitvector.create;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.base.node.parallel.ParallelChunkProcessor;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Tests for {@link ColumnMeanCalculator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ColumnMeanCalculatorTest {
+
+    private static final int CHUNK_SIZE = ParallelChunkProcessor.DEFAULT_CHUNK_SIZE;
+
+    private static ParallelChunkProcessor createProcessor(final int maxPendingChunks) {
+        return new ParallelChunkProcessor(KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(4), CHUNK_SIZE,
+            maxPendingChunks);
+    }
+
+    /** Rows with a string in the first and random numbers or missing values in the other three columns. */
+    private static List<DataRow> createRows(final Random random, final int count) {
+        final List<DataRow> rows = new ArrayList<>();
+        for (int r = 0; r < count; r++) {
+            final DataCell[] cells = new DataCell[4];
+            cells[0] = new StringCell("S" + r);
+            for (int c = 1; c < cells.length; c++) {
+                cells[c] = random.nextInt(10) == 0 ? DataType.getMissingCell() : new DoubleCell(random.nextDouble());
+            }
+            rows.add(new DefaultRow("Row" + r, cells));
+        }
+        return rows;
+    }
+
+    private static ColumnMeanCalculator createCalculator(final int... colIndices) {
+        return new ColumnMeanCalculator(colIndices, createProcessor(3));
+    }
+
+    /**
+     * Tests that the means are the ones of a sequential pass, missing values count as rows.
+     *
+     * @throws CanceledExecutionException not expected
+     */
+    @Test
+    public void testMeans() throws CanceledExecutionException {
+        final List<DataRow> rows = createRows(new Random(49), 10 * CHUNK_SIZE + 17);
+        final int[] colIndices = {3, 1};
+        final double[] expected = new double[colIndices.length];
+        for (final DataRow row : rows) {
+            for (int i = 0; i < colIndices.length; i++) {
+                final DataCell cell = row.getCell(colIndices[i]);
+                if (!cell.isMissing()) {
+                    expected[i] += ((DoubleCell)cell).getDoubleValue();
+                }
+            }
+        }
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] /= rows.size();
+        }
+        final double[] means = createCalculator(colIndices).calculate(rows.iterator(), rows.size(),
+            new ExecutionMonitor());
+        assertArrayEquals(expected, means, 1e-12);
+        // the chunks are merged in order, hence the result is reproducible
+        assertArrayEquals(means, createCalculator(colIndices).calculate(rows.iterator(), rows.size(),
+            new ExecutionMonitor()), 0);
+    }
+
+    /**
+     * Tests that no rows result in undefined means.
+     *
+     * @throws CanceledExecutionException not expected
+     */
+    @Test
+    public void testEmpty() throws CanceledExecutionException {
+        final double[] means =
+            createCalculator(1).calculate(new ArrayList<DataRow>().iterator(), 0, new ExecutionMonitor());
+        assertEquals(1, means.length);
+        assertEquals(Double.NaN, means[0], 0);
+    }
+
+    /**
+     * Tests that a non-numeric cell fails the computation.
+     *
+     * @throws CanceledExecutionException not expected
+     */
+    @Test(expected = RuntimeException.class)
+    public void testIncompatibleType() throws CanceledExecutionException {
+        final List<DataRow> rows = createRows(new Random(490), 3 * CHUNK_SIZE);
+        createCalculator(1, 0).calculate(rows.iterator(), rows.size(), new ExecutionMonitor());
+    }
+}
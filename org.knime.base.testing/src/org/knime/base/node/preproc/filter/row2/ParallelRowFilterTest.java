@@ -0,0 +1,206 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.filter.row2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongPredicate;
+
+import org.junit.Test;
+import org.knime.base.node.parallel.ParallelChunkProcessor;
+import org.knime.base.node.preproc.filter.row2.operator.RowPredicate;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+
+import com.google.common.collect.Range;
+
+/**
+ * Tests the {@link ParallelRowFilter}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelRowFilterTest {
+
+    private static final int CHUNK_SIZE = ParallelChunkProcessor.DEFAULT_CHUNK_SIZE;
+
+    private static final int ROW_COUNT = 10 * CHUNK_SIZE + 17;
+
+    private static ParallelChunkProcessor createProcessor(final int maxPendingChunks) {
+        return new ParallelChunkProcessor(KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(4), CHUNK_SIZE,
+            maxPendingChunks);
+    }
+
+    /** Tests the value of the single cell and counts the evaluations. */
+    private static final class ValuePredicate implements RowPredicate {
+
+        private final LongPredicate m_predicate;
+
+        private final Range<Long> m_range;
+
+        private final Set<Long> m_evaluated = Collections.synchronizedSet(new HashSet<>());
+
+        ValuePredicate(final LongPredicate predicate, final Range<Long> range) {
+            m_predicate = predicate;
+            m_range = range;
+        }
+
+        @Override
+        public boolean test(final DataRow row, final Long index) {
+            m_evaluated.add(index);
+            return m_range.contains(index) && m_predicate.test(((LongCell)row.getCell(0)).getLongValue());
+        }
+
+        @Override
+        public Set<Integer> getRequiredColumns() {
+            return Collections.singleton(0);
+        }
+
+        @Override
+        public Range<Long> getRowIndexRange() {
+            return m_range;
+        }
+    }
+
+    private static List<DataRow> createRows() {
+        final List<DataRow> rows = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows.add(new DefaultRow("Row" + i, new LongCell(i * 7L % 13)));
+        }
+        return rows;
+    }
+
+    private static void assertInOrder(final List<DataRow> expected, final List<DataRow> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getKey(), actual.get(i).getKey());
+        }
+    }
+
+    /**
+     * Checks that matches and misses are passed on in the order of the input.
+     *
+     * @throws Exception if the filter fails
+     */
+    @Test
+    public void testSplitPreservesOrder() throws Exception {
+        final List<DataRow> rows = createRows();
+        final ValuePredicate predicate = new ValuePredicate(v -> v % 3 == 0, Range.all());
+        final List<DataRow> matches = new ArrayList<>();
+        final List<DataRow> misses = new ArrayList<>();
+        new ParallelRowFilter(createProcessor(3)).filter(rows.iterator(), 0,
+            ROW_COUNT, predicate, matches::add, misses::add, new ExecutionMonitor());
+
+        final List<DataRow> expectedMatches = new ArrayList<>();
+        final List<DataRow> expectedMisses = new ArrayList<>();
+        for (final DataRow row : rows) {
+            if (((LongCell)row.getCell(0)).getLongValue() % 3 == 0) {
+                expectedMatches.add(row);
+            } else {
+                expectedMisses.add(row);
+            }
+        }
+        assertInOrder(expectedMatches, matches);
+        assertInOrder(expectedMisses, misses);
+        assertEquals(ROW_COUNT, predicate.m_evaluated.size());
+    }
+
+    /**
+     * Checks that chunks outside of the row index range are not evaluated and that the first index is respected.
+     *
+     * @throws Exception if the filter fails
+     */
+    @Test
+    public void testRowIndexRangeIsPushedDown() throws Exception {
+        final List<DataRow> rows = createRows();
+        final long firstIndex = 100;
+        final Range<Long> range = Range.closed(firstIndex + 3L * CHUNK_SIZE + 5, firstIndex + 5L * CHUNK_SIZE);
+        final ValuePredicate predicate = new ValuePredicate(v -> true, range);
+        final List<DataRow> matches = new ArrayList<>();
+        final List<DataRow> misses = new ArrayList<>();
+        new ParallelRowFilter(createProcessor(2)).filter(rows.iterator(),
+            firstIndex, ROW_COUNT, predicate, matches::add, misses::add, new ExecutionMonitor());
+
+        assertEquals(range.upperEndpoint() - range.lowerEndpoint() + 1, matches.size());
+        assertEquals(rows.get((int)(range.lowerEndpoint() - firstIndex)).getKey(), matches.get(0).getKey());
+        assertEquals(ROW_COUNT - matches.size(), misses.size());
+        // only the chunks 3, 4 and 5 overlap with the range
+        assertEquals(3 * CHUNK_SIZE, predicate.m_evaluated.size());
+        for (final Long index : predicate.m_evaluated) {
+            assertTrue(index >= firstIndex + 3L * CHUNK_SIZE);
+            assertTrue(index < firstIndex + 6L * CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Checks that a failing predicate is reported.
+     *
+     * @throws CanceledExecutionException not expected
+     * @throws InterruptedException not expected
+     * @throws ExecutionException expected
+     */
+    @Test(expected = ExecutionException.class)
+    public void testFailingPredicate() throws CanceledExecutionException, InterruptedException, ExecutionException {
+        final ValuePredicate predicate = new ValuePredicate(v -> {
+            throw new IllegalStateException("failure");
+        }, Range.all());
+        new ParallelRowFilter(createProcessor(2)).filter(createRows().iterator(), 0, ROW_COUNT, predicate, r -> {
+            }, null, new ExecutionMonitor());
+    }
+}
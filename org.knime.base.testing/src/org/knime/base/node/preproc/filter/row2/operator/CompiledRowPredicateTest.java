@@ -0,0 +1,226 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.filter.row2.operator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.knime.base.util.WildcardMatcher;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+import com.google.common.collect.Range;
+
+/**
+ * Compares the specialized predicates of the Row Filter with the generic evaluation they replace and checks the
+ * ordering of group conditions.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CompiledRowPredicateTest {
+
+    private static final double[] REFERENCES = {Double.NEGATIVE_INFINITY, -1.5, 0, 2, 3, Double.NaN};
+
+    private static final List<DataCell> CELLS = Arrays.asList(new DoubleCell(Double.NaN),
+        new DoubleCell(Double.NEGATIVE_INFINITY), new DoubleCell(-1.5), new DoubleCell(0), new DoubleCell(2),
+        new DoubleCell(2.5), new DoubleCell(3), new DoubleCell(Double.POSITIVE_INFINITY), new IntCell(2),
+        new LongCell(3), new StringCell("2"), DataType.getMissingCell());
+
+    /** The generic evaluation as it was done before the predicates were specialized. */
+    private static Predicate<DataCell> generic(final Predicate<DoubleValue> comparison, final boolean acceptMissing) {
+        if (acceptMissing) {
+            return c -> c.isMissing() || c instanceof DoubleValue && comparison.test((DoubleValue)c);
+        }
+        return c -> !c.isMissing() && c instanceof DoubleValue && comparison.test((DoubleValue)c);
+    }
+
+    private static void assertSame(final Predicate<DataCell> expected, final NumericCellPredicate actual) {
+        for (final DataCell cell : CELLS) {
+            assertEquals(cell.toString(), expected.test(cell), actual.test(cell));
+            if (cell instanceof LongCell) {
+                assertEquals(cell.toString(), expected.test(cell), actual.test(((LongCell)cell).getDoubleValue()));
+            }
+        }
+    }
+
+    /**
+     * Checks that the numeric comparisons accept the same cells as the generic evaluation.
+     */
+    @Test
+    public void testNumericComparisons() {
+        for (final double r : REFERENCES) {
+            assertSame(generic(v -> v.getDoubleValue() == r, false), NumericCellPredicate.equal(r));
+            assertSame(generic(v -> v.getDoubleValue() != r, true), NumericCellPredicate.notEqual(r));
+            assertSame(generic(v -> v.getDoubleValue() > r, false), NumericCellPredicate.greater(r));
+            assertSame(generic(v -> v.getDoubleValue() >= r, false), NumericCellPredicate.greaterOrEqual(r));
+            assertSame(generic(v -> v.getDoubleValue() < r, false), NumericCellPredicate.less(r));
+            assertSame(generic(v -> v.getDoubleValue() <= r, false), NumericCellPredicate.lessOrEqual(r));
+            for (final double r2 : REFERENCES) {
+                assertSame(generic(v -> v.getDoubleValue() >= r && v.getDoubleValue() <= r2, false),
+                    NumericCellPredicate.between(r, r2));
+            }
+        }
+    }
+
+    /**
+     * Checks that the row index is tested directly with the same result as the wrapped index.
+     */
+    @Test
+    public void testRowIndexPredicate() {
+        final NumericCellPredicate between = NumericCellPredicate.between(3, 7);
+        final RowIndexPredicate compiled = new RowIndexPredicate(between, Range.closed(3L, 7L));
+        final RowIndexPredicate wrapped = new RowIndexPredicate(c -> between.test(c), Range.closed(3L, 7L));
+        for (long i = 0; i < 10; i++) {
+            assertEquals(wrapped.test(null, i), compiled.test(null, i));
+        }
+    }
+
+    /**
+     * Checks that the wildcard matcher agrees with the regular expression created for the wildcard.
+     */
+    @Test
+    public void testWildcardMatcher() {
+        final String[] wildcards = {"", "*", "**", "a", "a*", "*a", "*a*", "a*b", "a*b*c", "*ab*ab*", "a.b*", "(x)*|",
+            "ab*ba", "a**b"};
+        final String[] values = {"", "a", "b", "ab", "ba", "aab", "abb", "abab", "abcab", "a\nb", "axbyc", "a.bc",
+            "axbc", "(x)|", "(x)yz|", "aba", "abba", "abxba", "c"};
+        for (final String wildcard : wildcards) {
+            final Pattern pattern =
+                Pattern.compile(WildcardMatcher.wildcardToRegex(wildcard), Pattern.DOTALL | Pattern.MULTILINE);
+            final Predicate<String> matcher = KnimePatternMatchOperatorFunction.createWildcardMatcher(wildcard);
+            for (final String value : values) {
+                assertEquals(wildcard + " / " + value, pattern.matcher(value).matches(), matcher.test(value));
+            }
+        }
+    }
+
+    /** Counts its evaluations and rejects or accepts all rows. */
+    private static final class CountingPredicate implements RowPredicate {
+
+        private final boolean m_result;
+
+        private final double m_cost;
+
+        private final double m_selectivity;
+
+        private int m_count;
+
+        CountingPredicate(final boolean result, final double cost, final double selectivity) {
+            m_result = result;
+            m_cost = cost;
+            m_selectivity = selectivity;
+        }
+
+        @Override
+        public boolean test(final DataRow row, final Long index) {
+            m_count++;
+            return m_result;
+        }
+
+        @Override
+        public Set<Integer> getRequiredColumns() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Range<Long> getRowIndexRange() {
+            return Range.all();
+        }
+
+        @Override
+        public double getEstimatedCost() {
+            return m_cost;
+        }
+
+        @Override
+        public double getEstimatedSelectivity() {
+            return m_selectivity;
+        }
+    }
+
+    /**
+     * Checks that cheap and selective conditions are evaluated first.
+     */
+    @Test
+    public void testGroupOrdering() {
+        final CountingPredicate expensive = new CountingPredicate(false, CellPredicate.REGULAR_EXPRESSION, 0.2);
+        final CountingPredicate cheap = new CountingPredicate(false, CellPredicate.CHEAP, 0.05);
+        final List<RowPredicate> predicates = new ArrayList<>(Arrays.asList(expensive, cheap));
+
+        final RowPredicate and = RowPredicate.and(predicates.iterator());
+        assertFalse(and.test(null, 0L));
+        assertEquals(1, cheap.m_count);
+        assertEquals(0, expensive.m_count);
+        assertEquals(0.05 * 0.2, and.getEstimatedSelectivity(), 1e-9);
+        assertEquals(CellPredicate.CHEAP + 0.05 * CellPredicate.REGULAR_EXPRESSION, and.getEstimatedCost(), 1e-9);
+
+        final CountingPredicate likely = new CountingPredicate(true, CellPredicate.PRIMITIVE_COMPARISON, 0.9);
+        final RowPredicate or = RowPredicate.or(Arrays.<RowPredicate> asList(expensive, likely).iterator());
+        assertTrue(or.test(null, 0L));
+        assertEquals(1, likely.m_count);
+        assertEquals(0, expensive.m_count);
+        assertEquals(1 - 0.1 * 0.8, or.getEstimatedSelectivity(), 1e-9);
+    }
+}
@@ -152,6 +152,27 @@ public void testSetPosition() throws IOException {
         }
     }
 
+    @Test
+    public void testSetBitAtPosition() throws IOException {
+        try (final DiskBackedBitArray bitArray = new DiskBackedBitArray(LENGTH)) {
+            // ascending positions within and across buffers, then some out of order
+            for (int i = 0; i < LENGTH; i++) {
+                if (TEST_ARRAY[i] && i % 3 != 0) {
+                    bitArray.setBit(i);
+                }
+            }
+            for (int i = LENGTH - 1; i >= 0; i--) {
+                if (TEST_ARRAY[i] && i % 3 == 0) {
+                    bitArray.setBit(i);
+                }
+            }
+            bitArray.setPosition(0);
+            for (boolean b : TEST_ARRAY) {
+                Assert.assertEquals(b, bitArray.getBit());
+            }
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testSetOutOfBoundsPositionLow() throws IOException {
         try (final DiskBackedBitArray bitArray = new DiskBackedBitArray(LENGTH)) {
@@ -0,0 +1,239 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.filter.rowref;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntFunction;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.node.preproc.filter.rowref.RowRefSemiJoin.KeyType;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the matches of the {@link RowRefSemiJoin} in memory and partitioned with the ones of a plain set of keys.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RowRefSemiJoinTest {
+
+    private static final int REF_SIZE = 2000;
+
+    private static final int DATA_SIZE = 3000;
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * Creates the execution context.
+     */
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new RowFilterRefNodeFactory()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    private static BufferedDataTable createTable(final int rows, final int seed, final DataType type,
+        final IntFunction<DataCell> cellFactory) {
+        final Random random = new Random(seed);
+        final BufferedDataContainer container =
+            EXEC_CONTEXT.createDataContainer(new DataTableSpec(new DataColumnSpecCreator("Value", type).createSpec()));
+        for (int r = 0; r < rows; r++) {
+            final DataCell cell =
+                random.nextInt(50) == 0 ? DataType.getMissingCell() : cellFactory.apply(random.nextInt(2 * REF_SIZE));
+            container.addRowToTable(new DefaultRow("Row" + random.nextInt(2 * REF_SIZE) + "_" + r % 2, cell));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static Object key(final DataRow row, final int colIdx, final boolean byString) {
+        if (colIdx < 0) {
+            return byString ? row.getKey().getString() : row.getKey();
+        }
+        return byString ? row.getCell(colIdx).toString() : row.getCell(colIdx);
+    }
+
+    /** The matches as determined by the node before the semi-join was introduced. */
+    private static boolean[] expectedMatches(final BufferedDataTable dataTable, final int dataColIdx,
+        final BufferedDataTable refTable, final int refColIdx, final boolean byString) {
+        final Set<Object> keys = new HashSet<>();
+        for (final DataRow row : refTable) {
+            keys.add(key(row, refColIdx, byString));
+        }
+        final boolean[] matches = new boolean[(int)dataTable.size()];
+        int i = 0;
+        for (final DataRow row : dataTable) {
+            matches[i++] = keys.contains(key(row, dataColIdx, byString));
+        }
+        return matches;
+    }
+
+    /** Reports low memory once it has been asked more than the given number of times. */
+    private static BooleanSupplier memoryLowAfter(final int calls) {
+        final int[] count = new int[1];
+        return () -> ++count[0] > calls;
+    }
+
+    private static void assertMatches(final BufferedDataTable dataTable, final int dataColIdx,
+        final BufferedDataTable refTable, final int refColIdx, final boolean byString, final KeyType keyType)
+        throws CanceledExecutionException, IOException {
+        final boolean[] expected = expectedMatches(dataTable, dataColIdx, refTable, refColIdx, byString);
+        final DataType refType = refColIdx < 0 ? null : refTable.getDataTableSpec().getColumnSpec(refColIdx).getType();
+
+        final RowRefSemiJoin inMemory =
+            new RowRefSemiJoin(dataColIdx, refColIdx, refType, byString, () -> false);
+        assertEquals("Key type", keyType, inMemory.getKeyType());
+        assertTrue("References fit into memory", inMemory.readReferences(refTable, EXEC_CONTEXT, EXEC_CONTEXT));
+        final boolean[] actual = new boolean[expected.length];
+        int i = 0;
+        for (final DataRow row : dataTable) {
+            actual[i++] = inMemory.matches(row);
+        }
+        assertArrayEquals("In memory matches", expected, actual);
+
+        // spill right away, or late and with partitions that have to be loaded in chunks
+        for (final int calls : new int[]{0, REF_SIZE / 2}) {
+            final RowRefSemiJoin partitioned =
+                new RowRefSemiJoin(dataColIdx, refColIdx, refType, byString, memoryLowAfter(calls));
+            assertFalse("References partitioned", partitioned.readReferences(refTable, EXEC_CONTEXT, EXEC_CONTEXT));
+            try (final DiskBackedBitArray bitArray =
+                partitioned.matchPartitioned(dataTable, EXEC_CONTEXT, EXEC_CONTEXT)) {
+                for (int j = 0; j < expected.length; j++) {
+                    actual[j] = bitArray.getBit();
+                }
+            }
+            assertArrayEquals("Partitioned matches after " + calls + " calls", expected, actual);
+        }
+    }
+
+    /**
+     * Tests the semi-join on string columns.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testStringColumns() throws Exception {
+        final IntFunction<DataCell> factory = v -> new StringCell("Value" + v);
+        assertMatches(createTable(DATA_SIZE, 1, StringCell.TYPE, factory), 0,
+            createTable(REF_SIZE, 2, StringCell.TYPE, factory), 0, false, KeyType.STRING);
+    }
+
+    /**
+     * Tests the semi-join on int columns, which are compared as primitive longs.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testIntColumns() throws Exception {
+        final IntFunction<DataCell> factory = v -> new IntCell(v - REF_SIZE);
+        assertMatches(createTable(DATA_SIZE, 3, IntCell.TYPE, factory), 0,
+            createTable(REF_SIZE, 4, IntCell.TYPE, factory), 0, false, KeyType.LONG);
+    }
+
+    /**
+     * Tests the semi-join on double columns, which are compared as cells.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testDoubleColumns() throws Exception {
+        final IntFunction<DataCell> factory = v -> new DoubleCell(v / 4.0);
+        assertMatches(createTable(DATA_SIZE, 5, DoubleCell.TYPE, factory), 0,
+            createTable(REF_SIZE, 6, DoubleCell.TYPE, factory), 0, false, KeyType.CELL);
+    }
+
+    /**
+     * Tests the semi-join on the row keys.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testRowKeys() throws Exception {
+        final IntFunction<DataCell> factory = IntCell::new;
+        assertMatches(createTable(DATA_SIZE, 7, IntCell.TYPE, factory), -1,
+            createTable(REF_SIZE, 8, IntCell.TYPE, factory), -1, false, KeyType.STRING);
+    }
+
+    /**
+     * Tests the semi-join on the string representations of an int column and the row keys.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testStringRepresentations() throws Exception {
+        assertMatches(createTable(DATA_SIZE, 9, StringCell.TYPE, v -> new StringCell("Row" + v + "_0")), 0,
+            createTable(REF_SIZE, 10, IntCell.TYPE, IntCell::new), -1, true, KeyType.STRING);
+    }
+}
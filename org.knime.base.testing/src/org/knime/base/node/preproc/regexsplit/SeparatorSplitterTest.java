@@ -0,0 +1,143 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.regexsplit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Compares {@link SeparatorSplitter} with matching the regular expression.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class SeparatorSplitterTest {
+
+    private static final String[] SUPPORTED = {"(.*),(.*)", "(.*?),(.*?)", "(.*), (.*);(.*)", "x=(.*)", "(.*)\\.",
+        "<(.*?)><(.*?)>", "(.*)ab(.*)ab(.*)", "(.*?)ab(.*?)ab(.*?)b"};
+
+    private static final String[] UNSUPPORTED = {"(.*)(.*)", "(.*),(.*?)", "(.+),(.*)", "(.*),?(.*)", "[a](.*)",
+        "(.*)\\d", "a,b", "(.*)|(.*)"};
+
+    /** @return the groups of the regular expression or null if it doesn't match */
+    private static String[] splitByRegex(final Pattern pattern, final String value) {
+        final Matcher m = pattern.matcher(value);
+        if (!m.matches()) {
+            return null;
+        }
+        final String[] groups = new String[m.groupCount()];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = m.group(i + 1);
+        }
+        return groups;
+    }
+
+    /**
+     * Tests which patterns are supported.
+     */
+    @Test
+    public void testCreate() {
+        for (final String regex : SUPPORTED) {
+            assertTrue(regex, SeparatorSplitter.create(Pattern.compile(regex)).isPresent());
+        }
+        for (final String regex : UNSUPPORTED) {
+            assertFalse(regex, SeparatorSplitter.create(Pattern.compile(regex)).isPresent());
+        }
+        assertFalse(SeparatorSplitter.create(Pattern.compile("(.*),(.*)", Pattern.CASE_INSENSITIVE)).isPresent());
+    }
+
+    /**
+     * Compares the groups on random strings.
+     */
+    @Test
+    public void testSplit() {
+        final Random random = new Random(11);
+        for (final String regex : SUPPORTED) {
+            final Pattern pattern = Pattern.compile(regex);
+            final SeparatorSplitter splitter = SeparatorSplitter.create(pattern).get();
+            for (int run = 0; run < 2000; run++) {
+                final String value = randomString(random, random.nextInt(14));
+                if (!splitter.requiresRegex(value)) {
+                    assertArrayEquals(regex + " on " + value, splitByRegex(pattern, value), splitter.split(value));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that line terminators are left to the regular expression unless '.' matches them.
+     */
+    @Test
+    public void testLineTerminators() {
+        final SeparatorSplitter splitter = SeparatorSplitter.create(Pattern.compile("(.*),(.*)")).get();
+        assertTrue(splitter.requiresRegex("a\n,b"));
+        assertTrue(splitter.requiresRegex("a\r,b"));
+        final Optional<SeparatorSplitter> dotAll = SeparatorSplitter.create(Pattern.compile("(.*),(.*)", Pattern.DOTALL));
+        assertFalse(dotAll.get().requiresRegex("a\n,b"));
+        assertArrayEquals(new String[]{"a\n", "b"}, dotAll.get().split("a\n,b"));
+        assertNull(splitter.split("a;b"));
+    }
+
+    private static String randomString(final Random random, final int length) {
+        final String alphabet = "ab,.; <>x=";
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.setoperator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the results of the hash based and the sort/merge based computation of the {@link SetOperationTable}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class SetOperationTableTest {
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * Creates the execution context.
+     */
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new SetOperatorNodeFactory()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    private static BufferedDataTable createTable(final int rows, final int seed, final DataType type,
+        final IntFunction<DataCell> cellFactory) {
+        final Random random = new Random(seed);
+        final BufferedDataContainer container =
+            EXEC_CONTEXT.createDataContainer(new DataTableSpec(new DataColumnSpecCreator("Value", type).createSpec()));
+        for (int r = 0; r < rows; r++) {
+            // values with duplicates and some missing values
+            final DataCell cell =
+                random.nextInt(20) == 0 ? DataType.getMissingCell() : cellFactory.apply(random.nextInt(rows));
+            container.addRowToTable(new DefaultRow("Row" + r, cell));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static SetOperationTable compute(final BufferedDataTable table1, final BufferedDataTable table2,
+        final SetOperation op, final boolean skipMissing, final boolean allowHashing) throws Exception {
+        return new SetOperationTable(EXEC_CONTEXT, false, "Value", table1, false, "Value", table2, op, true,
+            skipMissing, false, allowHashing);
+    }
+
+    private static List<DataCell> getCells(final BufferedDataTable table) {
+        final List<DataCell> cells = new ArrayList<>();
+        for (final DataRow row : table) {
+            cells.add(row.getCell(0));
+        }
+        return cells;
+    }
+
+    private static void assertSameResult(final BufferedDataTable table1, final BufferedDataTable table2)
+        throws Exception {
+        for (final SetOperation op : SetOperation.values()) {
+            for (final boolean skipMissing : new boolean[]{false, true}) {
+                final SetOperationTable hashed = compute(table1, table2, op, skipMissing, true);
+                final SetOperationTable sorted = compute(table1, table2, op, skipMissing, false);
+                final String msg = op + ", skip missing " + skipMissing;
+                assertEquals(msg, getCells(sorted.getBufferedTable()), getCells(hashed.getBufferedTable()));
+                assertEquals(msg, sorted.getDuplicateCounter(), hashed.getDuplicateCounter());
+                assertEquals(msg, sorted.getMissingCounter(), hashed.getMissingCounter());
+                assertEquals(msg, sorted.getHiliteMapping0(), hashed.getHiliteMapping0());
+                assertEquals(msg, sorted.getHiliteMapping1(), hashed.getHiliteMapping1());
+            }
+        }
+    }
+
+    /**
+     * Tests columns of the same type, which are hashed for the intersection and the complement.
+     *
+     * @throws Exception if the computation fails
+     */
+    @Test
+    public void testSameType() throws Exception {
+        final BufferedDataTable smaller = createTable(300, 1, IntCell.TYPE, IntCell::new);
+        final BufferedDataTable larger = createTable(500, 2, IntCell.TYPE, IntCell::new);
+        assertSameResult(smaller, larger);
+        assertSameResult(larger, smaller);
+    }
+
+    /**
+     * Tests columns of different types, whose values must be ordered with the general comparator.
+     *
+     * @throws Exception if the computation fails
+     */
+    @Test
+    public void testDifferentType() throws Exception {
+        final BufferedDataTable ints = createTable(300, 3, IntCell.TYPE, IntCell::new);
+        final BufferedDataTable longs = createTable(500, 4, LongCell.TYPE, LongCell::new);
+        assertSameResult(ints, longs);
+        assertSameResult(longs, ints);
+
+        // the values are compared as strings, i.e. "10" comes before "2", and missing values come first
+        for (final SetOperation op : new SetOperation[]{SetOperation.AND, SetOperation.MINUS}) {
+            final SetOperationTable result = compute(ints, longs, op, false, true);
+            String previous = null;
+            for (final DataCell cell : getCells(result.getBufferedTable())) {
+                final String value = cell.toString();
+                if ("?".equals(value)) {
+                    assertNull(op + ": missing value not first", previous);
+                } else {
+                    assertTrue(op + ": " + value + " after " + previous,
+                        previous == null || "?".equals(previous) || previous.compareTo(value) < 0);
+                }
+                previous = value;
+            }
+        }
+    }
+}
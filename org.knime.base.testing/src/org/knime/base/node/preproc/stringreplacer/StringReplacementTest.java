@@ -0,0 +1,165 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.stringreplacer;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Compares {@link StringReplacement} with the replacement by regular expressions only.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class StringReplacementTest {
+
+    private static final String[] WILDCARDS = {"a", "ab", "a*", "*a", "*a*", "a*b", "a?", "?a*", "a*?b", "*", "**",
+        "a**b", "\\*", "\\a", "a.b", "(a)", "$", "a\\?b"};
+
+    private static final String[] REGEXES = {"a", "ab", "a.b", "a+", "(a)b", "abc", "a b", "^a"};
+
+    private static final String[] REPLACEMENTS = {"x", "", "$1", "\\$", "y\\\\z", "$0"};
+
+    private static final String[] VALUES = {"", "a", "b", "ab", "ba", "aab", "abab", "a\nb", "a.b", "(a)", "a*b",
+        "\\a", "ab\uD83D\uDE00b", "a\uD83D\uDE00", "cab c", "a b", "$"};
+
+    /** The replacement as it was implemented before the fast paths. */
+    private static String replaceByRegex(final StringReplacerSettings settings, final String value) {
+        final Pattern pattern = StringReplacement.createPattern(settings);
+        final String replacement = settings.patternIsRegex() ? settings.replacement()
+            : settings.replacement().replaceAll("(\\$\\d+)", "\\\\$1");
+        Matcher m = pattern.matcher(value);
+        if (settings.replaceAllOccurrences()) {
+            return m.replaceAll(replacement);
+        } else if (m.matches()) {
+            if (".*".equals(pattern.pattern())) {
+                return replacement;
+            }
+            return m.replaceAll(replacement);
+        } else {
+            return value;
+        }
+    }
+
+    private static String replaceOrError(final StringReplacerSettings settings, final String value,
+        final boolean byRegex) {
+        try {
+            return byRegex ? replaceByRegex(settings, value) : StringReplacement.create(settings).replace(value);
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private static void testPatterns(final String[] patterns, final boolean isRegex) {
+        final StringReplacerSettings settings = new StringReplacerSettings();
+        settings.patternIsRegex(isRegex);
+        for (final String pattern : patterns) {
+            settings.pattern(pattern);
+            for (final String replacement : REPLACEMENTS) {
+                settings.replacement(replacement);
+                for (int options = 0; options < 8; options++) {
+                    settings.replaceAllOccurrences((options & 1) != 0);
+                    settings.caseSensitive((options & 2) != 0);
+                    settings.enableEscaping((options & 4) != 0);
+                    for (final String value : VALUES) {
+                        assertEquals(pattern + " -> " + replacement + " (" + options + ") on " + value,
+                            replaceOrError(settings, value, true), replaceOrError(settings, value, false));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests wildcard patterns.
+     */
+    @Test
+    public void testWildcards() {
+        testPatterns(WILDCARDS, false);
+    }
+
+    /**
+     * Tests regular expressions.
+     */
+    @Test
+    public void testRegularExpressions() {
+        testPatterns(REGEXES, true);
+    }
+
+    /**
+     * Tests random wildcards on random values.
+     */
+    @Test
+    public void testRandomWildcards() {
+        final Random random = new Random(3);
+        final StringReplacerSettings settings = new StringReplacerSettings();
+        settings.patternIsRegex(false);
+        settings.caseSensitive(true);
+        settings.replacement("R");
+        for (int run = 0; run < 2000; run++) {
+            settings.pattern(randomString(random, 1 + random.nextInt(6), "ab*?"));
+            settings.replaceAllOccurrences(random.nextBoolean());
+            final String value = randomString(random, random.nextInt(12), "abc");
+            assertEquals(settings.pattern() + " on " + value, replaceOrError(settings, value, true),
+                replaceOrError(settings, value, false));
+        }
+    }
+
+    private static String randomString(final Random random, final int length, final String alphabet) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.stringreplacer.dict;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link AhoCorasickReplacer}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AhoCorasickReplacerTest {
+
+    private static Map<String, String> dictionary(final String... keysAndValues) {
+        final Map<String, String> dictionary = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            dictionary.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return dictionary;
+    }
+
+    /** Replaces the leftmost longest matches by trying all keys at each position. */
+    private static String replaceNaive(final Map<String, String> dictionary, final String text) {
+        final StringBuilder result = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            String longest = null;
+            for (final String key : dictionary.keySet()) {
+                if (!key.isEmpty() && text.startsWith(key, i) && (longest == null || key.length() > longest.length())) {
+                    longest = key;
+                }
+            }
+            if (longest == null) {
+                result.append(text.charAt(i));
+                i++;
+            } else {
+                result.append(dictionary.get(longest));
+                i += longest.length();
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Tests simple replacements.
+     */
+    @Test
+    public void testReplace() {
+        final AhoCorasickReplacer replacer =
+            new AhoCorasickReplacer(dictionary("he", "X", "she", "Y", "hers", "Z", "his", "W"), true);
+        assertEquals("uY", replacer.replace("ushe"));
+        assertEquals("Z and W", replacer.replace("hers and his"));
+        assertEquals("YZ", replacer.replace("shehers"));
+        assertEquals("", replacer.replace(""));
+        final String noMatch = "nothing to see";
+        assertSame(noMatch, replacer.replace(noMatch));
+    }
+
+    /**
+     * Tests that the leftmost match wins and among those the longest one.
+     */
+    @Test
+    public void testLeftmostLongest() {
+        final AhoCorasickReplacer replacer =
+            new AhoCorasickReplacer(dictionary("abcd", "1", "bc", "2", "abc", "3", "cde", "4", "a", "5"), true);
+        assertEquals("1e", replacer.replace("abcde"));
+        assertEquals("3x", replacer.replace("abcx"));
+        assertEquals("5x24", replacer.replace("axbccde"));
+    }
+
+    /**
+     * Tests matching that ignores the case.
+     */
+    @Test
+    public void testCaseInsensitive() {
+        final Map<String, String> dictionary = dictionary("Knime", "KNIME", "ag", "AG");
+        assertEquals("KNIME AG", new AhoCorasickReplacer(dictionary, false).replace("kNiMe Ag"));
+        assertEquals("kNiMe Ag", new AhoCorasickReplacer(dictionary, true).replace("kNiMe Ag"));
+        assertEquals("knime", AhoCorasickReplacer.toLowerCase("KNime"));
+    }
+
+    /**
+     * Compares the replacer with a naive implementation on random dictionaries and texts.
+     */
+    @Test
+    public void testRandom() {
+        final Random random = new Random(42);
+        for (int run = 0; run < 200; run++) {
+            final Map<String, String> dictionary = new HashMap<>();
+            final int nrKeys = 1 + random.nextInt(20);
+            for (int k = 0; k < nrKeys; k++) {
+                dictionary.put(randomString(random, 1 + random.nextInt(5)), "<" + k + ">");
+            }
+            final AhoCorasickReplacer replacer = new AhoCorasickReplacer(dictionary, true);
+            for (int t = 0; t < 20; t++) {
+                final String text = randomString(random, random.nextInt(40));
+                assertEquals(dictionary + " / " + text, replaceNaive(dictionary, text), replacer.replace(text));
+            }
+        }
+    }
+
+    private static String randomString(final Random random, final int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char)('a' + random.nextInt(3));
+        }
+        return new String(chars);
+    }
+}
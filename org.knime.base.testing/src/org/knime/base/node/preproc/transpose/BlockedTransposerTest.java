@@ -0,0 +1,194 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.transpose;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Tests for {@link BlockedTransposer}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BlockedTransposerTest {
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * Creates the execution context.
+     */
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(),
+            new Node(new TransposeTableNodeFactory()), SingleNodeContainer.MemoryPolicy.CacheSmallInMemory,
+            new HashMap<Integer, ContainerTable>());
+    }
+
+    private static DataTableSpec createSpec(final DataType type, final int nrColumns) {
+        final DataColumnSpec[] columns = new DataColumnSpec[nrColumns];
+        for (int c = 0; c < nrColumns; c++) {
+            columns[c] = new DataColumnSpecCreator("Column " + c, type).createSpec();
+        }
+        return new DataTableSpec(columns);
+    }
+
+    private static DataCell createCell(final boolean numeric, final int row, final int column) {
+        if ((row + column) % 7 == 0) {
+            return DataType.getMissingCell();
+        }
+        if (numeric) {
+            return new DoubleCell(row * 1000.5 + column);
+        }
+        return column % 2 == 0 ? new StringCell(row + "/" + column) : new IntCell(row * column);
+    }
+
+    private static void testTranspose(final boolean numeric, final int nrRows, final int nrColumns,
+        final int blockSize, final int rowsBeforeSpill) throws CanceledExecutionException {
+        final DataTableSpec spec =
+            createSpec(numeric ? DoubleCell.TYPE : DataType.getType(DataCell.class), nrColumns);
+        final BlockedTransposer transposer = new BlockedTransposer(spec, blockSize, EXEC_CONTEXT);
+        transposer.setRowsBeforeForcedSpill(rowsBeforeSpill);
+        for (int r = 0; r < nrRows; r++) {
+            final DataCell[] cells = new DataCell[nrColumns];
+            for (int c = 0; c < nrColumns; c++) {
+                cells[c] = createCell(numeric, r, c);
+            }
+            transposer.add(new DefaultRow(r == 3 ? " " : ("Row" + r), cells));
+        }
+        if (rowsBeforeSpill > 0) {
+            assertEquals(nrRows / rowsBeforeSpill, transposer.getNrRuns());
+        }
+        final BufferedDataTable table = transposer.createTransposedTable(new ExecutionMonitor());
+
+        final DataTableSpec transposedSpec = table.getDataTableSpec();
+        assertEquals(nrRows, transposedSpec.getNumColumns());
+        assertEquals("<empty_0>", transposedSpec.getColumnSpec(3).getName());
+        assertEquals("Row4", transposedSpec.getColumnSpec(4).getName());
+        assertEquals(nrColumns, table.size());
+        int c = 0;
+        for (final DataRow row : table) {
+            assertEquals("Column " + c, row.getKey().getString());
+            for (int r = 0; r < nrRows; r++) {
+                assertEquals(createCell(numeric, r, c), row.getCell(r));
+            }
+            c++;
+        }
+        EXEC_CONTEXT.clearTable(table);
+    }
+
+    /**
+     * Tests transposing a table with cells of different types held in memory.
+     *
+     * @throws CanceledExecutionException never
+     */
+    @Test
+    public void testInMemory() throws CanceledExecutionException {
+        testTranspose(false, 23, 17, 5, 0);
+    }
+
+    /**
+     * Tests transposing a table with cells of different types that is spilled to disk.
+     *
+     * @throws CanceledExecutionException never
+     */
+    @Test
+    public void testSpilled() throws CanceledExecutionException {
+        testTranspose(false, 23, 17, 5, 4);
+    }
+
+    /**
+     * Tests transposing a table with double columns held in memory and spilled to disk.
+     *
+     * @throws CanceledExecutionException never
+     */
+    @Test
+    public void testNumeric() throws CanceledExecutionException {
+        testTranspose(true, 23, 17, 4, 0);
+        testTranspose(true, 23, 17, 4, 6);
+        testTranspose(true, 23, 17, 100, 5);
+    }
+
+    /**
+     * Tests that the block size is bounded by the number of columns.
+     *
+     * @throws CanceledExecutionException never
+     */
+    @Test
+    public void testLargeBlockSize() throws CanceledExecutionException {
+        final BlockedTransposer transposer =
+            new BlockedTransposer(createSpec(DoubleCell.TYPE, 3), Integer.MAX_VALUE, EXEC_CONTEXT);
+        transposer.add(new DefaultRow("Row0", new DoubleCell(1), new DoubleCell(2), new DoubleCell(3)));
+        assertEquals(0, transposer.getNrRuns());
+        final BufferedDataTable table = transposer.createTransposedTable(new ExecutionMonitor());
+        assertEquals(3, table.size());
+        EXEC_CONTEXT.clearTable(table);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.viz.crosstable;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.Test;
+import org.knime.base.node.parallel.ParallelChunkProcessor;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Tests for {@link CrosstabCounter}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CrosstabCounterTest {
+
+    private static final int CHUNK_SIZE = ParallelChunkProcessor.DEFAULT_CHUNK_SIZE;
+
+    private static ParallelChunkProcessor createProcessor(final int maxPendingChunks) {
+        return new ParallelChunkProcessor(KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(4), CHUNK_SIZE,
+            maxPendingChunks);
+    }
+
+    /** Orders missing cells first, all others by their string representation. */
+    private static final Comparator<DataCell> COMPARATOR = (c1, c2) -> {
+        if (c1.isMissing() || c2.isMissing()) {
+            return Boolean.compare(!c1.isMissing(), !c2.isMissing());
+        }
+        return c1.toString().compareTo(c2.toString());
+    };
+
+    private static CrosstabCounter count(final List<DataRow> rows, final int weightIndex, final boolean collectKeys)
+        throws CanceledExecutionException {
+        final CrosstabCounter counter = new CrosstabCounter(0, 1, weightIndex, collectKeys, createProcessor(3));
+        counter.count(rows.iterator(), rows.size(), COMPARATOR, COMPARATOR, new ExecutionMonitor());
+        return counter;
+    }
+
+    /** @return the row value, column value and weight per row, with missing and negative weights */
+    private static List<DataRow> createRows(final Random random, final int count) {
+        final List<DataRow> rows = new ArrayList<>();
+        for (int r = 0; r < count; r++) {
+            final DataCell rowVar =
+                random.nextInt(50) == 0 ? DataType.getMissingCell() : new StringCell("R" + random.nextInt(7));
+            final DataCell colVar = new StringCell("C" + random.nextInt(5));
+            final int w = random.nextInt(12);
+            final DataCell weight = w == 0 ? DataType.getMissingCell() : new DoubleCell(w == 1 ? -1 : w);
+            rows.add(new DefaultRow("Row" + r, rowVar, colVar, weight));
+        }
+        return rows;
+    }
+
+    /**
+     * Tests that the cells are the ones of a group-by in sorted order.
+     *
+     * @throws CanceledExecutionException not expected
+     */
+    @Test
+    public void testCount() throws CanceledExecutionException {
+        final List<DataRow> rows = createRows(new Random(42), 20 * CHUNK_SIZE + 3);
+        final Map<DataCell, Map<DataCell, double[]>> expected = new TreeMap<>(COMPARATOR);
+        final Map<DataCell, Map<DataCell, Set<RowKey>>> expectedKeys = new TreeMap<>(COMPARATOR);
+        for (final DataRow row : rows) {
+            final double[] counts = expected.computeIfAbsent(row.getCell(0), k -> new TreeMap<>(COMPARATOR))
+                .computeIfAbsent(row.getCell(1), k -> new double[2]);
+            counts[0]++;
+            final DataCell weight = row.getCell(2);
+            if (!weight.isMissing() && ((DoubleCell)weight).getDoubleValue() >= 0) {
+                counts[1] += ((DoubleCell)weight).getDoubleValue();
+            }
+            expectedKeys.computeIfAbsent(row.getCell(0), k -> new TreeMap<>(COMPARATOR))
+                .computeIfAbsent(row.getCell(1), k -> new HashSet<>()).add(row.getKey());
+        }
+
+        final CrosstabCounter counted = count(rows, -1, false);
+        final CrosstabCounter weighted = count(rows, 2, true);
+        assertTrue(counted.isDense());
+        assertFalse(counted.hasNegativeWeights());
+        assertTrue(weighted.hasNegativeWeights());
+        assertEquals(expected.size(), counted.getRowValues().length);
+        int cell = 0;
+        for (final Map.Entry<DataCell, Map<DataCell, double[]>> rowEntry : expected.entrySet()) {
+            for (final Map.Entry<DataCell, double[]> colEntry : rowEntry.getValue().entrySet()) {
+                for (final CrosstabCounter counter : new CrosstabCounter[]{counted, weighted}) {
+                    assertEquals(rowEntry.getKey(), counter.getRowValues()[counter.getCellRow(cell)]);
+                    assertEquals(colEntry.getKey(), counter.getColValues()[counter.getCellCol(cell)]);
+                }
+                assertEquals(colEntry.getValue()[0], counted.getCellFrequency(cell), 0);
+                assertEquals(colEntry.getValue()[1], weighted.getCellFrequency(cell), 1e-9);
+                assertNull(counted.getCellKeys(cell));
+                assertEquals(expectedKeys.get(rowEntry.getKey()).get(colEntry.getKey()), weighted.getCellKeys(cell));
+                cell++;
+            }
+        }
+        assertEquals(cell, counted.getCellCount());
+        assertEquals(rows.size(), counted.getTotal(), 0);
+    }
+
+    /**
+     * Tests that many distinct values are counted in the sparse table with the same result.
+     *
+     * @throws CanceledExecutionException not expected
+     */
+    @Test
+    public void testSparse() throws CanceledExecutionException {
+        final int distinct = (int)Math.sqrt(CrosstabCounter.MAX_DENSE_CELLS) + 10;
+        final List<DataRow> rows = new ArrayList<>();
+        for (int r = 0; r < 2 * distinct; r++) {
+            final int v = r % distinct;
+            rows.add(new DefaultRow("Row" + r, new StringCell(String.format("%06d", v)),
+                new StringCell(String.format("%06d", (v * 5) % distinct)), new DoubleCell(1)));
+        }
+        final CrosstabCounter counter = count(rows, -1, false);
+        assertFalse(counter.isDense());
+        assertEquals(distinct, counter.getCellCount());
+        for (int cell = 0; cell < distinct; cell++) {
+            assertEquals(cell, counter.getCellRow(cell));
+            assertEquals((cell * 5) % distinct, counter.getCellCol(cell));
+            assertEquals(2, counter.getCellFrequency(cell), 0);
+        }
+        final double[] totals = new double[distinct];
+        Arrays.fill(totals, 2);
+        assertArrayEquals(totals, counter.getRowTotals(), 0);
+        assertArrayEquals(totals, counter.getColTotals(), 0);
+    }
+
+    /**
+     * Tests the long-keyed hash table.
+     */
+    @Test
+    public void testLongKeyedCounts() {
+        final CrosstabCounter.LongKeyedCounts counts = new CrosstabCounter.LongKeyedCounts();
+        final Random random = new Random(1);
+        final Map<Long, Double> expected = new TreeMap<>();
+        for (int i = 0; i < 10000; i++) {
+            final long key = ((long)random.nextInt(300) << 32) | random.nextInt(300);
+            counts.add(key, 1, i);
+            expected.merge(key, (double)i, Double::sum);
+        }
+        assertEquals(expected.size(), counts.size());
+        final long[] keys = counts.sortedKeys();
+        int i = 0;
+        for (final Map.Entry<Long, Double> entry : expected.entrySet()) {
+            assertEquals(entry.getKey().longValue(), keys[i++]);
+            assertEquals(entry.getValue(), counts.getFrequency(entry.getKey()), 0);
+        }
+        assertEquals(0, counts.getFrequency(Long.MAX_VALUE), 0);
+    }
+}
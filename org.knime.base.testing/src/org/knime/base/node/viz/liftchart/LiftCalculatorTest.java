@@ -0,0 +1,197 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.viz.liftchart;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the lift computed in a single pass with the one computed by sorting the table.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class LiftCalculatorTest {
+
+    private static final int ROWS = 1000;
+
+    private static final double INTERVAL_WIDTH = 10;
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * Creates the execution context.
+     */
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new LiftChartNodeFactory()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Creates a table with {@link #ROWS} rows that have a class, and some more rows with a missing class. The "Ties"
+     * column has ten distinct scores with one interval worth of rows each, so that the rows of each interval are the
+     * same for both ways no matter how rows with equal scores are ordered. The "Continuous" column has distinct scores
+     * and a missing score in one interval worth of rows, which are ranked last.
+     */
+    private static BufferedDataTable createTable() {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("Class", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Ties", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Continuous", DoubleCell.TYPE).createSpec());
+        final Random random = new Random(42);
+        final List<DataCell> ties = new ArrayList<>();
+        for (int r = 0; r < ROWS; r++) {
+            ties.add(new DoubleCell(r / (ROWS / 10) / 10.0));
+        }
+        Collections.shuffle(ties, random);
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(spec);
+        for (int r = 0; r < ROWS; r++) {
+            final boolean positive = random.nextInt(3) == 0;
+            final DataCell continuous = r % 10 == 0 ? DataType.getMissingCell()
+                : new DoubleCell(Math.min(1, random.nextDouble() * 0.8 + (positive ? 0.2 : 0)));
+            container.addRowToTable(
+                new DefaultRow("Row" + r, new StringCell(positive ? " a" : "B"), ties.get(r), continuous));
+            if (r % 50 == 0) {
+                container.addRowToTable(new DefaultRow("Missing" + r, DataType.getMissingCell(),
+                    new DoubleCell(random.nextDouble()), new DoubleCell(random.nextDouble())));
+            }
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static LiftCalculator calculate(final BufferedDataTable table, final String probabilityColumn,
+        final boolean singlePass, final boolean ignoreMissingValues, final String expectedWarning) throws Exception {
+        final LiftCalculator calculator =
+            new LiftCalculator("Class", probabilityColumn, "A", INTERVAL_WIDTH, ignoreMissingValues);
+        calculator.setSinglePass(singlePass);
+        assertEquals(expectedWarning, calculator.calculateLiftTables(table, EXEC_CONTEXT));
+        return calculator;
+    }
+
+    private static void assertSameTable(final BufferedDataTable expected, final BufferedDataTable actual) {
+        assertEquals(expected.size(), actual.size());
+        final List<DataRow> actualRows = new ArrayList<>();
+        actual.forEach(actualRows::add);
+        int r = 0;
+        for (final DataRow expectedRow : expected) {
+            final DataRow actualRow = actualRows.get(r++);
+            assertEquals(expectedRow.getKey(), actualRow.getKey());
+            assertArrayEquals(toDoubles(expectedRow), toDoubles(actualRow), 1e-12);
+        }
+    }
+
+    private static double[] toDoubles(final DataRow row) {
+        final double[] values = new double[row.getNumCells()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ((DoubleValue)row.getCell(i)).getDoubleValue();
+        }
+        return values;
+    }
+
+    private static void assertSameLift(final BufferedDataTable table, final String probabilityColumn,
+        final boolean ignoreMissingValues, final String expectedWarning) throws Exception {
+        final LiftCalculator sorted = calculate(table, probabilityColumn, false, ignoreMissingValues, expectedWarning);
+        final LiftCalculator singlePass =
+            calculate(table, probabilityColumn, true, ignoreMissingValues, expectedWarning);
+        assertSameTable(sorted.getLiftTable(), singlePass.getLiftTable());
+        assertSameTable(sorted.getResponseTable(), singlePass.getResponseTable());
+        assertEquals(ROWS + ROWS / 50, sorted.getSortedInput().size());
+        assertNull(singlePass.getSortedInput());
+    }
+
+    /**
+     * Tests that both ways compute the same lift for a column with tied scores.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSameLiftWithTies() throws Exception {
+        final BufferedDataTable table = createTable();
+        assertSameLift(table, "Ties", false, null);
+        assertSameLift(table, "Ties", true, null);
+    }
+
+    /**
+     * Tests that both ways compute the same lift for a column with missing scores.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSameLiftWithMissingValues() throws Exception {
+        final BufferedDataTable table = createTable();
+        assertSameLift(table, "Continuous", false, "Table contains missing values.");
+        assertSameLift(table, "Continuous", true, null);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.viz.roc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the curves computed in a single pass with the ones computed by sorting the table.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ROCCalculatorTest {
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * Creates the execution context.
+     */
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new ROCNodeFactory()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    private static BufferedDataTable createTable(final int rows) {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("Class", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Ties", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Continuous", DoubleCell.TYPE).createSpec());
+        final Random random = new Random(42);
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(spec);
+        for (int r = 0; r < rows; r++) {
+            final boolean positive = random.nextInt(3) == 0;
+            final DataCell ties = random.nextInt(50) == 0 ? DataType.getMissingCell()
+                : new DoubleCell(Math.min(1, random.nextInt(10) / 10.0 + (positive ? 0.2 : 0)));
+            final DataCell continuous =
+                new DoubleCell(Math.min(1, random.nextDouble() * 0.8 + (positive ? 0.2 : 0)));
+            container.addRowToTable(new DefaultRow("Row" + r, new StringCell(positive ? "A" : "B"), ties, continuous));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static List<ROCCurve> calculate(final BufferedDataTable table, final boolean singlePass,
+        final boolean ignoreMissingValues) throws Exception {
+        final ROCCalculator calculator =
+            new ROCCalculator(Arrays.asList("Ties", "Continuous"), "Class", -1, "A", ignoreMissingValues);
+        calculator.setSinglePass(singlePass);
+        calculator.calculateCurveData(table, EXEC_CONTEXT);
+        assertEquals(2, calculator.getOutputTable().size());
+        return calculator.getOutputCurves();
+    }
+
+    /**
+     * Tests that both ways compute the same curves.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSameCurves() throws Exception {
+        final BufferedDataTable table = createTable(5000);
+        for (final boolean ignoreMissingValues : new boolean[]{false, true}) {
+            final List<ROCCurve> sorted = calculate(table, false, ignoreMissingValues);
+            final List<ROCCurve> singlePass = calculate(table, true, ignoreMissingValues);
+            for (int i = 0; i < 2; i++) {
+                assertEquals(sorted.get(i).getName(), singlePass.get(i).getName());
+                assertEquals(sorted.get(i).getArea(), singlePass.get(i).getArea(), 1e-12);
+                assertArrayEquals(sorted.get(i).getX(), singlePass.get(i).getX(), 1e-12);
+                assertArrayEquals(sorted.get(i).getY(), singlePass.get(i).getY(), 1e-12);
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.viz.roc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+import org.knime.base.node.parallel.ParallelChunkProcessor;
+import org.knime.base.node.viz.roc.ScoreCollector.ScoreCounts;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Tests for {@link ScoreCollector}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ScoreCollectorTest {
+
+    private static final int CHUNK_SIZE = ParallelChunkProcessor.DEFAULT_CHUNK_SIZE;
+
+    private static ParallelChunkProcessor createProcessor(final int maxPendingChunks) {
+        return new ParallelChunkProcessor(KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(4), CHUNK_SIZE,
+            maxPendingChunks);
+    }
+
+    private static final DataCell POSITIVE = new StringCell("pos");
+
+    private static final DataCell NEGATIVE = new StringCell("neg");
+
+    /** Rows with the class in the first and scores in the following columns, with ties and missing values. */
+    private static List<DataRow> createRows(final Random random, final int count, final int columns,
+        final boolean continuous) {
+        final List<DataRow> rows = new ArrayList<>();
+        for (int r = 0; r < count; r++) {
+            final DataCell[] cells = new DataCell[columns + 1];
+            final int c = random.nextInt(20);
+            cells[0] = c == 0 ? DataType.getMissingCell() : (c % 2 == 0 ? POSITIVE : NEGATIVE);
+            for (int i = 1; i <= columns; i++) {
+                if (random.nextInt(30) == 0) {
+                    cells[i] = DataType.getMissingCell();
+                } else {
+                    cells[i] = new DoubleCell(continuous ? random.nextDouble() : random.nextInt(25) / 24.0);
+                }
+            }
+            rows.add(new DefaultRow("Row" + r, cells));
+        }
+        return rows;
+    }
+
+    /** @return positives and negatives per key in descending order, missing scores at the end */
+    private static List<long[]> countNaively(final List<DataRow> rows, final int column,
+        final boolean ignoreMissingValues, final int bins) {
+        final Map<Double, long[]> counts = new TreeMap<>(Collections.reverseOrder());
+        final long[] missing = new long[2];
+        for (final DataRow row : rows) {
+            final DataCell classCell = row.getCell(0);
+            final DataCell scoreCell = row.getCell(column);
+            if ((classCell.isMissing() || scoreCell.isMissing()) && ignoreMissingValues) {
+                continue;
+            }
+            final int index = classCell.equals(POSITIVE) ? 0 : 1;
+            if (scoreCell.isMissing()) {
+                missing[index]++;
+            } else {
+                double score = ((DoubleCell)scoreCell).getDoubleValue();
+                if (bins > 0) {
+                    score = Math.min(bins - 1, (int)(score * bins));
+                }
+                counts.computeIfAbsent(score, s -> new long[2])[index]++;
+            }
+        }
+        final List<long[]> result = new ArrayList<>(counts.values());
+        if (missing[0] + missing[1] > 0) {
+            result.add(missing);
+        }
+        return result;
+    }
+
+    private static ScoreCounts[] collect(final List<DataRow> rows, final int columns,
+        final boolean ignoreMissingValues, final long maxExactBytes) throws CanceledExecutionException {
+        final int[] scoreColumns = new int[columns];
+        final double[] lower = new double[columns];
+        final double[] upper = new double[columns];
+        for (int i = 0; i < columns; i++) {
+            scoreColumns[i] = i + 1;
+            upper[i] = 1;
+        }
+        final ScoreCollector collector = new ScoreCollector(scoreColumns, 0, POSITIVE::equals, ignoreMissingValues,
+            ignoreMissingValues, createProcessor(3));
+        collector.setMaxExactBytes(maxExactBytes);
+        final ScoreCounts[] counts =
+            collector.collect(rows.iterator(), rows.size(), lower, upper, new ExecutionMonitor());
+        assertEquals(!ignoreMissingValues, collector.hasMissingValues());
+        return counts;
+    }
+
+    private static void assertCounts(final List<long[]> expected, final ScoreCounts actual) {
+        assertEquals(expected.size(), actual.getGroupCount());
+        for (int g = 0; g < expected.size(); g++) {
+            assertEquals("Positives of group " + g, expected.get(g)[0], actual.getPositives(g));
+            assertEquals("Negatives of group " + g, expected.get(g)[1], actual.getNegatives(g));
+        }
+    }
+
+    /**
+     * Tests the counts per distinct score.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testExactCounts() throws Exception {
+        final Random random = new Random(17);
+        final List<DataRow> rows = createRows(random, 10 * CHUNK_SIZE + 17, 3, false);
+        for (final boolean ignoreMissingValues : new boolean[]{false, true}) {
+            final ScoreCounts[] counts = collect(rows, 3, ignoreMissingValues, Long.MAX_VALUE);
+            assertEquals(3, counts.length);
+            for (int c = 0; c < 3; c++) {
+                assertTrue(counts[c].isExact());
+                assertCounts(countNaively(rows, c + 1, ignoreMissingValues, 0), counts[c]);
+            }
+        }
+    }
+
+    /**
+     * Tests the counts per bin if the scores do not fit into memory.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testHistogramCounts() throws Exception {
+        final Random random = new Random(5);
+        final List<DataRow> rows = createRows(random, 20 * CHUNK_SIZE, 2, true);
+        final ScoreCounts[] counts = collect(rows, 2, false, 0);
+        for (int c = 0; c < 2; c++) {
+            assertFalse(counts[c].isExact());
+            assertCounts(countNaively(rows, c + 1, false, ScoreCollector.HISTOGRAM_BINS), counts[c]);
+        }
+    }
+
+    /**
+     * Tests that no rows result in no groups.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testEmpty() throws Exception {
+        final ScoreCounts[] counts = collect(new ArrayList<>(), 1, true, Long.MAX_VALUE);
+        assertEquals(0, counts[0].getGroupCount());
+    }
+
+    /**
+     * Tests that the sortable representation has the order of {@link Double#compare(double, double)}.
+     */
+    @Test
+    public void testSortable() {
+        final double[] values = {Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1, -Double.MIN_VALUE, -0.0, 0.0,
+            Double.MIN_VALUE, 0.5, 1, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN};
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(Double.doubleToLongBits(values[i]),
+                Double.doubleToLongBits(ScoreCollector.fromSortable(ScoreCollector.toSortable(values[i]))));
+            for (int j = 0; j < values.length; j++) {
+                assertEquals(Integer.signum(Double.compare(values[i], values[j])), Integer.signum(
+                    Long.compare(ScoreCollector.toSortable(values[i]), ScoreCollector.toSortable(values[j]))));
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Testcases for {@link StringSearcher}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class StringSearcherTest {
+
+    /**
+     * Compares the search with {@link String#indexOf(String, int)} for short and long strings.
+     */
+    @Test
+    public void testIndexOf() {
+        final Random random = new Random(7);
+        for (int run = 0; run < 500; run++) {
+            // a small alphabet with characters sharing the lower bits of the skip table
+            final String needle = randomString(random, 1 + random.nextInt(12));
+            final String text = randomString(random, random.nextInt(100));
+            final StringSearcher searcher = new StringSearcher(needle);
+            for (int from = 0; from <= text.length(); from += 1 + random.nextInt(5)) {
+                assertEquals(needle + " in " + text, text.indexOf(needle, from), searcher.indexOf(text, from));
+            }
+            assertEquals(text.replace(needle, "<>"), searcher.replaceAll(text, "<>"));
+        }
+    }
+
+    /**
+     * Tests the replacement of all occurrences.
+     */
+    @Test
+    public void testReplaceAll() {
+        assertEquals("a-b-c", new StringSearcher(", ").replaceAll("a, b, c", "-"));
+        assertEquals("xx", new StringSearcher("aa").replaceAll("aaaa", "x"));
+        assertEquals("[ok] and [ok]", new StringSearcher("long needle").replaceAll("long needle and long needle", "[ok]"));
+        final String text = "nothing";
+        assertSame(text, new StringSearcher("long needle").replaceAll(text, "x"));
+    }
+
+    /**
+     * Tests that an empty string is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyNeedle() {
+        new StringSearcher("");
+    }
+
+    private static String randomString(final Random random, final int length) {
+        final char[] alphabet = {'a', 'b', '\u0161', '\u0261'};
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(chars);
+    }
+}
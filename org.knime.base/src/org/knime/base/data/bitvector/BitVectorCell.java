@@ -92,64 +92,9 @@ public class BitVectorCell extends DataCell implements BitVectorValue {
      * @throws NumberFormatException if that fails
      */
     public BitVectorCell(final String hex) {
-        String hexString = hex;
-        int rest = hexString.length() % 8;
-        if (rest > 0) {
-            // fill the hexString with zeros to length that is a multiple of 8
-            StringBuffer prefix = new StringBuffer(rest);
-            for (int i = 0; i < 8 - rest; i++) {
-                prefix.append('0');
-            }
-            hexString = prefix.toString().concat(hexString);
-        }
-        m_nrBits = 4 * hexString.length();
-        m_bits = new BitSet(m_nrBits);
-        m_bits.clear();
-        for (int bitIndex = 0; bitIndex < m_nrBits; bitIndex += 4) {
-            // which block of 8 characters does this bit come from?
-            int blockIndex = bitIndex / 32;
-            // which character represents the next 4 bits
-            int charIndex = 7 - (bitIndex - blockIndex * 32) / 4;
-            char hexChar = hexString.charAt(blockIndex * 8 + charIndex);
-            int hexAsNumber = 0;
-            if (('0' <= hexChar) && (hexChar <= '9')) {
-                hexAsNumber = hexChar - '0';
-            } else if (('A' <= hexChar) && (hexChar <= 'F')) {
-                hexAsNumber = 10 + hexChar - 'A';
-            } else if (('a' <= hexChar) && (hexChar <= 'f')) {
-                hexAsNumber = 10 + hexChar - 'a';
-            } else {
-                throw new NumberFormatException("not a hex-character");
-            }
-            if (hexAsNumber >= 8) {
-                m_bits.set(bitIndex + 3);
-                hexAsNumber = hexAsNumber - 8;
-            } else {
-                m_bits.clear(bitIndex + 3);
-            }
-            if (hexAsNumber >= 4) {
-                m_bits.set(bitIndex + 2);
-                hexAsNumber = hexAsNumber - 4;
-            } else {
-                m_bits.clear(bitIndex + 2);
-            }
-            if (hexAsNumber >= 2) {
-                m_bits.set(bitIndex + 1);
-                hexAsNumber = hexAsNumber - 2;
-            } else {
-                m_bits.clear(bitIndex + 1);
-            }
-            if (hexAsNumber >= 1) {
-                m_bits.set(bitIndex + 0);
-                hexAsNumber = hexAsNumber - 1;
-            } else {
-                m_bits.clear(bitIndex + 0);
-            }
-            if (hexAsNumber != 0) {
-                throw new NumberFormatException(
-                        "DataElement HexChar wasn't converted correctly.");
-            }
-        }
+        final PackedBitVector bits = PackedBitVector.fromHexString(hex);
+        m_nrBits = bits.length();
+        m_bits = bits.toBitSet();
     } // BitVectorCell(String)
 
     /**
@@ -175,36 +120,7 @@ public BitVectorCell(final BitSet bits, final int nrOfBits) {
      */
     @Override
     public String toHexString() {
-        final BitSet set = getBitSet();
-        // compute number of hex characters, which come in blocks of 4!
-        final int nrHexChars = ((getNumBits() / 4 + 1) / 8 + 1) * 8;
-        assert (nrHexChars % 8 == 0);
-        assert (nrHexChars > (getNumBits() / 4 + 1));
-        // reserve space for resulting string
-        final StringBuffer buf = new StringBuffer(nrHexChars);
-        for (int b = 0; b < getNumBits(); b += 32) {
-            // process bits in chunks of 32 (= 8 chars)
-            for (int blockId = 7; blockId >= 0; blockId--) {
-                // go through the 8 blocks backwards
-                // convert block of 4 bits to one hex character
-                int i = 0;
-                for (int k = 0; k < 4; k++) {
-                    int bitIndex = b + k + (blockId * 4);
-                    if (bitIndex < getNumBits()) {
-                        i += (1 << k) * (set.get(bitIndex) ? 1 : 0);
-                    }
-                }
-                assert (i >= 0 && i < 16);
-                int charI = i + '0';
-                if (charI > '9') {
-                    charI += ('A' - ('9' + 1));
-                }
-                // add character to string
-                buf.append((char)(charI));
-            }
-        }
-        // done, return hex representation
-        return buf.toString();
+        return PackedBitVector.fromBitSet(getBitSet(), getNumBits()).toHexString();
     }
 
     /**
@@ -279,11 +195,7 @@ public BitSet getBitSet() {
      */
     @Override
     public String toString() {
-        StringBuffer res = new StringBuffer(m_nrBits);
-        for (int i = 0; i < m_nrBits; i++) {
-            res.append(m_bits.get(i) ? 1 : 0);
-        }
-        return res.toString();
+        return PackedBitVector.fromBitSet(m_bits, m_nrBits).toString();
     }
 
     /**
@@ -50,9 +50,13 @@
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.vector.bitvector.BitVectorType;
+import org.knime.core.data.vector.bitvector.DenseBitVector;
+import org.knime.core.data.vector.bitvector.DenseBitVectorCellFactory;
 import org.knime.core.node.NodeLogger;
 
 /**
@@ -99,6 +103,31 @@ static int[] convert2Array(final List<Integer> colIndices) {
         return idxs;
     }
 
+    /**
+     * Creates a bit vector cell from bits that are packed into words as described in {@link PackedBitVector}. Dense
+     * vectors take over the words as they are, sparse vectors only visit the set bits.
+     *
+     * @param vectorType the {@link BitVectorType}
+     * @param words the words, bit <code>i</code> is bit <code>i % 64</code> of word <code>i / 64</code>, no bits
+     *            set at or beyond <code>length</code>, must not be modified afterwards
+     * @param length the number of bits
+     * @return the new cell
+     * @since 4.2
+     */
+    protected static DataCell createCell(final BitVectorType vectorType, final long[] words, final int length) {
+        if (BitVectorType.DENSE.equals(vectorType)) {
+            return new DenseBitVectorCellFactory(new DenseBitVector(words, length)).createDataCell();
+        }
+        final org.knime.core.data.vector.bitvector.BitVectorCellFactory<? extends DataCell> factory =
+            vectorType.getCellFactory(length);
+        for (int w = 0; w < words.length; w++) {
+            for (long word = words[w]; word != 0; word &= word - 1) {
+                factory.set((w << 6) + Long.numberOfTrailingZeros(word));
+            }
+        }
+        return factory.createDataCell();
+    }
+
     /**
      *
      * @param columnSpec the column spec of the new column
@@ -48,6 +48,7 @@
 package org.knime.base.data.bitvector;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -58,6 +59,8 @@
 import org.knime.core.node.NodeLogger;
 
 /**
+ * Sets the bits of the numeric values that are greater than or equal to a percentage of the column's mean value.
+ * The rows are processed concurrently.
  *
  * @author Fabian Dill, University of Konstanz
  * @author Tobias Koetter
@@ -66,13 +69,11 @@ public class Numeric2BitVectorMeanCellFactory extends BitVectorCellFactory {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(Numeric2BitVectorMeanCellFactory.class);
 
-    private double[] m_meanValues;
+    private final double[] m_thresholds;
 
-    private double m_meanFactor;
+    private final AtomicInteger m_totalNrOf0s = new AtomicInteger();
 
-    private int m_totalNrOf0s;
-
-    private int m_totalNrOf1s;
+    private final AtomicInteger m_totalNrOf1s = new AtomicInteger();
 
     private final int[] m_columns;
 
@@ -105,10 +106,12 @@ public Numeric2BitVectorMeanCellFactory(final DataColumnSpec bitColSpec,
      */
     public Numeric2BitVectorMeanCellFactory(final BitVectorType vectorType, final DataColumnSpec bitColSpec,
         final double meanThreshold, final double[] meanValues, final int[] colIndices) {
-        super(bitColSpec);
+        super(true, bitColSpec);
         m_vectorType = vectorType;
-        m_meanValues = meanValues;
-        m_meanFactor = meanThreshold;
+        m_thresholds = new double[colIndices.length];
+        for (int i = 0; i < m_thresholds.length; i++) {
+            m_thresholds[i] = meanThreshold * meanValues[i];
+        }
         m_columns = colIndices;
     }
 
@@ -117,7 +120,7 @@ public Numeric2BitVectorMeanCellFactory(final BitVectorType vectorType, final Da
      */
     @Override
     public int getNumberOfNotSetBits() {
-        return m_totalNrOf0s;
+        return m_totalNrOf0s.get();
     }
 
     /**
@@ -125,7 +128,7 @@ public int getNumberOfNotSetBits() {
      */
     @Override
     public int getNumberOfSetBits() {
-        return m_totalNrOf1s;
+        return m_totalNrOf1s.get();
     }
 
     /**
@@ -134,27 +137,27 @@ public int getNumberOfSetBits() {
     @Override
     public DataCell getCell(final DataRow row) {
         incrementNrOfRows();
-        org.knime.core.data.vector.bitvector.BitVectorCellFactory<? extends DataCell> factory =
-                m_vectorType.getCellFactory(m_columns.length);
+        final long[] words = new long[PackedBitVector.wordCount(m_columns.length)];
+        int nrOf1s = 0;
         for (int i = 0; i < m_columns.length; i++) {
             final DataCell cell = row.getCell(m_columns[i]);
             if (cell.isMissing()) {
-                m_totalNrOf0s++;
                 continue;
             }
             if (cell instanceof DoubleValue) {
-                double currValue = ((DoubleValue)cell).getDoubleValue();
-                if (currValue >= (m_meanFactor * m_meanValues[i])) {
-                    factory.set(i);
-                    m_totalNrOf1s++;
-                } else {
-                    m_totalNrOf0s++;
+                if (((DoubleValue)cell).getDoubleValue() >= m_thresholds[i]) {
+                    words[i >>> 6] |= 1L << i;
+                    nrOf1s++;
                 }
             } else {
+                m_totalNrOf1s.addAndGet(nrOf1s);
+                m_totalNrOf0s.addAndGet(i - nrOf1s);
                 printError(LOGGER, row, "Incompatible type found.");
                 return DataType.getMissingCell();
             }
         }
-        return factory.createDataCell();
+        m_totalNrOf1s.addAndGet(nrOf1s);
+        m_totalNrOf0s.addAndGet(m_columns.length - nrOf1s);
+        return createCell(m_vectorType, words, m_columns.length);
     }
 }
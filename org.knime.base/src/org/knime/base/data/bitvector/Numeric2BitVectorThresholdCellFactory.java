@@ -48,6 +48,7 @@
 package org.knime.base.data.bitvector;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -58,6 +59,8 @@
 import org.knime.core.node.NodeLogger;
 
 /**
+ * Sets the bits of the numeric values that are greater than or equal to a fixed threshold. The rows are processed
+ * concurrently.
  *
  * @author Fabian Dill, University of Konstanz
  * @author Tobias Koetter
@@ -66,9 +69,9 @@ public class Numeric2BitVectorThresholdCellFactory extends BitVectorCellFactory
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(Numeric2BitVectorThresholdCellFactory.class);
 
-    private int m_totalNrOf0s;
-    private int m_totalNrOf1s;
-    private double m_threshold;
+    private final AtomicInteger m_totalNrOf0s = new AtomicInteger();
+    private final AtomicInteger m_totalNrOf1s = new AtomicInteger();
+    private final double m_threshold;
     private final int[] m_colIdxs;
     private final BitVectorType m_vectorType;
     /**
@@ -92,7 +95,7 @@ public Numeric2BitVectorThresholdCellFactory(
      */
     public Numeric2BitVectorThresholdCellFactory(final BitVectorType vectorType, final DataColumnSpec bitColSpec,
         final double threshold, final int... colIndices) {
-        super(bitColSpec);
+        super(true, bitColSpec);
         m_vectorType = vectorType;
         m_threshold = threshold;
         m_colIdxs = colIndices;
@@ -103,7 +106,7 @@ public Numeric2BitVectorThresholdCellFactory(final BitVectorType vectorType, fin
      */
     @Override
     public int getNumberOfNotSetBits() {
-        return m_totalNrOf0s;
+        return m_totalNrOf0s.get();
     }
 
     /**
@@ -111,7 +114,7 @@ public int getNumberOfNotSetBits() {
      */
     @Override
     public int getNumberOfSetBits() {
-        return m_totalNrOf1s;
+        return m_totalNrOf1s.get();
     }
 
     /**
@@ -120,28 +123,28 @@ public int getNumberOfSetBits() {
     @Override
     public DataCell getCell(final DataRow row) {
         incrementNrOfRows();
-        org.knime.core.data.vector.bitvector.BitVectorCellFactory<? extends DataCell> factory =
-                m_vectorType.getCellFactory(m_colIdxs.length);
+        final long[] words = new long[PackedBitVector.wordCount(m_colIdxs.length)];
+        int nrOf1s = 0;
         for (int i = 0; i < m_colIdxs.length; i++) {
             final DataCell cell = row.getCell(m_colIdxs[i]);
             if (cell.isMissing()) {
-                m_totalNrOf0s++;
                 continue;
             }
             if (cell instanceof DoubleValue) {
-                double currValue = ((DoubleValue)cell).getDoubleValue();
-                if (currValue >= m_threshold) {
-                    factory.set(i);
-                    m_totalNrOf1s++;
-                } else {
-                    m_totalNrOf0s++;
+                if (((DoubleValue)cell).getDoubleValue() >= m_threshold) {
+                    words[i >>> 6] |= 1L << i;
+                    nrOf1s++;
                 }
             } else {
+                m_totalNrOf1s.addAndGet(nrOf1s);
+                m_totalNrOf0s.addAndGet(i - nrOf1s);
                 printError(LOGGER, row, "Incompatible type found.");
                 return DataType.getMissingCell();
             }
         }
-        return factory.createDataCell();
+        m_totalNrOf1s.addAndGet(nrOf1s);
+        m_totalNrOf0s.addAndGet(m_colIdxs.length - nrOf1s);
+        return createCell(m_vectorType, words, m_colIdxs.length);
     }
 
 }
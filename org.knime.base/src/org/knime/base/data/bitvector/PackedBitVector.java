@@ -0,0 +1,409 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.bitvector;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.knime.core.data.vector.bitvector.BitVectorValue;
+
+/**
+ * A fixed length bit vector whose bits are packed into a <code>long[]</code>, 64 bits per word with bit
+ * <code>i</code> stored in bit <code>i % 64</code> of word <code>i / 64</code>. Cardinality, the logical operations
+ * and the similarity measures work on whole words, using {@link Long#bitCount(long)} instead of testing single bits.
+ * Bits beyond the length of the vector are always zero.
+ *
+ * <p>
+ * Many vectors of the same length can be stored contiguously in a {@link PackedBitVectorBlock} in order to compare
+ * a query against all of them.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ */
+public final class PackedBitVector {
+
+    private static final char[] HEX_CHARS = "0123456789ABCDEF".toCharArray();
+
+    private final long[] m_words;
+
+    private final int m_length;
+
+    /**
+     * Creates a new vector with all bits cleared.
+     *
+     * @param length the number of bits, not negative
+     */
+    public PackedBitVector(final int length) {
+        this(new long[wordCount(length)], length);
+    }
+
+    /**
+     * @param words the words, not copied, no bits set beyond <code>length</code>
+     * @param length the number of bits
+     */
+    PackedBitVector(final long[] words, final int length) {
+        m_words = words;
+        m_length = length;
+    }
+
+    /**
+     * @param length the number of bits, not negative
+     * @return the number of words needed to store that many bits
+     */
+    public static int wordCount(final int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative: " + length);
+        }
+        return (length + 63) >>> 6;
+    }
+
+    /**
+     * Creates a vector from a {@link BitSet}.
+     *
+     * @param bits the bits, bits at or beyond <code>length</code> are ignored
+     * @param length the number of bits
+     * @return a new vector
+     */
+    public static PackedBitVector fromBitSet(final BitSet bits, final int length) {
+        final long[] words = new long[wordCount(length)];
+        final long[] source = bits.toLongArray();
+        System.arraycopy(source, 0, words, 0, Math.min(source.length, words.length));
+        clearUnusedBits(words, length);
+        return new PackedBitVector(words, length);
+    }
+
+    /**
+     * Creates a vector from a bit vector value, only visiting its set bits.
+     *
+     * @param value the bit vector, must not be longer than {@link Integer#MAX_VALUE} bits
+     * @return a new vector
+     */
+    public static PackedBitVector fromBitVector(final BitVectorValue value) {
+        final long length = value.length();
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bit vector too long: " + length);
+        }
+        final long[] words = new long[wordCount((int)length)];
+        for (long i = value.nextSetBit(0); i >= 0 && i < length; i = value.nextSetBit(i + 1)) {
+            words[(int)(i >>> 6)] |= 1L << i;
+        }
+        return new PackedBitVector(words, (int)length);
+    }
+
+    /**
+     * Parses the hexadecimal representation used by {@link BitVectorCell}: the string is padded with leading zeros
+     * to a multiple of 8 characters, each block of 8 characters is the hexadecimal value of the next 32 bits, lowest
+     * bit last.
+     *
+     * @param hex the hexadecimal string
+     * @return a new vector with a length of 4 times the padded string length
+     * @throws NumberFormatException if the string contains a character that is not a hex digit
+     * @see #toHexString()
+     */
+    public static PackedBitVector fromHexString(final String hex) {
+        final int nrBlocks = (hex.length() + 7) / 8;
+        final int pad = nrBlocks * 8 - hex.length();
+        final int length = nrBlocks * 32;
+        final long[] words = new long[wordCount(length)];
+        for (int block = 0; block < nrBlocks; block++) {
+            long value = 0;
+            for (int c = block * 8 - pad, end = c + 8; c < end; c++) {
+                value = (value << 4) | (c < 0 ? 0 : hexValue(hex.charAt(c)));
+            }
+            words[block >>> 1] |= value << ((block & 1) << 5);
+        }
+        return new PackedBitVector(words, length);
+    }
+
+    private static int hexValue(final char c) {
+        if ('0' <= c && c <= '9') {
+            return c - '0';
+        } else if ('A' <= c && c <= 'F') {
+            return 10 + c - 'A';
+        } else if ('a' <= c && c <= 'f') {
+            return 10 + c - 'a';
+        }
+        throw new NumberFormatException("not a hex-character");
+    }
+
+    private static void clearUnusedBits(final long[] words, final int length) {
+        if ((length & 63) != 0) {
+            words[words.length - 1] &= -1L >>> (64 - (length & 63));
+        }
+    }
+
+    /**
+     * @return the number of bits
+     */
+    public int length() {
+        return m_length;
+    }
+
+    /**
+     * @param index the bit index
+     * @return whether the bit is set
+     */
+    public boolean get(final int index) {
+        checkIndex(index);
+        return (m_words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets a bit.
+     *
+     * @param index the bit index
+     */
+    public void set(final int index) {
+        checkIndex(index);
+        m_words[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Clears a bit.
+     *
+     * @param index the bit index
+     */
+    public void clear(final int index) {
+        checkIndex(index);
+        m_words[index >>> 6] &= ~(1L << index);
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= m_length) {
+            throw new IndexOutOfBoundsException("Bit index " + index + " out of range [0, " + m_length + ")");
+        }
+    }
+
+    /**
+     * @return the number of set bits
+     */
+    public int cardinality() {
+        return cardinality(m_words, 0, m_words.length);
+    }
+
+    /**
+     * @param other a vector of the same length
+     * @return the number of bits set in both vectors
+     */
+    public int cardinalityOfIntersection(final PackedBitVector other) {
+        checkLength(other);
+        return cardinalityOfIntersection(m_words, 0, other.m_words, 0, m_words.length);
+    }
+
+    /**
+     * @param other a vector of the same length
+     * @return a new vector holding the bitwise AND of both vectors
+     */
+    public PackedBitVector and(final PackedBitVector other) {
+        checkLength(other);
+        final long[] words = new long[m_words.length];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = m_words[i] & other.m_words[i];
+        }
+        return new PackedBitVector(words, m_length);
+    }
+
+    /**
+     * @param other a vector of the same length
+     * @return a new vector holding the bitwise OR of both vectors
+     */
+    public PackedBitVector or(final PackedBitVector other) {
+        checkLength(other);
+        final long[] words = new long[m_words.length];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = m_words[i] | other.m_words[i];
+        }
+        return new PackedBitVector(words, m_length);
+    }
+
+    /**
+     * @param other a vector of the same length
+     * @return a new vector holding the bitwise XOR of both vectors
+     */
+    public PackedBitVector xor(final PackedBitVector other) {
+        checkLength(other);
+        final long[] words = new long[m_words.length];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = m_words[i] ^ other.m_words[i];
+        }
+        return new PackedBitVector(words, m_length);
+    }
+
+    void checkLength(final PackedBitVector other) {
+        if (other.m_length != m_length) {
+            throw new IllegalArgumentException(
+                "Bit vectors differ in length: " + m_length + " vs. " + other.m_length);
+        }
+    }
+
+    /**
+     * The Tanimoto (Jaccard) similarity, i.e. the number of bits set in both vectors divided by the number of bits
+     * set in any of them.
+     *
+     * @param v1 the first vector
+     * @param v2 the second vector, same length as the first one
+     * @return the similarity in [0, 1], 0 if neither vector has a bit set
+     */
+    public static double tanimoto(final PackedBitVector v1, final PackedBitVector v2) {
+        return tanimoto(v1.cardinalityOfIntersection(v2), v1.cardinality(), v2.cardinality());
+    }
+
+    /**
+     * The cosine similarity, i.e. the number of bits set in both vectors divided by the geometric mean of their
+     * cardinalities.
+     *
+     * @param v1 the first vector
+     * @param v2 the second vector, same length as the first one
+     * @return the similarity in [0, 1], 0 if any vector has no bit set
+     */
+    public static double cosine(final PackedBitVector v1, final PackedBitVector v2) {
+        return cosine(v1.cardinalityOfIntersection(v2), v1.cardinality(), v2.cardinality());
+    }
+
+    static double tanimoto(final int common, final int card1, final int card2) {
+        final int union = card1 + card2 - common;
+        return union == 0 ? 0 : common / (double)union;
+    }
+
+    static double cosine(final int common, final int card1, final int card2) {
+        return card1 == 0 || card2 == 0 ? 0 : common / Math.sqrt((double)card1 * card2);
+    }
+
+    static int cardinality(final long[] words, final int offset, final int nrWords) {
+        int count = 0;
+        for (int i = offset, end = offset + nrWords; i < end; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count;
+    }
+
+    static int cardinalityOfIntersection(final long[] words1, final int offset1, final long[] words2,
+        final int offset2, final int nrWords) {
+        int count = 0;
+        for (int i = 0; i < nrWords; i++) {
+            count += Long.bitCount(words1[offset1 + i] & words2[offset2 + i]);
+        }
+        return count;
+    }
+
+    /**
+     * @return a copy of the words of this vector
+     */
+    public long[] toLongArray() {
+        return m_words.clone();
+    }
+
+    /**
+     * Package scope access to the words, must not be modified.
+     *
+     * @return the words
+     */
+    long[] getWords() {
+        return m_words;
+    }
+
+    /**
+     * @return a new {@link BitSet} with the bits of this vector
+     */
+    public BitSet toBitSet() {
+        return BitSet.valueOf(m_words);
+    }
+
+    /**
+     * Creates the hexadecimal representation used by {@link BitVectorCell}: blocks of 8 characters, each being the
+     * hexadecimal value of the next 32 bits with the lowest bit last.
+     *
+     * @return the hexadecimal representation
+     * @see #fromHexString(String)
+     */
+    public String toHexString() {
+        final int nrBlocks = (m_length + 31) >>> 5;
+        final char[] chars = new char[nrBlocks * 8];
+        for (int block = 0; block < nrBlocks; block++) {
+            final long value = m_words[block >>> 1] >>> ((block & 1) << 5);
+            for (int c = 0; c < 8; c++) {
+                chars[block * 8 + c] = HEX_CHARS[(int)(value >>> ((7 - c) << 2)) & 0xF];
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @return the bits as string of '0' and '1', lowest bit first
+     */
+    @Override
+    public String toString() {
+        final char[] chars = new char[m_length];
+        Arrays.fill(chars, '0');
+        for (int w = 0; w < m_words.length; w++) {
+            for (long word = m_words[w]; word != 0; word &= word - 1) {
+                chars[(w << 6) + Long.numberOfTrailingZeros(word)] = '1';
+            }
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PackedBitVector)) {
+            return false;
+        }
+        final PackedBitVector other = (PackedBitVector)obj;
+        return m_length == other.m_length && Arrays.equals(m_words, other.m_words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(m_words) + m_length;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.bitvector;
+
+import java.util.Arrays;
+
+/**
+ * A growable block of {@link PackedBitVector PackedBitVectors} of equal length. The words of all vectors are stored
+ * back to back in a single <code>long[]</code> and the cardinalities are computed once when a vector is added, so
+ * comparing a query against the block is a sequential scan that is bound by memory bandwidth rather than by object
+ * dereferencing.
+ *
+ * <p>
+ * The block is not thread-safe while vectors are added. Once filled, the similarity methods may be called
+ * concurrently, e.g. with disjoint index ranges from different threads.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ */
+public final class PackedBitVectorBlock {
+
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int m_length;
+
+    private final int m_stride;
+
+    private long[] m_words;
+
+    private int[] m_cardinalities;
+
+    private int m_size;
+
+    /**
+     * @param length the number of bits of each vector
+     * @param initialCapacity the number of vectors to reserve space for
+     */
+    public PackedBitVectorBlock(final int length, final int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + initialCapacity);
+        }
+        m_length = length;
+        m_stride = PackedBitVector.wordCount(length);
+        m_words = new long[checkedWordCount(initialCapacity)];
+        m_cardinalities = new int[initialCapacity];
+    }
+
+    private int checkedWordCount(final long capacity) {
+        final long words = capacity * m_stride;
+        if (words > MAX_ARRAY_SIZE) {
+            throw new IllegalStateException(
+                "A block can not hold " + capacity + " bit vectors of length " + m_length);
+        }
+        return (int)words;
+    }
+
+    /**
+     * @return the number of bits of each vector
+     */
+    public int length() {
+        return m_length;
+    }
+
+    /**
+     * @return the number of vectors in the block
+     */
+    public int size() {
+        return m_size;
+    }
+
+    /**
+     * Appends a vector.
+     *
+     * @param vector the vector, must have the length of the block
+     * @return the index of the vector within the block
+     */
+    public int add(final PackedBitVector vector) {
+        if (vector.length() != m_length) {
+            throw new IllegalArgumentException(
+                "Bit vector length " + vector.length() + " does not match block length " + m_length);
+        }
+        if (m_size == m_cardinalities.length) {
+            final long newCapacity = Math.max(16, m_size + (m_size >> 1));
+            final int capacity = (int)Math.min(newCapacity, MAX_ARRAY_SIZE);
+            m_words = Arrays.copyOf(m_words, checkedWordCount(capacity));
+            m_cardinalities = Arrays.copyOf(m_cardinalities, capacity);
+        }
+        System.arraycopy(vector.getWords(), 0, m_words, m_size * m_stride, m_stride);
+        m_cardinalities[m_size] = vector.cardinality();
+        return m_size++;
+    }
+
+    /**
+     * @param index the index of the vector
+     * @return a copy of the vector
+     */
+    public PackedBitVector get(final int index) {
+        checkRange(index, index + 1);
+        final int offset = index * m_stride;
+        return new PackedBitVector(Arrays.copyOfRange(m_words, offset, offset + m_stride), m_length);
+    }
+
+    /**
+     * @param index the index of the vector
+     * @return the number of bits set in the vector
+     */
+    public int cardinality(final int index) {
+        checkRange(index, index + 1);
+        return m_cardinalities[index];
+    }
+
+    /**
+     * Counts for each vector in a range the bits it has in common with the query.
+     *
+     * @param query the query, must have the length of the block
+     * @param from the index of the first vector, inclusive
+     * @param to the index of the last vector, exclusive
+     * @param result the array to write the counts to
+     * @param resultOffset the position in <code>result</code> of the count for vector <code>from</code>
+     */
+    public void cardinalityOfIntersection(final PackedBitVector query, final int from, final int to,
+        final int[] result, final int resultOffset) {
+        final long[] q = checkQuery(query, from, to);
+        final long[] words = m_words;
+        final int stride = m_stride;
+        for (int i = from, offset = from * stride; i < to; i++, offset += stride) {
+            result[resultOffset + i - from] = PackedBitVector.cardinalityOfIntersection(q, 0, words, offset, stride);
+        }
+    }
+
+    /**
+     * Computes the {@link PackedBitVector#tanimoto(PackedBitVector, PackedBitVector) Tanimoto similarity} of the
+     * query to each vector in the block.
+     *
+     * @param query the query, must have the length of the block
+     * @param result the array to write the similarities to, at least {@link #size()} long
+     */
+    public void tanimoto(final PackedBitVector query, final double[] result) {
+        tanimoto(query, 0, m_size, result, 0);
+    }
+
+    /**
+     * Computes the {@link PackedBitVector#tanimoto(PackedBitVector, PackedBitVector) Tanimoto similarity} of the
+     * query to each vector in a range.
+     *
+     * @param query the query, must have the length of the block
+     * @param from the index of the first vector, inclusive
+     * @param to the index of the last vector, exclusive
+     * @param result the array to write the similarities to
+     * @param resultOffset the position in <code>result</code> of the similarity to vector <code>from</code>
+     */
+    public void tanimoto(final PackedBitVector query, final int from, final int to, final double[] result,
+        final int resultOffset) {
+        final long[] q = checkQuery(query, from, to);
+        final int queryCardinality = query.cardinality();
+        final long[] words = m_words;
+        final int stride = m_stride;
+        for (int i = from, offset = from * stride; i < to; i++, offset += stride) {
+            final int common = PackedBitVector.cardinalityOfIntersection(q, 0, words, offset, stride);
+            result[resultOffset + i - from] = PackedBitVector.tanimoto(common, queryCardinality, m_cardinalities[i]);
+        }
+    }
+
+    /**
+     * Computes the {@link PackedBitVector#cosine(PackedBitVector, PackedBitVector) cosine similarity} of the query
+     * to each vector in the block.
+     *
+     * @param query the query, must have the length of the block
+     * @param result the array to write the similarities to, at least {@link #size()} long
+     */
+    public void cosine(final PackedBitVector query, final double[] result) {
+        cosine(query, 0, m_size, result, 0);
+    }
+
+    /**
+     * Computes the {@link PackedBitVector#cosine(PackedBitVector, PackedBitVector) cosine similarity} of the query
+     * to each vector in a range.
+     *
+     * @param query the query, must have the length of the block
+     * @param from the index of the first vector, inclusive
+     * @param to the index of the last vector, exclusive
+     * @param result the array to write the similarities to
+     * @param resultOffset the position in <code>result</code> of the similarity to vector <code>from</code>
+     */
+    public void cosine(final PackedBitVector query, final int from, final int to, final double[] result,
+        final int resultOffset) {
+        final long[] q = checkQuery(query, from, to);
+        final int queryCardinality = query.cardinality();
+        final long[] words = m_words;
+        final int stride = m_stride;
+        for (int i = from, offset = from * stride; i < to; i++, offset += stride) {
+            final int common = PackedBitVector.cardinalityOfIntersection(q, 0, words, offset, stride);
+            result[resultOffset + i - from] = PackedBitVector.cosine(common, queryCardinality, m_cardinalities[i]);
+        }
+    }
+
+    private long[] checkQuery(final PackedBitVector query, final int from, final int to) {
+        if (query.length() != m_length) {
+            throw new IllegalArgumentException(
+                "Query length " + query.length() + " does not match block length " + m_length);
+        }
+        checkRange(from, to);
+        return query.getWords();
+    }
+
+    private void checkRange(final int from, final int to) {
+        if (from < 0 || to > m_size || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds [0, " + m_size + ")");
+        }
+    }
+}
@@ -352,6 +352,20 @@ String getMissingValueHeader(final Collection<String> colNames) {
     abstract double getLogProbabilityInternal(final String classValue, final DataCell attributeValue,
         double logProbThreshold);
 
+    /**
+     * Resolves this model for a column of the table to predict, see {@link NaiveBayesModel#compile}.
+     *
+     * @param column the index of the column
+     * @param columnType the type of the column
+     * @param classValues the class values in the order of the class model
+     * @param logProbThreshold the logarithm of the probability threshold
+     * @return the compiled model
+     */
+    CompiledNaiveBayesModel.CompiledAttribute compile(final int column, final DataType columnType,
+        final String[] classValues, final double logProbThreshold) {
+        return new CompiledNaiveBayesModel.GenericAttribute(this, column, columnType, classValues, logProbThreshold);
+    }
+
     /**
      * @param totalNoOfRecs the total number of records in the training data
      * @return the HTML view of this attribute model
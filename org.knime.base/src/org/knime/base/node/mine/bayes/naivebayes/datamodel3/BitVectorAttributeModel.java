@@ -664,6 +664,15 @@ public String toString() {
         return classModel.getLogProbability(attributeValue, logProbThreshold);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    CompiledNaiveBayesModel.CompiledAttribute compile(final int column, final DataType columnType,
+        final String[] classValues, final double logProbThreshold) {
+        return new CompiledBitVectorAttribute(this, column, columnType, classValues, logProbThreshold);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -675,4 +684,87 @@ boolean hasRecs4ClassValue(final String classValue) {
         }
         return true;
     }
+
+    /**
+     * Holds the logarithmic probabilities of set and unset bits per class. Classes without rows are computed by the
+     * model, which fails for them.
+     */
+    private static final class CompiledBitVectorAttribute extends CompiledNaiveBayesModel.CompiledAttribute {
+
+        /** The logarithmic probability per bit if set, <code>null</code> for classes computed by the model. */
+        private final double[][] m_setLogProbs;
+
+        /** The logarithmic probability per bit if unset, <code>null</code> for classes computed by the model. */
+        private final double[][] m_unsetLogProbs;
+
+        private final double[] m_missingLogProbs;
+
+        /** Whether the class is unknown to the model and the threshold is used. */
+        private final boolean[] m_unknownClasses;
+
+        CompiledBitVectorAttribute(final BitVectorAttributeModel model, final int column, final DataType columnType,
+            final String[] classValues, final double logProbThreshold) {
+            super(model, column, columnType, classValues, logProbThreshold);
+            m_setLogProbs = new double[classValues.length][];
+            m_unsetLogProbs = new double[classValues.length][];
+            m_missingLogProbs = new double[classValues.length];
+            m_unknownClasses = new boolean[classValues.length];
+            for (int c = 0; c < classValues.length; c++) {
+                final BitVectorClassValue classModel = model.m_classValues.get(classValues[c]);
+                if (classModel == null) {
+                    m_unknownClasses[c] = true;
+                } else if (classModel.getNoOfRows() > 0 && classModel.m_bitCounts != null) {
+                    final int noOfRows4Class = classModel.getNoOfRows();
+                    final int length = classModel.m_bitCounts.length;
+                    m_setLogProbs[c] = new double[length];
+                    m_unsetLogProbs[c] = new double[length];
+                    for (int i = 0; i < length; i++) {
+                        m_setLogProbs[c][i] = toLogProbability(classModel.getNoOfRows4AttributeValue(i, true),
+                            noOfRows4Class, logProbThreshold);
+                        m_unsetLogProbs[c][i] = toLogProbability(classModel.getNoOfRows4AttributeValue(i, false),
+                            noOfRows4Class, logProbThreshold);
+                    }
+                    m_missingLogProbs[c] = length * toLogProbability(classModel.getNoOfMissingValueRecs(),
+                        noOfRows4Class, logProbThreshold);
+                }
+            }
+        }
+
+        private static double toLogProbability(final double noOfRows, final int noOfRows4Class,
+            final double logProbThreshold) {
+            return noOfRows > 0 ? FastMath.log(noOfRows / noOfRows4Class) : logProbThreshold;
+        }
+
+        @Override
+        void addLogProbabilities(final DataCell cell, final double[] logProbs) {
+            final boolean isMissing = cell.isMissing();
+            final boolean[] bits;
+            if (isMissing) {
+                bits = null;
+            } else {
+                final BitVectorValue bitVec = (BitVectorValue)cell;
+                bits = new boolean[(int)FastMath.min(bitVec.length(), Integer.MAX_VALUE)];
+                for (long i = bitVec.nextSetBit(0); i >= 0 && i < bits.length; i = bitVec.nextSetBit(i + 1)) {
+                    bits[(int)i] = true;
+                }
+            }
+            for (int c = 0; c < logProbs.length; c++) {
+                if (m_unknownClasses[c]) {
+                    logProbs[c] += getLogProbThreshold();
+                } else if (m_setLogProbs[c] == null || (!isMissing && bits.length != m_setLogProbs[c].length)) {
+                    logProbs[c] += getLogProbability(c, cell);
+                } else if (isMissing) {
+                    logProbs[c] += m_missingLogProbs[c];
+                } else {
+                    final double[] setLogProbs = m_setLogProbs[c];
+                    final double[] unsetLogProbs = m_unsetLogProbs[c];
+                    double combinedProbability = 0;
+                    for (int i = 0; i < bits.length; i++) {
+                        combinedProbability += bits[i] ? setLogProbs[i] : unsetLogProbs[i];
+                    }
+                    logProbs[c] += combinedProbability;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,299 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.bayes.naivebayes.datamodel3;
+
+import java.util.List;
+
+import org.apache.commons.math3.util.FastMath;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+
+/**
+ * A {@link NaiveBayesModel} that has been compiled for the columns of a table by
+ * {@link NaiveBayesModel#compile(org.knime.core.data.DataTableSpec)}. The attribute models are resolved by column
+ * index once and their parameters are flattened into primitive arrays per class, so that predicting a row needs no
+ * lookups by name. The results are the same as the ones of the {@link NaiveBayesModel}.
+ *
+ * <p>
+ * Instances are immutable and can be used by several threads at the same time.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class CompiledNaiveBayesModel {
+
+    private final NaiveBayesModel m_model;
+
+    private final int m_numColumns;
+
+    /** The class values in the order of the class model, which decides between equally likely classes. */
+    private final String[] m_classValues;
+
+    /** The index in {@link #m_classValues} of each class value in natural order. */
+    private final int[] m_sortedIndices;
+
+    /** The logarithm of the prior probability per class. */
+    private final double[] m_logPriors;
+
+    /** The index of a class whose prior probability can't be computed or -1. */
+    private final int m_invalidPriorClass;
+
+    /** The predicted cell per class, <code>null</code> if the class value can't be converted. */
+    private final DataCell[] m_classCells;
+
+    private final CompiledAttribute[] m_attributes;
+
+    CompiledNaiveBayesModel(final NaiveBayesModel model, final int numColumns, final String[] classValues,
+        final List<String> sortedClassValues, final CompiledAttribute[] attributes) {
+        m_model = model;
+        m_numColumns = numColumns;
+        m_classValues = classValues;
+        m_attributes = attributes;
+        m_sortedIndices = new int[sortedClassValues.size()];
+        for (int i = 0; i < m_sortedIndices.length; i++) {
+            m_sortedIndices[i] = indexOf(classValues, sortedClassValues.get(i));
+        }
+        m_logPriors = new double[classValues.length];
+        int invalidPriorClass = -1;
+        for (int c = 0; c < classValues.length && invalidPriorClass < 0; c++) {
+            try {
+                m_logPriors[c] = FastMath.log(model.getClassPriorProbability(classValues[c]));
+            } catch (IllegalArgumentException | IllegalStateException e) { // NOSONAR thrown again for each row
+                invalidPriorClass = c;
+            }
+        }
+        m_invalidPriorClass = invalidPriorClass;
+        m_classCells = new DataCell[classValues.length];
+        for (int c = 0; c < classValues.length; c++) {
+            try {
+                m_classCells[c] = NaiveBayesModel.createPredictedClassCell(model.getClassColumnDataType(),
+                    classValues[c]);
+            } catch (NumberFormatException e) { // NOSONAR thrown again if the class is predicted
+                m_classCells[c] = null;
+            }
+        }
+    }
+
+    private static int indexOf(final String[] values, final String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Class value: " + value + " not found");
+    }
+
+    /**
+     * @return the number of class values
+     */
+    public int getNoOfClassValues() {
+        return m_classValues.length;
+    }
+
+    /**
+     * Predicts the class of a row.
+     *
+     * @param row a row of the table the model has been compiled for
+     * @param probabilities an array with an entry per class value that receives the normalized class probabilities in
+     *            the order of {@link NaiveBayesModel#getSortedClassValues()}, may be <code>null</code>
+     * @return the class attribute {@link DataCell} with the highest probability for the given attribute values, see
+     *         {@link NaiveBayesModel#getMostLikelyClassCell(String[], DataRow)}
+     */
+    public DataCell predict(final DataRow row, final double[] probabilities) {
+        final double[] logProbs = getLogClassProbabilities(row);
+        double maxProbability = Double.NEGATIVE_INFINITY;
+        int mostLikelyClass = -1;
+        for (int c = 0; c < logProbs.length; c++) {
+            if (logProbs[c] > maxProbability) {
+                maxProbability = logProbs[c];
+                mostLikelyClass = c;
+            }
+        }
+        // If this happens we have a bug, or the pmml threshold is 0
+        if (mostLikelyClass < 0) {
+            throw new IllegalStateException(
+                NaiveBayesModel.ZERO_PROB_EXCEPTION + " for row " + row.getKey().getString());
+        }
+        if (probabilities != null) {
+            final double[] sortedLogProbs = new double[m_sortedIndices.length];
+            for (int i = 0; i < sortedLogProbs.length; i++) {
+                sortedLogProbs[i] = logProbs[m_sortedIndices[i]];
+            }
+            final double[] normProbs = NaiveBayesModel.normalize(sortedLogProbs);
+            System.arraycopy(normProbs, 0, probabilities, 0, normProbs.length);
+        }
+        final DataCell classCell = m_classCells[mostLikelyClass];
+        return classCell != null ? classCell : NaiveBayesModel
+            .createPredictedClassCell(m_model.getClassColumnDataType(), m_classValues[mostLikelyClass]);
+    }
+
+    /**
+     * @param row a row of the table the model has been compiled for
+     * @return the logarithmic probability per class in the order of the class model
+     */
+    private double[] getLogClassProbabilities(final DataRow row) {
+        if (row.getNumCells() != m_numColumns) {
+            throw new IllegalArgumentException("Attribute names array and data row must be the same size");
+        }
+        if (m_invalidPriorClass >= 0) {
+            // throws the exception
+            m_model.getClassPriorProbability(m_classValues[m_invalidPriorClass]);
+        }
+        final double[] logProbs = m_logPriors.clone();
+        for (final CompiledAttribute attribute : m_attributes) {
+            attribute.addLogProbabilities(row, logProbs);
+        }
+        return logProbs;
+    }
+
+    /**
+     * An {@link AttributeModel} resolved for a column. Subclasses flatten the parameters of the model, classes they
+     * don't cover are computed by the attribute model itself.
+     */
+    abstract static class CompiledAttribute {
+
+        private final AttributeModel m_model;
+
+        private final int m_column;
+
+        /** The type of the column if it is compatible to the model. */
+        private final DataType m_compatibleType;
+
+        private final String[] m_classValues;
+
+        private final double m_logProbThreshold;
+
+        /**
+         * @param model the attribute model
+         * @param column the index of the column
+         * @param columnType the type of the column
+         * @param classValues the class values in the order of the class model
+         * @param logProbThreshold the logarithm of the probability threshold
+         */
+        CompiledAttribute(final AttributeModel model, final int column, final DataType columnType,
+            final String[] classValues, final double logProbThreshold) {
+            m_model = model;
+            m_column = column;
+            m_compatibleType = model.isCompatible(columnType) ? columnType : null;
+            m_classValues = classValues;
+            m_logProbThreshold = logProbThreshold;
+        }
+
+        /**
+         * Adds the logarithmic probabilities of the attribute value of the row.
+         *
+         * @param row the row
+         * @param logProbs the logarithmic probabilities per class
+         */
+        final void addLogProbabilities(final DataRow row, final double[] logProbs) {
+            final DataCell cell = row.getCell(m_column);
+            final DataType type = cell.getType();
+            if (type != m_compatibleType && !m_model.isCompatible(type)) {
+                // throws the exception
+                m_model.getLogProbability(m_classValues[0], cell, m_logProbThreshold);
+            }
+            if (cell.isMissing() && m_model.ignoreMissingVals()) {
+                return;
+            }
+            addLogProbabilities(cell, logProbs);
+        }
+
+        /**
+         * Adds the logarithmic probabilities of a compatible value that is not ignored.
+         *
+         * @param cell the attribute value
+         * @param logProbs the logarithmic probabilities per class
+         */
+        abstract void addLogProbabilities(final DataCell cell, final double[] logProbs);
+
+        /**
+         * @return the number of class values
+         */
+        final int getNoOfClassValues() {
+            return m_classValues.length;
+        }
+
+        /**
+         * @return the logarithm of the probability threshold
+         */
+        final double getLogProbThreshold() {
+            return m_logProbThreshold;
+        }
+
+        /**
+         * Computes the logarithmic probability by means of the attribute model.
+         *
+         * @param classIndex the index of the class
+         * @param cell the attribute value
+         * @return the logarithmic probability
+         */
+        final double getLogProbability(final int classIndex, final DataCell cell) {
+            return m_model.getLogProbabilityInternal(m_classValues[classIndex], cell, m_logProbThreshold);
+        }
+    }
+
+    /** Computes all classes by means of the attribute model. */
+    static final class GenericAttribute extends CompiledAttribute {
+
+        GenericAttribute(final AttributeModel model, final int column, final DataType columnType,
+            final String[] classValues, final double logProbThreshold) {
+            super(model, column, columnType, classValues, logProbThreshold);
+        }
+
+        @Override
+        void addLogProbabilities(final DataCell cell, final double[] logProbs) {
+            for (int c = 0; c < logProbs.length; c++) {
+                logProbs[c] += getLogProbability(c, cell);
+            }
+        }
+    }
+}
@@ -111,7 +111,7 @@ public final class NaiveBayesModel {
     public static final double DEFAULT_MIN_PROB_THRESHOLD = 1e-4;
 
     /** All classes have zero probability exception. */
-    private static final String ZERO_PROB_EXCEPTION = "All potential classes have a zero probability. This is most "
+    static final String ZERO_PROB_EXCEPTION = "All potential classes have a zero probability. This is most "
         + "likely due to a standard deviation and/or minimum probability value approx. 0.";
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(NaiveBayesModel.class);
@@ -916,21 +916,7 @@ public double[] getClassProbabilities(final String[] attributeNames, final DataR
             throw new IllegalStateException(ZERO_PROB_EXCEPTION + " for row " + row.getKey().getString());
         }
         if (normalize) {
-            /* p(x_k) / \sum_{i = 0}^n p(x_i) = 1 / \sum_{i = 0}^n p(x_i) / p(x_k)
-             * since p(x_k) is actually the log probability "p(x_i)/ p(x_k)" becomes exp(p(x_i)-p(x_k))
-             *            a_k               1
-             *           ------  =     ------------
-             *            sum(A)           a_1 + a_2 + a_3 + a_4
-             *                             ----  ---   ----  ---
-             *                             a_k   a_k   a_k   a_k
-             */
-
-            final double[] normProbs = new double[logProbs.length];
-            for (int i = 0, length = logProbs.length; i < length; i++) {
-                final int idx = i;
-                normProbs[i] = 1.0 / Arrays.stream(logProbs).map(prob -> FastMath.exp(prob - logProbs[idx])).sum();
-            }
-            return normProbs;
+            return normalize(logProbs);
         } else {
             for (int i = 0; i < logProbs.length; i++) {
                 logProbs[i] = FastMath.exp(logProbs[i]);
@@ -939,6 +925,56 @@ public double[] getClassProbabilities(final String[] attributeNames, final DataR
         }
     }
 
+    /**
+     * @param logProbs the logarithmic probabilities
+     * @return the normalized probabilities
+     */
+    static double[] normalize(final double[] logProbs) {
+        /* p(x_k) / \sum_{i = 0}^n p(x_i) = 1 / \sum_{i = 0}^n p(x_i) / p(x_k)
+         * since p(x_k) is actually the log probability "p(x_i)/ p(x_k)" becomes exp(p(x_i)-p(x_k))
+         *            a_k               1
+         *           ------  =     ------------
+         *            sum(A)           a_1 + a_2 + a_3 + a_4
+         *                             ----  ---   ----  ---
+         *                             a_k   a_k   a_k   a_k
+         */
+
+        final double[] normProbs = new double[logProbs.length];
+        for (int i = 0, length = logProbs.length; i < length; i++) {
+            final int idx = i;
+            normProbs[i] = 1.0 / Arrays.stream(logProbs).map(prob -> FastMath.exp(prob - logProbs[idx])).sum();
+        }
+        return normProbs;
+    }
+
+    /**
+     * Compiles the model for the columns of a table, which is faster if many rows are predicted.
+     *
+     * @param tableSpec the spec of the table to predict
+     * @return the compiled model
+     * @since 4.2
+     */
+    public CompiledNaiveBayesModel compile(final DataTableSpec tableSpec) {
+        final String[] classValues = getClassValues().toArray(new String[0]);
+        final double probabilityThreshold;
+        if (hasPMMLThreshold()) {
+            probabilityThreshold = m_pmmlZeroProbThreshold.doubleValue();
+        } else {
+            probabilityThreshold = DEFAULT_MIN_PROB_THRESHOLD;
+        }
+        final double logProbThreshold = FastMath.log(probabilityThreshold);
+        final List<CompiledNaiveBayesModel.CompiledAttribute> attributes = new ArrayList<>();
+        for (int i = 0, length = tableSpec.getNumColumns(); i < length; i++) {
+            final AttributeModel model = m_modelByAttrName.get(tableSpec.getColumnSpec(i).getName());
+            //skip unknown attributes and the class value column
+            if (model != null && !(model instanceof ClassAttributeModel)) {
+                attributes.add(model.compile(i, tableSpec.getColumnSpec(i).getType(), classValues, logProbThreshold));
+            }
+        }
+        return new CompiledNaiveBayesModel(this, tableSpec.getNumColumns(), classValues, getSortedClassValues(),
+            attributes.toArray(new CompiledNaiveBayesModel.CompiledAttribute[0]));
+    }
+
     /**
      * Returns the name of the class with the highest probability for the given row.
      *
@@ -993,7 +1029,7 @@ public DataCell getMostLikelyClassCell(final String[] attributeNames, final Data
      *
      * @see PMMLDataDictionaryTranslator#getKNIMEDataType(Enum)
      */
-    private static DataCell createPredictedClassCell(final DataType dataType, final String val) {
+    static DataCell createPredictedClassCell(final DataType dataType, final String val) {
         if (dataType.isCompatible(BooleanValue.class)) {
             return BooleanCellFactory.create(Boolean.parseBoolean(val));
         } else if (dataType.isCompatible(IntValue.class)) {
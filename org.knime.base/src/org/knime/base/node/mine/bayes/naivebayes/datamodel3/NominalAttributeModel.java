@@ -54,6 +54,7 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -645,6 +646,15 @@ public String toString() {
         return classVal.getLogProbability(attributeValue, logProbThreshold);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    CompiledNaiveBayesModel.CompiledAttribute compile(final int column, final DataType columnType,
+        final String[] classValues, final double logProbThreshold) {
+        return new CompiledNominalAttribute(this, column, columnType, classValues, logProbThreshold);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -656,4 +666,78 @@ boolean hasRecs4ClassValue(final String classValue) {
         }
         return true;
     }
+
+    /**
+     * Holds the logarithmic probabilities of all attribute values per class. Classes without rows are computed by
+     * the model, which fails for them.
+     */
+    private static final class CompiledNominalAttribute extends CompiledNaiveBayesModel.CompiledAttribute {
+
+        private final Map<String, double[]> m_logProbsByAttrValue = new HashMap<>();
+
+        private final double[] m_unknownLogProbs;
+
+        private final double[] m_missingLogProbs;
+
+        /** The indices of the classes without rows. */
+        private final int[] m_fallbackClasses;
+
+        CompiledNominalAttribute(final NominalAttributeModel model, final int column, final DataType columnType,
+            final String[] classValues, final double logProbThreshold) {
+            super(model, column, columnType, classValues, logProbThreshold);
+            final Set<String> attrValues = new LinkedHashSet<>();
+            for (final NominalClassValue classVal : model.m_classValues.values()) {
+                attrValues.addAll(classVal.m_recsByAttrValue.keySet());
+            }
+            for (final String attrValue : attrValues) {
+                m_logProbsByAttrValue.put(attrValue, new double[classValues.length]);
+            }
+            m_unknownLogProbs = new double[classValues.length];
+            m_missingLogProbs = new double[classValues.length];
+            final List<Integer> fallbackClasses = new LinkedList<>();
+            for (int c = 0; c < classValues.length; c++) {
+                final NominalClassValue classVal = model.m_classValues.get(classValues[c]);
+                if (classVal == null) {
+                    for (final double[] logProbs : m_logProbsByAttrValue.values()) {
+                        logProbs[c] = logProbThreshold;
+                    }
+                    m_unknownLogProbs[c] = logProbThreshold;
+                    m_missingLogProbs[c] = logProbThreshold;
+                } else if (classVal.getNoOfRows() == 0) {
+                    fallbackClasses.add(c);
+                } else {
+                    for (final Entry<String, double[]> entry : m_logProbsByAttrValue.entrySet()) {
+                        entry.getValue()[c] = toLogProbability(classVal.getNoOfRows4AttributeValue(entry.getKey()),
+                            classVal.getNoOfRows(), logProbThreshold);
+                    }
+                    m_unknownLogProbs[c] = logProbThreshold;
+                    m_missingLogProbs[c] =
+                        toLogProbability(classVal.getNoOfMissingValueRecs(), classVal.getNoOfRows(), logProbThreshold);
+                }
+            }
+            m_fallbackClasses = fallbackClasses.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private static double toLogProbability(final double noOfRows, final int noOfRows4Class,
+            final double logProbThreshold) {
+            return noOfRows > 0 ? FastMath.log(noOfRows / noOfRows4Class) : logProbThreshold;
+        }
+
+        @Override
+        void addLogProbabilities(final DataCell cell, final double[] logProbs) {
+            final double[] attrLogProbs;
+            if (cell.isMissing()) {
+                attrLogProbs = m_missingLogProbs;
+            } else {
+                attrLogProbs = m_logProbsByAttrValue.getOrDefault(cell.toString(), m_unknownLogProbs);
+            }
+            for (final int c : m_fallbackClasses) {
+                // throws the exception
+                getLogProbability(c, cell);
+            }
+            for (int c = 0; c < logProbs.length; c++) {
+                logProbs[c] += attrLogProbs[c];
+            }
+        }
+    }
 }
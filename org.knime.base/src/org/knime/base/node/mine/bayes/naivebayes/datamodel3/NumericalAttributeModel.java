@@ -701,6 +701,15 @@ public String toString() {
         return classModel.getLogProbability(attributeValue, logProbThreshold);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    CompiledNaiveBayesModel.CompiledAttribute compile(final int column, final DataType columnType,
+        final String[] classValues, final double logProbThreshold) {
+        return new CompiledNumericalAttribute(this, column, columnType, classValues, logProbThreshold);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -712,4 +721,68 @@ boolean hasRecs4ClassValue(final String classValue) {
         }
         return true;
     }
+
+    /**
+     * Holds the Gaussian parameters per class. Classes whose mean is invalid or hasn't been calculated are computed by
+     * the model, which fails for them.
+     */
+    private static final class CompiledNumericalAttribute extends CompiledNaiveBayesModel.CompiledAttribute {
+
+        private static final byte GAUSSIAN = 0;
+
+        private static final byte THRESHOLD = 1;
+
+        private static final byte FALLBACK = 2;
+
+        private final byte[] m_kinds;
+
+        private final double[] m_means;
+
+        private final double[] m_sds;
+
+        private final double[] m_logSdTwoPis;
+
+        CompiledNumericalAttribute(final NumericalAttributeModel model, final int column, final DataType columnType,
+            final String[] classValues, final double logProbThreshold) {
+            super(model, column, columnType, classValues, logProbThreshold);
+            m_kinds = new byte[classValues.length];
+            m_means = new double[classValues.length];
+            m_sds = new double[classValues.length];
+            m_logSdTwoPis = new double[classValues.length];
+            for (int c = 0; c < classValues.length; c++) {
+                final NumericalClassValue classModel = model.m_classValues.get(classValues[c]);
+                if (classModel == null) {
+                    m_kinds[c] = THRESHOLD;
+                } else if (classModel.m_incMean != null || Double.isNaN(classModel.m_mean)
+                    || Double.isInfinite(classModel.m_mean)) {
+                    m_kinds[c] = FALLBACK;
+                } else if (Double.isInfinite(classModel.m_sd)) {
+                    m_kinds[c] = THRESHOLD;
+                } else {
+                    m_kinds[c] = GAUSSIAN;
+                    m_means[c] = classModel.m_mean;
+                    m_sds[c] = classModel.m_sd;
+                    m_logSdTwoPis[c] = classModel.m_logSdTwoPi;
+                }
+            }
+        }
+
+        @Override
+        void addLogProbabilities(final DataCell cell, final double[] logProbs) {
+            final double logProbThreshold = getLogProbThreshold();
+            final boolean isMissing = cell.isMissing();
+            final double attrValue = isMissing ? Double.NaN : ((DoubleValue)cell).getDoubleValue();
+            for (int c = 0; c < logProbs.length; c++) {
+                final byte kind = m_kinds[c];
+                if (kind == FALLBACK) {
+                    logProbs[c] += getLogProbability(c, cell);
+                } else if (isMissing || kind == THRESHOLD) {
+                    logProbs[c] += logProbThreshold;
+                } else {
+                    final double frac = (attrValue - m_means[c]) / m_sds[c];
+                    logProbs[c] += FastMath.max(logProbThreshold, -0.5 * (frac * frac) - m_logSdTwoPis[c]);
+                }
+            }
+        }
+    }
 }
@@ -93,4 +93,16 @@ public class MDSConfigKeys {
      * The configuration key for columns to use.
      */
     public static final String CFGKEY_SEED = "Seed";    
+
+    /**
+     * The configuration key for the usage of sampled partners.
+     * @since 4.2
+     */
+    public static final String CFGKEY_USE_SAMPLING = "UseSampling";
+
+    /**
+     * The configuration key for the number of sampled partners.
+     * @since 4.2
+     */
+    public static final String CFGKEY_SAMPLE_SIZE = "SampleSize";
 }
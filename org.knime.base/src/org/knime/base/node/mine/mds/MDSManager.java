@@ -47,8 +47,13 @@
  */
 package org.knime.base.node.mine.mds;
 
+import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.knime.base.node.mine.mds.distances.DistanceManager;
 import org.knime.base.node.mine.mds.distances.DistanceManagerFactory;
@@ -64,6 +69,8 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
 
 /**
  * The <code>MDSManager</code> handling the MDS algorithmic. For each row
@@ -99,6 +106,16 @@ public class MDSManager {
      */
     public static final double DEF_MINDIST_THRESHOLD = 0.0001;
 
+    /**
+     * The default number of randomly sampled partners per data point and epoch
+     * used by {@link #trainSampled(int, double, int)}.
+     * @since 4.2
+     */
+    public static final int DEFAULT_SAMPLE_SIZE = 100;
+
+    /** The number of data points adjusted by a single task of the sampled training. */
+    private static final int POINTS_PER_TASK = 1024;
+
     private int m_dimension;
 
     private RowDistanceManager m_distMan;
@@ -119,6 +136,8 @@ public class MDSManager {
 
     private boolean m_isInit = false;
 
+    private long m_seed = DEFAULT_SEED;
+
     private ExecutionMonitor m_exec;
 
     /**
@@ -210,6 +229,7 @@ public MDSManager(final int dimension, final RowDistanceManager distManager,
      */
     public void init(final long seed) throws CanceledExecutionException {
         m_isInit = true;
+        m_seed = seed;
         Random rand = new Random(seed);
 
         ExecutionMonitor exec = m_exec.createSubProgress(0.1);
@@ -260,6 +280,181 @@ public void train(final int epochs, final double learningrate)
         }
     }
 
+    /**
+     * Does the training like {@link #train(int, double)} but adjusts each
+     * lower dimensional data point only against a fixed number of randomly
+     * sampled other points per epoch, instead of against all other points.
+     * Hence an epoch takes linear instead of quadratic time in the number of
+     * rows. The data points are adjusted in parallel and their coordinates are
+     * kept in a primitive array during the training. Each point is moved
+     * relative to the positions of its partners at the beginning of the epoch,
+     * which keeps the result independent of the number of threads. If the
+     * sample size is not smaller than the number of other points, the full
+     * training of {@link #train(int, double)} is performed instead.
+     *
+     * @param epochs The number of epochs to train.
+     * @param learningrate The learn rate, specifying the step size of
+     * adjustment.
+     * @param sampleSize The number of randomly sampled partners per data point
+     * and epoch.
+     * @throws CanceledExecutionException If execution was canceled by the user.
+     * @since 4.2
+     */
+    public void trainSampled(final int epochs, final double learningrate,
+            final int sampleSize) throws CanceledExecutionException {
+        if (sampleSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Sample size must not be smaller than 1!");
+        }
+        if (!m_isInit) {
+            init(DEFAULT_SEED);
+        }
+
+        // copy rows and initial points into arrays
+        final List<DataRow> rowList = new ArrayList<DataRow>();
+        RowIterator it = m_inData.iterator();
+        while (it.hasNext()) {
+            rowList.add(it.next());
+        }
+        if (sampleSize >= rowList.size() - 1) {
+            // sampling would not save anything
+            train(epochs, learningrate);
+            return;
+        }
+        final ExecutionMonitor exec = m_exec.createSubProgress(0.9);
+        final DataRow[] rows = rowList.toArray(new DataRow[rowList.size()]);
+        final DataPoint[] points = new DataPoint[rows.length];
+        double[] coords = new double[rows.length * m_dimension];
+        for (int i = 0; i < rows.length; i++) {
+            points[i] = m_points.get(rows[i].getKey());
+            for (int d = 0; d < m_dimension; d++) {
+                coords[i * m_dimension + d] = points[i].getElementAt(d);
+            }
+        }
+
+        m_learningrate = learningrate;
+        m_initialLearningrate = learningrate;
+        m_epochs = epochs;
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool();
+        double[] nextCoords = new double[coords.length];
+        for (int e = 1; e <= epochs; e++) {
+            exec.setMessage("Start training");
+            exec.checkCanceled();
+            doSampledEpoch(e, rows, coords, nextCoords, sampleSize, pool, exec);
+            final double[] tmp = coords;
+            coords = nextCoords;
+            nextCoords = tmp;
+            adjustLearningRate(e);
+
+            double prog = (double)e / (double)epochs;
+            exec.setProgress(prog, "Training epoch " + e + " of " + epochs);
+        }
+
+        // write the coordinates back into the data points
+        for (int i = 0; i < rows.length; i++) {
+            for (int d = 0; d < m_dimension; d++) {
+                points[i].setElementAt(d, coords[i * m_dimension + d]);
+            }
+        }
+    }
+
+    private void doSampledEpoch(final int epoch, final DataRow[] rows,
+            final double[] coords, final double[] nextCoords,
+            final int sampleSize, final ThreadPool pool,
+            final ExecutionMonitor exec) throws CanceledExecutionException {
+        final double learningrate = m_learningrate;
+        final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        for (int start = 0; start < rows.length; start += POINTS_PER_TASK) {
+            final int from = start;
+            final int to = Math.min(rows.length, start + POINTS_PER_TASK);
+            // each task has its own generator to make the result reproducible
+            final Random rand = new Random(m_seed + 31L * epoch * rows.length + from);
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    for (int i = from; i < to; i++) {
+                        exec.checkCanceled();
+                        adjustDataPoint(i, rows, coords, nextCoords,
+                                sampleSize, learningrate, rand);
+                    }
+                    return null;
+                }
+            });
+        }
+        final Callable<Void> epochTask = new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                final List<Future<Void>> futures = new ArrayList<Future<Void>>(tasks.size());
+                for (Callable<Void> task : tasks) {
+                    futures.add(pool.enqueue(task));
+                }
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+                return null;
+            }
+        };
+        try {
+            try {
+                pool.runInvisible(epochTask);
+            } catch (IllegalThreadStateException ex) {
+                // not called from a thread of a thread pool
+                epochTask.call();
+            }
+        } catch (CanceledExecutionException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            Throwable cause = ex;
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new IllegalStateException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Adjusts the data point with index i against sampleSize randomly chosen
+     * other points, with the same update rule as
+     * {@link #adjustDataPoint(DataPoint, DataPoint, DataRow, DataRow)}.
+     */
+    private void adjustDataPoint(final int i, final DataRow[] rows,
+            final double[] coords, final double[] nextCoords,
+            final int sampleSize, final double learningrate,
+            final Random rand) {
+        final int offset1 = i * m_dimension;
+        System.arraycopy(coords, offset1, nextCoords, offset1, m_dimension);
+        for (int s = 0; s < sampleSize; s++) {
+            int j = rand.nextInt(rows.length - 1);
+            if (j >= i) {
+                // skip the point itself
+                j++;
+            }
+            final int offset2 = j * m_dimension;
+            double sum = 0;
+            for (int d = 0; d < m_dimension; d++) {
+                final double diff = nextCoords[offset1 + d] - coords[offset2 + d];
+                sum += diff * diff;
+            }
+            final double distance = Math.sqrt(sum);
+            if (distance != 0) {
+                final double disparity = disparityTransformation(
+                        m_distMan.getDistance(rows[i], rows[j]));
+                final double factor = learningrate * (1 - (disparity / distance));
+                for (int d = 0; d < m_dimension; d++) {
+                    nextCoords[offset1 + d] += factor
+                            * (coords[offset2 + d] - nextCoords[offset1 + d]);
+                }
+            }
+        }
+    }
+
     private void doEpoch(final int epoch, final ExecutionMonitor exec)
     throws CanceledExecutionException {
         // through all data points
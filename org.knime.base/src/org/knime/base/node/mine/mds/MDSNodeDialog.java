@@ -158,9 +158,37 @@ public static SettingsModelIntegerBounded getSeedModel() {
     }
     
     
+    /**
+     * @return Creates and returns a new instance of
+     * <code>SettingsModelBoolean</code> specifying if each point is adjusted
+     * only against randomly sampled partners.
+     * @since 4.2
+     */
+    public static SettingsModelBoolean getUseSamplingModel() {
+        return new SettingsModelBoolean(MDSConfigKeys.CFGKEY_USE_SAMPLING,
+                MDSNodeModel.DEF_USE_SAMPLING);
+    }
+
+    /**
+     * @return Creates and returns a new instance of
+     * <code>SettingsModelIntegerBounded</code> containing the number of
+     * sampled partners per point and epoch.
+     * @since 4.2
+     */
+    public static SettingsModelIntegerBounded getSampleSizeModel() {
+        return new SettingsModelIntegerBounded(
+                MDSConfigKeys.CFGKEY_SAMPLE_SIZE, MDSManager.DEFAULT_SAMPLE_SIZE,
+                MDSNodeModel.MIN_SAMPLE_SIZE, MDSNodeModel.MAX_SAMPLE_SIZE);
+    }
+
+
     private SettingsModelIntegerBounded m_rowsModel;
     
     private SettingsModelBoolean m_useRowsModel;
+
+    private SettingsModelBoolean m_useSamplingModel;
+
+    private SettingsModelIntegerBounded m_sampleSizeModel;
     
     /**
      * Creates a new instance of <code>MDSNodeDialog</code>.
@@ -207,6 +235,20 @@ public MDSNodeDialog() {
         
         closeCurrentGroup();
 
+        createNewGroup("Scalability");
+
+        m_useSamplingModel = getUseSamplingModel();
+        addDialogComponent(new DialogComponentBoolean(m_useSamplingModel,
+                "Adjust points against sampled partners only"));
+
+        m_sampleSizeModel = getSampleSizeModel();
+        addDialogComponent(new DialogComponentNumber(m_sampleSizeModel,
+                "Partners per point and epoch: ", 10));
+
+        m_useSamplingModel.addChangeListener(new CheckBoxChangeListener());
+
+        closeCurrentGroup();
+
         createNewTab("Input data");
         
         createNewGroup("Data to project");
@@ -240,5 +282,6 @@ private void checkUncheck() {
         } else {
             m_rowsModel.setEnabled(true);
         }
+        m_sampleSizeModel.setEnabled(m_useSamplingModel.getBooleanValue());
     }
 }
@@ -156,6 +156,24 @@ public class MDSNodeModel extends NodeModel {
     public static final String DEF_DISTANCE =
         DistanceManagerFactory.EUCLIDEAN_DIST;
 
+    /**
+     * The default setting of the usage of sampled partners.
+     * @since 4.2
+     */
+    public static final boolean DEF_USE_SAMPLING = false;
+
+    /**
+     * The minimum number of sampled partners.
+     * @since 4.2
+     */
+    public static final int MIN_SAMPLE_SIZE = 1;
+
+    /**
+     * The maximum number of sampled partners.
+     * @since 4.2
+     */
+    public static final int MAX_SAMPLE_SIZE = Integer.MAX_VALUE;
+
 
 
     private SettingsModelIntegerBounded m_rowsModel =
@@ -181,6 +199,12 @@ public class MDSNodeModel extends NodeModel {
     private SettingsModelIntegerBounded m_seedModel =
         MDSNodeDialog.getSeedModel();
 
+    private SettingsModelBoolean m_useSamplingModel =
+        MDSNodeDialog.getUseSamplingModel();
+
+    private SettingsModelIntegerBounded m_sampleSizeModel =
+        MDSNodeDialog.getSampleSizeModel();
+
     private MDSManager m_manager;
 
     private List<String> m_includeList;
@@ -291,8 +315,13 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         m_manager = new MDSManager(m_outputDimModel.getIntValue(),
                 m_distModel.getStringValue(), m_fuzzy, rowCutDataTable, exec);
         m_manager.init(m_seedModel.getIntValue());
-        m_manager.train(m_epochsModel.getIntValue(),
+        if (m_useSamplingModel.getBooleanValue()) {
+            m_manager.trainSampled(m_epochsModel.getIntValue(),
+                m_learnrateModel.getDoubleValue(), m_sampleSizeModel.getIntValue());
+        } else {
+            m_manager.train(m_epochsModel.getIntValue(),
                 m_learnrateModel.getDoubleValue());
+        }
 
         // create BufferedDataTable out of mapped data.
         ColumnRearranger rearranger = createColumnRearranger(inSpec, new MDSCellFactory(
@@ -368,6 +397,14 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
         m_rowsModel.loadSettingsFrom(settings);
         m_seedModel.loadSettingsFrom(settings);
         m_useRowsModel.loadSettingsFrom(settings);
+        // added in 4.2
+        try {
+            m_useSamplingModel.loadSettingsFrom(settings);
+            m_sampleSizeModel.loadSettingsFrom(settings);
+        } catch (InvalidSettingsException ise) {
+            m_useSamplingModel.setBooleanValue(DEF_USE_SAMPLING);
+            m_sampleSizeModel.setIntValue(MDSManager.DEFAULT_SAMPLE_SIZE);
+        }
         checkUncheck();
     }
 
@@ -394,6 +431,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_rowsModel.saveSettingsTo(settings);
         m_seedModel.saveSettingsTo(settings);
         m_useRowsModel.saveSettingsTo(settings);
+        m_useSamplingModel.saveSettingsTo(settings);
+        m_sampleSizeModel.saveSettingsTo(settings);
     }
 
     /**
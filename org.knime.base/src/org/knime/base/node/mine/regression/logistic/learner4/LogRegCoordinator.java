@@ -48,6 +48,7 @@
  */
 package org.knime.base.node.mine.regression.logistic.learner4;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -66,8 +67,10 @@
 import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerSettings.Prior;
 import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerSettings.Solver;
 import org.knime.base.node.mine.regression.logistic.learner4.data.ClassificationTrainingRow;
+import org.knime.base.node.mine.regression.logistic.learner4.data.CompressedSparseRowData;
 import org.knime.base.node.mine.regression.logistic.learner4.data.DataTableTrainingData;
 import org.knime.base.node.mine.regression.logistic.learner4.data.InMemoryData;
+import org.knime.base.node.mine.regression.logistic.learner4.data.MappedSparseRowData;
 import org.knime.base.node.mine.regression.logistic.learner4.data.SparseClassificationTrainingRowBuilder;
 import org.knime.base.node.mine.regression.logistic.learner4.data.SparseProbabilisticTrainingRowBuilder;
 import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingData;
@@ -165,8 +168,10 @@ String getWarningMessage() {
      * @return the content of the logistic regression model
      * @throws InvalidSettingsException if the settings cause inconsistencies during training
      * @throws CanceledExecutionException if the training is canceled
+     * @throws IOException if the training data can't be written to disk
      */
-    LogisticRegressionContent learn(final BufferedDataTable trainingData, final ExecutionContext exec) throws InvalidSettingsException, CanceledExecutionException {
+    LogisticRegressionContent learn(final BufferedDataTable trainingData, final ExecutionContext exec)
+        throws InvalidSettingsException, CanceledExecutionException, IOException {
         CheckUtils.checkArgument(trainingData.size() > 0,
                 "The input table is empty. Please provide data to learn on.");
         CheckUtils.checkArgument(trainingData.size() <= Integer.MAX_VALUE,
@@ -188,14 +193,30 @@ LogisticRegressionContent learn(final BufferedDataTable trainingData, final Exec
         TrainingRowBuilder<ClassificationTrainingRow> rowBuilder = createRowBuilder(dataTable);
         TrainingData<ClassificationTrainingRow> data;
         Long seed = m_settings.getSeed();
-        if (m_settings.isInMemory()) {
+        final boolean parallel = m_settings.getSolver() == Solver.SAG && m_settings.getThreadCount() > 1;
+        if (parallel && !m_settings.isInMemory()) {
+            addToWarning("Multiple threads are only used if the data is held in memory, a single thread is used.");
+        }
+        if (parallel && m_settings.isInMemory() && fitsCompressedSparseRowData(dataTable, rowBuilder)) {
+            // the parallel SAG solver works directly on the compressed sparse row representation
+            data = new CompressedSparseRowData(dataTable, seed, rowBuilder);
+        } else if (m_settings.isInMemory()) {
             data = new InMemoryData<ClassificationTrainingRow>(dataTable, seed, rowBuilder);
+        } else if (m_settings.isMemoryMapped()) {
+            data = new MappedSparseRowData(dataTable, seed, rowBuilder, m_settings.getChunkSize(),
+                exec.createSubProgress(0.0));
         } else {
             data = new DataTableTrainingData<ClassificationTrainingRow>(trainingData, seed,
                     rowBuilder, m_settings.getChunkSize(), exec.createSilentSubExecutionContext(0.0));
         }
-        checkShapeCompatibility(data);
-        result = learner.learn(data, trainExec);
+        try {
+            checkShapeCompatibility(data);
+            result = learner.learn(data, trainExec);
+        } finally {
+            if (data instanceof MappedSparseRowData) {
+                ((MappedSparseRowData)data).dispose();
+            }
+        }
 
         LogisticRegressionContent content = createContentFromLearnerResult(result, rowBuilder, trainingData.getDataTableSpec());
 
@@ -203,6 +224,21 @@ LogisticRegressionContent learn(final BufferedDataTable trainingData, final Exec
         return content;
     }
 
+    /**
+     * Checks whether the class probabilities of a distribution target fit into the arrays of
+     * {@link CompressedSparseRowData}, otherwise a warning is added and the data is learned with a single thread.
+     */
+    private boolean fitsCompressedSparseRowData(final BufferedDataTable dataTable,
+        final TrainingRowBuilder<ClassificationTrainingRow> rowBuilder) {
+        if (m_targetSpec.getType().isCompatible(NominalDistributionValue.class)
+            && dataTable.size() * (rowBuilder.getTargetDimension() + 1L) > CompressedSparseRowData.MAX_ARRAY_LENGTH) {
+            addToWarning("The class probabilities of the data are too large to be learned with multiple threads,"
+                + " a single thread is used.");
+            return false;
+        }
+        return true;
+    }
+
     private TrainingRowBuilder<ClassificationTrainingRow> createRowBuilder(final BufferedDataTable dataTable)
             throws InvalidSettingsException {
         if (m_targetSpec.getType().isCompatible(NominalDistributionValue.class)) {
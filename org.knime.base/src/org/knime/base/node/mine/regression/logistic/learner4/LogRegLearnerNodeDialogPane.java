@@ -139,6 +139,8 @@ public final class LogRegLearnerNodeDialogPane extends NodeDialogPane {
 
     private JCheckBox m_inMemoryCheckBox;
 
+    private JCheckBox m_memoryMappedCheckBox;
+
     private JCheckBox m_useSeedCheckBox;
 
     private JTextField m_seedField;
@@ -147,6 +149,10 @@ public final class LogRegLearnerNodeDialogPane extends NodeDialogPane {
 
     private JSpinner m_chunkSizeSpinner;
 
+    private JSpinner m_threadCountSpinner;
+
+    private JSpinner m_miniBatchSizeSpinner;
+
     /**
      * Create new dialog for linear regression model.
      */
@@ -180,11 +186,16 @@ public LogRegLearnerNodeDialogPane() {
         m_solverComboBox = new JComboBox<>(Solver.values());
 
         m_inMemoryCheckBox = new JCheckBox("Hold data in memory");
+        m_memoryMappedCheckBox = new JCheckBox("Memory map data from disk");
         m_useSeedCheckBox = new JCheckBox("Use seed");
         m_seedField = new JTextField(NUMBER_INPUT_FIELD_COLS);
         m_newSeedButton = new JButton("New");
         m_chunkSizeSpinner =
             new JSpinner(new SpinnerNumberModel(LogRegLearnerSettings.DEFAULT_CHUNK_SIZE, 1, Integer.MAX_VALUE, 1000));
+        m_threadCountSpinner =
+            new JSpinner(new SpinnerNumberModel(LogRegLearnerSettings.DEFAULT_THREAD_COUNT, 1, Integer.MAX_VALUE, 1));
+        m_miniBatchSizeSpinner = new JSpinner(
+            new SpinnerNumberModel(LogRegLearnerSettings.DEFAULT_MINI_BATCH_SIZE, 1, Integer.MAX_VALUE, 100));
 
         // register listeners
         m_selectionPanel.addActionListener(new ActionListener() {
@@ -245,6 +256,7 @@ public void itemStateChanged(final ItemEvent e) {
             @Override
             public void actionPerformed(final ActionEvent e) {
                 m_chunkSizeSpinner.setEnabled(!m_inMemoryCheckBox.isSelected());
+                m_memoryMappedCheckBox.setEnabled(!m_inMemoryCheckBox.isSelected());
             }
         });
 
@@ -322,6 +334,8 @@ private void setEnabledSGRelated(final boolean enable) {
         m_initialLearningRateField.setEnabled(enable);
         m_priorComboBox.setEnabled(enable);
         m_priorVarianceSpinner.setEnabled(enable);
+        m_threadCountSpinner.setEnabled(enable);
+        m_miniBatchSizeSpinner.setEnabled(enable);
     }
 
     private JPanel createAdvancedSettingsPanel() {
@@ -388,6 +402,16 @@ private JPanel createSolverOptionsPanel() {
         panel.add(m_lazyCalculationCheckBox, c);
         c.gridy++;
         panel.add(m_calcCovMatrixCheckBox, c);
+        c.gridy++;
+        c.gridwidth = 1;
+        panel.add(new JLabel("Number of threads:"), c);
+        c.gridx++;
+        panel.add(m_threadCountSpinner, c);
+        c.gridx = 0;
+        c.gridy++;
+        panel.add(new JLabel("Mini-batch size:"), c);
+        c.gridx++;
+        panel.add(m_miniBatchSizeSpinner, c);
 
         return panel;
     }
@@ -414,6 +438,8 @@ private JPanel createDataHandlingPanel() {
         c.gridwidth = 3;
         panel.add(m_inMemoryCheckBox, c);
         c.gridy++;
+        panel.add(m_memoryMappedCheckBox, c);
+        c.gridy++;
         c.gridwidth = 1;
         panel.add(new JLabel("Chunk size:"), c);
         c.gridx++;
@@ -652,6 +678,10 @@ protected void loadSettingsFrom(final NodeSettingsRO s, final PortObjectSpec[] s
         m_seedField.setText(Long.toString(seed != null ? seed : System.currentTimeMillis()));
         m_chunkSizeSpinner.setValue(settings.getChunkSize());
         m_chunkSizeSpinner.setEnabled(!settings.isInMemory());
+        m_memoryMappedCheckBox.setSelected(settings.isMemoryMapped());
+        m_memoryMappedCheckBox.setEnabled(!settings.isInMemory());
+        m_threadCountSpinner.setValue(settings.getThreadCount());
+        m_miniBatchSizeSpinner.setValue(settings.getMiniBatchSize());
     }
 
     /**
@@ -704,6 +734,9 @@ protected void saveSettingsTo(final NodeSettingsWO s) throws InvalidSettingsExce
         settings.setSeed(seed);
 
         settings.setChunkSize((int)m_chunkSizeSpinner.getValue());
+        settings.setMemoryMapped(m_memoryMappedCheckBox.isSelected());
+        settings.setThreadCount((int)m_threadCountSpinner.getValue());
+        settings.setMiniBatchSize((int)m_miniBatchSizeSpinner.getValue());
 
         settings.validate();
 
@@ -230,7 +230,10 @@ public boolean hasInitialValue() {
     private static final String CFG_SEED = "seed";
     private static final String CFG_IN_MEMORY = "inMemory";
     private static final String CFG_CHUNK_SIZE = "chunkSize";
+    private static final String CFG_MEMORY_MAPPED = "memoryMapped";
     private static final String CFG_CALC_COVMATRIX = "calcCoefficientStatistics";
+    private static final String CFG_THREAD_COUNT = "threadCount";
+    private static final String CFG_MINI_BATCH_SIZE = "miniBatchSize";
 
     static final Solver DEFAULT_SOLVER = Solver.SAG;
     static final boolean DEFAULT_PERFORM_LAZY = true;
@@ -243,7 +246,10 @@ public boolean hasInitialValue() {
     static final double DEFAULT_PRIOR_VARIANCE = 0.1;
     static final boolean DEFAULT_IN_MEMORY = true;
     static final int DEFAULT_CHUNK_SIZE = 10000;
+    static final boolean DEFAULT_MEMORY_MAPPED = false;
     static final boolean DEFAULT_CALC_COVMATRIX = true;
+    static final int DEFAULT_THREAD_COUNT = 1;
+    static final int DEFAULT_MINI_BATCH_SIZE = 1000;
 
 
     private String m_targetColumn;
@@ -275,6 +281,11 @@ public boolean hasInitialValue() {
     private boolean m_inMemory;
     private Long m_seed;
     private int m_chunkSize;
+    private boolean m_memoryMapped;
+
+    // parallelization
+    private int m_threadCount;
+    private int m_miniBatchSize;
 
 
     /**
@@ -296,7 +307,10 @@ public LogRegLearnerSettings() {
         setInMemory(DEFAULT_IN_MEMORY);
         m_seed = System.currentTimeMillis();
         m_chunkSize = DEFAULT_CHUNK_SIZE;
+        m_memoryMapped = DEFAULT_MEMORY_MAPPED;
         m_calcCovMatrix = DEFAULT_CALC_COVMATRIX;
+        m_threadCount = DEFAULT_THREAD_COUNT;
+        m_miniBatchSize = DEFAULT_MINI_BATCH_SIZE;
     }
 
 
@@ -342,6 +356,11 @@ public void loadSettings(final NodeSettingsRO settings)
 
         m_calcCovMatrix = settings.getBoolean(CFG_CALC_COVMATRIX);
 
+        // added in 4.2
+        m_threadCount = settings.getInt(CFG_THREAD_COUNT, DEFAULT_THREAD_COUNT);
+        m_miniBatchSize = settings.getInt(CFG_MINI_BATCH_SIZE, DEFAULT_MINI_BATCH_SIZE);
+        m_memoryMapped = settings.getBoolean(CFG_MEMORY_MAPPED, DEFAULT_MEMORY_MAPPED);
+
         validate();
 
 
@@ -390,6 +409,9 @@ public void loadSettingsForDialog(final NodeSettingsRO settings, final DataTable
 
         m_calcCovMatrix = settings.getBoolean(CFG_CALC_COVMATRIX, DEFAULT_CALC_COVMATRIX);
 
+        m_threadCount = settings.getInt(CFG_THREAD_COUNT, DEFAULT_THREAD_COUNT);
+        m_miniBatchSize = settings.getInt(CFG_MINI_BATCH_SIZE, DEFAULT_MINI_BATCH_SIZE);
+        m_memoryMapped = settings.getBoolean(CFG_MEMORY_MAPPED, DEFAULT_MEMORY_MAPPED);
     }
 
     /**
@@ -424,6 +446,10 @@ public void saveSettings(final NodeSettingsWO settings) {
         settings.addInt(CFG_CHUNK_SIZE, m_chunkSize);
 
         settings.addBoolean(CFG_CALC_COVMATRIX, m_calcCovMatrix);
+
+        settings.addInt(CFG_THREAD_COUNT, m_threadCount);
+        settings.addInt(CFG_MINI_BATCH_SIZE, m_miniBatchSize);
+        settings.addBoolean(CFG_MEMORY_MAPPED, m_memoryMapped);
     }
 
     /**
@@ -438,6 +464,10 @@ public void validate() throws InvalidSettingsException {
         CheckUtils.checkSetting(m_epsilon >= 0, "Epsilon must be positive but was %g.", m_epsilon);
         CheckUtils.checkSetting(m_initialLearningRate > 0, "The initial learning rate must be larger than 0 but was %g.", m_initialLearningRate);
         CheckUtils.checkSetting(m_chunkSize > 0, "The chunk size must be larger than 0 but was %d", m_chunkSize);
+        CheckUtils.checkSetting(m_threadCount > 0, "The number of threads must be larger than 0 but was %d",
+            m_threadCount);
+        CheckUtils.checkSetting(m_miniBatchSize > 0, "The mini-batch size must be larger than 0 but was %d",
+            m_miniBatchSize);
 
     }
 
@@ -731,6 +761,27 @@ public void setChunkSize(final int chunkSize) {
     }
 
 
+    /**
+     * Returns whether data that is not held in memory is written to a compact temporary file that is accessed via
+     * memory mapping instead of being read chunk-wise from the input table.
+     *
+     * @return true if the training data is memory mapped
+     * @since 4.2
+     */
+    public boolean isMemoryMapped() {
+        return m_memoryMapped;
+    }
+
+
+    /**
+     * @param memoryMapped whether data that is not held in memory should be memory mapped
+     * @since 4.2
+     */
+    public void setMemoryMapped(final boolean memoryMapped) {
+        m_memoryMapped = memoryMapped;
+    }
+
+
     /**
      * @return the calcCovMatrix
      */
@@ -745,5 +796,45 @@ public boolean isCalcCovMatrix() {
     public void setCalcCovMatrix(final boolean calcCovMatrix) {
         m_calcCovMatrix = calcCovMatrix;
     }
-}
 
+    /**
+     * Returns the number of threads used by the SAG solver.
+     * A value of 1 means that the rows are processed one by one in a single thread.
+     *
+     * @return the number of threads
+     * @since 4.2
+     */
+    public int getThreadCount() {
+        return m_threadCount;
+    }
+
+
+    /**
+     * @param threadCount the number of threads to use for the SAG solver
+     * @since 4.2
+     */
+    public void setThreadCount(final int threadCount) {
+        m_threadCount = threadCount;
+    }
+
+
+    /**
+     * Returns the number of rows that are processed in parallel before the coefficients are updated.
+     * Only relevant if more than one thread is used.
+     *
+     * @return the mini-batch size
+     * @since 4.2
+     */
+    public int getMiniBatchSize() {
+        return m_miniBatchSize;
+    }
+
+
+    /**
+     * @param miniBatchSize the number of rows that are processed in parallel before the coefficients are updated
+     * @since 4.2
+     */
+    public void setMiniBatchSize(final int miniBatchSize) {
+        m_miniBatchSize = miniBatchSize;
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.regression.logistic.learner4.data;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingRow.FeatureIterator;
+import org.knime.core.data.DataRow;
+import org.knime.core.node.BufferedDataTable;
+
+/**
+ * {@link TrainingData} implementation that holds all data in memory in compressed sparse row (CSR) format.
+ * Instead of one {@link TrainingRow} object per row, the non zero feature indices and values of all rows are stored
+ * in two contiguous primitive arrays together with an offset array that marks where each row starts. The feature
+ * values are kept as provided by the {@link TrainingRowBuilder}, hence training on this data yields the same model as
+ * training on {@link InMemoryData}.
+ * This representation has a much smaller memory footprint than {@link InMemoryData} and allows optimizers to
+ * traverse the data in tight loops without any object indirection.
+ *
+ * The {@link ClassificationTrainingRow} objects returned by {@link #iterator()} and {@link #getRandomRow()} are
+ * lightweight views on the arrays.
+ *
+ * Since the arrays are indexed by int, the data may contain at most {@value #MAX_ARRAY_LENGTH} non zero values. If
+ * the rows provide class probabilities instead of a single class, the number of rows times the number of classes
+ * must not exceed this limit either. The constructor throws an {@link IllegalArgumentException} otherwise.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class CompressedSparseRowData extends AbstractTrainingData<ClassificationTrainingRow> {
+
+    /**
+     * The maximum number of non zero values, and of rows times classes if the rows provide class probabilities.
+     */
+    public static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final int[] m_rowOffsets;
+
+    private final int[] m_featureIndices;
+
+    private final double[] m_featureValues;
+
+    private final int[] m_categories;
+
+    /** Class probabilities in row major order or null if all rows have a hard class assignment. */
+    private final double[] m_probabilities;
+
+    private final int m_nClasses;
+
+    /**
+     * Instantiates a {@link TrainingData} object that holds all data in memory in CSR format.
+     *
+     * @param data the {@link BufferedDataTable} that contains the data to learn on
+     * @param seed used to generate pseudo random numbers
+     * @param rowBuilder used to create {@link TrainingRow} objects from {@link DataRow} objects
+     */
+    public CompressedSparseRowData(final BufferedDataTable data, final Long seed,
+        final TrainingRowBuilder<ClassificationTrainingRow> rowBuilder) {
+        super(data, seed, rowBuilder);
+        final int nRows = getRowCount();
+        m_nClasses = getTargetDimension() + 1;
+        m_rowOffsets = new int[nRows + 1];
+        m_categories = new int[nRows];
+        int[] indices = new int[Math.max(16, nRows)];
+        double[] values = new double[indices.length];
+        double[] probabilities = null;
+        int nnz = 0;
+        int rowIdx = 0;
+        for (DataRow row : data) {
+            final ClassificationTrainingRow trainingRow = rowBuilder.build(row, rowIdx);
+            for (FeatureIterator iter = trainingRow.getFeatureIterator(); iter.next();) {
+                if (nnz == indices.length) {
+                    final int newCapacity = (int)Math.min(MAX_ARRAY_LENGTH, indices.length * 3L / 2 + 1);
+                    if (newCapacity <= nnz) {
+                        throw new IllegalArgumentException(
+                            "The data contains more than " + MAX_ARRAY_LENGTH + " non zero values.");
+                    }
+                    indices = Arrays.copyOf(indices, newCapacity);
+                    values = Arrays.copyOf(values, newCapacity);
+                }
+                indices[nnz] = iter.getFeatureIndex();
+                values[nnz] = iter.getFeatureValue();
+                nnz++;
+            }
+            final int category = trainingRow.getCategory();
+            m_categories[rowIdx] = category;
+            if (probabilities == null && trainingRow.getProbability(category) != 1.0) {
+                // switch to the explicit representation of the class probabilities
+                if ((long)nRows * m_nClasses > MAX_ARRAY_LENGTH) {
+                    throw new IllegalArgumentException("The data contains too many rows (" + nRows + ") times classes ("
+                        + m_nClasses + ") to store the class probabilities.");
+                }
+                probabilities = new double[nRows * m_nClasses];
+                for (int r = 0; r < rowIdx; r++) {
+                    probabilities[r * m_nClasses + m_categories[r]] = 1.0;
+                }
+            }
+            if (probabilities != null) {
+                for (int c = 0; c < m_nClasses; c++) {
+                    probabilities[rowIdx * m_nClasses + c] = trainingRow.getProbability(c);
+                }
+            }
+            rowIdx++;
+            m_rowOffsets[rowIdx] = nnz;
+        }
+        m_featureIndices = Arrays.copyOf(indices, nnz);
+        m_featureValues = Arrays.copyOf(values, nnz);
+        m_probabilities = probabilities;
+    }
+
+    /**
+     * Returns the offset of the first non zero entry of row <b>row</b> in the arrays returned by
+     * {@link #getFeatureIndices()} and {@link #getFeatureValues()}.
+     * The entries of the row end at {@code getRowStart(row + 1)}.
+     *
+     * @param row the index of the row
+     * @return the offset of the first entry of the row
+     */
+    public int getRowStart(final int row) {
+        return m_rowOffsets[row];
+    }
+
+    /**
+     * Returns the feature indices of all rows. Don't modify the returned array.
+     *
+     * @return the feature indices of all non zero entries
+     */
+    public int[] getFeatureIndices() {
+        return m_featureIndices;
+    }
+
+    /**
+     * Returns the feature values of all rows. Don't modify the returned array.
+     *
+     * @return the feature values of all non zero entries
+     */
+    public double[] getFeatureValues() {
+        return m_featureValues;
+    }
+
+    /**
+     * @param row the index of the row
+     * @return the (most likely) category of the row
+     */
+    public int getCategory(final int row) {
+        return m_categories[row];
+    }
+
+    /**
+     * @param row the index of the row
+     * @param classIdx the index of the class
+     * @return the probability of class <b>classIdx</b> for row <b>row</b>
+     */
+    public double getProbability(final int row, final int classIdx) {
+        if (m_probabilities == null) {
+            return m_categories[row] == classIdx ? 1.0 : 0.0;
+        }
+        return m_probabilities[row * m_nClasses + classIdx];
+    }
+
+    /**
+     * Returns a {@link ClassificationTrainingRow} view on row <b>row</b>.
+     *
+     * @param row the index of the row
+     * @return the row with index <b>row</b>
+     */
+    public ClassificationTrainingRow getRow(final int row) {
+        return new CsrRow(row);
+    }
+
+    /**
+     * Randomly permutes the provided row indices using the random generator of this data object.
+     *
+     * @param rowIndices the row indices to shuffle in place
+     */
+    public void shuffle(final int[] rowIndices) {
+        final Random random = getRandomDataGenerator();
+        for (int i = rowIndices.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = rowIndices[i];
+            rowIndices[i] = rowIndices[j];
+            rowIndices[j] = tmp;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<ClassificationTrainingRow> iterator() {
+        return new Iterator<ClassificationTrainingRow>() {
+
+            private int m_row = 0;
+
+            @Override
+            public boolean hasNext() {
+                return m_row < getRowCount();
+            }
+
+            @Override
+            public ClassificationTrainingRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new CsrRow(m_row++);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClassificationTrainingRow getRandomRow() {
+        return new CsrRow(getRandomDataGenerator().nextInt(getRowCount()));
+    }
+
+    /**
+     * View on a single row of the CSR arrays.
+     */
+    private final class CsrRow implements ClassificationTrainingRow {
+
+        private final int m_row;
+
+        CsrRow(final int row) {
+            m_row = row;
+        }
+
+        @Override
+        public int getId() {
+            return m_row;
+        }
+
+        @Override
+        public int getCategory() {
+            return m_categories[m_row];
+        }
+
+        @Override
+        public double getProbability(final int classIdx) {
+            return CompressedSparseRowData.this.getProbability(m_row, classIdx);
+        }
+
+        @Override
+        public FeatureIterator getFeatureIterator() {
+            return new CsrFeatureIterator(m_rowOffsets[m_row] - 1, m_rowOffsets[m_row + 1]);
+        }
+
+        @Override
+        public String toString() {
+            return "[id=" + m_row + "; numNonZero=" + (m_rowOffsets[m_row + 1] - m_rowOffsets[m_row]) + "]";
+        }
+    }
+
+    private final class CsrFeatureIterator implements FeatureIterator {
+
+        private int m_idx;
+
+        private final int m_end;
+
+        CsrFeatureIterator(final int startIdx, final int end) {
+            m_idx = startIdx;
+            m_end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_idx < m_end - 1;
+        }
+
+        @Override
+        public boolean next() {
+            return ++m_idx < m_end;
+        }
+
+        @Override
+        public int getFeatureIndex() {
+            return m_featureIndices[m_idx];
+        }
+
+        @Override
+        public double getFeatureValue() {
+            return m_featureValues[m_idx];
+        }
+
+        @Override
+        public FeatureIterator spawn() {
+            return new CsrFeatureIterator(m_idx - 1, m_end);
+        }
+    }
+
+}
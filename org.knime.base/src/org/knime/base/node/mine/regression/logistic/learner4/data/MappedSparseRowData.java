@@ -0,0 +1,447 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.regression.logistic.learner4.data;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingRow.FeatureIterator;
+import org.knime.core.data.DataRow;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+
+/**
+ * {@link TrainingData} implementation that encodes the rows once into a compact binary file and accesses them via
+ * memory mapping. Contrary to {@link DataTableTrainingData}, the {@link DataRow DataRows} are decoded only once and
+ * only the row offsets are held on the heap, which allows to train on data sets that are much larger than the
+ * available main memory.
+ *
+ * Each row is stored as its category, the number of non zero features, the class probabilities (only if the row
+ * doesn't have a hard class assignment), the feature indices and the feature values. The values are stored as
+ * doubles, hence the rows read from the file are identical to the ones created by the {@link TrainingRowBuilder}.
+ *
+ * {@link #getRandomRow()} draws the rows in shuffled blocks of consecutive rows: The order of the blocks as well as
+ * the order of the rows within a block is shuffled once per pass over the data. This way every row is drawn exactly
+ * once per epoch while the accessed pages of the file stay local.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class MappedSparseRowData extends AbstractTrainingData<ClassificationTrainingRow> {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(MappedSparseRowData.class);
+
+    /** The maximal number of bytes that can be mapped by a single buffer. */
+    private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+    private final File m_file;
+
+    /** The offsets of the rows in the file, the last entry marks the end of the file. */
+    private final long[] m_rowOffsets;
+
+    private final int[] m_segmentFirstRows;
+
+    private final long[] m_segmentOffsets;
+
+    private final ByteBuffer[] m_segments;
+
+    private final int m_nClasses;
+
+    private final int m_blockSize;
+
+    private final int[] m_blockOrder;
+
+    private final int[] m_blockRows;
+
+    private int m_blockIdx;
+
+    private int m_blockLength;
+
+    private int m_posInBlock;
+
+    /**
+     * Instantiates a {@link TrainingData} object that writes the data to a temporary file and maps it into memory.
+     *
+     * @param data the {@link BufferedDataTable} that contains the data to learn on
+     * @param seed used to generate pseudo random numbers
+     * @param rowBuilder used to create {@link TrainingRow} objects from {@link DataRow} objects
+     * @param blockSize the number of consecutive rows that form a block for the shuffling
+     * @param exec used for progress reporting and cancellation
+     * @throws IOException if the temporary file can't be written or mapped
+     * @throws CanceledExecutionException if the user cancels the node execution
+     */
+    public MappedSparseRowData(final BufferedDataTable data, final Long seed,
+        final TrainingRowBuilder<ClassificationTrainingRow> rowBuilder, final int blockSize,
+        final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        super(data, seed, rowBuilder);
+        final int nRows = getRowCount();
+        m_nClasses = getTargetDimension() + 1;
+        m_rowOffsets = new long[nRows + 1];
+        m_file = FileUtil.createTempFile("logreg-training-data", ".bin");
+        try {
+            writeRows(data, rowBuilder, exec);
+            final int nSegments = countSegments();
+            m_segmentFirstRows = new int[nSegments];
+            m_segmentOffsets = new long[nSegments];
+            m_segments = new ByteBuffer[nSegments];
+            mapSegments();
+        } catch (IOException | CanceledExecutionException | RuntimeException e) {
+            dispose();
+            throw e;
+        }
+        m_blockSize = Math.max(1, Math.min(blockSize, nRows));
+        m_blockOrder = new int[(nRows + m_blockSize - 1) / m_blockSize];
+        for (int i = 0; i < m_blockOrder.length; i++) {
+            m_blockOrder[i] = i;
+        }
+        m_blockRows = new int[m_blockSize];
+        // forces a shuffle of the block order on the first draw
+        m_blockIdx = m_blockOrder.length;
+        m_blockLength = 0;
+        m_posInBlock = 0;
+    }
+
+    private void writeRows(final BufferedDataTable data, final TrainingRowBuilder<ClassificationTrainingRow> rowBuilder,
+        final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        final int nRows = getRowCount();
+        int[] indices = new int[16];
+        double[] values = new double[indices.length];
+        long offset = 0;
+        int rowIdx = 0;
+        try (DataOutputStream out =
+            new DataOutputStream(new BufferedOutputStream(new FileOutputStream(m_file), 1 << 16))) {
+            for (DataRow row : data) {
+                exec.checkCanceled();
+                exec.setProgress(((double)rowIdx) / nRows, () -> "Writing training data to disk");
+                final ClassificationTrainingRow trainingRow = rowBuilder.build(row, rowIdx);
+                int nnz = 0;
+                for (FeatureIterator iter = trainingRow.getFeatureIterator(); iter.next();) {
+                    if (nnz == indices.length) {
+                        indices = Arrays.copyOf(indices, nnz * 2);
+                        values = Arrays.copyOf(values, nnz * 2);
+                    }
+                    indices[nnz] = iter.getFeatureIndex();
+                    values[nnz] = iter.getFeatureValue();
+                    nnz++;
+                }
+                final int category = trainingRow.getCategory();
+                final boolean hardAssignment = trainingRow.getProbability(category) == 1.0;
+                // a negative category marks rows whose class probabilities are stored explicitly
+                out.writeInt(hardAssignment ? category : -category - 1);
+                out.writeInt(nnz);
+                offset += 8;
+                if (!hardAssignment) {
+                    for (int c = 0; c < m_nClasses; c++) {
+                        out.writeDouble(trainingRow.getProbability(c));
+                    }
+                    offset += 8L * m_nClasses;
+                }
+                for (int i = 0; i < nnz; i++) {
+                    out.writeInt(indices[i]);
+                }
+                for (int i = 0; i < nnz; i++) {
+                    out.writeDouble(values[i]);
+                }
+                offset += 12L * nnz;
+                rowIdx++;
+                m_rowOffsets[rowIdx] = offset;
+            }
+        }
+    }
+
+    /**
+     * Determines the number of buffers needed to map the file such that no row crosses the boundary of a buffer.
+     */
+    private int countSegments() {
+        int nSegments = 1;
+        long segmentOffset = 0;
+        for (int r = 0; r < getRowCount(); r++) {
+            if (m_rowOffsets[r + 1] - segmentOffset > MAX_SEGMENT_SIZE && m_rowOffsets[r] > segmentOffset) {
+                nSegments++;
+                segmentOffset = m_rowOffsets[r];
+            }
+        }
+        return nSegments;
+    }
+
+    private void mapSegments() throws IOException {
+        int segment = 0;
+        m_segmentFirstRows[0] = 0;
+        m_segmentOffsets[0] = 0;
+        for (int r = 0; r < getRowCount(); r++) {
+            if (m_rowOffsets[r + 1] - m_segmentOffsets[segment] > MAX_SEGMENT_SIZE
+                && m_rowOffsets[r] > m_segmentOffsets[segment]) {
+                segment++;
+                m_segmentFirstRows[segment] = r;
+                m_segmentOffsets[segment] = m_rowOffsets[r];
+            }
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(m_file, "r"); FileChannel channel = raf.getChannel()) {
+            for (int s = 0; s < m_segments.length; s++) {
+                final long end = s + 1 < m_segments.length ? m_segmentOffsets[s + 1] : m_rowOffsets[getRowCount()];
+                // the mapping stays valid after the channel is closed
+                m_segments[s] = channel.map(MapMode.READ_ONLY, m_segmentOffsets[s], end - m_segmentOffsets[s]);
+            }
+        }
+    }
+
+    /**
+     * Deletes the temporary file. The data object and the rows it returned must not be used anymore afterwards.
+     */
+    public void dispose() {
+        // a mapping is only released when its buffer is garbage collected, which requires all references to be dropped
+        if (m_segments != null) {
+            Arrays.fill(m_segments, null);
+        }
+        if (m_file.exists() && !m_file.delete()) {
+            // happens on some platforms as long as the file is still mapped
+            LOGGER.debug("Could not delete temporary file " + m_file.getAbsolutePath() + ", deleting it on exit.");
+            m_file.deleteOnExit();
+        }
+    }
+
+    /**
+     * Returns a {@link ClassificationTrainingRow} view on row <b>row</b>.
+     *
+     * @param row the index of the row
+     * @return the row with index <b>row</b>
+     */
+    public ClassificationTrainingRow getRow(final int row) {
+        int segment = Arrays.binarySearch(m_segmentFirstRows, row);
+        if (segment < 0) {
+            segment = -segment - 2;
+        }
+        return new MappedRow(m_segments[segment], (int)(m_rowOffsets[row] - m_segmentOffsets[segment]), row);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<ClassificationTrainingRow> iterator() {
+        return new Iterator<ClassificationTrainingRow>() {
+
+            private int m_row = 0;
+
+            @Override
+            public boolean hasNext() {
+                return m_row < getRowCount();
+            }
+
+            @Override
+            public ClassificationTrainingRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getRow(m_row++);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * Rows are drawn without replacement in shuffled blocks, i.e. all rows are returned once before any row is
+     * returned a second time.
+     */
+    @Override
+    public ClassificationTrainingRow getRandomRow() {
+        if (m_posInBlock == m_blockLength) {
+            nextBlock();
+        }
+        return getRow(m_blockRows[m_posInBlock++]);
+    }
+
+    private void nextBlock() {
+        final Random random = getRandomDataGenerator();
+        if (m_blockIdx == m_blockOrder.length) {
+            shuffle(m_blockOrder, m_blockOrder.length, random);
+            m_blockIdx = 0;
+        }
+        final int firstRow = m_blockOrder[m_blockIdx++] * m_blockSize;
+        m_blockLength = Math.min(m_blockSize, getRowCount() - firstRow);
+        for (int i = 0; i < m_blockLength; i++) {
+            m_blockRows[i] = firstRow + i;
+        }
+        shuffle(m_blockRows, m_blockLength, random);
+        m_posInBlock = 0;
+    }
+
+    private static void shuffle(final int[] array, final int length, final Random random) {
+        for (int i = length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    /**
+     * View on a single row in a mapped segment of the file.
+     * Only absolute get methods are used, hence the views don't interfere with each other.
+     */
+    private final class MappedRow implements ClassificationTrainingRow {
+
+        private final ByteBuffer m_buffer;
+
+        private final int m_id;
+
+        private final int m_category;
+
+        private final int m_nnz;
+
+        /** The position of the explicit class probabilities or -1 if the row has a hard class assignment. */
+        private final int m_probabilityPos;
+
+        private final int m_indexPos;
+
+        MappedRow(final ByteBuffer buffer, final int position, final int id) {
+            m_buffer = buffer;
+            m_id = id;
+            final int category = buffer.getInt(position);
+            m_nnz = buffer.getInt(position + 4);
+            if (category < 0) {
+                m_category = -category - 1;
+                m_probabilityPos = position + 8;
+                m_indexPos = m_probabilityPos + 8 * m_nClasses;
+            } else {
+                m_category = category;
+                m_probabilityPos = -1;
+                m_indexPos = position + 8;
+            }
+        }
+
+        @Override
+        public int getId() {
+            return m_id;
+        }
+
+        @Override
+        public int getCategory() {
+            return m_category;
+        }
+
+        @Override
+        public double getProbability(final int classIdx) {
+            if (m_probabilityPos < 0) {
+                return m_category == classIdx ? 1.0 : 0.0;
+            }
+            return m_buffer.getDouble(m_probabilityPos + 8 * classIdx);
+        }
+
+        @Override
+        public FeatureIterator getFeatureIterator() {
+            return new MappedFeatureIterator(m_buffer, m_indexPos, m_nnz, -1);
+        }
+
+        @Override
+        public String toString() {
+            return "[id=" + m_id + "; numNonZero=" + m_nnz + "]";
+        }
+    }
+
+    private static final class MappedFeatureIterator implements FeatureIterator {
+
+        private final ByteBuffer m_buffer;
+
+        private final int m_indexPos;
+
+        private final int m_valuePos;
+
+        private final int m_nnz;
+
+        private int m_idx;
+
+        MappedFeatureIterator(final ByteBuffer buffer, final int indexPos, final int nnz, final int startIdx) {
+            m_buffer = buffer;
+            m_indexPos = indexPos;
+            m_valuePos = indexPos + 4 * nnz;
+            m_nnz = nnz;
+            m_idx = startIdx;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_idx < m_nnz - 1;
+        }
+
+        @Override
+        public boolean next() {
+            return ++m_idx < m_nnz;
+        }
+
+        @Override
+        public int getFeatureIndex() {
+            return m_buffer.getInt(m_indexPos + 4 * m_idx);
+        }
+
+        @Override
+        public double getFeatureValue() {
+            return m_buffer.getDouble(m_valuePos + 8 * m_idx);
+        }
+
+        @Override
+        public FeatureIterator spawn() {
+            return new MappedFeatureIterator(m_buffer, m_indexPos, m_nnz, m_idx - 1);
+        }
+    }
+
+}
@@ -104,12 +104,28 @@ public AbstractSGOptimizer(final TrainingData<T> data, final Loss<T> loss, final
 
     public LogRegLearnerResult optimize(final int maxEpoch, final TrainingData<T> data, final Progress progress) throws CanceledExecutionException {
 
-        final int nRows = data.getRowCount();
         final int nFets = data.getFeatureCount();
         final int nCats = data.getTargetDimension();
-        final U updater = m_updaterFactory.create();
 
         final WeightMatrix<T> beta = new SimpleWeightMatrix<>(nFets, nCats, true);
+        final int epoch = performEpochs(maxEpoch, data, beta, progress);
+        return createResult(beta, epoch, maxEpoch);
+    }
+
+    /**
+     * Performs the training epochs until either convergence is reached or <b>maxEpoch</b> epochs were performed.
+     *
+     * @param maxEpoch the maximal number of epochs
+     * @param data the data to train on
+     * @param beta the coefficient matrix to optimize
+     * @param progress used to report progress and check for cancellation
+     * @return the number of performed epochs, which is <b>maxEpoch</b> if the training did not converge
+     * @throws CanceledExecutionException if the training is canceled
+     */
+    protected int performEpochs(final int maxEpoch, final TrainingData<T> data, final WeightMatrix<T> beta,
+        final Progress progress) throws CanceledExecutionException {
+        final int nRows = data.getRowCount();
+        final U updater = m_updaterFactory.create();
         int epoch = 0;
         for (; epoch < maxEpoch; epoch++) {
             // notify learning rate strategy that a new epoch starts
@@ -136,6 +152,10 @@ public LogRegLearnerResult optimize(final int maxEpoch, final TrainingData<T> da
                 break;
             }
         }
+        return epoch;
+    }
+
+    private LogRegLearnerResult createResult(final WeightMatrix<T> beta, final int epoch, final int maxEpoch) {
         StringBuilder warnBuilder = new StringBuilder();
         if (epoch >= maxEpoch) {
             warnBuilder.append("The algorithm did not reach convergence after the specified number of epochs. "
@@ -236,6 +256,34 @@ protected TrainingData<T> getData() {
         return m_data;
     }
 
+    /**
+     * @return the loss function to minimize
+     */
+    protected Loss<T> getLoss() {
+        return m_loss;
+    }
+
+    /**
+     * @return the updater for the regularization term
+     */
+    protected R getRegularizationUpdater() {
+        return m_regUpdater;
+    }
+
+    /**
+     * @return the learning rate strategy
+     */
+    protected LearningRateStrategy<T> getLearningRateStrategy() {
+        return m_lrStrategy;
+    }
+
+    /**
+     * @return the stopping criterion
+     */
+    protected StoppingCriterion<T> getStoppingCriterion() {
+        return m_stoppingCriterion;
+    }
+
     /**
      * Returns an {@link Optional} that can contain a warning message.
      *
@@ -152,7 +152,7 @@ private static void transform2Probabilites(final ClassificationTrainingRow x, fi
         }
     }
 
-    private static double logSumExp(final double[] prediction) {
+    static double logSumExp(final double[] prediction) {
         double max = 1.0;
         for (int i = 0; i < prediction.length; i++) {
             if (prediction[i] > max) {
@@ -0,0 +1,382 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.regression.logistic.learner4.sg;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.node.mine.regression.logistic.learner4.data.ClassificationTrainingRow;
+import org.knime.base.node.mine.regression.logistic.learner4.data.CompressedSparseRowData;
+import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingData;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Multithreaded SAG optimizer that works on synchronous mini-batches.
+ * The rows of an epoch are shuffled and split into mini-batches. The rows of a mini-batch are distributed among
+ * the threads, each of which calculates the gradients of its rows against the current coefficients and accumulates
+ * the changes of the gradient sum in its own buffer. Once all threads are done, the buffers are merged into the
+ * gradient sum and a single SAG step is performed.
+ * The data is accessed directly in its compressed sparse row representation.
+ *
+ * If only a single thread is used, the optimizer behaves exactly like the {@link EagerSgOptimizer} with an
+ * {@link EagerSagUpdater}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ParallelSagOptimizer extends
+    AbstractSGOptimizer<ClassificationTrainingRow, EagerUpdater<ClassificationTrainingRow>, RegularizationUpdater> {
+
+    private final CompressedSparseRowData m_csrData;
+
+    private final int m_nThreads;
+
+    private final int m_batchSize;
+
+    /**
+     * @param data the training data to learn on
+     * @param regularizationUpdater used to perform regularization updates, must be an eager updater
+     * @param learningRateStrategy scheme for the learning rate or step size
+     * @param stoppingCriterion criterion that indicates when to stop training
+     * @param calcCovMatrix flag that indicates whether the coefficient covariance matrix should be calculated
+     * @param nThreads the number of threads to use
+     * @param batchSize the number of rows per mini-batch
+     */
+    ParallelSagOptimizer(final CompressedSparseRowData data, final RegularizationUpdater regularizationUpdater,
+        final LearningRateStrategy<ClassificationTrainingRow> learningRateStrategy,
+        final StoppingCriterion<ClassificationTrainingRow> stoppingCriterion, final boolean calcCovMatrix,
+        final int nThreads, final int batchSize) {
+        super(data, MultinomialLoss.INSTANCE, new EagerSagUpdater.EagerSagUpdaterFactory<>(data.getRowCount(),
+            data.getFeatureCount(), data.getTargetDimension()), regularizationUpdater, learningRateStrategy,
+            stoppingCriterion, calcCovMatrix);
+        m_csrData = data;
+        m_nThreads = nThreads;
+        m_batchSize = batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int performEpochs(final int maxEpoch, final TrainingData<ClassificationTrainingRow> data,
+        final WeightMatrix<ClassificationTrainingRow> beta, final Progress progress)
+        throws CanceledExecutionException {
+        if (m_nThreads <= 1) {
+            return super.performEpochs(maxEpoch, data, beta, progress);
+        }
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_nThreads);
+        final Callable<Integer> training = () -> performParallelEpochs(maxEpoch, beta, progress, pool);
+        try {
+            try {
+                return pool.runInvisible(training);
+            } catch (IllegalThreadStateException ex) {
+                // not started by a thread from a thread pool
+                return training.call();
+            }
+        } catch (CanceledExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            Throwable cause = e;
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new IllegalStateException(cause.getMessage(), cause);
+        }
+    }
+
+    private int performParallelEpochs(final int maxEpoch, final WeightMatrix<ClassificationTrainingRow> beta,
+        final Progress progress, final ThreadPool pool) throws CanceledExecutionException, InterruptedException,
+        ExecutionException {
+        final int nRows = m_csrData.getRowCount();
+        final int nFets = m_csrData.getFeatureCount();
+        final int nCats = m_csrData.getTargetDimension();
+        final LearningRateStrategy<ClassificationTrainingRow> lrStrategy = getLearningRateStrategy();
+        final RegularizationUpdater regUpdater = getRegularizationUpdater();
+        final StoppingCriterion<ClassificationTrainingRow> stoppingCriterion = getStoppingCriterion();
+
+        final SagState state = new SagState(nRows, nFets, nCats);
+        final BatchWorker[] workers = new BatchWorker[m_nThreads];
+        for (int t = 0; t < workers.length; t++) {
+            workers[t] = new BatchWorker(state, beta.getWeightVector(), nFets, nCats);
+        }
+        final int[] rowOrder = new int[nRows];
+        for (int i = 0; i < nRows; i++) {
+            rowOrder[i] = i;
+        }
+        final double[] prediction = new double[nCats];
+        final double[] sig = new double[nCats];
+        final List<Future<Void>> futures = new ArrayList<>(workers.length);
+        int iteration = 0;
+        int epoch = 0;
+        for (; epoch < maxEpoch; epoch++) {
+            lrStrategy.startNewEpoch(epoch);
+            progress.setProgress(((double)epoch) / maxEpoch, "Start epoch " + epoch + " of " + maxEpoch);
+            m_csrData.shuffle(rowOrder);
+            for (int batchStart = 0; batchStart < nRows; batchStart += m_batchSize) {
+                progress.checkCanceled();
+                final int batchEnd = Math.min(nRows, batchStart + m_batchSize);
+                // the step size is determined by the first row of the batch
+                final int firstRow = rowOrder[batchStart];
+                workers[0].predict(firstRow, prediction);
+                workers[0].gradient(firstRow, prediction, sig);
+                final double stepSize =
+                    lrStrategy.getCurrentLearningRate(m_csrData.getRow(firstRow), prediction, sig);
+
+                // distribute the rows of the batch among the workers
+                final int chunkSize = (batchEnd - batchStart + workers.length - 1) / workers.length;
+                futures.clear();
+                for (int t = 1; t < workers.length; t++) {
+                    final int from = Math.min(batchEnd, batchStart + t * chunkSize);
+                    final int to = Math.min(batchEnd, from + chunkSize);
+                    if (from < to) {
+                        final BatchWorker worker = workers[t];
+                        final Callable<Void> task = () -> {
+                            worker.process(rowOrder, from, to);
+                            return null;
+                        };
+                        futures.add(pool.enqueue(task));
+                    }
+                }
+                // the current thread processes the first chunk
+                workers[0].process(rowOrder, batchStart, Math.min(batchEnd, batchStart + chunkSize));
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+                for (BatchWorker worker : workers) {
+                    worker.mergeInto(state);
+                }
+
+                // beta is updated in two steps
+                regUpdater.update(beta, stepSize, iteration);
+                final double[][] gradientSum = state.m_gradientSum;
+                final double normalizedStepSize = stepSize / state.m_nCovered;
+                beta.update((val, c, i) -> val - normalizedStepSize * gradientSum[c][i], true);
+                iteration++;
+            }
+            if (stoppingCriterion.checkConvergence(beta)) {
+                break;
+            }
+        }
+        return epoch;
+    }
+
+    /**
+     * The state shared by all workers.
+     * The gradient memory and the seen flags are written by the workers but since the rows of a batch are distinct,
+     * no two workers write to the same positions.
+     */
+    private static final class SagState {
+
+        private final double[][] m_gradientSum;
+
+        private final double[][] m_gradientMemory;
+
+        private final boolean[] m_seen;
+
+        private int m_nCovered = 0;
+
+        SagState(final int nRows, final int nFets, final int nCats) {
+            m_gradientSum = new double[nCats][nFets];
+            m_gradientMemory = new double[nCats][nRows];
+            m_seen = new boolean[nRows];
+        }
+    }
+
+    /**
+     * Processes a part of a mini-batch and accumulates the changes of the gradient sum in its own buffer.
+     */
+    private final class BatchWorker {
+
+        private final SagState m_state;
+
+        private final double[][] m_beta;
+
+        private final double[][] m_delta;
+
+        private final boolean[] m_touched;
+
+        private final int[] m_touchedIndices;
+
+        private int m_nTouched = 0;
+
+        private int m_newlySeen = 0;
+
+        private final double[] m_prediction;
+
+        private final double[] m_sig;
+
+        BatchWorker(final SagState state, final double[][] beta, final int nFets, final int nCats) {
+            m_state = state;
+            m_beta = beta;
+            m_delta = new double[nCats][nFets];
+            m_touched = new boolean[nFets];
+            m_touchedIndices = new int[nFets];
+            m_prediction = new double[nCats];
+            m_sig = new double[nCats];
+        }
+
+        void predict(final int row, final double[] prediction) {
+            final int[] indices = m_csrData.getFeatureIndices();
+            final double[] values = m_csrData.getFeatureValues();
+            final int end = m_csrData.getRowStart(row + 1);
+            for (int c = 0; c < prediction.length; c++) {
+                final double[] betaC = m_beta[c];
+                double p = 0.0;
+                for (int j = m_csrData.getRowStart(row); j < end; j++) {
+                    p += betaC[indices[j]] * values[j];
+                }
+                prediction[c] = p;
+            }
+        }
+
+        void gradient(final int row, final double[] prediction, final double[] sig) {
+            final double logSumExp = MultinomialLoss.logSumExp(prediction);
+            for (int c = 0; c < prediction.length; c++) {
+                sig[c] = Math.exp(prediction[c] - logSumExp) - m_csrData.getProbability(row, c);
+            }
+        }
+
+        void process(final int[] rowOrder, final int from, final int to) {
+            final int[] indices = m_csrData.getFeatureIndices();
+            final double[] values = m_csrData.getFeatureValues();
+            final double[][] memory = m_state.m_gradientMemory;
+            final int nCats = m_sig.length;
+            for (int r = from; r < to; r++) {
+                final int row = rowOrder[r];
+                predict(row, m_prediction);
+                gradient(row, m_prediction, m_sig);
+                final int end = m_csrData.getRowStart(row + 1);
+                for (int j = m_csrData.getRowStart(row); j < end; j++) {
+                    final int idx = indices[j];
+                    final double val = values[j];
+                    if (!m_touched[idx]) {
+                        m_touched[idx] = true;
+                        m_touchedIndices[m_nTouched++] = idx;
+                    }
+                    for (int c = 0; c < nCats; c++) {
+                        m_delta[c][idx] += val * (m_sig[c] - memory[c][row]);
+                    }
+                }
+                for (int c = 0; c < nCats; c++) {
+                    memory[c][row] = m_sig[c];
+                }
+                if (!m_state.m_seen[row]) {
+                    m_state.m_seen[row] = true;
+                    m_newlySeen++;
+                }
+            }
+        }
+
+        /** Must only be called while no worker is processing rows. */
+        void mergeInto(final SagState state) {
+            final double[][] gradientSum = state.m_gradientSum;
+            for (int t = 0; t < m_nTouched; t++) {
+                final int idx = m_touchedIndices[t];
+                for (int c = 0; c < m_delta.length; c++) {
+                    gradientSum[c][idx] += m_delta[c][idx];
+                    m_delta[c][idx] = 0.0;
+                }
+                m_touched[idx] = false;
+            }
+            m_nTouched = 0;
+            state.m_nCovered += m_newlySeen;
+            m_newlySeen = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void prepareIteration(final WeightMatrix<ClassificationTrainingRow> beta,
+        final ClassificationTrainingRow x, final EagerUpdater<ClassificationTrainingRow> updater,
+        final RegularizationUpdater regUpdater, final int iteration) {
+        // nothing to prepare
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void postProcessEpoch(final WeightMatrix<ClassificationTrainingRow> beta,
+        final EagerUpdater<ClassificationTrainingRow> updater, final RegularizationUpdater regUpdater) {
+        // nothing to postprocess
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void performUpdate(final ClassificationTrainingRow x, final EagerUpdater<ClassificationTrainingRow> updater,
+        final double[] gradient, final WeightMatrix<ClassificationTrainingRow> beta, final double stepSize,
+        final int iteration) {
+        updater.update(x, gradient, beta, stepSize, iteration);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void normalize(final WeightMatrix<ClassificationTrainingRow> beta,
+        final EagerUpdater<ClassificationTrainingRow> updater, final int iteration) {
+        // nothing to do
+    }
+
+}
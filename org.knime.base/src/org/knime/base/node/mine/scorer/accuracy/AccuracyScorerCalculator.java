@@ -53,7 +53,6 @@
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -77,7 +76,6 @@
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
-import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
@@ -105,6 +103,12 @@ public class AccuracyScorerCalculator {
 
     private List<RowKey>[][] m_keyStore;
 
+    /** The counter of the last calculation, which also resolves the cells of the key store. */
+    private ConfusionMatrixCounter m_counter;
+
+    /** The table the key store is created from on demand, <code>null</code> if created already. */
+    private BufferedDataTable m_keyStoreSource;
+
     private int m_falseCount;
 
     private int m_correctCount;
@@ -501,6 +505,10 @@ public BufferedDataTable getOverallStatisticsTable(final OverallStatisticsConfig
      * @return the keystore as a matrix of RowKey lists
      */
     public List<RowKey>[][] getKeyStore() {
+        if (m_keyStore == null && m_keyStoreSource != null) {
+            m_keyStore = m_counter.collectKeys(m_keyStoreSource);
+            m_keyStoreSource = null;
+        }
         return m_keyStore;
     }
 
@@ -531,66 +539,33 @@ private void calculate(final BufferedDataTable data, final String firstColumnNam
         m_targetValues = m_confusionMatrixSpec.getColumnNames();
 
         DataCell[] values = determineColValues(inSpec, index1, index2, config);
-        List<DataCell> valuesList = Arrays.asList(values);
-        Set<DataCell> valuesInCol2 = new HashSet<DataCell>();
+        m_counter = new ConfusionMatrixCounter(values, index1, index2, m_config.isIgnoreMissingValues());
 
-        // the scorerCount counts the confusions
-        m_scorerCount = new int[m_targetValues.length][m_targetValues.length];
-
-        // the key store remembers the row key for later hiliting
-        m_keyStore = new List[m_targetValues.length][m_targetValues.length];
-        for (int i = 0; i < m_keyStore.length; i++) {
-            for (int j = 0; j < m_keyStore[i].length; j++) {
-                m_keyStore[i][j] = new ArrayList<RowKey>();
-            }
+        // the key store remembers the row key for later hiliting, created on demand if configured
+        m_keyStore = null;
+        m_keyStoreSource = null;
+        final List<RowKey>[][] keyStore;
+        if (m_config.isKeyStoreCreatedLazily()) {
+            keyStore = null;
+            m_keyStoreSource = data;
+        } else {
+            keyStore = ConfusionMatrixCounter.createKeyStore(m_targetValues.length);
         }
 
         // filling in the confusion matrix and the keystore
-        long rowCnt = data.size();
-        int rowsNumber = 0;
-        m_correctCount = 0;
-        m_falseCount = 0;
-        int missingCount = 0;
-        ExecutionMonitor subExec = exec.createSubProgress(0.5);
-        for (Iterator<DataRow> it = data.iterator(); it.hasNext(); rowsNumber++) {
-            DataRow row = it.next();
-            subExec.setProgress((1.0 + rowsNumber) / rowCnt,
-                "Computing score, row " + rowsNumber + " (\"" + row.getKey() + "\") of " + data.size());
-            try {
-                subExec.checkCanceled();
-            } catch (CanceledExecutionException cee) {
-                reset();
-                throw cee;
-            }
-            DataCell cell1 = row.getCell(index1);
-            DataCell cell2 = row.getCell(index2);
-            valuesInCol2.add(cell2);
-            if (cell1.isMissing() || cell2.isMissing()) {
-                ++missingCount;
-                CheckUtils.checkState(m_config.isIgnoreMissingValues(), "Missing value in row: " + row.getKey());
-                if (m_config.isIgnoreMissingValues()) {
-                    continue;
-                }
-            }
-            boolean areEqual = cell1.equals(cell2);
-
-            int i1 = valuesList.indexOf(cell1);
-            int i2 = areEqual ? i1 : valuesList.indexOf(cell2);
-            assert i1 >= 0 : "column spec lacks possible value " + cell1;
-            assert i2 >= 0 : "column spec lacks possible value " + cell2;
-            // i2 must be equal to i1 if cells are equal (implication)
-            assert (!areEqual || i1 == valuesList.indexOf(cell2));
-            m_keyStore[i1][i2].add(row.getKey());
-            m_scorerCount[i1][i2]++;
-
-            if (areEqual) {
-                m_correctCount++;
-            } else {
-                m_falseCount++;
-            }
-        }
-        int missing = rowsNumber - m_correctCount - m_falseCount;
-        if (missingCount > 0) {
+        try {
+            m_counter.count(data, keyStore, exec.createSubProgress(0.5));
+        } catch (CanceledExecutionException cee) {
+            reset();
+            throw cee;
+        }
+        m_scorerCount = m_counter.getConfusionMatrix();
+        m_keyStore = keyStore;
+        m_correctCount = m_counter.getCorrectCount();
+        m_falseCount = m_counter.getFalseCount();
+        final long rowsNumber = m_counter.getRowCount();
+        long missing = rowsNumber - m_correctCount - m_falseCount;
+        if (m_counter.hasMissingValues()) {
             addWarning(
                 "There were " + missing + " missing values in the reference or in the prediction class columns.");
         }
@@ -743,6 +718,8 @@ public void reset() {
         m_targetValues = null;
         m_scorerCount = null;
         m_keyStore = null;
+        m_keyStoreSource = null;
+        m_counter = null;
         m_correctCount = 0;
         m_falseCount = 0;
     }
@@ -880,6 +857,8 @@ public static class ScorerCalculatorConfiguration {
 
         private boolean m_ignoreMissingValues = true;
 
+        private boolean m_keyStoreCreatedLazily = false;
+
         /**
          * @return sortingStrategy
          */
@@ -921,6 +900,26 @@ public boolean isIgnoreMissingValues() {
         public void setIgnoreMissingValues(final boolean ignoreMissingValues) {
             this.m_ignoreMissingValues = ignoreMissingValues;
         }
+
+        /**
+         * @return whether the key store is created on the first call of {@link AccuracyScorerCalculator#getKeyStore()}
+         * @since 4.2
+         */
+        public boolean isKeyStoreCreatedLazily() {
+            return m_keyStoreCreatedLazily;
+        }
+
+        /**
+         * Sets whether the key store is created on the first call of {@link AccuracyScorerCalculator#getKeyStore()}
+         * by reading the input table again instead of during the calculation. This saves memory if the row keys are
+         * not needed, the input table must still be valid when they are requested.
+         *
+         * @param keyStoreCreatedLazily whether the key store is created lazily
+         * @since 4.2
+         */
+        public void setKeyStoreCreatedLazily(final boolean keyStoreCreatedLazily) {
+            this.m_keyStoreCreatedLazily = keyStoreCreatedLazily;
+        }
     }
 
     /**
@@ -0,0 +1,349 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.scorer.accuracy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.knime.base.node.parallel.ParallelChunkProcessor;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Counts the confusion matrix of an actual and a predicted class column. The rows are read in chunks that are
+ * processed in parallel (see {@link ParallelChunkProcessor}), each thread counts into its own matrix with its own
+ * index of the class values and the matrices are merged at the end. The row keys per cell of the matrix are only
+ * collected on request.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ConfusionMatrixCounter {
+
+    /** Marks a row that is not counted. */
+    private static final int SKIPPED = -1;
+
+    private final DataCell[] m_values;
+
+    private final int m_firstColumn;
+
+    private final int m_secondColumn;
+
+    private final boolean m_ignoreMissingValues;
+
+    private final ParallelChunkProcessor m_processor;
+
+    /** The counts of the threads that are not in use. */
+    private final Queue<Counts> m_freeCounts = new ConcurrentLinkedQueue<>();
+
+    /** All counts, only modified by the threads while holding its lock. */
+    private final List<Counts> m_allCounts = new ArrayList<>();
+
+    private int[][] m_confusionMatrix;
+
+    private int m_correctCount;
+
+    private int m_falseCount;
+
+    private long m_rowCount;
+
+    private boolean m_hasMissingValues;
+
+    /**
+     * Creates a new counter.
+     *
+     * @param values the class values in the order of the rows and columns of the matrix
+     * @param firstColumn the index of the column with the actual classes
+     * @param secondColumn the index of the column with the predicted classes
+     * @param ignoreMissingValues whether rows with missing values are ignored, otherwise they cause an exception
+     */
+    ConfusionMatrixCounter(final DataCell[] values, final int firstColumn, final int secondColumn,
+        final boolean ignoreMissingValues) {
+        this(values, firstColumn, secondColumn, ignoreMissingValues, new ParallelChunkProcessor());
+    }
+
+    ConfusionMatrixCounter(final DataCell[] values, final int firstColumn, final int secondColumn,
+        final boolean ignoreMissingValues, final ParallelChunkProcessor processor) {
+        m_values = values.clone();
+        m_firstColumn = firstColumn;
+        m_secondColumn = secondColumn;
+        m_ignoreMissingValues = ignoreMissingValues;
+        m_processor = processor;
+    }
+
+    /**
+     * @return the confusion matrix of the last count, the rows are the actual and the columns the predicted classes
+     */
+    int[][] getConfusionMatrix() {
+        return m_confusionMatrix;
+    }
+
+    /**
+     * @return the number of correctly classified rows of the last count
+     */
+    int getCorrectCount() {
+        return m_correctCount;
+    }
+
+    /**
+     * @return the number of wrongly classified rows of the last count
+     */
+    int getFalseCount() {
+        return m_falseCount;
+    }
+
+    /**
+     * @return the number of rows read by the last count, including the ones with missing values
+     */
+    long getRowCount() {
+        return m_rowCount;
+    }
+
+    /**
+     * @return whether the last count has encountered missing values
+     */
+    boolean hasMissingValues() {
+        return m_hasMissingValues;
+    }
+
+    /**
+     * Counts the confusion matrix of all rows of the table.
+     *
+     * @param table the table
+     * @param keyStore the lists that receive the row keys per cell of the matrix in the order of the table or
+     *            <code>null</code> if the keys are not needed
+     * @param exec for progress and cancellation
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    void count(final BufferedDataTable table, final List<RowKey>[][] keyStore, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        try (CloseableRowIterator rows = table.iterator()) {
+            count(rows, table.size(), keyStore, exec);
+        }
+    }
+
+    /**
+     * Counts the confusion matrix of all rows.
+     *
+     * @param rows the rows
+     * @param rowCount the number of rows
+     * @param keyStore the lists that receive the row keys per cell of the matrix or <code>null</code>
+     * @param exec for progress and cancellation
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    void count(final Iterator<DataRow> rows, final long rowCount, final List<RowKey>[][] keyStore,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        m_confusionMatrix = null;
+        m_correctCount = 0;
+        m_falseCount = 0;
+        m_rowCount = 0;
+        m_hasMissingValues = false;
+        try {
+            m_processor.processUnchecked(rows, rowCount,
+                (chunkRows, size, firstIndex) -> () -> count(chunkRows, size, keyStore != null),
+                (cells, chunkRows, size, firstIndex) -> add(cells, chunkRows, size, keyStore),
+                read -> "Computing score, row " + read + " of " + rowCount, exec);
+            merge();
+        } finally {
+            m_freeCounts.clear();
+            m_allCounts.clear();
+        }
+    }
+
+    /**
+     * Counts a chunk in the matrix of the current thread, returns the cells of the rows if the keys are collected,
+     * otherwise <code>null</code>.
+     */
+    private int[] count(final DataRow[] rows, final int size, final boolean collectKeys) {
+        Counts counts = m_freeCounts.poll();
+        if (counts == null) {
+            counts = new Counts(m_values);
+            synchronized (m_allCounts) {
+                m_allCounts.add(counts);
+            }
+        }
+        final int[] cells = collectKeys ? new int[size] : null;
+        for (int r = 0; r < size; r++) {
+            final int cell = counts.add(rows[r]);
+            if (collectKeys) {
+                cells[r] = cell;
+            }
+        }
+        m_freeCounts.add(counts);
+        return cells;
+    }
+
+    /** Adds the keys of a chunk on the reading thread. */
+    private void add(final int[] cells, final DataRow[] rows, final int size, final List<RowKey>[][] keyStore) {
+        if (keyStore != null) {
+            for (int r = 0; r < size; r++) {
+                final int cell = cells[r];
+                if (cell != SKIPPED) {
+                    keyStore[cell / m_values.length][cell % m_values.length].add(rows[r].getKey());
+                }
+            }
+        }
+        m_rowCount += size;
+    }
+
+    /** Merges the matrices of all threads. */
+    private void merge() {
+        final int[][] confusionMatrix = new int[m_values.length][m_values.length];
+        long correctCount = 0;
+        long falseCount = 0;
+        for (final Counts counts : m_allCounts) {
+            for (int i = 0; i < m_values.length; i++) {
+                for (int j = 0; j < m_values.length; j++) {
+                    confusionMatrix[i][j] = Math.addExact(confusionMatrix[i][j], counts.m_matrix[i][j]);
+                }
+            }
+            correctCount += counts.m_correctCount;
+            falseCount += counts.m_falseCount;
+            m_hasMissingValues |= counts.m_hasMissingValues;
+        }
+        m_confusionMatrix = confusionMatrix;
+        m_correctCount = Math.toIntExact(correctCount);
+        m_falseCount = Math.toIntExact(falseCount);
+    }
+
+    /**
+     * Collects the row keys per cell of the matrix without counting, e.g. if they are needed after the count.
+     *
+     * @param table the table that has been counted
+     * @return the row keys per cell of the matrix in the order of the table
+     */
+    List<RowKey>[][] collectKeys(final BufferedDataTable table) {
+        final List<RowKey>[][] keyStore = createKeyStore(m_values.length);
+        final Counts counts = new Counts(m_values);
+        try (CloseableRowIterator rows = table.iterator()) {
+            while (rows.hasNext()) {
+                final DataRow row = rows.next();
+                final int cell = counts.add(row);
+                if (cell != SKIPPED) {
+                    keyStore[cell / m_values.length][cell % m_values.length].add(row.getKey());
+                }
+            }
+        }
+        return keyStore;
+    }
+
+    /**
+     * @param size the number of class values
+     * @return empty lists for the row keys of each cell of the matrix
+     */
+    @SuppressWarnings("unchecked")
+    static List<RowKey>[][] createKeyStore(final int size) {
+        final List<RowKey>[][] keyStore = new List[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                keyStore[i][j] = new ArrayList<RowKey>();
+            }
+        }
+        return keyStore;
+    }
+
+    /** The matrix and the index of the class values of a thread. */
+    private final class Counts {
+
+        private final Map<DataCell, Integer> m_index;
+
+        private final int[][] m_matrix;
+
+        private long m_correctCount;
+
+        private long m_falseCount;
+
+        private boolean m_hasMissingValues;
+
+        private Counts(final DataCell[] values) {
+            m_index = new HashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                m_index.putIfAbsent(values[i], i);
+            }
+            m_matrix = new int[values.length][values.length];
+        }
+
+        /** Counts a row and returns the cell of the matrix as row * size + column or {@link #SKIPPED}. */
+        private int add(final DataRow row) {
+            final DataCell cell1 = row.getCell(m_firstColumn);
+            final DataCell cell2 = row.getCell(m_secondColumn);
+            if (cell1.isMissing() || cell2.isMissing()) {
+                m_hasMissingValues = true;
+                CheckUtils.checkState(m_ignoreMissingValues, "Missing value in row: " + row.getKey());
+                return SKIPPED;
+            }
+            final boolean areEqual = cell1.equals(cell2);
+            final int i1 = indexOf(cell1);
+            final int i2 = areEqual ? i1 : indexOf(cell2);
+            m_matrix[i1][i2]++;
+            if (areEqual) {
+                m_correctCount++;
+            } else {
+                m_falseCount++;
+            }
+            return i1 * m_values.length + i2;
+        }
+
+        private int indexOf(final DataCell cell) {
+            final Integer index = m_index.get(cell);
+            CheckUtils.checkState(index != null, "Column spec lacks possible value %s", cell);
+            return index.intValue();
+        }
+    }
+}
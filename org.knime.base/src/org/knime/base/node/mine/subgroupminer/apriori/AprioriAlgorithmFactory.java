@@ -70,7 +70,9 @@ public enum AlgorithmDataStructure {
         ARRAY,
         /* LIST */
         /** The TIDList stores the ids of the transactions. * */
-        TIDList;
+        TIDList,
+        /** A compressed prefix tree of the transactions (FP-Growth). * */
+        FPGrowth;
 
         /**
          * Returns the values of this enum as a list of strings.
@@ -108,6 +110,8 @@ public static AprioriAlgorithm getAprioriAlgorithm(
             return new ArrayApriori(bitSetLength, dbsize);
         } else if (type.equals(AlgorithmDataStructure.TIDList)) {
             return new TIDApriori();
+        } else if (type.equals(AlgorithmDataStructure.FPGrowth)) {
+            return new FPGrowthApriori(bitSetLength, dbsize, true);
         } else {
             throw new RuntimeException("Type not supported: " + type);
         }
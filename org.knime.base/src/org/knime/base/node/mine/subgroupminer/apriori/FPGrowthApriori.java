@@ -0,0 +1,580 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.subgroupminer.apriori;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.node.mine.subgroupminer.freqitemset.AssociationRule;
+import org.knime.base.node.mine.subgroupminer.freqitemset.FrequentItemSet;
+import org.knime.core.data.vector.bitvector.BitVectorValue;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * An implementation of the FP-Growth algorithm. In contrast to the
+ * {@link ArrayApriori} and the {@link TIDApriori} it does not generate
+ * candidates level by level but scans the database exactly twice: once to
+ * determine the frequent items and once to build a compressed prefix tree
+ * (the {@link FPTree}) of all transactions, where the items are ordered by
+ * descending frequency. The frequent itemsets are then mined recursively from
+ * the conditional trees of each item. Since the conditional trees of the
+ * items of the initial tree are independent from each other, they can
+ * optionally be mined in parallel.
+ *
+ * <p>
+ * Items which occur in every transaction are handled like in the other
+ * implementations, i.e. they are not mined but reported separately.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class FPGrowthApriori implements AprioriAlgorithm {
+
+    private static final NodeLogger LOGGER =
+        NodeLogger.getLogger(FPGrowthApriori.class);
+
+    private final int m_bitSetLength;
+
+    private final boolean m_parallel;
+
+    private double m_minSupport;
+
+    private int m_minCount;
+
+    private int m_maxDepth;
+
+    private int m_dbsize;
+
+    /** maps the rank of a frequent item to its original id. */
+    private int[] m_rankToItem;
+
+    private List<Integer> m_alwaysFrequentItems;
+
+    private List<MinedItemSet> m_itemSets;
+
+    private Map<ItemKey, Integer> m_supportCounts;
+
+    private int m_idCounter;
+
+    /**
+     * Creates a FP-Growth instance with the bitset length, corresponding to the
+     * number of items.
+     *
+     * @param bitSetLength the number of items
+     * @param dbsize the number of transactions
+     * @param parallel <code>true</code> if the conditional trees should be
+     *            mined in parallel
+     */
+    public FPGrowthApriori(final int bitSetLength, final int dbsize,
+            final boolean parallel) {
+        m_bitSetLength = bitSetLength;
+        m_dbsize = dbsize;
+        m_parallel = parallel;
+        m_idCounter = 0;
+    }
+
+    private boolean isFrequent(final int count) {
+        return ((double)count / (double)m_dbsize) >= m_minSupport;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void findFrequentItemSets(final List<BitVectorValue> transactions,
+            final double minSupport, final int maxDepth,
+            final FrequentItemSet.Type type, final ExecutionMonitor exec)
+            throws CanceledExecutionException {
+        m_minSupport = minSupport;
+        m_maxDepth = Math.max(1, maxDepth);
+        m_dbsize = transactions.size();
+        m_alwaysFrequentItems = new ArrayList<Integer>();
+        m_itemSets = new ArrayList<MinedItemSet>();
+        m_supportCounts = new HashMap<ItemKey, Integer>();
+        if (m_dbsize == 0) {
+            return;
+        }
+        // smallest absolute count, which is still frequent
+        m_minCount = Math.max(1, (int)Math.ceil(m_minSupport * m_dbsize));
+        while (m_minCount > 1 && isFrequent(m_minCount - 1)) {
+            m_minCount--;
+        }
+        while (!isFrequent(m_minCount)) {
+            m_minCount++;
+        }
+
+        exec.setMessage("detecting frequent items");
+        final int[] itemToRank = rankFrequentItems(transactions, exec);
+        exec.setProgress(0.1);
+
+        exec.setMessage("building prefix tree");
+        final FPTree tree = buildTree(transactions, itemToRank,
+                exec.createSubProgress(0.2));
+        LOGGER.debug("FP-tree of " + m_rankToItem.length
+                + " frequent items has " + tree.getNrNodes() + " nodes");
+
+        exec.setMessage("mining frequent itemsets");
+        mine(tree, exec.createSubProgress(0.7));
+        for (MinedItemSet s : m_itemSets) {
+            m_supportCounts.put(new ItemKey(s.m_items), s.m_count);
+        }
+        exec.setProgress(1.0);
+    }
+
+    /**
+     * Counts the items, filters the always frequent items and sorts the
+     * frequent ones by descending count.
+     *
+     * @return mapping from the item id to its rank or -1 if the item is not
+     *         frequent
+     */
+    private int[] rankFrequentItems(final List<BitVectorValue> transactions,
+            final ExecutionMonitor exec) throws CanceledExecutionException {
+        int[] counts = new int[m_bitSetLength + 1];
+        for (BitVectorValue s : transactions) {
+            exec.checkCanceled();
+            // this type cast is save because the maximum length is checked in
+            // SubgroupMinerNodeModel#preprocess
+            for (int i = (int)s.nextSetBit(0); i >= 0;
+                    i = (int)s.nextSetBit(i + 1)) {
+                if (i >= counts.length) {
+                    counts = Arrays.copyOf(counts, i + 1);
+                }
+                counts[i]++;
+            }
+        }
+        final List<Integer> frequentItems = new ArrayList<Integer>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == m_dbsize) {
+                // always frequent items are not informative, report them
+                // separately
+                m_alwaysFrequentItems.add(i);
+            } else if (counts[i] > 0 && isFrequent(counts[i])) {
+                frequentItems.add(i);
+            }
+        }
+        final int[] finalCounts = counts;
+        Collections.sort(frequentItems, new Comparator<Integer>() {
+            @Override
+            public int compare(final Integer o1, final Integer o2) {
+                final int c = Integer.compare(finalCounts[o2], finalCounts[o1]);
+                return c != 0 ? c : o1.compareTo(o2);
+            }
+        });
+        m_rankToItem = new int[frequentItems.size()];
+        final int[] itemToRank = new int[counts.length];
+        Arrays.fill(itemToRank, -1);
+        for (int r = 0; r < m_rankToItem.length; r++) {
+            m_rankToItem[r] = frequentItems.get(r);
+            itemToRank[m_rankToItem[r]] = r;
+        }
+        return itemToRank;
+    }
+
+    private FPTree buildTree(final List<BitVectorValue> transactions,
+            final int[] itemToRank, final ExecutionMonitor exec)
+            throws CanceledExecutionException {
+        final FPTree tree = new FPTree(m_rankToItem.length);
+        final int[] ranks = new int[m_rankToItem.length];
+        int transactionNr = 0;
+        for (BitVectorValue s : transactions) {
+            exec.checkCanceled();
+            exec.setProgress(transactionNr++ / (double)m_dbsize);
+            int length = 0;
+            for (int i = (int)s.nextSetBit(0); i >= 0;
+                    i = (int)s.nextSetBit(i + 1)) {
+                if (i < itemToRank.length && itemToRank[i] >= 0) {
+                    ranks[length++] = itemToRank[i];
+                }
+            }
+            if (length > 0) {
+                Arrays.sort(ranks, 0, length);
+                tree.insert(ranks, length, 1);
+            }
+        }
+        return tree;
+    }
+
+    private void mine(final FPTree tree, final ExecutionMonitor exec)
+            throws CanceledExecutionException {
+        final int nrItems = tree.getNrItems();
+        if (!m_parallel || nrItems < 2) {
+            for (int rank = nrItems - 1; rank >= 0; rank--) {
+                exec.checkCanceled();
+                exec.setProgress((nrItems - rank) / (double)nrItems,
+                        "mining item " + (nrItems - rank) + " of "
+                        + nrItems);
+                m_itemSets.addAll(mineItem(tree, rank, new int[0], exec));
+            }
+            return;
+        }
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL
+            .createSubPool();
+        final List<Future<List<MinedItemSet>>> futures =
+            new ArrayList<Future<List<MinedItemSet>>>(nrItems);
+        for (int rank = nrItems - 1; rank >= 0; rank--) {
+            final int r = rank;
+            futures.add(pool.enqueue(new Callable<List<MinedItemSet>>() {
+                @Override
+                public List<MinedItemSet> call() throws Exception {
+                    return mineItem(tree, r, new int[0], exec);
+                }
+            }));
+        }
+        final Callable<Void> collector = new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                int done = 0;
+                for (Future<List<MinedItemSet>> f : futures) {
+                    m_itemSets.addAll(f.get());
+                    exec.setProgress(++done / (double)nrItems,
+                            "mining item " + done + " of " + nrItems);
+                }
+                return null;
+            }
+        };
+        try {
+            try {
+                pool.runInvisible(collector);
+            } catch (IllegalThreadStateException ex) {
+                // not started by a thread from a thread pool
+                collector.call();
+            }
+        } catch (CanceledExecutionException cee) {
+            throw cee;
+        } catch (Exception ex) {
+            exec.checkCanceled();
+            Throwable t = ex;
+            while (t instanceof ExecutionException && t.getCause() != null) {
+                t = t.getCause();
+            }
+            if (t instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)t;
+            } else if (t instanceof Error) {
+                // e.g. OutOfMemoryError, handled by the node model
+                throw (Error)t;
+            }
+            throw new RuntimeException(t.getMessage(), t);
+        } finally {
+            for (Future<?> f : futures) {
+                f.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Mines all frequent itemsets which end with the passed item, i.e.
+     * the item itself extended with the passed suffix and recursively all
+     * itemsets found in the conditional tree of the item.
+     */
+    private List<MinedItemSet> mineItem(final FPTree tree, final int rank,
+            final int[] suffix, final ExecutionMonitor exec)
+            throws CanceledExecutionException {
+        final List<MinedItemSet> result = new ArrayList<MinedItemSet>();
+        mineItem(tree, rank, suffix, exec, result);
+        return result;
+    }
+
+    private void mineItem(final FPTree tree, final int rank,
+            final int[] suffix, final ExecutionMonitor exec,
+            final List<MinedItemSet> result)
+            throws CanceledExecutionException {
+        final int count = tree.getItemCount(rank);
+        if (count < m_minCount) {
+            return;
+        }
+        final int[] itemSet = Arrays.copyOf(suffix, suffix.length + 1);
+        itemSet[suffix.length] = rank;
+        result.add(new MinedItemSet(toItemIds(itemSet), count));
+        if (itemSet.length >= m_maxDepth || rank == 0) {
+            return;
+        }
+        exec.checkCanceled();
+        final FPTree conditional = tree.createConditionalTree(rank, m_minCount);
+        for (int r = conditional.getNrItems() - 1; r >= 0; r--) {
+            mineItem(conditional, r, itemSet, exec, result);
+        }
+    }
+
+    private int[] toItemIds(final int[] ranks) {
+        final int[] items = new int[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            items[i] = m_rankToItem[ranks[i]];
+        }
+        Arrays.sort(items);
+        return items;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FrequentItemSet> getFrequentItemSets(
+            final FrequentItemSet.Type type) {
+        final List<FrequentItemSet> list = new ArrayList<FrequentItemSet>();
+        for (Integer i : m_alwaysFrequentItems) {
+            List<Integer> id = new ArrayList<Integer>();
+            id.add(i);
+            list.add(new FrequentItemSet(Integer.toString(m_idCounter++), id,
+                    1));
+        }
+        List<MinedItemSet> sets = m_itemSets;
+        if (type.equals(FrequentItemSet.Type.CLOSED)
+                || type.equals(FrequentItemSet.Type.MAXIMAL)) {
+            sets = filterClosedItemSets(m_itemSets);
+            if (type.equals(FrequentItemSet.Type.MAXIMAL)) {
+                sets = filterMaximalItemSets(sets);
+            }
+        }
+        for (MinedItemSet s : sets) {
+            FrequentItemSet set = toFrequentItemSet(s.m_items, s.m_count);
+            if (type.equals(FrequentItemSet.Type.CLOSED)) {
+                set.setClosed(true);
+            } else if (type.equals(FrequentItemSet.Type.MAXIMAL)) {
+                set.setClosed(true);
+                set.setMaximal(true);
+            }
+            list.add(set);
+        }
+        return list;
+    }
+
+    private FrequentItemSet toFrequentItemSet(final int[] items,
+            final int count) {
+        final List<Integer> itemList = new ArrayList<Integer>(items.length);
+        for (int item : items) {
+            itemList.add(item);
+        }
+        return new FrequentItemSet(Integer.toString(m_idCounter++), itemList,
+                (double)count / (double)m_dbsize);
+    }
+
+    /**
+     * An itemset is closed if there is no superset with the same support.
+     * Thus, only the sets with equal support have to be compared.
+     */
+    private static List<MinedItemSet> filterClosedItemSets(
+            final List<MinedItemSet> sets) {
+        final Map<Integer, List<MinedItemSet>> bySupport =
+            new HashMap<Integer, List<MinedItemSet>>();
+        for (MinedItemSet s : sets) {
+            List<MinedItemSet> group = bySupport.get(s.m_count);
+            if (group == null) {
+                group = new ArrayList<MinedItemSet>();
+                bySupport.put(s.m_count, group);
+            }
+            group.add(s);
+        }
+        final List<MinedItemSet> closed = new ArrayList<MinedItemSet>();
+        for (List<MinedItemSet> group : bySupport.values()) {
+            closed.addAll(filterSubsets(group));
+        }
+        return closed;
+    }
+
+    /**
+     * An itemset is maximal if there is no frequent superset at all, which is
+     * the case if there is no closed superset.
+     */
+    private static List<MinedItemSet> filterMaximalItemSets(
+            final List<MinedItemSet> closedSets) {
+        return filterSubsets(closedSets);
+    }
+
+    /** Returns those sets which are no proper subset of another set. */
+    private static List<MinedItemSet> filterSubsets(
+            final List<MinedItemSet> sets) {
+        final MinedItemSet[] sorted = sets.toArray(new MinedItemSet[0]);
+        // larger sets first, only they can be supersets
+        Arrays.sort(sorted, new Comparator<MinedItemSet>() {
+            @Override
+            public int compare(final MinedItemSet o1, final MinedItemSet o2) {
+                return Integer.compare(o2.m_items.length, o1.m_items.length);
+            }
+        });
+        final List<MinedItemSet> result = new ArrayList<MinedItemSet>();
+        for (MinedItemSet candidate : sorted) {
+            boolean isSubset = false;
+            for (MinedItemSet kept : result) {
+                if (kept.m_items.length > candidate.m_items.length
+                        && isSubset(candidate.m_items, kept.m_items)) {
+                    isSubset = true;
+                    break;
+                }
+            }
+            if (!isSubset) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /** Both arrays are sorted ascending. */
+    private static boolean isSubset(final int[] sub, final int[] sup) {
+        int j = 0;
+        for (int i = 0; i < sub.length; i++) {
+            while (j < sup.length && sup[j] < sub[i]) {
+                j++;
+            }
+            if (j == sup.length || sup[j] != sub[i]) {
+                return false;
+            }
+            j++;
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<AssociationRule> getAssociationRules(final double confidence) {
+        final List<AssociationRule> associationRules =
+            new ArrayList<AssociationRule>();
+        /*
+         * handle always frequent items seperately: since they are always
+         * frequent each association rule of the itemset -> item must have
+         * confidence = 1 and support = dbsize
+         */
+        for (Integer i : m_alwaysFrequentItems) {
+            List<Integer> withoutI = new ArrayList<Integer>(
+                    m_alwaysFrequentItems);
+            withoutI.remove(i);
+            List<Integer> iList = new ArrayList<Integer>(1);
+            iList.add(i);
+            associationRules.add(new AssociationRule(
+                    new FrequentItemSet(Integer.toString(m_idCounter++),
+                            withoutI, 1.0),
+                    new FrequentItemSet(Integer.toString(m_idCounter++),
+                            iList, 1.0),
+                    1.0, 1.0, 1.0));
+        }
+        for (MinedItemSet s : filterClosedItemSets(m_itemSets)) {
+            if (s.m_items.length < 2) {
+                continue;
+            }
+            final double supportS = (double)s.m_count / (double)m_dbsize;
+            for (int i = 0; i < s.m_items.length; i++) {
+                final int[] sWithoutI = new int[s.m_items.length - 1];
+                System.arraycopy(s.m_items, 0, sWithoutI, 0, i);
+                System.arraycopy(s.m_items, i + 1, sWithoutI, i,
+                        sWithoutI.length - i);
+                // all subsets of a frequent itemset are frequent as well
+                final double newSupport = getSupportFor(sWithoutI);
+                final double c = supportS / newSupport;
+                if (c >= confidence) {
+                    final int[] iArray = new int[]{s.m_items[i]};
+                    final double supportI = getSupportFor(iArray);
+                    associationRules.add(new AssociationRule(
+                            toFrequentItemSet(sWithoutI, m_supportCounts.get(
+                                    new ItemKey(sWithoutI))),
+                            toFrequentItemSet(iArray, m_supportCounts.get(
+                                    new ItemKey(iArray))),
+                            supportS, c, c / supportI));
+                }
+            }
+        }
+        return associationRules;
+    }
+
+    private double getSupportFor(final int[] items) {
+        final Integer count = m_supportCounts.get(new ItemKey(items));
+        if (count == null) {
+            throw new IllegalStateException("No support found for itemset "
+                    + Arrays.toString(items));
+        }
+        return count.doubleValue() / m_dbsize;
+    }
+
+    /** A mined itemset with the sorted item ids and the absolute support. */
+    private static final class MinedItemSet {
+        private final int[] m_items;
+
+        private final int m_count;
+
+        MinedItemSet(final int[] items, final int count) {
+            m_items = items;
+            m_count = count;
+        }
+    }
+
+    /** Hash key for a sorted array of item ids. */
+    private static final class ItemKey {
+        private final int[] m_items;
+
+        private final int m_hash;
+
+        ItemKey(final int[] items) {
+            m_items = items;
+            m_hash = Arrays.hashCode(items);
+        }
+
+        @Override
+        public int hashCode() {
+            return m_hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof ItemKey
+                    && Arrays.equals(m_items, ((ItemKey)obj).m_items);
+        }
+    }
+}
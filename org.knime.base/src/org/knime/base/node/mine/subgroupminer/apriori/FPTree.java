@@ -0,0 +1,226 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.subgroupminer.apriori;
+
+import java.util.Arrays;
+
+/**
+ * A compact frequent pattern tree (FP-tree) as used by the
+ * {@link FPGrowthApriori}. All nodes are stored in parallel primitive arrays,
+ * the items are represented by their rank in the frequency ordering (rank 0
+ * being the most frequent item). Since the transactions are inserted sorted by
+ * rank, the ancestors of a node always have a smaller rank than the node
+ * itself.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class FPTree {
+
+    private static final int ROOT = 0;
+
+    private static final int NONE = -1;
+
+    private int[] m_item;
+
+    private int[] m_count;
+
+    private int[] m_parent;
+
+    private int[] m_firstChild;
+
+    private int[] m_nextSibling;
+
+    private int[] m_nodeLink;
+
+    private int m_size;
+
+    private final int[] m_headerFirst;
+
+    private final int[] m_itemCount;
+
+    /**
+     * Creates an empty tree which can hold the items with ranks
+     * <code>0</code> to <code>nrItems - 1</code>.
+     *
+     * @param nrItems the number of (ranked) items
+     */
+    FPTree(final int nrItems) {
+        final int initialCapacity = 64;
+        m_item = new int[initialCapacity];
+        m_count = new int[initialCapacity];
+        m_parent = new int[initialCapacity];
+        m_firstChild = new int[initialCapacity];
+        m_nextSibling = new int[initialCapacity];
+        m_nodeLink = new int[initialCapacity];
+        m_headerFirst = new int[nrItems];
+        Arrays.fill(m_headerFirst, NONE);
+        m_itemCount = new int[nrItems];
+        // the root
+        m_item[ROOT] = NONE;
+        m_parent[ROOT] = NONE;
+        m_firstChild[ROOT] = NONE;
+        m_nextSibling[ROOT] = NONE;
+        m_nodeLink[ROOT] = NONE;
+        m_size = 1;
+    }
+
+    /**
+     * @return the number of items (ranks) this tree was created for
+     */
+    int getNrItems() {
+        return m_itemCount.length;
+    }
+
+    /**
+     * @param rank the rank of the item
+     * @return the accumulated count of the item over all transactions in this
+     *         tree
+     */
+    int getItemCount(final int rank) {
+        return m_itemCount[rank];
+    }
+
+    /**
+     * @return the number of nodes in this tree (including the root)
+     */
+    int getNrNodes() {
+        return m_size;
+    }
+
+    /**
+     * Inserts a transaction into the tree.
+     *
+     * @param ranks the item ranks of the transaction, sorted ascending
+     * @param length the number of valid entries in <code>ranks</code>
+     * @param count the number of times this transaction occurs
+     */
+    void insert(final int[] ranks, final int length, final int count) {
+        int node = ROOT;
+        for (int i = 0; i < length; i++) {
+            final int rank = ranks[i];
+            int child = m_firstChild[node];
+            while (child != NONE && m_item[child] != rank) {
+                child = m_nextSibling[child];
+            }
+            if (child == NONE) {
+                child = createNode(rank, node);
+            }
+            m_count[child] += count;
+            m_itemCount[rank] += count;
+            node = child;
+        }
+    }
+
+    private int createNode(final int rank, final int parent) {
+        if (m_size == m_item.length) {
+            final int newCapacity = m_size + (m_size >> 1);
+            m_item = Arrays.copyOf(m_item, newCapacity);
+            m_count = Arrays.copyOf(m_count, newCapacity);
+            m_parent = Arrays.copyOf(m_parent, newCapacity);
+            m_firstChild = Arrays.copyOf(m_firstChild, newCapacity);
+            m_nextSibling = Arrays.copyOf(m_nextSibling, newCapacity);
+            m_nodeLink = Arrays.copyOf(m_nodeLink, newCapacity);
+        }
+        final int node = m_size++;
+        m_item[node] = rank;
+        m_count[node] = 0;
+        m_parent[node] = parent;
+        m_firstChild[node] = NONE;
+        m_nextSibling[node] = m_firstChild[parent];
+        m_firstChild[parent] = node;
+        m_nodeLink[node] = m_headerFirst[rank];
+        m_headerFirst[rank] = node;
+        return node;
+    }
+
+    /**
+     * Creates the conditional tree of the passed item, i.e. the tree built
+     * from all prefix paths ending in the item. Only items which are frequent
+     * within the conditional pattern base are kept. Since all ancestors have a
+     * smaller rank, the conditional tree only needs to hold
+     * <code>rank</code> items.
+     *
+     * @param rank the rank of the item to create the conditional tree for
+     * @param minCount the minimum (absolute) count of an item to be kept
+     * @return the conditional tree, which might be empty
+     */
+    FPTree createConditionalTree(final int rank, final int minCount) {
+        // first pass: count the items in the conditional pattern base
+        final int[] counts = new int[rank];
+        for (int node = m_headerFirst[rank]; node != NONE;
+                node = m_nodeLink[node]) {
+            final int count = m_count[node];
+            for (int p = m_parent[node]; p != ROOT; p = m_parent[p]) {
+                counts[m_item[p]] += count;
+            }
+        }
+        final FPTree conditional = new FPTree(rank);
+        // second pass: insert the filtered prefix paths
+        final int[] path = new int[rank];
+        for (int node = m_headerFirst[rank]; node != NONE;
+                node = m_nodeLink[node]) {
+            int length = 0;
+            for (int p = m_parent[node]; p != ROOT; p = m_parent[p]) {
+                if (counts[m_item[p]] >= minCount) {
+                    path[length++] = m_item[p];
+                }
+            }
+            if (length > 0) {
+                // the path was collected bottom-up, i.e. descending ranks
+                for (int i = 0, j = length - 1; i < j; i++, j--) {
+                    final int tmp = path[i];
+                    path[i] = path[j];
+                    path[j] = tmp;
+                }
+                conditional.insert(path, length, m_count[node]);
+            }
+        }
+        return conditional;
+    }
+}
@@ -0,0 +1,370 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.parallel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Processes rows in parallel chunks and merges the results in the order of the input. The rows are read on the calling
+ * thread in chunks of consecutive rows, each chunk is mapped to a result by a thread of a {@link ThreadPool} and the
+ * results are merged on the calling thread in the order of the chunks. Only a bounded number of chunks is in flight at
+ * any time; if the workers cannot keep up, reading is blocked until the oldest chunk is finished. While it waits, the
+ * calling thread is invisible to the thread pool, so the workers can run even if the calling thread is one of them.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ */
+public final class ParallelChunkProcessor {
+
+    /** The default number of consecutive rows that are processed as one unit of work. */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    /**
+     * Creates the task that maps a chunk of rows to its result.
+     *
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    public interface ChunkMapper<R> {
+
+        /**
+         * Called on the reading thread in the order of the input, the returned task is run by a worker.
+         *
+         * @param rows the rows of the chunk, only the first <code>size</code> entries are set
+         * @param size the number of rows in the chunk
+         * @param firstIndex the index of the first row of the chunk
+         * @return the task that computes the result of the chunk or <code>null</code> if there is nothing to compute,
+         *         in which case the result is <code>null</code>
+         */
+        Callable<R> createTask(DataRow[] rows, int size, long firstIndex);
+    }
+
+    /**
+     * Merges the result of a chunk of rows.
+     *
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    public interface ChunkMerger<R> {
+
+        /**
+         * Called on the reading thread in the order of the input.
+         *
+         * @param result the result of the chunk
+         * @param rows the rows of the chunk, only the first <code>size</code> entries are set
+         * @param size the number of rows in the chunk
+         * @param firstIndex the index of the first row of the chunk
+         */
+        void merge(R result, DataRow[] rows, int size, long firstIndex);
+    }
+
+    private final ThreadPool m_workers;
+
+    private final int m_chunkSize;
+
+    private final int m_maxPendingChunks;
+
+    /**
+     * Creates a processor that uses as many threads as there are processors, {@link #DEFAULT_CHUNK_SIZE} and at most
+     * four chunks per thread in flight.
+     */
+    public ParallelChunkProcessor() {
+        this(KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(Runtime.getRuntime().availableProcessors()),
+            DEFAULT_CHUNK_SIZE, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a processor.
+     *
+     * @param workers the thread pool that maps the chunks
+     * @param chunkSize the number of rows that are processed as one unit of work
+     * @param maxPendingChunks the maximum number of chunks that are mapped or waiting to be merged
+     */
+    public ParallelChunkProcessor(final ThreadPool workers, final int chunkSize, final int maxPendingChunks) {
+        if (chunkSize <= 0 || maxPendingChunks <= 0) {
+            throw new IllegalArgumentException("Chunk size and number of pending chunks must be positive.");
+        }
+        m_workers = workers;
+        m_chunkSize = chunkSize;
+        m_maxPendingChunks = maxPendingChunks;
+    }
+
+    /**
+     * Maps all rows chunk by chunk and merges the results in the order of the input.
+     *
+     * @param rows the rows
+     * @param rowCount the number of rows, used for the progress only
+     * @param mapper creates the tasks that map the chunks, the tasks must be thread-safe
+     * @param merger merges the results
+     * @param progressMessage creates the progress message from the number of merged rows
+     * @param exec for progress and cancellation
+     * @param <R> the type of the results of the chunks
+     * @throws CanceledExecutionException if the execution has been canceled
+     * @throws InterruptedException if the thread has been interrupted
+     * @throws ExecutionException if a task failed, the cause is the exception thrown by the task
+     */
+    public <R> void process(final Iterator<DataRow> rows, final long rowCount, final ChunkMapper<R> mapper,
+        final ChunkMerger<R> merger, final LongFunction<String> progressMessage, final ExecutionMonitor exec)
+        throws CanceledExecutionException, InterruptedException, ExecutionException {
+        runInvisible(() -> {
+            read(rows, rowCount, mapper, merger, progressMessage, exec);
+            return null;
+        }, exec);
+    }
+
+    /**
+     * Maps all rows chunk by chunk and merges the results in the order of the input, see
+     * {@link #process(Iterator, long, ChunkMapper, ChunkMerger, LongFunction, ExecutionMonitor)}. An interrupt is
+     * reported as cancellation and the exception of a failed task is rethrown as is if it is unchecked, otherwise
+     * wrapped in an {@link IllegalStateException}.
+     *
+     * @param rows the rows
+     * @param rowCount the number of rows, used for the progress only
+     * @param mapper creates the tasks that map the chunks, the tasks must be thread-safe
+     * @param merger merges the results
+     * @param progressMessage creates the progress message from the number of merged rows
+     * @param exec for progress and cancellation
+     * @param <R> the type of the results of the chunks
+     * @throws CanceledExecutionException if the execution has been canceled or the thread has been interrupted
+     */
+    public <R> void processUnchecked(final Iterator<DataRow> rows, final long rowCount, final ChunkMapper<R> mapper,
+        final ChunkMerger<R> merger, final LongFunction<String> progressMessage, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        try {
+            process(rows, rowCount, mapper, merger, progressMessage, exec);
+        } catch (InterruptedException | ExecutionException ex) {
+            throw propagate(ex);
+        }
+    }
+
+    /**
+     * Runs independent tasks, e.g. the final steps of a computation, on the threads of this processor and waits for
+     * all of them. Failures are reported as by
+     * {@link #processUnchecked(Iterator, long, ChunkMapper, ChunkMerger, LongFunction, ExecutionMonitor)}.
+     *
+     * @param tasks the tasks
+     * @param exec for cancellation
+     * @param <T> the type of the results
+     * @return the results of the tasks in the order of the tasks
+     * @throws CanceledExecutionException if the execution has been canceled or the thread has been interrupted
+     */
+    public <T> List<T> invokeAllUnchecked(final List<Callable<T>> tasks, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        try {
+            return runInvisible(() -> {
+                final List<Future<T>> futures = new ArrayList<>(tasks.size());
+                try {
+                    for (final Callable<T> task : tasks) {
+                        futures.add(m_workers.submit(task));
+                    }
+                    final List<T> results = new ArrayList<>(tasks.size());
+                    for (final Future<T> future : futures) {
+                        results.add(get(future, exec));
+                    }
+                    return results;
+                } finally {
+                    // only cancels something if a task failed
+                    for (final Future<T> future : futures) {
+                        future.cancel(true);
+                    }
+                }
+            }, exec);
+        } catch (InterruptedException | ExecutionException ex) {
+            throw propagate(ex);
+        }
+    }
+
+    /**
+     * Runs the reader on the calling thread, which is invisible to the thread pool while the reader runs.
+     */
+    private <T> T runInvisible(final Reader<T> reader, final ExecutionMonitor exec)
+        throws CanceledExecutionException, InterruptedException, ExecutionException {
+        try {
+            return m_workers.runInvisible(reader::read);
+        } catch (IllegalThreadStateException ex) { // NOSONAR
+            // this node has not been started by a thread from a thread pool.
+            // This is odd, but may happen
+            return reader.read();
+        } catch (ExecutionException ex) {
+            // the execution exception may be caused by an interrupt of the node
+            exec.checkCanceled();
+            // otherwise its cause is the exception thrown by the reader
+            final Throwable cause = ex.getCause();
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof InterruptedException) {
+                throw (InterruptedException)cause;
+            } else if (cause instanceof ExecutionException) {
+                throw (ExecutionException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Reports an interrupt as cancellation and rethrows the exception of a failed task.
+     *
+     * @return the cancellation to throw for an interrupt
+     */
+    private static CanceledExecutionException propagate(final Exception ex) {
+        if (ex instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+            return new CanceledExecutionException("Interrupted while processing the rows");
+        }
+        final Throwable cause = ex.getCause();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException)cause;
+        } else if (cause instanceof Error) {
+            throw (Error)cause;
+        }
+        throw new IllegalStateException(cause.getMessage(), cause);
+    }
+
+    private <R> void read(final Iterator<DataRow> rows, final long rowCount, final ChunkMapper<R> mapper,
+        final ChunkMerger<R> merger, final LongFunction<String> progressMessage, final ExecutionMonitor exec)
+        throws CanceledExecutionException, InterruptedException, ExecutionException {
+        final Deque<Chunk<R>> pendingChunks = new ArrayDeque<>();
+        long index = 0;
+        try {
+            while (rows.hasNext()) {
+                exec.checkCanceled();
+                final DataRow[] chunkRows = new DataRow[m_chunkSize];
+                int size = 0;
+                while (size < m_chunkSize && rows.hasNext()) {
+                    chunkRows[size++] = rows.next();
+                }
+                if (pendingChunks.size() >= m_maxPendingChunks) {
+                    merge(pendingChunks.poll(), rowCount, merger, progressMessage, exec);
+                }
+                final Callable<R> task = mapper.createTask(chunkRows, size, index);
+                pendingChunks.add(new Chunk<>(chunkRows, size, index, task == null ? null : m_workers.submit(task)));
+                index += size;
+            }
+            while (!pendingChunks.isEmpty()) {
+                exec.checkCanceled();
+                merge(pendingChunks.poll(), rowCount, merger, progressMessage, exec);
+            }
+        } finally {
+            // only non-empty if something went wrong
+            for (final Chunk<R> chunk : pendingChunks) {
+                if (chunk.m_result != null) {
+                    chunk.m_result.cancel(true);
+                }
+            }
+        }
+    }
+
+    private static <R> void merge(final Chunk<R> chunk, final long rowCount, final ChunkMerger<R> merger,
+        final LongFunction<String> progressMessage, final ExecutionMonitor exec)
+        throws CanceledExecutionException, InterruptedException, ExecutionException {
+        final R result = chunk.m_result == null ? null : get(chunk.m_result, exec);
+        merger.merge(result, chunk.m_rows, chunk.m_size, chunk.m_firstIndex);
+        final long processed = chunk.m_firstIndex + chunk.m_size;
+        exec.setProgress(rowCount > 0 ? Math.min(1.0, (double)processed / rowCount) : 0,
+            () -> progressMessage.apply(processed));
+    }
+
+    /** Waits for the result of a task. */
+    private static <T> T get(final Future<T> future, final ExecutionMonitor exec)
+        throws CanceledExecutionException, InterruptedException, ExecutionException {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            // the task may have failed because the execution has been canceled
+            exec.checkCanceled();
+            if (ex.getCause() instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+
+        T read() throws CanceledExecutionException, InterruptedException, ExecutionException;
+    }
+
+    private static final class Chunk<R> {
+
+        private final DataRow[] m_rows;
+
+        private final int m_size;
+
+        private final long m_firstIndex;
+
+        /** <code>null</code> if there is nothing to compute. */
+        private final Future<R> m_result;
+
+        Chunk(final DataRow[] rows, final int size, final long firstIndex, final Future<R> result) {
+            m_rows = rows;
+            m_size = size;
+            m_firstIndex = firstIndex;
+            m_result = result;
+        }
+    }
+}
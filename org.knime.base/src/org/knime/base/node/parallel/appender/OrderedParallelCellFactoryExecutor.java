@@ -0,0 +1,277 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.parallel.appender;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import org.knime.base.node.parallel.ParallelChunkProcessor;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.AbstractCellFactory;
+import org.knime.core.data.container.CellFactory;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Computes the cells of one or more {@link CellFactory CellFactories} for all rows of a table in parallel. The input
+ * is read in small chunks that are processed by the threads of a {@link ThreadPool}, see
+ * {@link ParallelChunkProcessor}. The finished chunks are written in the order of the input into a single container
+ * per factory, so neither a container per chunk nor a final concatenation is necessary.
+ *
+ * <p>
+ * Any existing cell factory can be used, it must however be thread-safe as
+ * {@link CellFactory#getCells(DataRow)} is called concurrently. Nodes that create their output with a
+ * {@link ColumnRearranger} can opt in by passing the factory together with the {@link ColumnDestination
+ * ColumnDestinations} that correspond to the calls of {@link ColumnRearranger#append(CellFactory)},
+ * {@link ColumnRearranger#insertAt(int, CellFactory)} and {@link ColumnRearranger#replace(CellFactory, int...)} to
+ * {@link #execute(BufferedDataTable, CellFactory, ColumnDestination[], ExecutionContext)}.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ */
+public final class OrderedParallelCellFactoryExecutor {
+
+    /** The default number of rows that are processed as one unit of work. */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final ParallelChunkProcessor m_processor;
+
+    /**
+     * Creates an executor with {@link #DEFAULT_CHUNK_SIZE} and at most four chunks per thread in flight.
+     *
+     * @param workers the thread pool that processes the chunks
+     */
+    public OrderedParallelCellFactoryExecutor(final ThreadPool workers) {
+        this(workers, DEFAULT_CHUNK_SIZE, 4 * Math.max(1, workers.getMaxThreads()));
+    }
+
+    /**
+     * Creates an executor.
+     *
+     * @param workers the thread pool that processes the chunks
+     * @param chunkSize the number of rows that are processed as one unit of work
+     * @param maxPendingChunks the maximum number of chunks that are processed or waiting to be written
+     */
+    public OrderedParallelCellFactoryExecutor(final ThreadPool workers, final int chunkSize,
+        final int maxPendingChunks) {
+        m_processor = new ParallelChunkProcessor(workers, chunkSize, maxPendingChunks);
+    }
+
+    /**
+     * Computes the cells of the factory for all rows of the input table and places them into the input table as
+     * specified by the column destinations.
+     *
+     * @param data the input table
+     * @param cellFactory the thread-safe factory that computes the new cells
+     * @param destinations the destination of each column of the factory
+     * @param exec the execution context
+     * @return the input table with the new columns
+     * @throws CanceledExecutionException if the execution has been canceled
+     * @throws InterruptedException if the thread has been interrupted
+     * @throws ExecutionException if the factory failed
+     */
+    public BufferedDataTable execute(final BufferedDataTable data, final CellFactory cellFactory,
+        final ColumnDestination[] destinations, final ExecutionContext exec)
+        throws CanceledExecutionException, InterruptedException, ExecutionException {
+        if (destinations.length != cellFactory.getColumnSpecs().length) {
+            throw new IllegalArgumentException("The number of destinations (" + destinations.length
+                + ") does not match the number of new columns (" + cellFactory.getColumnSpecs().length + ")");
+        }
+        final BufferedDataTable newColumns =
+            createColumnTables(data, new CellFactory[]{cellFactory}, exec.createSubExecutionContext(0.9))[0];
+        return combine(data, newColumns, destinations, exec.createSubExecutionContext(0.1));
+    }
+
+    /**
+     * Computes the cells of the factories for all rows of the input table in a single pass over the input.
+     *
+     * @param data the input table
+     * @param cellFactories the thread-safe factories that compute the new cells
+     * @param exec the execution context
+     * @return for each factory a table that contains only the new columns and has the same row keys as the input
+     * @throws CanceledExecutionException if the execution has been canceled
+     * @throws InterruptedException if the thread has been interrupted
+     * @throws ExecutionException if a factory failed
+     */
+    public BufferedDataTable[] createColumnTables(final BufferedDataTable data, final CellFactory[] cellFactories,
+        final ExecutionContext exec) throws CanceledExecutionException, InterruptedException, ExecutionException {
+        final BufferedDataContainer[] containers = new BufferedDataContainer[cellFactories.length];
+        for (int i = 0; i < containers.length; i++) {
+            containers[i] = exec.createDataContainer(new DataTableSpec(cellFactories[i].getColumnSpecs()));
+        }
+        try (final CloseableRowIterator it = data.iterator()) {
+            m_processor.process(it, data.size(),
+                (rows, size, firstIndex) -> createChunkTask(rows, size, cellFactories, exec),
+                (chunk, rows, size, firstIndex) -> writeChunk(chunk, containers), n -> "Processed " + n + " rows",
+                exec);
+        }
+
+        final BufferedDataTable[] result = new BufferedDataTable[containers.length];
+        for (int i = 0; i < containers.length; i++) {
+            containers[i].close();
+            result[i] = containers[i].getTable();
+            if (cellFactories[i] instanceof AbstractCellFactory) {
+                ((AbstractCellFactory)cellFactories[i]).afterProcessing();
+            }
+        }
+        return result;
+    }
+
+    private static Callable<DataRow[][]> createChunkTask(final DataRow[] rows, final int size,
+        final CellFactory[] cellFactories, final ExecutionContext exec) {
+        return () -> {
+            final DataRow[][] result = new DataRow[cellFactories.length][size];
+            for (int i = 0; i < cellFactories.length; i++) {
+                final int numberOfColumns = cellFactories[i].getColumnSpecs().length;
+                for (int r = 0; r < size; r++) {
+                    exec.checkCanceled();
+                    final DataRow row = rows[r];
+                    final DataCell[] newCells = cellFactories[i].getCells(row);
+                    if (newCells.length != numberOfColumns) {
+                        throw new IllegalStateException("Invalid result. Execution failed, reason: the cell factory "
+                            + "created " + newCells.length + " cells instead of " + numberOfColumns + " for row "
+                            + row.getKey());
+                    }
+                    result[i][r] = new DefaultRow(row.getKey(), newCells);
+                }
+            }
+            return result;
+        };
+    }
+
+    private static void writeChunk(final DataRow[][] chunk, final BufferedDataContainer[] containers) {
+        for (int i = 0; i < containers.length; i++) {
+            for (final DataRow row : chunk[i]) {
+                containers[i].addRowToTable(row);
+            }
+        }
+    }
+
+    /**
+     * Places the new columns into the input table as specified by the column destinations.
+     *
+     * @param data the input table
+     * @param newColumns the new columns, with the same row keys as the input table
+     * @param destinations the destination of each new column
+     * @param exec the execution context
+     * @return the combined table
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    static BufferedDataTable combine(final BufferedDataTable data, final BufferedDataTable newColumns,
+        final ColumnDestination[] destinations, final ExecutionContext exec) throws CanceledExecutionException {
+        final int leftColCount = data.getDataTableSpec().getNumColumns();
+        ColumnRearranger crea = new ColumnRearranger(data.getDataTableSpec());
+        int[] newPositions = new int[leftColCount + destinations.length];
+        for (int m = 0; m < newPositions.length; m++) {
+            newPositions[m] = m;
+        }
+
+        // first part of handling replacements: remove the columns
+        // that should be replaced; necessary because of duplicate
+        // column names in the appended ones
+        for (int k = 0; k < destinations.length; k++) {
+            if (destinations[k] instanceof ReplaceColumn) {
+                int insertIndex = ((ReplaceColumn)destinations[k]).getIndex();
+                crea.remove(newPositions[insertIndex]);
+                for (int m = insertIndex; m < newPositions.length; m++) {
+                    newPositions[m]--;
+                }
+
+                newPositions[insertIndex] = Integer.MIN_VALUE;
+            }
+        }
+
+        BufferedDataTable result = exec.createColumnRearrangeTable(data, crea, exec.createSubExecutionContext(0));
+        result = exec.createJoinedTable(result, newColumns, exec.createSubExecutionContext(1));
+
+        // move replacement columns to their final destinations
+        crea = new ColumnRearranger(result.getDataTableSpec());
+        for (int k = 0; k < destinations.length; k++) {
+            if (destinations[k] instanceof ReplaceColumn) {
+                int oldPos = newPositions[k + leftColCount];
+                int insertIndex = ((ReplaceColumn)destinations[k]).getIndex();
+                if (oldPos != insertIndex) {
+                    crea.move(oldPos, insertIndex);
+
+                    for (int m = 0; m < newPositions.length; m++) {
+                        if ((newPositions[m] >= insertIndex) && (newPositions[m] < oldPos)) {
+                            newPositions[m]++;
+                        }
+                    }
+                    newPositions[k + leftColCount] = insertIndex;
+                }
+            }
+        }
+
+        // then handle explicit inserts
+        for (int k = 0; k < destinations.length; k++) {
+            if (destinations[k] instanceof InsertColumn) {
+                int oldPos = newPositions[k + leftColCount];
+                int insertIndex = ((InsertColumn)destinations[k]).getIndex();
+                crea.move(oldPos, insertIndex);
+                for (int m = 0; m < newPositions.length; m++) {
+                    if ((newPositions[m] >= insertIndex) && (newPositions[m] < oldPos)) {
+                        newPositions[m]++;
+                    }
+                }
+                newPositions[k + leftColCount] = insertIndex;
+            }
+        }
+        return exec.createColumnRearrangeTable(result, crea, exec.createSubExecutionContext(0));
+    }
+}
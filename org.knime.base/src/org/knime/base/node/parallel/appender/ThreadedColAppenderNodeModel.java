@@ -44,25 +44,16 @@
  */
 package org.knime.base.node.parallel.appender;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
-import java.util.concurrent.atomic.AtomicInteger;
-
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.RowIterator;
+import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.data.container.CellFactory;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.SingleCellFactory;
-import org.knime.core.data.def.DefaultRow;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
-import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeModel;
@@ -73,103 +64,6 @@
  * @author Thorsten Meinl, University of Konstanz
  */
 public abstract class ThreadedColAppenderNodeModel extends NodeModel {
-    private class Submitter implements Callable<Void> {
-        private final BufferedDataTable[] m_data;
-
-        private final ExtendedCellFactory[] m_cellFacs;
-
-        private final List<Future<BufferedDataContainer[]>> m_futures;
-
-        private final ExecutionContext m_exec;
-
-        private final DataTableSpec[] m_specs;
-
-        final AtomicInteger m_processedRows = new AtomicInteger();
-
-        Submitter(final BufferedDataTable[] data,
-                final ExtendedCellFactory[] cellFacs,
-                final List<Future<BufferedDataContainer[]>> futures,
-                final ExecutionContext exec) {
-            m_data = data;
-            m_cellFacs = cellFacs;
-            m_futures = futures;
-            m_exec = exec;
-
-            m_specs = new DataTableSpec[cellFacs.length];
-            for (int i = 0; i < m_specs.length; i++) {
-                m_specs[i] = new DataTableSpec(m_cellFacs[i].getColumnSpecs());
-            }
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Void call() throws Exception {
-            final double max = m_data[0].size();
-            final int chunkSize =
-                    (int)Math.ceil(max / (4.0 * m_workers.getMaxThreads()));
-            final RowIterator it = m_data[0].iterator();
-            BufferedDataContainer container = null;
-            int count = 0;
-            while (chunkSize > 0) {
-                m_exec.checkCanceled();
-
-                if ((count++ % chunkSize == 0) || !it.hasNext()) {
-                    if (container != null) {
-                        container.close();
-                        m_futures.add(m_workers.submit(createCallable(
-                                container.getTable(), chunkSize, max)));
-                    }
-                    if (!it.hasNext()) {
-                        break;
-                    }
-
-                    container =
-                            m_exec.createDataContainer(m_data[0]
-                                    .getDataTableSpec());
-                }
-                container.addRowToTable(it.next());
-            }
-            return null;
-        }
-
-        private Callable<BufferedDataContainer[]> createCallable(
-                final BufferedDataTable data, final int chunkSize,
-                final double max) {
-            return new Callable<BufferedDataContainer[]>() {
-                @Override
-                public BufferedDataContainer[] call() throws Exception {
-                    BufferedDataContainer[] result =
-                            new BufferedDataContainer[m_specs.length];
-                    for (int i = 0; i < result.length; i++) {
-                        result[i] = m_exec.createDataContainer(m_specs[i]);
-
-                        for (DataRow r : data) {
-                            m_exec.checkCanceled();
-                            DataCell[] newCells = m_cellFacs[i].getCells(r);
-                            DataRow newRow =
-                                    new DefaultRow(r.getKey(), newCells);
-                            result[i].addRowToTable(newRow);
-
-                            int pr = m_processedRows.incrementAndGet();
-                            if (pr % 10 == 0) {
-                                // 5% of the progress are reserved for combining
-                                // the partial results lateron
-                                m_exec.setProgress(0.9 * pr / max, "Processed "
-                                        + pr + " rows");
-                            }
-                        }
-                        result[i].close();
-                    }
-
-                    return result;
-                }
-            };
-        }
-
-    }
-
     /** The default maximum number of threads for each threaded node. */
     public static final int DEFAULT_MAX_THREAD_COUNT =
             Runtime.getRuntime().availableProcessors() + 1;
@@ -240,99 +134,31 @@ protected final BufferedDataTable[] execute(final BufferedDataTable[] data,
         System.arraycopy(data, 1, m_additionalTables, 0,
                 m_additionalTables.length);
 
-        final List<Future<BufferedDataContainer[]>> futures =
-                new ArrayList<Future<BufferedDataContainer[]>>();
-
-        Submitter submitter = new Submitter(data, cellFacs, futures, exec);
-
-        try {
-            m_workers.runInvisible(submitter);
-        } catch (IllegalThreadStateException ex) {
-            // this node has not been started by a thread from a thread pool.
-            // This is odd, but may happen
-            submitter.call();
-        } catch (ExecutionException ex) {
-            // the execution exception may be caused by an interrupt of the node
-            exec.checkCanceled();
-            throw ex;
+        final CellFactory[] factories = new CellFactory[cellFacs.length];
+        for (int i = 0; i < factories.length; i++) {
+            final ExtendedCellFactory cellFac = cellFacs[i];
+            factories[i] = new AbstractCellFactory(cellFac.getColumnSpecs()) {
+                @Override
+                public DataCell[] getCells(final DataRow row) {
+                    return cellFac.getCells(row);
+                }
+            };
         }
 
-        final BufferedDataTable[] combinedResults =
-                getCombinedResults(futures, exec);
+        // 10% of the progress are reserved for combining the new columns
+        // with the input tables lateron
+        final BufferedDataTable[] newColumns =
+                new OrderedParallelCellFactoryExecutor(m_workers)
+                        .createColumnTables(data[0], factories,
+                                exec.createSubExecutionContext(0.9));
         final BufferedDataTable[] resultTables =
                 new BufferedDataTable[getNrOutPorts()];
 
         for (int i = 0; i < getNrOutPorts(); i++) {
-            final int leftColCount = data[i].getDataTableSpec().getNumColumns();
-            ColumnDestination[] dests = cellFacs[i].getColumnDestinations();
-            ColumnRearranger crea =
-                    new ColumnRearranger(data[i].getDataTableSpec());
-            int[] newPositions = new int[leftColCount + dests.length];
-            for (int m = 0; m < newPositions.length; m++) {
-                newPositions[m] = m;
-            }
-
-            // first part of handling replacements: remove the columns
-            // that should be replaced; necessary because of duplicate
-            // column names in the appended ones
-            for (int k = 0; k < dests.length; k++) {
-                if (dests[k] instanceof ReplaceColumn) {
-                    int insertIndex = ((ReplaceColumn)dests[k]).getIndex();
-                    crea.remove(newPositions[insertIndex]);
-                    for (int m = insertIndex; m < newPositions.length; m++) {
-                        newPositions[m]--;
-                    }
-
-                    newPositions[insertIndex] = Integer.MIN_VALUE;
-                }
-            }
-
-            resultTables[i] =
-                    exec.createColumnRearrangeTable(data[i], crea, exec
-                            .createSubExecutionContext(0));
-
-            resultTables[i] =
-                    exec.createJoinedTable(resultTables[i], combinedResults[i],
-                            exec.createSubExecutionContext(0.1));
-
-            // move replacement columns to their final destinations
-            crea = new ColumnRearranger(resultTables[i].getDataTableSpec());
-            for (int k = 0; k < dests.length; k++) {
-                if (dests[k] instanceof ReplaceColumn) {
-                    int oldPos = newPositions[k + leftColCount];
-                    int insertIndex = ((ReplaceColumn)dests[k]).getIndex();
-                    if (oldPos != insertIndex) {
-                        crea.move(oldPos, insertIndex);
-
-                        for (int m = 0; m < newPositions.length; m++) {
-                            if ((newPositions[m] >= insertIndex)
-                                    && (newPositions[m] < oldPos)) {
-                                newPositions[m]++;
-                            }
-                        }
-                        newPositions[k + leftColCount] = insertIndex;
-                    }
-                }
-            }
-
-            // then handle explicit inserts
-            for (int k = 0; k < dests.length; k++) {
-                if (dests[k] instanceof InsertColumn) {
-                    int oldPos = newPositions[k + leftColCount];
-                    int insertIndex = ((InsertColumn)dests[k]).getIndex();
-                    crea.move(oldPos, insertIndex);
-                    for (int m = 0; m < newPositions.length; m++) {
-                        if ((newPositions[m] >= insertIndex)
-                                && (newPositions[m] < oldPos)) {
-                            newPositions[m]++;
-                        }
-                    }
-                    newPositions[k + leftColCount] = insertIndex;
-                }
-            }
             resultTables[i] =
-                    exec.createColumnRearrangeTable(resultTables[i], crea, exec
-                            .createSubExecutionContext(0));
+                    OrderedParallelCellFactoryExecutor.combine(data[i],
+                            newColumns[i], cellFacs[i].getColumnDestinations(),
+                            exec.createSubExecutionContext(0.1 / getNrOutPorts()));
         }
 
         m_additionalTables = null;
@@ -366,47 +192,6 @@ protected final BufferedDataTable[] getAdditionalTables() {
         return m_additionalTables;
     }
 
-    private BufferedDataTable[] getCombinedResults(
-            final List<Future<BufferedDataContainer[]>> futures,
-            final ExecutionContext exec) throws InterruptedException,
-            ExecutionException, CanceledExecutionException {
-        final BufferedDataTable[][] tempTables =
-                new BufferedDataTable[getNrOutPorts()][futures.size()];
-        int k = 0;
-        for (Future<BufferedDataContainer[]> results : futures) {
-            try {
-                exec.checkCanceled();
-            } catch (CanceledExecutionException ex) {
-                for (Future<BufferedDataContainer[]> cancel : futures) {
-                    cancel.cancel(true);
-                }
-                throw ex;
-            }
-
-            final BufferedDataContainer[] temp = results.get();
-
-            if ((temp == null) || (temp.length != getNrOutPorts())) {
-                throw new IllegalStateException("Invalid result. Execution "
-                        + " failed, reason: data is null or number "
-                        + "of outputs wrong.");
-            }
-
-            for (int i = 0; i < temp.length; i++) {
-                tempTables[i][k] = temp[i].getTable();
-            }
-            k++;
-        }
-
-        final BufferedDataTable[] combinedResults =
-                new BufferedDataTable[getNrOutPorts()];
-        for (int i = 0; i < combinedResults.length; i++) {
-            combinedResults[i] =
-                    exec.createConcatenateTable(exec, tempTables[i]);
-        }
-
-        return combinedResults;
-    }
-
     /**
      * Sets the maximum number of threads that may be used by this node.
      *
@@ -0,0 +1,170 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.bitvector.create;
+
+import java.util.Iterator;
+
+import org.knime.base.node.parallel.ParallelChunkProcessor;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Computes the mean values of numeric columns in a single pass. The rows are read in chunks that are summed up in
+ * parallel (see {@link ParallelChunkProcessor}), the sums of the chunks are merged in the order of the table so that
+ * the result does not depend on the number of threads. Missing values do not contribute to the sum but are counted as
+ * rows.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnMeanCalculator {
+
+    private final int[] m_colIndices;
+
+    private final ParallelChunkProcessor m_processor;
+
+    /**
+     * @param colIndices the indices of the numeric columns
+     */
+    ColumnMeanCalculator(final int[] colIndices) {
+        this(colIndices, new ParallelChunkProcessor());
+    }
+
+    ColumnMeanCalculator(final int[] colIndices, final ParallelChunkProcessor processor) {
+        m_colIndices = colIndices.clone();
+        m_processor = processor;
+    }
+
+    /**
+     * Computes the mean values of all rows of the table.
+     *
+     * @param table the table
+     * @param exec for progress and cancellation
+     * @return the mean values in the order of the column indices
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    double[] calculate(final BufferedDataTable table, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        try (CloseableRowIterator rows = table.iterator()) {
+            return calculate(rows, table.size(), exec);
+        }
+    }
+
+    /**
+     * Computes the mean values of all rows.
+     *
+     * @param rows the rows
+     * @param rowCount the number of rows
+     * @param exec for progress and cancellation
+     * @return the mean values in the order of the column indices
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    double[] calculate(final Iterator<DataRow> rows, final long rowCount, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final Sums total = new Sums(m_colIndices.length);
+        m_processor.processUnchecked(rows, rowCount, (chunkRows, size, firstIndex) -> () -> sum(chunkRows, size),
+            (sums, chunkRows, size, firstIndex) -> total.merge(sums),
+            read -> "Computing mean value. Processing row " + read + " of " + rowCount, exec);
+        return total.getMeans();
+    }
+
+    private Sums sum(final DataRow[] rows, final int size) {
+        final Sums sums = new Sums(m_colIndices.length);
+        for (int r = 0; r < size; r++) {
+            sums.add(rows[r]);
+        }
+        return sums;
+    }
+
+    /** The sums of the columns over a number of rows, can be merged with the sums of the following rows. */
+    private final class Sums {
+
+        private final double[] m_sums;
+
+        private long m_rowCount;
+
+        private Sums(final int nrColumns) {
+            m_sums = new double[nrColumns];
+        }
+
+        private void add(final DataRow row) {
+            for (int i = 0; i < m_colIndices.length; i++) {
+                final DataCell cell = row.getCell(m_colIndices[i]);
+                if (cell.isMissing()) {
+                    continue;
+                }
+                if (cell instanceof DoubleValue) {
+                    m_sums[i] += ((DoubleValue)cell).getDoubleValue();
+                } else {
+                    throw new RuntimeException("Found incompatible type in row " + row.getKey().getString());
+                }
+            }
+            m_rowCount++;
+        }
+
+        private void merge(final Sums other) {
+            for (int i = 0; i < m_sums.length; i++) {
+                m_sums[i] += other.m_sums[i];
+            }
+            m_rowCount += other.m_rowCount;
+        }
+
+        private double[] getMeans() {
+            final double[] means = new double[m_sums.length];
+            for (int i = 0; i < means.length; i++) {
+                means[i] = m_sums[i] / m_rowCount;
+            }
+            return means;
+        }
+    }
+}
@@ -95,6 +95,13 @@
 import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.ButtonGroupEnumInterface;
 import org.knime.core.node.util.filter.NameFilterConfiguration;
 import org.knime.core.node.util.filter.NameFilterConfiguration.FilterResult;
@@ -756,22 +763,96 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         final BufferedDataTable data = inData[0];
         final DataTableSpec spec = data.getDataTableSpec();
         final ColumnType columnType = ColumnType.getType(m_columnType.getStringValue());
+        final BitVectorCellFactory factory = createCellFactory(spec, data, exec);
+        final ColumnRearranger c = createColumnRearranger(spec, factory);
+        final ExecutionMonitor subExec;
+        if (ColumnType.MULTI_NUMERICAL.equals(columnType) || (ColumnType.MULTI_NUMERICAL.equals(columnType)
+                && StringType.ID.equals(StringType.getType(m_singleStringColumnType.getStringValue())))
+                || ColumnType.SINGLE_COLLECTION.equals(columnType)) {
+            subExec = exec.createSubProgress(0.5);
+        } else {
+            subExec = exec;
+        }
+        final BufferedDataTable out = exec.createColumnRearrangeTable(data, c, subExec);
+        updateStatistics(factory);
+        return new BufferedDataTable[]{out};
+    }
+
+    /**
+     * @return <code>true</code> if the cell factory needs a pass over the whole input table before the bit vectors
+     *         can be created, i.e. for the mean threshold, the id strings and the collections
+     */
+    private boolean requiresPreprocessing() {
+        final ColumnType columnType = ColumnType.getType(m_columnType.getStringValue());
+        if (ColumnType.MULTI_NUMERICAL.equals(columnType)) {
+            return m_useMean.getBooleanValue();
+        } else if (ColumnType.SINGLE_STRING.equals(columnType)) {
+            return StringType.ID.equals(StringType.getType(m_singleStringColumnType.getStringValue()));
+        }
+        return ColumnType.SINGLE_COLLECTION.equals(columnType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        if (requiresPreprocessing()) {
+            return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_NONSTREAMABLE};
+        }
+        return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_STREAMABLE};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{OutputPortRole.DISTRIBUTED};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (requiresPreprocessing()) {
+            // the cell factory is built from the whole table
+            return super.createStreamableOperator(partitionInfo, inSpecs);
+        }
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                final DataTableSpec spec = (DataTableSpec)inSpecs[0];
+                final BitVectorCellFactory factory = createCellFactory(spec, null, exec);
+                createColumnRearranger(spec, factory).createStreamableFunction(0, 0).runFinal(inputs, outputs, exec);
+                updateStatistics(factory);
+            }
+        };
+    }
+
+    private BitVectorCellFactory createCellFactory(final DataTableSpec spec, final BufferedDataTable data,
+        final ExecutionContext exec) throws CanceledExecutionException, InvalidSettingsException {
+        final ColumnType columnType = ColumnType.getType(m_columnType.getStringValue());
         final BitVectorType vectorType = BitVectorType.getType(m_vectorType.getStringValue());
-        final String[] parsedColumnNames;
-        final BitVectorCellFactory factory;
         if (columnType.isMultiColumn()) {
             final FilterResult multiColFilter = m_multiColumnsConfig.applyTo(spec);
-            parsedColumnNames = multiColFilter.getIncludes();
-            factory = createMultiColumnCellFactory(data, exec, columnType, vectorType, parsedColumnNames);
-        } else {
-            final int colIdx = spec.findColumnIndex(m_singleColumn.getStringValue());
-            factory = getSingleColFactory(exec, colIdx, spec, data, columnType, vectorType);
-            parsedColumnNames = new String[] {m_singleColumn.getStringValue()};
+            return createMultiColumnCellFactory(spec, data, exec, columnType, vectorType,
+                multiColFilter.getIncludes());
         }
+        final int colIdx = spec.findColumnIndex(m_singleColumn.getStringValue());
+        return getSingleColFactory(exec, colIdx, spec, data, columnType, vectorType);
+    }
+
+    private ColumnRearranger createColumnRearranger(final DataTableSpec spec, final BitVectorCellFactory factory) {
+        final ColumnType columnType = ColumnType.getType(m_columnType.getStringValue());
         final ColumnRearranger c = new ColumnRearranger(spec);
         if (m_remove.getBooleanValue()) {
             if (columnType.isMultiColumn()) {
-                c.remove(parsedColumnNames);
+                c.remove(m_multiColumnsConfig.applyTo(spec).getIncludes());
                 c.append(factory);
             } else {
                 c.replace(factory, m_singleColumn.getStringValue());
@@ -780,16 +861,11 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             c.append(factory);
         }
         factory.setFailOnError(m_failOnError.getBooleanValue());
-        final ExecutionMonitor subExec;
-        if (ColumnType.MULTI_NUMERICAL.equals(columnType) || (ColumnType.MULTI_NUMERICAL.equals(columnType)
-                && StringType.ID.equals(StringType.getType(m_singleStringColumnType.getStringValue())))
-                || ColumnType.SINGLE_COLLECTION.equals(columnType)) {
-            subExec = exec.createSubProgress(0.5);
-        } else {
-            subExec = exec;
-        }
-        final BufferedDataTable out = exec.createColumnRearrangeTable(data, c, subExec);
-        if (!factory.wasSuccessful() && data.size() > 0) {
+        return c;
+    }
+
+    private void updateStatistics(final BitVectorCellFactory factory) {
+        if (!factory.wasSuccessful() && factory.getNrOfProcessedRows() > 0) {
             final String errorMessage = factory.getNoOfPrintedErrors() + " errors found. Last message: "
                     + factory.getLastErrorMessage() + ". See log file for details on all errors.";
             setWarningMessage(errorMessage);
@@ -797,7 +873,6 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         m_nrOfProcessedRows = factory.getNrOfProcessedRows();
         m_totalNrOf0s = factory.getNumberOfNotSetBits();
         m_totalNrOf1s = factory.getNumberOfSetBits();
-        return new BufferedDataTable[]{out};
     }
 
     /**
@@ -810,17 +885,16 @@ protected void reset() {
         m_nrOfProcessedRows = 0;
     }
 
-    private BitVectorCellFactory createMultiColumnCellFactory(final BufferedDataTable data,
+    private BitVectorCellFactory createMultiColumnCellFactory(final DataTableSpec spec, final BufferedDataTable data,
             final ExecutionContext exec, final ColumnType columnType, final BitVectorType vectorType,
             final String[] multiCols)
                     throws CanceledExecutionException, InvalidSettingsException {
-        final DataColumnSpec colSpec =
-                createMultiColumnOutputSpec(data.getDataTableSpec(), multiCols, vectorType);
+        final DataColumnSpec colSpec = createMultiColumnOutputSpec(spec, multiCols, vectorType);
         // get the indices for included columns
         final int[]colIndices = new int[multiCols.length];
         int idx = 0;
         for (String colName : multiCols) {
-            int index = data.getDataTableSpec().findColumnIndex(colName);
+            int index = spec.findColumnIndex(colName);
             if (index < 0) {
                 throw new IllegalArgumentException(
                         "Column " + colName + " is not available in input table. Please re-configure the node.");
@@ -833,7 +907,8 @@ private BitVectorCellFactory createMultiColumnCellFactory(final BufferedDataTabl
             if (m_useMean.getBooleanValue()) {
                 // either from a percentage of the mean
                 final double meanFactor = m_meanPercentage.getIntValue() / 100.0;
-                final double[] meanValues = calculateMeanValues(exec.createSubProgress(0.5), data, colIndices);
+                final double[] meanValues =
+                    new ColumnMeanCalculator(colIndices).calculate(data, exec.createSubProgress(0.5));
                 factory = new Numeric2BitVectorMeanCellFactory(vectorType, colSpec, meanFactor, meanValues, colIndices);
             } else {
                 // or dependent on fixed threshold
@@ -852,35 +927,6 @@ private BitVectorCellFactory createMultiColumnCellFactory(final BufferedDataTabl
         return factory;
     }
 
-    private double[] calculateMeanValues(final ExecutionMonitor exec, final BufferedDataTable input,
-        final int[] colIndices)
-            throws CanceledExecutionException {
-        double[] meanValues = new double[input.getDataTableSpec().getNumColumns()];
-        long nrOfRows = 0;
-        final long rowCount = input.size();
-        for (DataRow row : input) {
-            exec.setProgress(nrOfRows / (double) rowCount, "Computing mean value. Processing row "
-                    + nrOfRows + " of " + rowCount);
-            exec.checkCanceled();
-            for (int i = 0; i < colIndices.length; i++) {
-                DataCell cell = row.getCell(colIndices[i]);
-                if (cell.isMissing()) {
-                    continue;
-                }
-                if (cell instanceof DoubleValue) {
-                    meanValues[i] += ((DoubleValue)cell).getDoubleValue();
-                } else {
-                    throw new RuntimeException("Found incompatible type in row " + row.getKey().getString());
-                }
-            }
-            nrOfRows++;
-        }
-        for (int i = 0; i < meanValues.length; i++) {
-            meanValues[i] = meanValues[i] / nrOfRows;
-        }
-        return meanValues;
-    }
-
     private int scanMaxPos(final BufferedDataTable data, final ExecutionMonitor exec)
             throws CanceledExecutionException {
         int maxPos = Integer.MIN_VALUE;
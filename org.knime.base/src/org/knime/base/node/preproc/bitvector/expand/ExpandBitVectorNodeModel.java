@@ -47,6 +47,8 @@
 package org.knime.base.node.preproc.bitvector.expand;
 
 
+import java.util.Arrays;
+
 import org.knime.base.node.util.ExpandVectorNodeModel;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -99,9 +101,11 @@ public DataCell[] getCells(final DataRow row) {
                 DataCell cell = row.getCell(inputIndex);
                 if (cell instanceof BitVectorValue) {
                     BitVectorValue bvv = (BitVectorValue)cell;
-                    int length = Math.min(vs.length, (int)bvv.length());
-                    for (int i = length; i-- > 0;) {
-                        vs[i] = VALUES[bvv.get(i) ? 1 : 0];
+                    int length = (int)Math.min(vs.length, bvv.length());
+                    Arrays.fill(vs, 0, length, VALUES[0]);
+                    // only visit the set bits, the vector skips over cleared words
+                    for (long i = bvv.nextSetBit(0); i >= 0 && i < length; i = bvv.nextSetBit(i + 1)) {
+                        vs[(int)i] = VALUES[1];
                     }
                     for (int i = vs.length; i-- > length;) {
                         vs[i] = DataType.getMissingCell();
@@ -0,0 +1,149 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.filter.row2;
+
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+import org.knime.base.node.parallel.ParallelChunkProcessor;
+import org.knime.base.node.preproc.filter.row2.operator.RowPredicate;
+import org.knime.core.data.DataRow;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+import com.google.common.collect.Range;
+
+/**
+ * Evaluates a {@link RowPredicate} on disjoint chunks of consecutive rows in parallel, see
+ * {@link ParallelChunkProcessor}. The matching (and missing) rows are passed on in the order of the input. Chunks that
+ * lie completely outside of {@link RowPredicate#getRowIndexRange()} are not evaluated at all.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ParallelRowFilter {
+
+    private final ParallelChunkProcessor m_processor;
+
+    /**
+     * Creates a filter that uses as many threads as there are processors.
+     */
+    ParallelRowFilter() {
+        this(new ParallelChunkProcessor());
+    }
+
+    /**
+     * @param processor evaluates the chunks
+     */
+    ParallelRowFilter(final ParallelChunkProcessor processor) {
+        m_processor = processor;
+    }
+
+    /**
+     * @param rowCount the number of rows in the input
+     * @return whether evaluating the rows in parallel pays off
+     */
+    static boolean isParallelizable(final long rowCount) {
+        return rowCount > 2 * ParallelChunkProcessor.DEFAULT_CHUNK_SIZE
+            && Runtime.getRuntime().availableProcessors() > 1;
+    }
+
+    /**
+     * Evaluates the predicate on all rows.
+     *
+     * @param rows the rows to filter
+     * @param firstIndex the index of the first row
+     * @param rowCount the number of rows, used for the progress only
+     * @param rowPredicate the thread-safe predicate
+     * @param matches receives the matching rows in the order of the input
+     * @param misses receives the rows that do not match in the order of the input, may be <code>null</code>
+     * @param exec for progress and cancellation
+     * @throws CanceledExecutionException if the execution has been canceled
+     * @throws InterruptedException if the thread has been interrupted
+     * @throws ExecutionException if the evaluation of the predicate failed
+     */
+    void filter(final Iterator<DataRow> rows, final long firstIndex, final long rowCount,
+        final RowPredicate rowPredicate, final Consumer<DataRow> matches, final Consumer<DataRow> misses,
+        final ExecutionMonitor exec) throws CanceledExecutionException, InterruptedException, ExecutionException {
+        final Range<Long> indexRange = rowPredicate.getRowIndexRange();
+        m_processor.process(rows, rowCount,
+            (chunkRows, size, index) -> createTask(chunkRows, size, firstIndex + index, rowPredicate, indexRange),
+            (result, chunkRows, size, index) -> passOn(result, chunkRows, size, matches, misses),
+            processed -> "Processed " + processed + " rows", exec);
+    }
+
+    private static Callable<boolean[]> createTask(final DataRow[] rows, final int size, final long firstIndex,
+        final RowPredicate rowPredicate, final Range<Long> indexRange) {
+        final Range<Long> chunkRange = Range.closed(firstIndex, firstIndex + size - 1);
+        if (!indexRange.isConnected(chunkRange) || indexRange.intersection(chunkRange).isEmpty()) {
+            // no row of the chunk can match
+            return null;
+        }
+        return () -> {
+            final boolean[] matches = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                matches[i] = rowPredicate.test(rows[i], firstIndex + i);
+            }
+            return matches;
+        };
+    }
+
+    /** Passes on the rows of a chunk, the result is <code>null</code> if no row matches. */
+    private static void passOn(final boolean[] result, final DataRow[] rows, final int size,
+        final Consumer<DataRow> matches, final Consumer<DataRow> misses) {
+        for (int i = 0; i < size; i++) {
+            if (result != null && result[i]) {
+                matches.accept(rows[i]);
+            } else if (misses != null) {
+                misses.accept(rows[i]);
+            }
+        }
+    }
+}
@@ -124,11 +124,16 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         final RowPredicate rowPredicate = createRowPredicate(in.getDataTableSpec());
         // test rows with row predicate and add only matching rows to the container
         try (CloseableRowIterator rowIterator = in.filter(createTableFilter(rowPredicate), exec).iterator()) {
-            for (long i = getStartIdx(rowPredicate); rowIterator.hasNext(); i++) {
-                exec.checkCanceled();
-                final DataRow row = rowIterator.next();
-                if (rowPredicate.test(row, i)) {
-                    container.addRowToTable(row);
+            if (ParallelRowFilter.isParallelizable(in.size())) {
+                new ParallelRowFilter().filter(rowIterator, getStartIdx(rowPredicate), in.size(), rowPredicate,
+                    container::addRowToTable, null, exec);
+            } else {
+                for (long i = getStartIdx(rowPredicate); rowIterator.hasNext(); i++) {
+                    exec.checkCanceled();
+                    final DataRow row = rowIterator.next();
+                    if (rowPredicate.test(row, i)) {
+                        container.addRowToTable(row);
+                    }
                 }
             }
         }
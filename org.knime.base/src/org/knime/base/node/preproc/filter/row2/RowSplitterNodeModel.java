@@ -51,6 +51,7 @@
 import org.knime.base.node.preproc.filter.row2.operator.RowPredicate;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -104,8 +105,19 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws Invali
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
         throws Exception {
         final BufferedDataTable inTable = inData[0];
-        final DataTableRowInput rowInput = new DataTableRowInput(inTable);
         final DataTableSpec inSpec = inTable.getDataTableSpec();
+        if (ParallelRowFilter.isParallelizable(inTable.size())) {
+            final BufferedDataContainer match = exec.createDataContainer(inSpec);
+            final BufferedDataContainer miss = exec.createDataContainer(inSpec);
+            try (CloseableRowIterator rowIterator = inTable.iterator()) {
+                new ParallelRowFilter().filter(rowIterator, 0, inTable.size(), createRowPredicate(inSpec),
+                    match::addRowToTable, miss::addRowToTable, exec);
+            }
+            match.close();
+            miss.close();
+            return new BufferedDataTable[]{match.getTable(), miss.getTable()};
+        }
+        final DataTableRowInput rowInput = new DataTableRowInput(inTable);
         final BufferedDataContainer match = exec.createDataContainer(inSpec);
         final BufferedDataTableRowOutput matchOutput = new BufferedDataTableRowOutput(match);
         final BufferedDataContainer miss = exec.createDataContainer(inSpec);
@@ -0,0 +1,130 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.filter.row2.operator;
+
+import java.util.function.Predicate;
+
+import org.knime.core.data.DataCell;
+
+/**
+ * {@link Predicate} on {@link DataCell DataCells} that provides estimates for the cost of its evaluation and the
+ * fraction of cells it accepts. The estimates are used to order the conditions of a group such that its evaluation
+ * is short-circuited as early as possible.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+interface CellPredicate extends Predicate<DataCell> {
+
+    /** Estimated cost of a cheap check, e.g. whether a cell is missing. */
+    double CHEAP = 1;
+
+    /** Estimated cost of a comparison of primitive values. */
+    double PRIMITIVE_COMPARISON = 2;
+
+    /** Estimated cost of a comparison of objects, e.g. strings. */
+    double OBJECT_COMPARISON = 4;
+
+    /** Estimated cost of matching a regular expression. */
+    double REGULAR_EXPRESSION = 20;
+
+    /**
+     * @return the estimated cost of a single evaluation, relative to {@link #CHEAP}
+     */
+    double getEstimatedCost();
+
+    /**
+     * @return the estimated fraction of cells that are accepted, between 0 and 1
+     */
+    double getEstimatedSelectivity();
+
+    /**
+     * Attaches estimates to an arbitrary predicate.
+     *
+     * @param predicate the predicate
+     * @param estimatedCost the estimated cost of a single evaluation
+     * @param estimatedSelectivity the estimated fraction of accepted cells
+     * @return the predicate with estimates
+     */
+    static CellPredicate of(final Predicate<DataCell> predicate, final double estimatedCost,
+        final double estimatedSelectivity) {
+        return new CellPredicate() {
+
+            @Override
+            public boolean test(final DataCell cell) {
+                return predicate.test(cell);
+            }
+
+            @Override
+            public double getEstimatedCost() {
+                return estimatedCost;
+            }
+
+            @Override
+            public double getEstimatedSelectivity() {
+                return estimatedSelectivity;
+            }
+        };
+    }
+
+    /**
+     * @param predicate any predicate
+     * @return the estimated cost of the predicate, {@link #OBJECT_COMPARISON} if it doesn't provide an estimate
+     */
+    static double estimatedCost(final Predicate<DataCell> predicate) {
+        return predicate instanceof CellPredicate ? ((CellPredicate)predicate).getEstimatedCost() : OBJECT_COMPARISON;
+    }
+
+    /**
+     * @param predicate any predicate
+     * @return the estimated selectivity of the predicate, 0.5 if it doesn't provide an estimate
+     */
+    static double estimatedSelectivity(final Predicate<DataCell> predicate) {
+        return predicate instanceof CellPredicate ? ((CellPredicate)predicate).getEstimatedSelectivity() : 0.5;
+    }
+}
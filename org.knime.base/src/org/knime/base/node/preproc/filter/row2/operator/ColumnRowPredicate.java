@@ -92,4 +92,14 @@ public Range<Long> getRowIndexRange() {
         return Range.all();
     }
 
+    @Override
+    public double getEstimatedCost() {
+        return CellPredicate.estimatedCost(m_cellPredicate);
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return CellPredicate.estimatedSelectivity(m_cellPredicate);
+    }
+
 }
@@ -48,12 +48,16 @@
  */
 package org.knime.base.node.preproc.filter.row2.operator;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
+import java.util.function.ToDoubleFunction;
 
 import org.knime.core.data.DataRow;
 import org.knime.core.node.util.CheckUtils;
@@ -68,18 +72,32 @@
  */
 final class GroupRowPredicate implements RowPredicate {
 
+    /** Keeps the estimates away from 0 and 1 so that the ranks stay finite. */
+    private static final double MIN_SELECTIVITY = 0.01;
+
     private final Set<Integer> m_requiredColumns;
 
     private final BiPredicate<DataRow, Long> m_combinedPredicate;
 
     private final Range<Long> m_indexRange;
 
+    private final double m_estimatedCost;
+
+    private final double m_estimatedSelectivity;
+
     /**
      * @param predicateIterator is an iterator of row predicates, created by multiple conditions given by the user.
      * @param combiner combines the row predicates from multiple conditions.
      */
     GroupRowPredicate(final Iterator<RowPredicate> predicateIterator,
         final BinaryOperator<BiPredicate<DataRow, Long>> combiner, final BinaryOperator<Range<Long>> rangeCombiner) {
+        // without knowing the combiner, the estimates are the defaults of RowPredicate
+        this(predicateIterator, combiner, rangeCombiner, 1, 0.5);
+    }
+
+    private GroupRowPredicate(final Iterator<RowPredicate> predicateIterator,
+        final BinaryOperator<BiPredicate<DataRow, Long>> combiner, final BinaryOperator<Range<Long>> rangeCombiner,
+        final double estimatedCost, final double estimatedSelectivity) {
         m_requiredColumns = new HashSet<>();
         CheckUtils.checkArgument(predicateIterator.hasNext(), "Empty iterators are not allowed.");
         RowPredicate predicate = predicateIterator.next();
@@ -94,6 +112,61 @@ final class GroupRowPredicate implements RowPredicate {
         }
         m_indexRange = indexRange;
         m_combinedPredicate = combined;
+        m_estimatedCost = estimatedCost;
+        m_estimatedSelectivity = estimatedSelectivity;
+    }
+
+    /**
+     * Combines the predicates with a logical AND. The predicates are evaluated in ascending order of cost per rejected
+     * row, i.e. cheap predicates that reject many rows come first.
+     *
+     * @param predicateIterator the predicates to combine
+     * @return the conjunction of the predicates
+     */
+    static GroupRowPredicate and(final Iterator<RowPredicate> predicateIterator) {
+        final List<RowPredicate> predicates = sort(predicateIterator, p -> p.getEstimatedCost() / (1 - clamp(p)));
+        // each predicate is only evaluated for the rows the previous ones accepted
+        double cost = 0;
+        double accepted = 1;
+        for (final RowPredicate predicate : predicates) {
+            cost += accepted * predicate.getEstimatedCost();
+            accepted *= clamp(predicate);
+        }
+        return new GroupRowPredicate(predicates.iterator(), (p, q) -> p.and(q), (p, q) -> p.intersection(q), cost,
+            accepted);
+    }
+
+    /**
+     * Combines the predicates with a logical OR. The predicates are evaluated in ascending order of cost per accepted
+     * row, i.e. cheap predicates that accept many rows come first.
+     *
+     * @param predicateIterator the predicates to combine
+     * @return the disjunction of the predicates
+     */
+    static GroupRowPredicate or(final Iterator<RowPredicate> predicateIterator) {
+        final List<RowPredicate> predicates = sort(predicateIterator, p -> p.getEstimatedCost() / clamp(p));
+        // each predicate is only evaluated for the rows the previous ones rejected
+        double cost = 0;
+        double rejected = 1;
+        for (final RowPredicate predicate : predicates) {
+            cost += rejected * predicate.getEstimatedCost();
+            rejected *= 1 - clamp(predicate);
+        }
+        return new GroupRowPredicate(predicates.iterator(), (p, q) -> p.or(q), (p, q) -> p.span(q), cost,
+            1 - rejected);
+    }
+
+    private static List<RowPredicate> sort(final Iterator<RowPredicate> predicateIterator,
+        final ToDoubleFunction<RowPredicate> rank) {
+        final List<RowPredicate> predicates = new ArrayList<>();
+        predicateIterator.forEachRemaining(predicates::add);
+        // the sort is stable, predicates without estimates keep their order
+        predicates.sort(Comparator.comparingDouble(rank));
+        return predicates;
+    }
+
+    private static double clamp(final RowPredicate predicate) {
+        return Math.min(1 - MIN_SELECTIVITY, Math.max(MIN_SELECTIVITY, predicate.getEstimatedSelectivity()));
     }
 
     @Override
@@ -111,4 +184,14 @@ public Range<Long> getRowIndexRange() {
         return m_indexRange;
     }
 
+    @Override
+    public double getEstimatedCost() {
+        return m_estimatedCost;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return m_estimatedSelectivity;
+    }
+
 }
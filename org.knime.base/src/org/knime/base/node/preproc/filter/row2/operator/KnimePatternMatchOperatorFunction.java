@@ -50,12 +50,14 @@
 
 import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.knime.base.data.filter.row.dialog.OperatorParameters;
 import org.knime.base.data.filter.row.dialog.panel.PatternMatchPanel;
 import org.knime.base.util.WildcardMatcher;
 import org.knime.core.data.DataCell;
+import org.knime.core.data.def.StringCell;
 import org.knime.core.node.util.CheckUtils;
 
 /**
@@ -83,7 +85,9 @@ private static Predicate<DataCell> createCellPredicate(final OperatorParameters
         }
         CheckUtils.checkArgument(!(isWildcard && isRegularExpression),
             "Wildcard and Regular Expression cannot be true at the same time.");
-        if (isWildcard || isRegularExpression) {
+        if (isWildcard && isCaseSensitive && expression.indexOf('?') < 0) {
+            return createWildcardPredicate(expression);
+        } else if (isWildcard || isRegularExpression) {
             final String matcherExpression = isWildcard ? WildcardMatcher.wildcardToRegex(expression) : expression;
             return createMatcherPredicate(matcherExpression, isCaseSensitive);
         } else {
@@ -95,7 +99,10 @@ private static Predicate<DataCell> createMatcherPredicate(final String matcherEx
         final boolean isCaseSensitive) {
         final int flags = getFlags(isCaseSensitive);
         final Pattern regExpression = Pattern.compile(matcherExpression, flags);
-        return c -> regExpression.matcher(c.toString()).matches();
+        // the predicate is evaluated concurrently, hence each thread resets its own matcher
+        final ThreadLocal<Matcher> matcher = ThreadLocal.withInitial(() -> regExpression.matcher(""));
+        return CellPredicate.of(c -> matcher.get().reset(getString(c)).matches(), CellPredicate.REGULAR_EXPRESSION,
+            0.2);
     }
 
     private static int getFlags(final boolean isCaseSensitive) {
@@ -108,10 +115,55 @@ private static int getFlags(final boolean isCaseSensitive) {
 
     private static Predicate<DataCell> createEqualityPredicate(final String expression, final boolean caseSensitive) {
         if (caseSensitive) {
-            return c -> expression.equals(c.toString());
+            return CellPredicate.of(c -> expression.equals(getString(c)), CellPredicate.OBJECT_COMPARISON, 0.1);
         } else {
-            return c -> expression.equalsIgnoreCase(c.toString());
+            return CellPredicate.of(c -> expression.equalsIgnoreCase(getString(c)), CellPredicate.OBJECT_COMPARISON,
+                0.1);
         }
     }
 
+    /**
+     * Matches case sensitive wildcard expressions that only contain '*' without a regular expression. The result is
+     * the same as for {@link WildcardMatcher#wildcardToRegex(String)} since all other characters are literals.
+     */
+    private static Predicate<DataCell> createWildcardPredicate(final String expression) {
+        final Predicate<String> matcher = createWildcardMatcher(expression);
+        return CellPredicate.of(c -> matcher.test(getString(c)), CellPredicate.OBJECT_COMPARISON, 0.2);
+    }
+
+    /**
+     * @param expression a wildcard expression that contains '*' as the only meta character
+     * @return a predicate that tests whether a string matches the complete expression
+     */
+    static Predicate<String> createWildcardMatcher(final String expression) {
+        final String[] segments = expression.split("\\*", -1);
+        if (segments.length == 1) {
+            return expression::equals;
+        }
+        final String prefix = segments[0];
+        final String suffix = segments[segments.length - 1];
+        final int minLength = expression.length() - (segments.length - 1);
+        return s -> {
+            if (s.length() < minLength || !s.startsWith(prefix) || !s.endsWith(suffix)) {
+                return false;
+            }
+            // the leftmost occurrence of each inner segment leaves the most room for the following ones
+            int from = prefix.length();
+            final int to = s.length() - suffix.length();
+            for (int i = 1; i < segments.length - 1; i++) {
+                final int idx = s.indexOf(segments[i], from);
+                if (idx < 0) {
+                    return false;
+                }
+                from = idx + segments[i].length();
+            }
+            return from <= to;
+        };
+    }
+
+    /** Avoids the indirection of {@link DataCell#toString()} for the common case of string cells. */
+    private static String getString(final DataCell cell) {
+        return cell instanceof StringCell ? ((StringCell)cell).getStringValue() : cell.toString();
+    }
+
 }
@@ -76,9 +76,11 @@ public final class KnimeRowFilterOperatorRegistry extends AbstractOperatorRegist
 
     private static final String DOUBLE_TYPE_ERROR_TEMPLATE = "The provided parameter %s is not a DoubleValue.";
 
-    private static final Predicate<DataCell> IS_MISSING = DataCell::isMissing;
+    private static final Predicate<DataCell> IS_MISSING =
+        CellPredicate.of(DataCell::isMissing, CellPredicate.CHEAP, 0.05);
 
-    private static final Predicate<DataCell> IS_NOT_MISSING = c -> !c.isMissing();
+    private static final Predicate<DataCell> IS_NOT_MISSING =
+        CellPredicate.of(c -> !c.isMissing(), CellPredicate.CHEAP, 0.95);
 
     private static final KnimeRowFilterOperatorRegistry INSTANCE = new KnimeRowFilterOperatorRegistry();
 
@@ -110,8 +112,8 @@ private void registerOperatorsForBooleanColumns() {
             s -> Boolean.parseBoolean(s) ? BooleanCell.TRUE : BooleanCell.FALSE;
 
         //EQUAL
-        KnimeOperatorFunction booleanEquals =
-            new KnimeOneParameterOperatorFunction(stringToBooleanCell, p -> p::equals);
+        KnimeOperatorFunction booleanEquals = new KnimeOneParameterOperatorFunction(stringToBooleanCell,
+            KnimeRowFilterOperatorRegistry::createEqualsPredicate);
         addBooleanOperator(KnimeOperator.EQUAL.getOperator(), OperatorValue.builder(booleanEquals)
             .withValidation(oneOperandValidation).withPanel(SingleFieldPanel::new).build());
 
@@ -127,7 +129,8 @@ private void registerOperatorsForStringColumns() {
         Function<String, DataCell> stringToStringCell = StringCell::new;
 
         // EQUAL
-        KnimeOperatorFunction stringEquals = new KnimeOneParameterOperatorFunction(stringToStringCell, p -> p::equals);
+        KnimeOperatorFunction stringEquals = new KnimeOneParameterOperatorFunction(stringToStringCell,
+            KnimeRowFilterOperatorRegistry::createEqualsPredicate);
         addStringOperator(KnimeOperator.EQUAL.getOperator(), OperatorValue.builder(stringEquals)
             .withValidation(oneOperandValidation).withPanel(SingleFieldPanel::new).build());
 
@@ -197,14 +200,15 @@ private void registerOperatorsForNumericalColumns() {
      */
     private static Predicate<DataCell> createEqualPredicateNumeric(final DataCell parameter) {
         CheckUtils.checkArgument(parameter instanceof DoubleValue, DOUBLE_TYPE_ERROR_TEMPLATE, parameter);
-        final DoubleValue reference = (DoubleValue)parameter;
-        final Predicate<DataCell> notMissingPredicate = IS_NOT_MISSING;
-        return c -> notMissingPredicate.test(c) && c instanceof DoubleValue && equalsNumeric((DoubleValue)c, reference);
+        return NumericCellPredicate.equal(((DoubleValue)parameter).getDoubleValue());
     }
 
-    /** @return true if the data cell is equal to the operand chosen by the user. */
-    private static boolean equalsNumeric(final DoubleValue value, final DoubleValue reference) {
-        return value.getDoubleValue() == reference.getDoubleValue();
+    /**
+     * @return true if the data cell is equal to the operand chosen by the user. Used in the case of boolean cell or
+     *         string cell.
+     */
+    private static Predicate<DataCell> createEqualsPredicate(final DataCell parameter) {
+        return CellPredicate.of(parameter::equals, CellPredicate.OBJECT_COMPARISON, 0.1);
     }
 
     /**
@@ -212,7 +216,7 @@ private static boolean equalsNumeric(final DoubleValue value, final DoubleValue
      *         string cell.
      */
     private static Predicate<DataCell> createNotEqualsPredicate(final DataCell parameter) {
-        return c -> !parameter.equals(c);
+        return CellPredicate.of(c -> !parameter.equals(c), CellPredicate.OBJECT_COMPARISON, 0.9);
     }
 
     /**
@@ -221,14 +225,7 @@ private static Predicate<DataCell> createNotEqualsPredicate(final DataCell param
      **/
     private static Predicate<DataCell> createNotEqualsPredicateNumeric(final DataCell parameter) {
         CheckUtils.checkArgument(parameter instanceof DoubleValue, DOUBLE_TYPE_ERROR_TEMPLATE, parameter);
-        final DoubleValue reference = (DoubleValue)parameter;
-        final Predicate<DataCell> missingPredicate = IS_MISSING;
-        return c -> missingPredicate.test(c) || c instanceof DoubleValue && notEqualsNumeric((DoubleValue)c, reference);
-    }
-
-    /** @return true if the data cell is not equal to the operand chosen by the user. */
-    private static boolean notEqualsNumeric(final DoubleValue value, final DoubleValue reference) {
-        return value.getDoubleValue() != reference.getDoubleValue();
+        return NumericCellPredicate.notEqual(((DoubleValue)parameter).getDoubleValue());
     }
 
     /**
@@ -237,14 +234,7 @@ private static boolean notEqualsNumeric(final DoubleValue value, final DoubleVal
      */
     private static Predicate<DataCell> createGreaterPredicate(final DataCell parameter) {
         CheckUtils.checkArgument(parameter instanceof DoubleValue, DOUBLE_TYPE_ERROR_TEMPLATE, parameter);
-        final DoubleValue reference = (DoubleValue)parameter;
-        final Predicate<DataCell> notMissingPredicate = IS_NOT_MISSING;
-        return c -> notMissingPredicate.test(c) && c instanceof DoubleValue && greater((DoubleValue)c, reference);
-    }
-
-    /** @return true if the data cell is greater compared to the operand chosen by the user. */
-    private static boolean greater(final DoubleValue value, final DoubleValue reference) {
-        return value.getDoubleValue() > reference.getDoubleValue();
+        return NumericCellPredicate.greater(((DoubleValue)parameter).getDoubleValue());
     }
 
     /**
@@ -253,15 +243,7 @@ private static boolean greater(final DoubleValue value, final DoubleValue refere
      */
     private static Predicate<DataCell> createGreaterOrEqualPredicate(final DataCell parameter) {
         CheckUtils.checkArgument(parameter instanceof DoubleValue, DOUBLE_TYPE_ERROR_TEMPLATE, parameter);
-        final DoubleValue reference = (DoubleValue)parameter;
-        final Predicate<DataCell> notMissingPredicate = IS_NOT_MISSING;
-        return c -> notMissingPredicate.test(c) && c instanceof DoubleValue
-            && greaterOrEqual((DoubleValue)c, reference);
-    }
-
-    /** @return true if the data cell is greater or equal compared to the operand chosen by the user. */
-    private static boolean greaterOrEqual(final DoubleValue value, final DoubleValue reference) {
-        return value.getDoubleValue() >= reference.getDoubleValue();
+        return NumericCellPredicate.greaterOrEqual(((DoubleValue)parameter).getDoubleValue());
     }
 
     /**
@@ -270,14 +252,7 @@ private static boolean greaterOrEqual(final DoubleValue value, final DoubleValue
      */
     private static Predicate<DataCell> createLessPredicate(final DataCell parameter) {
         CheckUtils.checkArgument(parameter instanceof DoubleValue, DOUBLE_TYPE_ERROR_TEMPLATE, parameter);
-        final DoubleValue reference = (DoubleValue)parameter;
-        final Predicate<DataCell> notMissingPredicate = IS_NOT_MISSING;
-        return c -> notMissingPredicate.test(c) && c instanceof DoubleValue && less((DoubleValue)c, reference);
-    }
-
-    /** @return true if the data cell is smaller compared to the operand chosen by the user. */
-    private static boolean less(final DoubleValue value, final DoubleValue reference) {
-        return value.getDoubleValue() < reference.getDoubleValue();
+        return NumericCellPredicate.less(((DoubleValue)parameter).getDoubleValue());
     }
 
     /**
@@ -286,14 +261,7 @@ private static boolean less(final DoubleValue value, final DoubleValue reference
      */
     private static Predicate<DataCell> createLessOrEqualPredicate(final DataCell parameter) {
         CheckUtils.checkArgument(parameter instanceof DoubleValue, DOUBLE_TYPE_ERROR_TEMPLATE, parameter);
-        final DoubleValue reference = (DoubleValue)parameter;
-        final Predicate<DataCell> notMissingPredicate = IS_NOT_MISSING;
-        return c -> notMissingPredicate.test(c) && c instanceof DoubleValue && lessOrEqual((DoubleValue)c, reference);
-    }
-
-    /** @return true if the data cell is smaller or equal compared to the operand chosen by the user. */
-    private static boolean lessOrEqual(final DoubleValue value, final DoubleValue reference) {
-        return value.getDoubleValue() <= reference.getDoubleValue();
+        return NumericCellPredicate.lessOrEqual(((DoubleValue)parameter).getDoubleValue());
     }
 
     /**
@@ -302,19 +270,9 @@ private static boolean lessOrEqual(final DoubleValue value, final DoubleValue re
      */
     private static Predicate<DataCell> createBetweenPredicate(final DataCell parameter1, final DataCell parameter2) {
         CheckUtils.checkArgument(parameter1 instanceof DoubleValue, DOUBLE_TYPE_ERROR_TEMPLATE, parameter1);
-        final DoubleValue reference1 = (DoubleValue)parameter1;
         CheckUtils.checkArgument(parameter2 instanceof DoubleValue, DOUBLE_TYPE_ERROR_TEMPLATE, parameter2);
-        final DoubleValue reference2 = (DoubleValue)parameter2;
-        final Predicate<DataCell> notMissingPredicate = IS_NOT_MISSING;
-        return c -> notMissingPredicate.test(c) && c instanceof DoubleValue
-            && between((DoubleValue)c, reference1, reference2);
-    }
-
-    /** @return true if the data cell is between the two operands chosen by the user. */
-    private static boolean between(final DoubleValue value, final DoubleValue reference1,
-        final DoubleValue reference2) {
-        return value.getDoubleValue() >= reference1.getDoubleValue()
-            && value.getDoubleValue() <= reference2.getDoubleValue();
+        return NumericCellPredicate.between(((DoubleValue)parameter1).getDoubleValue(),
+            ((DoubleValue)parameter2).getDoubleValue());
     }
 
 }
@@ -94,4 +94,14 @@ public Range<Long> getRowIndexRange() {
        return Range.all();
     }
 
+    @Override
+    public double getEstimatedCost() {
+        return 0;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return 1;
+    }
+
 }
@@ -0,0 +1,134 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.filter.row2.operator;
+
+import java.util.function.DoublePredicate;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DoubleValue;
+
+/**
+ * {@link CellPredicate} that compares the double value of numeric cells with primitive reference values. The
+ * comparison is fixed when the predicate is created, so the evaluation neither dispatches on the operator nor unwraps
+ * the reference cells.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NumericCellPredicate implements CellPredicate {
+
+    private final DoublePredicate m_comparison;
+
+    private final boolean m_acceptMissing;
+
+    private final double m_estimatedSelectivity;
+
+    private NumericCellPredicate(final DoublePredicate comparison, final boolean acceptMissing,
+        final double estimatedSelectivity) {
+        m_comparison = comparison;
+        m_acceptMissing = acceptMissing;
+        m_estimatedSelectivity = estimatedSelectivity;
+    }
+
+    static NumericCellPredicate equal(final double reference) {
+        return new NumericCellPredicate(v -> v == reference, false, 0.1);
+    }
+
+    /** Missing cells are considered to be not equal. */
+    static NumericCellPredicate notEqual(final double reference) {
+        return new NumericCellPredicate(v -> v != reference, true, 0.9);
+    }
+
+    static NumericCellPredicate greater(final double reference) {
+        return new NumericCellPredicate(v -> v > reference, false, 0.5);
+    }
+
+    static NumericCellPredicate greaterOrEqual(final double reference) {
+        return new NumericCellPredicate(v -> v >= reference, false, 0.5);
+    }
+
+    static NumericCellPredicate less(final double reference) {
+        return new NumericCellPredicate(v -> v < reference, false, 0.5);
+    }
+
+    static NumericCellPredicate lessOrEqual(final double reference) {
+        return new NumericCellPredicate(v -> v <= reference, false, 0.5);
+    }
+
+    static NumericCellPredicate between(final double lower, final double upper) {
+        return new NumericCellPredicate(v -> v >= lower && v <= upper, false, 0.25);
+    }
+
+    @Override
+    public boolean test(final DataCell cell) {
+        if (cell.isMissing()) {
+            return m_acceptMissing;
+        }
+        return cell instanceof DoubleValue && m_comparison.test(((DoubleValue)cell).getDoubleValue());
+    }
+
+    /**
+     * Tests a value without wrapping it into a cell, e.g. a row index.
+     *
+     * @param value the value to test
+     * @return the same as {@link #test(DataCell)} for a cell with the given value
+     */
+    boolean test(final double value) {
+        return m_comparison.test(value);
+    }
+
+    @Override
+    public double getEstimatedCost() {
+        return PRIMITIVE_COMPARISON;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return m_estimatedSelectivity;
+    }
+}
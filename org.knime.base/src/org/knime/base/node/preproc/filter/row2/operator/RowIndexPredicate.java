@@ -81,6 +81,10 @@ public RowIndexPredicate(final Predicate<DataCell> cellPredicate, final Range<Lo
 
     @Override
     public boolean test(final DataRow t, final Long index) {
+        if (m_cellPredicate instanceof NumericCellPredicate) {
+            // compare the index directly instead of wrapping it into a cell
+            return ((NumericCellPredicate)m_cellPredicate).test(index.doubleValue());
+        }
         return m_cellPredicate.test(new LongCell(index));
     }
 
@@ -94,4 +98,14 @@ public Range<Long> getRowIndexRange() {
         return m_indexRange;
     }
 
+    @Override
+    public double getEstimatedCost() {
+        return CellPredicate.estimatedCost(m_cellPredicate);
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return CellPredicate.estimatedSelectivity(m_cellPredicate);
+    }
+
 }
@@ -90,5 +90,16 @@ public Range<Long> getRowIndexRange() {
         return Range.all();
     }
 
+    @Override
+    public double getEstimatedCost() {
+        // the key is wrapped into a new cell
+        return CellPredicate.estimatedCost(m_cellPredicate) + CellPredicate.OBJECT_COMPARISON;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return CellPredicate.estimatedSelectivity(m_cellPredicate);
+    }
+
 
 }
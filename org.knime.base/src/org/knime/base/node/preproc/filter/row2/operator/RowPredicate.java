@@ -74,6 +74,26 @@ public interface RowPredicate extends BiPredicate<DataRow, Long> {
      */
     Range<Long> getRowIndexRange();
 
+    /**
+     * Estimates the cost of a single call to {@link #test(Object, Object)}, used to order the conditions of a group.
+     *
+     * @return the estimated cost relative to checking whether a cell is missing
+     * @since 4.2
+     */
+    default double getEstimatedCost() {
+        return 1;
+    }
+
+    /**
+     * Estimates the fraction of rows that pass the test, used to order the conditions of a group.
+     *
+     * @return the estimated fraction between 0 and 1
+     * @since 4.2
+     */
+    default double getEstimatedSelectivity() {
+        return 0.5;
+    }
+
     /**
      * Negates the RowPredicate created. If the test is passed, then this method fails it or vice-versa.
      *
@@ -89,7 +109,7 @@ static RowPredicate negate(final RowPredicate rowPredicate) {
      * @return GroupRowPredicate handled with AND.
      */
     static RowPredicate and(final Iterator<RowPredicate> predicateIterator) {
-        return new GroupRowPredicate(predicateIterator, (p, q) -> p.and(q), (p, q) -> p.intersection(q));
+        return GroupRowPredicate.and(predicateIterator);
     }
 
     /**
@@ -97,7 +117,7 @@ static RowPredicate and(final Iterator<RowPredicate> predicateIterator) {
      * @return GroupRowPredicate handled with OR.
      */
     static RowPredicate or(final Iterator<RowPredicate> predicateIterator) {
-        return new GroupRowPredicate(predicateIterator, (p, q) -> p.or(q), (p, q) -> p.span(q));
+        return GroupRowPredicate.or(predicateIterator);
     }
 
     /**
@@ -144,6 +164,16 @@ public Set<Integer> getRequiredColumns() {
         public Range<Long> getRowIndexRange() {
             return m_range;
         }
+
+        @Override
+        public double getEstimatedCost() {
+            return m_rowPredicate.getEstimatedCost();
+        }
+
+        @Override
+        public double getEstimatedSelectivity() {
+            return 1 - m_rowPredicate.getEstimatedSelectivity();
+        }
     }
 
 }
@@ -45,14 +45,10 @@
 package org.knime.base.node.preproc.filter.rowref;
 
 import java.io.File;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
 
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.util.memory.MemoryAlertSystem;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
@@ -72,9 +68,6 @@
  */
 public abstract class AbstractRowRefNodeModel extends NodeModel {
 
-    /** The minimum number of elements that is being read from the reference table even if memory is low. */
-    private static final long MIN_ELEMENTS_READ = 128;
-
     /** Settings model for the reference column of the data table to filter. */
     private final SettingsModelColumnName m_dataTableCol = RowRefNodeDialogPane.createDataTableColModel();
 
@@ -133,7 +126,7 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws Invali
     /**
      * {@inheritDoc}
      */
-    @SuppressWarnings({"null", "resource"})
+    @SuppressWarnings("null")
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
         throws Exception {
@@ -171,107 +164,43 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         final BufferedDataContainer secondBuf = m_isSplitter ? exec.createDataContainer(dataTableSpec) : null;
 
         final double refTableSizeFraction = (double) refTable.size() / (refTable.size() + dataTable.size());
-        final ExecutionMonitor readRefMon = exec.createSubExecutionContext(refTableSizeFraction);
-        final ExecutionMonitor writeMon = exec.createSubExecutionContext(1 - refTableSizeFraction);
-
-        // we only init the disk-backed bit array if memory becomes low while reading the reference set
-        final MemoryAlertSystem memSys = MemoryAlertSystem.getInstance();
-        DiskBackedBitArray bitArray = null;
-        boolean fullyFitsIntoMemory = true;
+        final ExecutionContext readRefExec = exec.createSubExecutionContext(refTableSizeFraction);
+        final ExecutionContext writeExec = exec.createSubExecutionContext(1 - refTableSizeFraction);
 
-        long rowCnt = 0;
-        final Iterator<DataRow> it = refTable.iterator();
-        do {
-            //create the set to filter by
-            final Set<Object> keySet = new HashSet<Object>();
-
-            long elementsRead = 0;
-            while (it.hasNext()) {
-                exec.checkCanceled();
-                if (filterByString) {
-                    if (useRefRowKey) {
-                        keySet.add(it.next().getKey().getString());
-                    } else {
-                        keySet.add(it.next().getCell(refColIdx).toString());
-                    }
-                } else {
-                    if (useRefRowKey) {
-                        keySet.add(it.next().getKey());
-                    } else {
-                        keySet.add(it.next().getCell(refColIdx));
-                    }
-                }
-                readRefMon.setProgress(rowCnt++ / (double)refTable.size(), () -> "Reading reference table...");
-                elementsRead++;
+        // the reference values are kept in memory unless memory becomes low while reading them, in which case both
+        // tables are partitioned and the matching rows are memorized in a disk-backed bit array
+        final RowRefSemiJoin semiJoin = new RowRefSemiJoin(useDataRowKey ? -1 : dataColIdx,
+            useRefRowKey ? -1 : refColIdx, useRefRowKey ? null : refTableSpec.getColumnSpec(refColIdx).getType(),
+            filterByString);
+        final boolean fullyFitsIntoMemory = semiJoin.readReferences(refTable, readRefExec, readRefExec);
 
-                if (memSys.isMemoryLow() && elementsRead >= MIN_ELEMENTS_READ) {
-                    fullyFitsIntoMemory = false;
-                    break;
-                }
-            }
-
-            if (!fullyFitsIntoMemory) {
-                if (bitArray == null) {
-                    bitArray = new DiskBackedBitArray(dataTable.size());
-                } else {
-                    bitArray.setPosition(0);
-                }
-            }
-
-            rowCnt = 1;
+        if (fullyFitsIntoMemory) {
+            long rowCnt = 1;
             for (final DataRow row : dataTable) {
                 exec.checkCanceled();
-                //get the right value to check for...
-                final Object val2Compare;
-                if (filterByString) {
-                    if (useDataRowKey) {
-                        val2Compare = row.getKey().getString();
-                    } else {
-                        val2Compare = row.getCell(dataColIdx).toString();
-                    }
-                } else {
-                    if (useDataRowKey) {
-                        val2Compare = row.getKey();
-                    } else {
-                        val2Compare = row.getCell(dataColIdx);
-                    }
+                //...include/exclude matching rows
+                writeExec.setProgress(rowCnt++ / (double)dataTable.size(), () -> "Filtering...");
+                if (semiJoin.matches(row) != isInvertInclusion) {
+                    firstBuf.addRowToTable(row);
+                } else if (m_isSplitter) {
+                    secondBuf.addRowToTable(row);
                 }
-
-                if (fullyFitsIntoMemory) {
-                    //...include/exclude matching rows by checking the val2Compare
-                    writeMon.setProgress(rowCnt++ / (double)dataTable.size(), () -> "Filtering...");
-                    if ((keySet.contains(val2Compare) && !isInvertInclusion)
-                        || (!keySet.contains(val2Compare) && isInvertInclusion)) {
+            }
+        } else {
+            try (final DiskBackedBitArray bitArray =
+                semiJoin.matchPartitioned(dataTable, writeExec, writeExec.createSubProgress(0.5))) {
+                final ExecutionMonitor filterMon = writeExec.createSubProgress(0.5);
+                long rowCnt = 1;
+                for (final DataRow row : dataTable) {
+                    exec.checkCanceled();
+                    filterMon.setProgress(rowCnt++ / (double)dataTable.size(), () -> "Filtering...");
+                    if (bitArray.getBit() != isInvertInclusion) {
                         firstBuf.addRowToTable(row);
                     } else if (m_isSplitter) {
                         secondBuf.addRowToTable(row);
                     }
-                } else {
-                    // use the bit array to memorize which rows to keep / discard
-                    if (keySet.contains(val2Compare)) {
-                        bitArray.setBit();
-                    } else {
-                        bitArray.skipBit();
-                    }
-                }
-            }
-
-        } while (it.hasNext());
-
-        if (!fullyFitsIntoMemory) {
-            bitArray.setPosition(0);
-            rowCnt = 1;
-            for (final DataRow row : dataTable) {
-                exec.checkCanceled();
-                writeMon.setProgress(rowCnt++ / (double)dataTable.size(), () -> "Filtering...");
-                final boolean bit = bitArray.getBit();
-                if ((bit && !isInvertInclusion) || (!bit && isInvertInclusion)) {
-                    firstBuf.addRowToTable(row);
-                } else if (m_isSplitter) {
-                    secondBuf.addRowToTable(row);
                 }
             }
-            bitArray.close();
         }
 
         firstBuf.close();
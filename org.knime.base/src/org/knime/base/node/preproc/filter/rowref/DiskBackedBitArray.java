@@ -58,8 +58,8 @@
 
 /**
  * A class representing an array of bits written to and read from disk. Bits can be set, unset, skipped, and read
- * sequentially. The pointer that runs over the array can also be reset to the beginning of the array. While random
- * access in constant time is also possible, there is no API for it implemented yet.
+ * sequentially. The pointer that runs over the array can also be reset to the beginning of the array. Bits can also
+ * be set at a given position, which is cheap if the positions are ascending.
  *
  * @author Marc Bux, KNIME GmbH, Berlin, Germany
  */
@@ -221,6 +221,27 @@ void setBit() throws IOException {
         next();
     }
 
+    /**
+     * Sets the bit at the given position to 1 and places the pointer behind it. Positions that lie within the current
+     * buffer are reached without disk I/O, so setting bits in ascending order is nearly as cheap as setting them
+     * sequentially.
+     *
+     * @param pos the position of the bit to set
+     * @throws IOException if anything goes wrong with disk I/O
+     * @throws IllegalArgumentException if the position argument is greater than the size of the array or lesser than 0
+     * @throws IllegalStateException if the array has already been closed
+     */
+    void setBit(final long pos) throws IOException {
+        final long bufferStart = m_offset * 8;
+        if (m_isInitialized && !m_eof && pos >= bufferStart && pos < bufferStart + BUFFER_SIZE * 8
+            && pos < m_length) {
+            m_pos = (int)(pos - bufferStart);
+        } else {
+            setPosition(pos);
+        }
+        setBit();
+    }
+
     /**
      * Returns the next bit, advancing the pointer by one position.
      *
@@ -0,0 +1,672 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.filter.rowref;
+
+import java.io.IOException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Determines which rows of a data table have a value that occurs in a reference table, i.e. computes a semi-join.
+ *
+ * <p>
+ * The reference values are kept in an open addressing hash set: values of int and long columns as primitive longs,
+ * row keys and strings as strings and the cells of any other column as they are. If memory becomes low while the
+ * reference table is read, the join continues in the style of a Grace hash join: the reference values are distributed
+ * by their hash onto temporary partition tables and so are the values of the data table together with their row
+ * index. Each pair of partitions is then joined in memory and the indices of the matching rows are recorded in a
+ * {@link DiskBackedBitArray}. A bloom filter on all reference values keeps the data rows that cannot match out of the
+ * partitions.
+ * </p>
+ *
+ * <p>
+ * Values are compared as strings if the row keys or the string representations are compared and with
+ * {@link DataCell#equals(Object)} otherwise, hence missing values only match missing values.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RowRefSemiJoin {
+
+    /** How the values of a column or the row keys are represented and compared. */
+    enum KeyType {
+        /** The row keys, the strings of a string column or the string representations of the cells. */
+        STRING,
+        /** The values of an int or long column. */
+        LONG,
+        /** The cells of any other column. */
+        CELL;
+    }
+
+    /** The minimum number of elements that is being read from the reference table even if memory is low. */
+    static final long MIN_ELEMENTS_READ = 128;
+
+    /** The maximum number of partitions the reference values are distributed onto. */
+    static final int MAX_PARTITIONS = 256;
+
+    private final int m_dataColIdx;
+
+    private final int m_refColIdx;
+
+    private final boolean m_byString;
+
+    private final KeyType m_keyType;
+
+    private final DataType m_keyCellType;
+
+    private final BooleanSupplier m_isMemoryLow;
+
+    private LongKeySet m_longKeys;
+
+    private ObjectKeySet m_objectKeys;
+
+    private boolean m_refHasMissing;
+
+    /** The partitions of the reference values while they are read, <code>null</code> as long as they fit. */
+    private BufferedDataContainer[] m_refContainers;
+
+    private BufferedDataTable[] m_refPartitions;
+
+    private BloomFilter m_bloomFilter;
+
+    private long m_partitionedRefCount;
+
+    /**
+     * Creates a new semi-join.
+     *
+     * @param dataColIdx the index of the column of the data table or -1 to use the row key
+     * @param refColIdx the index of the column of the reference table or -1 to use the row key
+     * @param columnType the type of the reference column if the values are compared as cells, ignored otherwise
+     * @param byString whether the string representations of the cells or the row keys are compared
+     */
+    RowRefSemiJoin(final int dataColIdx, final int refColIdx, final DataType columnType, final boolean byString) {
+        this(dataColIdx, refColIdx, columnType, byString, () -> MemoryAlertSystem.getInstance().isMemoryLow());
+    }
+
+    RowRefSemiJoin(final int dataColIdx, final int refColIdx, final DataType columnType, final boolean byString,
+        final BooleanSupplier isMemoryLow) {
+        m_dataColIdx = dataColIdx;
+        m_refColIdx = refColIdx;
+        m_byString = byString;
+        m_isMemoryLow = isMemoryLow;
+        if (byString || refColIdx < 0) {
+            m_keyType = KeyType.STRING;
+        } else if (StringCell.TYPE.equals(columnType)) {
+            m_keyType = KeyType.STRING;
+        } else if (IntCell.TYPE.equals(columnType) || LongCell.TYPE.equals(columnType)) {
+            m_keyType = KeyType.LONG;
+        } else {
+            m_keyType = KeyType.CELL;
+        }
+        switch (m_keyType) {
+            case STRING:
+                m_keyCellType = StringCell.TYPE;
+                break;
+            case LONG:
+                m_keyCellType = LongCell.TYPE;
+                break;
+            default:
+                m_keyCellType = columnType;
+        }
+    }
+
+    /**
+     * @return how the values are represented and compared
+     */
+    KeyType getKeyType() {
+        return m_keyType;
+    }
+
+    /**
+     * Reads the values of the reference table. They are kept in memory until memory becomes low, then they are
+     * distributed onto partition tables.
+     *
+     * @param refTable the reference table
+     * @param exec to create the partition tables
+     * @param mon for progress and cancellation
+     * @return <code>true</code> if all values fit into memory and {@link #matches(DataRow)} can be used,
+     *         <code>false</code> if they have been partitioned and {@link #matchPartitioned(BufferedDataTable,
+     *         ExecutionContext, ExecutionMonitor)} must be used
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    boolean readReferences(final BufferedDataTable refTable, final ExecutionContext exec, final ExecutionMonitor mon)
+        throws CanceledExecutionException {
+        if (m_keyType == KeyType.LONG) {
+            m_longKeys = new LongKeySet();
+        } else {
+            m_objectKeys = new ObjectKeySet();
+        }
+        final long size = refTable.size();
+        long read = 0;
+        try (CloseableRowIterator rows = refTable.iterator()) {
+            while (rows.hasNext()) {
+                mon.checkCanceled();
+                addReference(rows.next());
+                read++;
+                mon.setProgress(read / (double)size, () -> "Reading reference table...");
+                if (m_refContainers == null && read >= MIN_ELEMENTS_READ && m_isMemoryLow.getAsBoolean()) {
+                    partitionReferences(exec, size, read);
+                }
+            }
+        }
+        if (m_refContainers == null) {
+            return true;
+        }
+        m_refPartitions = new BufferedDataTable[m_refContainers.length];
+        for (int p = 0; p < m_refContainers.length; p++) {
+            m_refContainers[p].close();
+            m_refPartitions[p] = m_refContainers[p].getTable();
+        }
+        m_refContainers = null;
+        return false;
+    }
+
+    private void addReference(final DataRow row) {
+        if (isMissing(row, m_refColIdx)) {
+            m_refHasMissing = true;
+        } else if (m_refContainers != null) {
+            final DataCell key = keyCell(row, m_refColIdx);
+            final long hash = hash(key);
+            m_bloomFilter.add(hash);
+            addToPartition(key, hash);
+        } else if (m_keyType == KeyType.LONG) {
+            m_longKeys.add(longKey(row.getCell(m_refColIdx)));
+        } else {
+            m_objectKeys.add(objectKey(row, m_refColIdx));
+        }
+    }
+
+    /** Switches to the partitioned join and moves the values that have been read so far to the partitions. */
+    private void partitionReferences(final ExecutionContext exec, final long size, final long read) {
+        // aim at partitions that are half the size of the values that fit into memory right now
+        final long nrPartitions = Math.min(MAX_PARTITIONS, Math.max(2, 2 * ((size + read - 1) / read)));
+        m_refContainers = new BufferedDataContainer[(int)nrPartitions];
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("Key", m_keyCellType).createSpec());
+        for (int p = 0; p < m_refContainers.length; p++) {
+            m_refContainers[p] = exec.createDataContainer(spec);
+        }
+        m_bloomFilter = new BloomFilter(size);
+        if (m_longKeys != null) {
+            final LongKeySet keys = m_longKeys;
+            m_longKeys = null;
+            keys.forEach(k -> {
+                final DataCell key = new LongCell(k);
+                final long hash = hash(key);
+                m_bloomFilter.add(hash);
+                addToPartition(key, hash);
+            });
+        } else {
+            final ObjectKeySet keys = m_objectKeys;
+            m_objectKeys = null;
+            keys.forEach(k -> {
+                final DataCell key = m_keyType == KeyType.STRING ? new StringCell((String)k) : (DataCell)k;
+                final long hash = hash(key);
+                m_bloomFilter.add(hash);
+                addToPartition(key, hash);
+            });
+        }
+    }
+
+    private void addToPartition(final DataCell key, final long hash) {
+        m_refContainers[partition(hash, m_refContainers.length)]
+            .addRowToTable(new DefaultRow(RowKey.createRowKey(m_partitionedRefCount++), key));
+    }
+
+    /**
+     * Checks whether the value of a data row occurs in the reference table. Only applicable if all reference values
+     * fit into memory.
+     *
+     * @param row a row of the data table
+     * @return whether the row matches
+     */
+    boolean matches(final DataRow row) {
+        if (isMissing(row, m_dataColIdx)) {
+            return m_refHasMissing;
+        } else if (m_keyType == KeyType.LONG) {
+            return m_longKeys.contains(longKey(row.getCell(m_dataColIdx)));
+        } else {
+            return m_objectKeys.contains(objectKey(row, m_dataColIdx));
+        }
+    }
+
+    /**
+     * Determines the matching rows of the data table with the partitioned reference values. The values of the data
+     * table are partitioned the same way, each partition of the reference values is loaded into memory and probed
+     * with the values of the corresponding data partition. The partition tables are cleared afterwards.
+     *
+     * @param dataTable the data table
+     * @param exec to create and clear the partition tables
+     * @param mon for progress and cancellation
+     * @return a bit array that holds for each row of the data table whether it matches, positioned at the first row;
+     *         must be closed by the caller
+     * @throws CanceledExecutionException if the execution has been canceled
+     * @throws IOException if the bit array cannot be written
+     */
+    DiskBackedBitArray matchPartitioned(final BufferedDataTable dataTable, final ExecutionContext exec,
+        final ExecutionMonitor mon) throws CanceledExecutionException, IOException {
+        final long size = dataTable.size();
+        final DiskBackedBitArray matches = new DiskBackedBitArray(size);
+        final BufferedDataTable[] dataPartitions = new BufferedDataTable[m_refPartitions.length];
+        try {
+            partitionData(dataTable, exec, mon.createSubProgress(0.5), matches, dataPartitions);
+            final ExecutionMonitor joinMon = mon.createSubProgress(0.5);
+            for (int p = 0; p < m_refPartitions.length; p++) {
+                joinMon.checkCanceled();
+                joinMon.setProgress(p / (double)m_refPartitions.length,
+                    "Joining partition " + (p + 1) + " of " + m_refPartitions.length);
+                joinPartition(m_refPartitions[p], dataPartitions[p], matches);
+                exec.clearTable(m_refPartitions[p]);
+                exec.clearTable(dataPartitions[p]);
+                m_refPartitions[p] = null;
+                dataPartitions[p] = null;
+            }
+            if (size > 0) {
+                matches.setPosition(0);
+            }
+            return matches;
+        } catch (CanceledExecutionException | IOException | RuntimeException ex) {
+            matches.close();
+            throw ex;
+        } finally {
+            // only non-null if something went wrong
+            for (int p = 0; p < m_refPartitions.length; p++) {
+                if (m_refPartitions[p] != null) {
+                    exec.clearTable(m_refPartitions[p]);
+                }
+                if (dataPartitions[p] != null) {
+                    exec.clearTable(dataPartitions[p]);
+                }
+            }
+        }
+    }
+
+    private void partitionData(final BufferedDataTable dataTable, final ExecutionContext exec,
+        final ExecutionMonitor mon, final DiskBackedBitArray matches, final BufferedDataTable[] dataPartitions)
+        throws CanceledExecutionException, IOException {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("Key", m_keyCellType).createSpec(),
+            new DataColumnSpecCreator("Row Index", LongCell.TYPE).createSpec());
+        final BufferedDataContainer[] containers = new BufferedDataContainer[dataPartitions.length];
+        for (int p = 0; p < containers.length; p++) {
+            containers[p] = exec.createDataContainer(spec);
+        }
+        final long size = dataTable.size();
+        long index = 0;
+        try (CloseableRowIterator rows = dataTable.iterator()) {
+            while (rows.hasNext()) {
+                mon.checkCanceled();
+                final DataRow row = rows.next();
+                if (isMissing(row, m_dataColIdx)) {
+                    if (m_refHasMissing) {
+                        matches.setBit(index);
+                    }
+                } else {
+                    final DataCell key = keyCell(row, m_dataColIdx);
+                    final long hash = hash(key);
+                    if (m_bloomFilter.mightContain(hash)) {
+                        containers[partition(hash, containers.length)]
+                            .addRowToTable(new DefaultRow(RowKey.createRowKey(index), key, new LongCell(index)));
+                    }
+                }
+                index++;
+                mon.setProgress(index / (double)size, () -> "Partitioning table to be filtered...");
+            }
+        } finally {
+            for (int p = 0; p < containers.length; p++) {
+                containers[p].close();
+                dataPartitions[p] = containers[p].getTable();
+            }
+        }
+    }
+
+    /**
+     * Joins a pair of partitions. If the reference partition does not fit into memory either, it is loaded and probed
+     * in chunks.
+     */
+    private void joinPartition(final BufferedDataTable refPartition, final BufferedDataTable dataPartition,
+        final DiskBackedBitArray matches) throws IOException {
+        if (refPartition.size() == 0 || dataPartition.size() == 0) {
+            return;
+        }
+        try (CloseableRowIterator refRows = refPartition.iterator()) {
+            while (refRows.hasNext()) {
+                final LongKeySet longKeys = m_keyType == KeyType.LONG ? new LongKeySet() : null;
+                final ObjectKeySet objectKeys = m_keyType == KeyType.LONG ? null : new ObjectKeySet();
+                long loaded = 0;
+                while (refRows.hasNext()) {
+                    final DataCell key = refRows.next().getCell(0);
+                    if (longKeys != null) {
+                        longKeys.add(((LongValue)key).getLongValue());
+                    } else {
+                        objectKeys.add(m_keyType == KeyType.STRING ? ((StringValue)key).getStringValue() : key);
+                    }
+                    loaded++;
+                    if (loaded >= MIN_ELEMENTS_READ && m_isMemoryLow.getAsBoolean()) {
+                        break;
+                    }
+                }
+                for (final DataRow row : dataPartition) {
+                    final DataCell key = row.getCell(0);
+                    final boolean contains;
+                    if (longKeys != null) {
+                        contains = longKeys.contains(((LongValue)key).getLongValue());
+                    } else {
+                        contains =
+                            objectKeys.contains(m_keyType == KeyType.STRING ? ((StringValue)key).getStringValue() : key);
+                    }
+                    if (contains) {
+                        matches.setBit(((LongValue)row.getCell(1)).getLongValue());
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isMissing(final DataRow row, final int colIdx) {
+        return !m_byString && colIdx >= 0 && row.getCell(colIdx).isMissing();
+    }
+
+    /** The key of a row for the in-memory sets, a string or a cell. */
+    private Object objectKey(final DataRow row, final int colIdx) {
+        if (colIdx < 0) {
+            return row.getKey().getString();
+        }
+        final DataCell cell = row.getCell(colIdx);
+        if (m_byString) {
+            return cell.toString();
+        }
+        return m_keyType == KeyType.STRING ? ((StringValue)cell).getStringValue() : cell;
+    }
+
+    /** The key of a row as cell for the partition tables. */
+    private DataCell keyCell(final DataRow row, final int colIdx) {
+        switch (m_keyType) {
+            case LONG:
+                return new LongCell(longKey(row.getCell(colIdx)));
+            case STRING:
+                return new StringCell((String)objectKey(row, colIdx));
+            default:
+                return row.getCell(colIdx);
+        }
+    }
+
+    private static long longKey(final DataCell cell) {
+        if (cell instanceof IntValue) {
+            return ((IntValue)cell).getIntValue();
+        }
+        return ((LongValue)cell).getLongValue();
+    }
+
+    /** The hash of a partition key, consistent with the keys of the in-memory sets. */
+    private long hash(final DataCell key) {
+        switch (m_keyType) {
+            case LONG:
+                return mix(((LongValue)key).getLongValue());
+            case STRING:
+                return mix(((StringValue)key).getStringValue().hashCode());
+            default:
+                return mix(key.hashCode());
+        }
+    }
+
+    static long mix(final long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xBF58476D1CE4E5B9L;
+        return h ^ (h >>> 29);
+    }
+
+    static int partition(final long hash, final int nrPartitions) {
+        return (int)((hash >>> 33) % nrPartitions);
+    }
+
+    /** An open addressing hash set of primitive longs. */
+    static final class LongKeySet {
+
+        private long[] m_keys = new long[16];
+
+        private boolean[] m_used = new boolean[16];
+
+        private int m_size;
+
+        /**
+         * @param key the key to add
+         * @return <code>true</code> if the key has not been in the set
+         */
+        boolean add(final long key) {
+            int i = (int)mix(key) & (m_keys.length - 1);
+            while (m_used[i]) {
+                if (m_keys[i] == key) {
+                    return false;
+                }
+                i = (i + 1) & (m_keys.length - 1);
+            }
+            m_keys[i] = key;
+            m_used[i] = true;
+            if (++m_size > (m_keys.length >> 1) + (m_keys.length >> 2)) {
+                grow();
+            }
+            return true;
+        }
+
+        boolean contains(final long key) {
+            int i = (int)mix(key) & (m_keys.length - 1);
+            while (m_used[i]) {
+                if (m_keys[i] == key) {
+                    return true;
+                }
+                i = (i + 1) & (m_keys.length - 1);
+            }
+            return false;
+        }
+
+        int size() {
+            return m_size;
+        }
+
+        void forEach(final LongConsumer consumer) {
+            for (int i = 0; i < m_keys.length; i++) {
+                if (m_used[i]) {
+                    consumer.accept(m_keys[i]);
+                }
+            }
+        }
+
+        private void grow() {
+            final long[] keys = m_keys;
+            final boolean[] used = m_used;
+            m_keys = new long[keys.length << 1];
+            m_used = new boolean[keys.length << 1];
+            m_size = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (used[i]) {
+                    add(keys[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * An open addressing hash set of objects that caches their hash codes. Compared to a {@link java.util.HashSet}
+     * it does not create an entry object per element.
+     */
+    static final class ObjectKeySet {
+
+        private Object[] m_keys = new Object[16];
+
+        private int[] m_hashes = new int[16];
+
+        private int m_size;
+
+        /**
+         * @param key the key to add, not <code>null</code>
+         * @return <code>true</code> if the key has not been in the set
+         */
+        boolean add(final Object key) {
+            final int hash = key.hashCode();
+            int i = (int)mix(hash) & (m_keys.length - 1);
+            while (m_keys[i] != null) {
+                if (m_hashes[i] == hash && m_keys[i].equals(key)) {
+                    return false;
+                }
+                i = (i + 1) & (m_keys.length - 1);
+            }
+            m_keys[i] = key;
+            m_hashes[i] = hash;
+            if (++m_size > (m_keys.length >> 1) + (m_keys.length >> 2)) {
+                grow();
+            }
+            return true;
+        }
+
+        boolean contains(final Object key) {
+            final int hash = key.hashCode();
+            int i = (int)mix(hash) & (m_keys.length - 1);
+            while (m_keys[i] != null) {
+                if (m_hashes[i] == hash && m_keys[i].equals(key)) {
+                    return true;
+                }
+                i = (i + 1) & (m_keys.length - 1);
+            }
+            return false;
+        }
+
+        int size() {
+            return m_size;
+        }
+
+        void forEach(final Consumer<Object> consumer) {
+            for (final Object key : m_keys) {
+                if (key != null) {
+                    consumer.accept(key);
+                }
+            }
+        }
+
+        private void grow() {
+            final Object[] keys = m_keys;
+            m_keys = new Object[keys.length << 1];
+            m_hashes = new int[keys.length << 1];
+            m_size = 0;
+            for (final Object key : keys) {
+                if (key != null) {
+                    add(key);
+                }
+            }
+        }
+    }
+
+    /** A bloom filter on 64 bit hashes with three probes derived by double hashing. */
+    static final class BloomFilter {
+
+        /** Ten bits per expected element give a false positive rate of less than 2 percent. */
+        private static final int BITS_PER_ELEMENT = 10;
+
+        /** At most 32 MB, the filter is created when memory is already low. */
+        private static final long MAX_BITS = 1L << 28;
+
+        private static final int NR_PROBES = 3;
+
+        private final long[] m_bits;
+
+        private final int m_mask;
+
+        /**
+         * @param expectedElements the expected number of elements
+         */
+        BloomFilter(final long expectedElements) {
+            final long bits = Math.min(MAX_BITS, Math.max(64, expectedElements * BITS_PER_ELEMENT));
+            final int length = (int)Long.highestOneBit(bits - 1) << 1;
+            m_bits = new long[Math.max(1, length >>> 6)];
+            m_mask = (m_bits.length << 6) - 1;
+        }
+
+        void add(final long hash) {
+            final int h1 = (int)hash;
+            final int h2 = (int)(hash >>> 32) | 1;
+            for (int i = 0; i < NR_PROBES; i++) {
+                final int bit = (h1 + i * h2) & m_mask;
+                m_bits[bit >>> 6] |= 1L << bit;
+            }
+        }
+
+        boolean mightContain(final long hash) {
+            final int h1 = (int)hash;
+            final int h2 = (int)(hash >>> 32) | 1;
+            for (int i = 0; i < NR_PROBES; i++) {
+                final int bit = (h1 + i * h2) & m_mask;
+                if ((m_bits[bit >>> 6] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
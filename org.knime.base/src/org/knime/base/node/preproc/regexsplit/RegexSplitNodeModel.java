@@ -174,6 +174,9 @@ protected ColumnRearranger createColumnRearranger(final DataTableSpec spec, fina
             }
         }
         final int newColCount = count;
+        // plain separators between the groups are split without the regex engine
+        final SeparatorSplitter splitter =
+            SeparatorSplitter.create(p).filter(sp -> sp.getGroupCount() == newColCount).orElse(null);
         final DataColumnSpec[] newColSpecs = new DataColumnSpec[count];
         for (int i = 0; i < newColCount; i++) {
             String name = DataTableSpec.getUniqueColumnName(spec, "split_" + i);
@@ -192,6 +195,17 @@ public DataCell[] getCells(final DataRow row) {
                     return result;
                 }
                 String s = ((StringValue)c).getStringValue();
+                if (splitter != null && !splitter.requiresRegex(s)) {
+                    final String[] groups = splitter.split(s);
+                    if (groups == null) {
+                        errorCounter.incrementAndGet();
+                        return result;
+                    }
+                    for (int i = 0; i < groups.length; i++) {
+                        result[i] = new StringCell(groups[i]);
+                    }
+                    return result;
+                }
                 Matcher m = p.matcher(s);
                 if (m.matches()) {
                     int max = m.groupCount();
@@ -0,0 +1,220 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.regexsplit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.knime.base.util.StringSearcher;
+
+/**
+ * Splits strings without {@link java.util.regex} for the most common kind of pattern: groups matching anything,
+ * separated by plain strings and optionally preceded and followed by plain strings, e.g. <code>(.*), (.*)</code> or
+ * <code>id=(.*?);name=(.*?);</code>. All groups must be either greedy or reluctant.
+ *
+ * <p>
+ * Greedy groups are as long as possible, hence the separators are searched from the end of the string, reluctant
+ * groups are as short as possible, hence the separators are searched from the start. This yields the same groups as
+ * matching the pattern against the whole string.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SeparatorSplitter {
+
+    private static final String GREEDY_GROUP = "(.*)";
+
+    private static final String RELUCTANT_GROUP = "(.*?)";
+
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    /** Flags that don't change the meaning of the supported patterns. */
+    private static final int SUPPORTED_FLAGS = Pattern.MULTILINE | Pattern.DOTALL | Pattern.UNIX_LINES;
+
+    private final String m_prefix;
+
+    private final String m_suffix;
+
+    private final StringSearcher[] m_separators;
+
+    private final boolean m_greedy;
+
+    /** Whether '.' matches line terminators, otherwise strings containing them are not split. */
+    private final boolean m_dotAll;
+
+    private final boolean m_unixLines;
+
+    private SeparatorSplitter(final String prefix, final List<String> separators, final String suffix,
+        final boolean greedy, final int flags) {
+        m_prefix = prefix;
+        m_suffix = suffix;
+        m_separators = separators.stream().map(StringSearcher::new).toArray(StringSearcher[]::new);
+        m_greedy = greedy;
+        m_dotAll = (flags & Pattern.DOTALL) != 0;
+        m_unixLines = (flags & Pattern.UNIX_LINES) != 0;
+    }
+
+    /**
+     * Creates a splitter for the given pattern if it is of the supported kind.
+     *
+     * @param pattern the pattern
+     * @return the splitter or {@link Optional#empty()} if the pattern must be matched as regular expression
+     */
+    static Optional<SeparatorSplitter> create(final Pattern pattern) {
+        if ((pattern.flags() & ~SUPPORTED_FLAGS) != 0) {
+            return Optional.empty();
+        }
+        final String regex = pattern.pattern();
+        final List<String> literals = new ArrayList<>();
+        Boolean greedy = null;
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if (regex.startsWith(GREEDY_GROUP, i) || regex.startsWith(RELUCTANT_GROUP, i)) {
+                final boolean isGreedy = regex.startsWith(GREEDY_GROUP, i);
+                if ((greedy != null && greedy != isGreedy) || (!literals.isEmpty() && literal.length() == 0)) {
+                    // mixed groups or adjacent groups
+                    return Optional.empty();
+                }
+                greedy = isGreedy;
+                literals.add(literal.toString());
+                literal = new StringBuilder();
+                i += isGreedy ? GREEDY_GROUP.length() : RELUCTANT_GROUP.length();
+            } else if (c == '\\' && i + 1 < regex.length() && !Character.isLetterOrDigit(regex.charAt(i + 1))
+                && !Character.isSurrogate(regex.charAt(i + 1))) {
+                literal.append(regex.charAt(i + 1));
+                i += 2;
+            } else if (META_CHARACTERS.indexOf(c) < 0 && !Character.isSurrogate(c)) {
+                literal.append(c);
+                i++;
+            } else {
+                return Optional.empty();
+            }
+        }
+        if (greedy == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new SeparatorSplitter(literals.get(0), literals.subList(1, literals.size()),
+            literal.toString(), greedy, pattern.flags()));
+    }
+
+    /**
+     * @return the number of groups of the pattern
+     */
+    int getGroupCount() {
+        return m_separators.length + 1;
+    }
+
+    /**
+     * @param value the string to split
+     * @return whether the string must be matched by the regular expression as it contains characters that the groups
+     *         don't match
+     */
+    boolean requiresRegex(final String value) {
+        if (m_dotAll) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '\n' || (!m_unixLines && (c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029'))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits the string, which must not {@link #requiresRegex(String) require the regular expression}.
+     *
+     * @param value the string to split
+     * @return the groups or null if the pattern doesn't match
+     */
+    String[] split(final String value) {
+        final int start = m_prefix.length();
+        final int end = value.length() - m_suffix.length();
+        if (end < start || !value.startsWith(m_prefix) || !value.endsWith(m_suffix)) {
+            return null;
+        }
+        final int nrSeparators = m_separators.length;
+        final int[] positions = new int[nrSeparators];
+        if (m_greedy) {
+            int limit = end;
+            for (int s = nrSeparators - 1; s >= 0; s--) {
+                final String separator = m_separators[s].getNeedle();
+                final int index = value.lastIndexOf(separator, limit - separator.length());
+                if (index < start) {
+                    return null;
+                }
+                positions[s] = index;
+                limit = index;
+            }
+        } else {
+            int from = start;
+            for (int s = 0; s < nrSeparators; s++) {
+                final int index = m_separators[s].indexOf(value, from);
+                if (index < 0 || index + m_separators[s].getNeedle().length() > end) {
+                    return null;
+                }
+                positions[s] = index;
+                from = index + m_separators[s].getNeedle().length();
+            }
+        }
+        final String[] groups = new String[nrSeparators + 1];
+        int groupStart = start;
+        for (int s = 0; s < nrSeparators; s++) {
+            groups[s] = value.substring(groupStart, positions[s]);
+            groupStart = positions[s] + m_separators[s].getNeedle().length();
+        }
+        groups[nrSeparators] = value.substring(groupStart, end);
+        return groups;
+    }
+}
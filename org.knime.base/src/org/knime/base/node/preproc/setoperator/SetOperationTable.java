@@ -48,10 +48,14 @@
 
 package org.knime.base.node.preproc.setoperator;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
@@ -70,6 +74,7 @@
 import org.knime.core.data.RowKey;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.StringCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -157,6 +162,9 @@ public void remove() {
 
     }
 
+    /** The minimum number of rows that are hashed before falling back to sorting due to low memory. */
+    private static final long MIN_ELEMENTS_HASHED = 128;
+
     private final BufferedDataTable m_resultTable;
 
     private long m_duplicateCounter = 0;
@@ -229,6 +237,23 @@ public SetOperationTable(final ExecutionContext exec,
             final String col2, final BufferedDataTable table2,
             final SetOperation op, final boolean enableHilite,
             final boolean skipMissing, final boolean sortInMemory)
+    throws CanceledExecutionException, Exception {
+        this(exec, useRowID1, col1, table1, useRowID2, col2, table2, op, enableHilite, skipMissing, sortInMemory,
+            true);
+    }
+
+    /**Constructor for class SetOperationTable.
+     * @param allowHashing <code>false</code> if the sort/merge approach should be used even if the operation could
+     * be computed by hashing the smaller table
+     * @see #SetOperationTable(ExecutionContext, boolean, String, BufferedDataTable, boolean, String,
+     *          BufferedDataTable, SetOperation, boolean, boolean, boolean)
+     */
+    SetOperationTable(final ExecutionContext exec,
+            final boolean useRowID1, final String col1,
+            final BufferedDataTable table1, final boolean useRowID2,
+            final String col2, final BufferedDataTable table2,
+            final SetOperation op, final boolean enableHilite,
+            final boolean skipMissing, final boolean sortInMemory, final boolean allowHashing)
     throws CanceledExecutionException, Exception {
         if (exec == null) {
             throw new NullPointerException("exec must not be null");
@@ -303,6 +328,22 @@ public SetOperationTable(final ExecutionContext exec,
         } else {
             comp = op.getComparator(col1Spec, col2Spec);
         }
+        final DataTableSpec resultSpec =
+            createResultTableSpec(op, col1Spec, col2Spec);
+        final boolean differentType = useRowID1 || useRowID2
+                    || !col1Spec.getType().equals(col2Spec.getType());
+        if (allowHashing && !differentType && supportsHashing(op, table1, table2)) {
+            exec.setMessage("Hashing input tables...");
+            final BufferedDataTable hashedTable = createHashedSetTable(exec,
+                resultSpec, new BufferedDataTable[]{table1, table2},
+                new boolean[]{useRowID1, useRowID2}, new int[]{col1Idx, col2Idx}, op, comp);
+            if (hashedTable != null) {
+                m_resultTable = hashedTable;
+                return;
+            }
+            // memory got low while hashing, fall back to sorting both tables
+            exec.setProgress(0.0);
+        }
         exec.setMessage("Sorting input tables...");
         final SingleColRowComparator rowComparator1 =
             new SingleColRowComparator(col1Idx, comp);
@@ -344,11 +385,6 @@ public SetOperationTable(final ExecutionContext exec,
         }
         exec.setMessage("Performing set operation");
         final ExecutionContext subExec = exec.createSubExecutionContext(0.2);
-        final DataTableSpec resultSpec =
-            createResultTableSpec(op, col1Spec, col2Spec);
-
-        final boolean differentType = useRowID1 || useRowID2
-                    || !col1Spec.getType().equals(col2Spec.getType());
         //create the set objects
         final CellIterator columnSet1 =
             new CellIterator(sortedTables[0], useRowID1, col1Idx);
@@ -358,6 +394,149 @@ public SetOperationTable(final ExecutionContext exec,
                 columnSet1, columnSet2, op, comp);
     }
 
+    /**
+     * Hashing is used if the result of the operation is determined by the smaller table, i.e. for the intersection
+     * and for the complement if the first table is not larger than the second one. The smaller table is hashed
+     * whereas the larger one is only streamed which avoids sorting it. Columns of different types (or row IDs) are
+     * always sorted, since their values are matched and ordered with the general comparator, which hashing on the
+     * cells can't reproduce.
+     */
+    private static boolean supportsHashing(final SetOperation op, final BufferedDataTable table1,
+        final BufferedDataTable table2) {
+        switch (op) {
+            case AND:
+                return true;
+            case MINUS:
+                return table1.size() <= table2.size();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Computes the set table by hashing the distinct values of the smaller table and streaming the larger one.
+     * Only applicable if both columns have the same type. The result is identical to the one of {@link #createSetTable(ExecutionContext, DataTableSpec, boolean,
+     * CellIterator, CellIterator, SetOperation, DataValueComparator)} including the duplicate and missing counters
+     * and the hilite mapping.
+     *
+     * @return the result table or <code>null</code> if memory became low while hashing the smaller table
+     */
+    private BufferedDataTable createHashedSetTable(final ExecutionContext exec,
+            final DataTableSpec resultSpec, final BufferedDataTable[] tables, final boolean[] useRowIDs,
+            final int[] colIdxs, final SetOperation op,
+            final DataValueComparator comp) throws CanceledExecutionException {
+        final int buildIdx;
+        if (op == SetOperation.AND && tables[1].size() < tables[0].size()) {
+            buildIdx = 1;
+        } else {
+            buildIdx = 0;
+        }
+        final int probeIdx = 1 - buildIdx;
+        final boolean collectKeys = m_enableHilite && m_hiliteMapping0 != null;
+        final long rowCount = tables[0].size() + tables[1].size();
+        long rowCounter = 0;
+        final MemoryAlertSystem memSys = MemoryAlertSystem.getInstance();
+        final Map<DataCell, HashEntry> entries = new HashMap<DataCell, HashEntry>();
+        for (final DataRow row : tables[buildIdx]) {
+            final DataCell cell = getCell(row, useRowIDs[buildIdx], colIdxs[buildIdx]);
+            HashEntry entry = entries.get(cell);
+            if (entry == null) {
+                entry = new HashEntry();
+                entries.put(cell, entry);
+            }
+            entry.add(buildIdx, row.getKey(), cell, collectKeys);
+            reportProgress(exec, rowCount, ++rowCounter);
+            if (rowCounter >= MIN_ELEMENTS_HASHED && memSys.isMemoryLow()) {
+                NodeLogger.getLogger(getClass()).debug(
+                    "Memory is running low, falling back to sorting the input tables");
+                return null;
+            }
+        }
+        for (final DataRow row : tables[probeIdx]) {
+            final DataCell cell = getCell(row, useRowIDs[probeIdx], colIdxs[probeIdx]);
+            final HashEntry entry = entries.get(cell);
+            if (entry != null) {
+                // the keys of the second table don't contribute to the complement
+                entry.add(probeIdx, row.getKey(), cell, collectKeys && op == SetOperation.AND);
+            }
+            reportProgress(exec, rowCount, ++rowCounter);
+        }
+        final List<HashEntry> resultEntries = new ArrayList<HashEntry>();
+        for (final HashEntry entry : entries.values()) {
+            final boolean inBoth = entry.m_counts[0] > 0 && entry.m_counts[1] > 0;
+            if (op == SetOperation.AND ? inBoth : !inBoth) {
+                resultEntries.add(entry);
+            }
+        }
+        entries.clear();
+        // the merge based approach returns the values of the first table in the order of the comparator
+        final Comparator<HashEntry> entryComparator = new Comparator<HashEntry>() {
+            @Override
+            public int compare(final HashEntry o1, final HashEntry o2) {
+                return comp.compare(o1.m_firstCell, o2.m_firstCell);
+            }
+        };
+        Collections.sort(resultEntries, entryComparator);
+        m_rowId = -1;
+        final BufferedDataContainer dc = exec.createDataContainer(resultSpec);
+        for (final HashEntry entry : resultEntries) {
+            exec.checkCanceled();
+            final DataCell result = entry.m_firstCell;
+            // the merge based approach processes the duplicates of both tables pairwise
+            final long nrCalls = op == SetOperation.AND
+                    ? Math.max(entry.m_counts[0], entry.m_counts[1]) : entry.m_counts[0];
+            if (m_skipMisssing && result.isMissing()) {
+                m_missingCounter += nrCalls;
+                continue;
+            }
+            m_duplicateCounter += nrCalls - 1;
+            final RowKey rowKey = RowKey.createRowKey(++m_rowId);
+            dc.addRowToTable(new DefaultRow(rowKey, result));
+            if (collectKeys) {
+                m_hiliteMapping0.put(rowKey, entry.m_keys[0]);
+                if (entry.m_keys[1] != null) {
+                    m_hiliteMapping1.put(rowKey, entry.m_keys[1]);
+                }
+            }
+        }
+        dc.close();
+        return dc.getTable();
+    }
+
+    private static DataCell getCell(final DataRow row, final boolean useRowID, final int colIdx) {
+        if (useRowID) {
+            return new StringCell(row.getKey().getString());
+        }
+        return row.getCell(colIdx);
+    }
+
+    /**
+     * Collects the occurrences of a distinct value in both tables.
+     */
+    private static final class HashEntry {
+
+        /** The first value of the first table, which is the result. */
+        private DataCell m_firstCell;
+
+        private final long[] m_counts = new long[2];
+
+        @SuppressWarnings("unchecked")
+        private final Set<RowKey>[] m_keys = new Set[2];
+
+        void add(final int tableIdx, final RowKey rowKey, final DataCell cell, final boolean collectKey) {
+            if (tableIdx == 0 && m_firstCell == null) {
+                m_firstCell = cell;
+            }
+            m_counts[tableIdx]++;
+            if (collectKey) {
+                if (m_keys[tableIdx] == null) {
+                    m_keys[tableIdx] = new HashSet<RowKey>();
+                }
+                m_keys[tableIdx].add(rowKey);
+            }
+        }
+    }
+
     private Callable<SortedTable> createSortTableCallable(
             final ExecutionContext exec, final BufferedDataTable table,
             final SingleColRowComparator comparator,
@@ -0,0 +1,329 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.stringreplacer;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.knime.base.util.StringSearcher;
+import org.knime.base.util.WildcardMatcher;
+
+/**
+ * Performs the replacement configured in {@link StringReplacerSettings} on single strings.
+ *
+ * <p>
+ * Most patterns used in practice are plain strings or simple wildcards. Those are detected when the replacement is
+ * created and handled without {@link java.util.regex}: a plain string by searching it with a {@link StringSearcher},
+ * a wildcard consisting of <code>*</code> and literals by prefix, suffix and infix checks and a wildcard with
+ * <code>?</code> by a backtracking matcher. All other patterns, case insensitive matching and replacements whose
+ * meaning depends on the match fall back to a regular expression. The results are the same either way.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+abstract class StringReplacement {
+
+    private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    /**
+     * @param value the string to replace in
+     * @return the result of the replacement
+     */
+    abstract String replace(String value);
+
+    /**
+     * Creates the replacement for the given settings.
+     *
+     * @param settings the settings of the node
+     * @return the replacement
+     * @throws java.util.regex.PatternSyntaxException if the pattern is invalid
+     */
+    static StringReplacement create(final StringReplacerSettings settings) {
+        final RegexReplacement regex = new RegexReplacement(settings);
+        if (!settings.caseSensitive() || settings.pattern().isEmpty() || hasSurrogates(settings.pattern())) {
+            return regex;
+        }
+        // the fast paths don't know about groups, the replacement must not refer to them
+        final String literalReplacement = toLiteralReplacement(regex.m_replacement);
+        if (literalReplacement == null) {
+            return regex;
+        }
+        final String pattern = settings.pattern();
+        if (settings.patternIsRegex()) {
+            if (!isLiteralRegex(pattern)) {
+                return regex;
+            }
+            return settings.replaceAllOccurrences() ? new LiteralReplacement(pattern, literalReplacement)
+                : new WholeStringReplacement(pattern, literalReplacement, regex);
+        }
+        if (settings.enableEscaping() && pattern.indexOf('\\') >= 0) {
+            return regex;
+        }
+        final boolean isLiteral = pattern.indexOf('*') < 0 && pattern.indexOf('?') < 0;
+        if (settings.replaceAllOccurrences()) {
+            return isLiteral ? new LiteralReplacement(pattern, literalReplacement) : regex;
+        }
+        if (pattern.chars().allMatch(c -> c == '*')) {
+            // matches the empty string, which the regular expression replaces in a special way
+            return regex;
+        }
+        return new WholeStringReplacement(pattern, literalReplacement, regex);
+    }
+
+    /** @return the string the regular expression inserts for the replacement or null if it refers to groups */
+    private static String toLiteralReplacement(final String replacement) {
+        if (replacement.indexOf('$') < 0 && replacement.indexOf('\\') < 0) {
+            return replacement;
+        }
+        final StringBuilder literal = new StringBuilder(replacement.length());
+        for (int i = 0; i < replacement.length(); i++) {
+            final char c = replacement.charAt(i);
+            if (c == '$' || (c == '\\' && i + 1 == replacement.length())) {
+                // a group reference or an invalid trailing backslash, left to the regular expression
+                return null;
+            }
+            if (c == '\\') {
+                i++;
+                literal.append(replacement.charAt(i));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.toString();
+    }
+
+    private static boolean isLiteralRegex(final String pattern) {
+        return pattern.chars().noneMatch(c -> REGEX_META_CHARACTERS.indexOf(c) >= 0);
+    }
+
+    private static boolean hasSurrogates(final String value) {
+        return value.chars().anyMatch(c -> Character.isSurrogate((char)c));
+    }
+
+    /** Replaces using a regular expression, the fallback for all patterns. */
+    private static final class RegexReplacement extends StringReplacement {
+
+        private final Pattern m_pattern;
+
+        private final String m_replacement;
+
+        private final boolean m_replaceAllOccurrences;
+
+        RegexReplacement(final StringReplacerSettings settings) {
+            m_pattern = createPattern(settings);
+            if (settings.patternIsRegex()) {
+                m_replacement = settings.replacement();
+            } else {
+                m_replacement = settings.replacement().replaceAll("(\\$\\d+)", "\\\\$1");
+            }
+            m_replaceAllOccurrences = settings.replaceAllOccurrences();
+        }
+
+        @Override
+        String replace(final String value) {
+            Matcher m = m_pattern.matcher(value);
+            if (m_replaceAllOccurrences) {
+                return m.replaceAll(m_replacement);
+            } else if (m.matches()) {
+                if (".*".equals(m_pattern.pattern())) {
+                    // .* matches twice, first for the empty string and then for the whole string
+                    // therefore the replacement value is doubled
+                    return m_replacement;
+                } else {
+                    return m.replaceAll(m_replacement);
+                }
+            } else {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Creates the pattern for the given settings.
+     *
+     * @param settings the settings of the node
+     * @return the compiled pattern
+     */
+    static Pattern createPattern(final StringReplacerSettings settings) {
+        String regex;
+        int flags = 0;
+        if (settings.patternIsRegex()) {
+            regex = settings.pattern();
+        } else {
+            regex = WildcardMatcher.wildcardToRegex(settings.pattern(), settings.enableEscaping());
+            flags = Pattern.DOTALL | Pattern.MULTILINE;
+        }
+        // support for \n and international characters
+        if (!settings.caseSensitive()) {
+            flags |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        }
+        return Pattern.compile(regex, flags);
+    }
+
+    /** Replaces all occurrences of a plain string. */
+    private static final class LiteralReplacement extends StringReplacement {
+
+        private final StringSearcher m_searcher;
+
+        private final String m_replacement;
+
+        LiteralReplacement(final String pattern, final String replacement) {
+            m_searcher = new StringSearcher(pattern);
+            m_replacement = replacement;
+        }
+
+        @Override
+        String replace(final String value) {
+            return m_searcher.replaceAll(value, m_replacement);
+        }
+    }
+
+    /** Replaces the whole string if it matches a wildcard pattern without escaping or a plain string. */
+    private static final class WholeStringReplacement extends StringReplacement {
+
+        private final String m_wildcard;
+
+        private final String m_replacement;
+
+        private final boolean m_hasQuestionMark;
+
+        /** The parts between the '*' of a pattern without '?'. */
+        private final String[] m_segments;
+
+        private final StringSearcher[] m_innerSearchers;
+
+        private final StringReplacement m_fallback;
+
+        WholeStringReplacement(final String wildcard, final String replacement, final StringReplacement fallback) {
+            m_wildcard = wildcard;
+            m_replacement = replacement;
+            m_fallback = fallback;
+            m_hasQuestionMark = wildcard.indexOf('?') >= 0;
+            m_segments = wildcard.split("\\*", -1);
+            m_innerSearchers = new StringSearcher[m_segments.length];
+            for (int i = 1; i < m_segments.length - 1; i++) {
+                if (!m_segments[i].isEmpty()) {
+                    m_innerSearchers[i] = new StringSearcher(m_segments[i]);
+                }
+            }
+        }
+
+        @Override
+        String replace(final String value) {
+            final boolean matches;
+            if (m_hasQuestionMark) {
+                if (hasSurrogates(value)) {
+                    // '?' matches a code point rather than a char
+                    return m_fallback.replace(value);
+                }
+                matches = matchesWithQuestionMarks(value);
+            } else {
+                matches = matchesSegments(value);
+            }
+            return matches ? m_replacement : value;
+        }
+
+        private boolean matchesSegments(final String value) {
+            if (m_segments.length == 1) {
+                return value.equals(m_wildcard);
+            }
+            final String prefix = m_segments[0];
+            final String suffix = m_segments[m_segments.length - 1];
+            if (value.length() < prefix.length() + suffix.length() || !value.startsWith(prefix)
+                || !value.endsWith(suffix)) {
+                return false;
+            }
+            // the inner segments are found leftmost, leaving as much room as possible for the following ones
+            int position = prefix.length();
+            final int end = value.length() - suffix.length();
+            for (int i = 1; i < m_segments.length - 1; i++) {
+                if (m_innerSearchers[i] == null) {
+                    continue;
+                }
+                final int index = m_innerSearchers[i].indexOf(value, position);
+                if (index < 0 || index + m_segments[i].length() > end) {
+                    return false;
+                }
+                position = index + m_segments[i].length();
+            }
+            return true;
+        }
+
+        private boolean matchesWithQuestionMarks(final String value) {
+            final String wildcard = m_wildcard;
+            int v = 0;
+            int w = 0;
+            // the position of the last '*' and the position in the value it was tried with
+            int star = -1;
+            int starValue = 0;
+            while (v < value.length()) {
+                if (w < wildcard.length() && wildcard.charAt(w) == '*') {
+                    star = w;
+                    starValue = v;
+                    w++;
+                } else if (w < wildcard.length()
+                    && (wildcard.charAt(w) == '?' || wildcard.charAt(w) == value.charAt(v))) {
+                    v++;
+                    w++;
+                } else if (star >= 0) {
+                    // let the last '*' consume one more character
+                    w = star + 1;
+                    starValue++;
+                    v = starValue;
+                } else {
+                    return false;
+                }
+            }
+            while (w < wildcard.length() && wildcard.charAt(w) == '*') {
+                w++;
+            }
+            return w == wildcard.length();
+        }
+    }
+}
@@ -49,10 +49,7 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import org.knime.base.util.WildcardMatcher;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -89,7 +86,7 @@ public class StringReplacerNodeModel extends SimpleStreamableFunctionNodeModel {
      */
     @Override
     protected ColumnRearranger createColumnRearranger(final DataTableSpec spec) throws InvalidSettingsException {
-        final Pattern pattern = createPattern(m_settings);
+        final StringReplacement replacement = StringReplacement.create(m_settings);
 
         DataColumnSpec colSpec;
         if (m_settings.createNewColumn()) {
@@ -98,12 +95,6 @@ protected ColumnRearranger createColumnRearranger(final DataTableSpec spec) thro
             colSpec = new DataColumnSpecCreator(m_settings.columnName(), StringCell.TYPE).createSpec();
         }
 
-        final String replacement;
-        if (m_settings.patternIsRegex()) {
-            replacement = m_settings.replacement();
-        } else {
-            replacement = m_settings.replacement().replaceAll("(\\$\\d+)", "\\\\$1");
-        }
         final int index = spec.findColumnIndex(m_settings.columnName());
         SingleCellFactory cf = new SingleCellFactory(colSpec) {
             @Override
@@ -114,20 +105,7 @@ public DataCell getCell(final DataRow row) {
                 }
 
                 final String stringValue = ((StringValue)cell).getStringValue();
-                Matcher m = pattern.matcher(stringValue);
-                if (m_settings.replaceAllOccurrences()) {
-                    return new StringCell(m.replaceAll(replacement));
-                } else if (m.matches()) {
-                    if (".*".equals(pattern.pattern())) {
-                        // .* matches twice, first for the empty string and then for the whole string
-                        // therefore the replacement value is doubled
-                        return new StringCell(replacement);
-                    } else {
-                        return new StringCell(m.replaceAll(replacement));
-                    }
-                } else {
-                    return new StringCell(stringValue);
-                }
+                return new StringCell(replacement.replace(stringValue));
             }
         };
 
@@ -145,22 +123,6 @@ public DataCell getCell(final DataRow row) {
         return crea;
     }
 
-    private static Pattern createPattern(final StringReplacerSettings settings) {
-        String regex;
-        int flags = 0;
-        if (settings.patternIsRegex()) {
-            regex = settings.pattern();
-        } else {
-            regex = WildcardMatcher.wildcardToRegex(settings.pattern(), settings.enableEscaping());
-            flags = Pattern.DOTALL | Pattern.MULTILINE;
-        }
-        // support for \n and international characters
-        if (!settings.caseSensitive()) {
-            flags |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
-        }
-        return Pattern.compile(regex, flags);
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -261,6 +223,6 @@ protected void validateSettings(final NodeSettingsRO settings)
                     "'*' is not allowed when all occurrences of the "
                             + "pattern should be replaced");
         }
-        createPattern(s);
+        StringReplacement.create(s);
     }
 }
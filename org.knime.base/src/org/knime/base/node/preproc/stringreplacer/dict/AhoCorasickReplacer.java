@@ -0,0 +1,288 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.stringreplacer.dict;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Replaces all occurrences of the keys of a dictionary within a string by their values. The keys are compiled into an
+ * Aho-Corasick automaton once, each string is then processed with a single scan.
+ *
+ * <p>
+ * Matches don't overlap. If several keys match, the leftmost match wins and among the matches starting at the same
+ * position the longest one. If case is ignored, characters are compared after converting them to lower case. Instances
+ * are immutable and can be used concurrently.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class AhoCorasickReplacer {
+
+    private static final int ROOT = 0;
+
+    private final boolean m_caseSensitive;
+
+    private final TransitionTable m_transitions;
+
+    /** The longest proper suffix of a node that is also a node. */
+    private final int[] m_failure;
+
+    /** The number of characters leading to a node. */
+    private final int[] m_depth;
+
+    /** The replacement of a node that completes a key, <code>null</code> for other nodes. */
+    private final String[] m_replacement;
+
+    /** The longest proper suffix of a node that completes a key, -1 if there is none. */
+    private final int[] m_dictionarySuffix;
+
+    /**
+     * @param dictionary maps the keys to their replacements, empty keys are ignored
+     * @param caseSensitive whether the case of the characters matters; if not and several keys only differ in case,
+     *            one of their replacements is used
+     */
+    AhoCorasickReplacer(final Map<String, String> dictionary, final boolean caseSensitive) {
+        m_caseSensitive = caseSensitive;
+        int capacity = 1;
+        for (final String key : dictionary.keySet()) {
+            capacity += key.length();
+        }
+        m_transitions = new TransitionTable(capacity);
+        final int[] parent = new int[capacity];
+        final char[] parentChar = new char[capacity];
+        m_depth = new int[capacity];
+        m_replacement = new String[capacity];
+        int nrNodes = 1;
+        int maxDepth = 0;
+        for (final Map.Entry<String, String> entry : dictionary.entrySet()) {
+            final String key = entry.getKey();
+            if (key.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < key.length(); i++) {
+                final char c = fold(key.charAt(i));
+                int next = m_transitions.get(node, c);
+                if (next < 0) {
+                    next = nrNodes++;
+                    m_transitions.put(node, c, next);
+                    parent[next] = node;
+                    parentChar[next] = c;
+                    m_depth[next] = i + 1;
+                }
+                node = next;
+            }
+            m_replacement[node] = entry.getValue();
+            maxDepth = Math.max(maxDepth, key.length());
+        }
+
+        m_failure = new int[nrNodes];
+        m_dictionarySuffix = new int[nrNodes];
+        m_dictionarySuffix[ROOT] = -1;
+        // the failure of a node is computed from the failure of its parent, hence process them by increasing depth
+        for (final int node : sortByDepth(nrNodes, maxDepth)) {
+            final int p = parent[node];
+            int failure = ROOT;
+            if (p != ROOT) {
+                final char c = parentChar[node];
+                int f = m_failure[p];
+                while (f != ROOT && m_transitions.get(f, c) < 0) {
+                    f = m_failure[f];
+                }
+                final int next = m_transitions.get(f, c);
+                failure = next < 0 ? ROOT : next;
+            }
+            m_failure[node] = failure;
+            m_dictionarySuffix[node] = m_replacement[failure] != null ? failure : m_dictionarySuffix[failure];
+        }
+    }
+
+    /** @return the non-root nodes ordered by increasing depth */
+    private int[] sortByDepth(final int nrNodes, final int maxDepth) {
+        // counting sort, offset[d] is the number of nodes with a depth less than d
+        final int[] offset = new int[maxDepth + 2];
+        for (int node = 1; node < nrNodes; node++) {
+            offset[m_depth[node] + 1]++;
+        }
+        for (int d = 1; d < offset.length; d++) {
+            offset[d] += offset[d - 1];
+        }
+        final int[] sorted = new int[nrNodes - 1];
+        for (int node = 1; node < nrNodes; node++) {
+            sorted[offset[m_depth[node]]++] = node;
+        }
+        return sorted;
+    }
+
+    private char fold(final char c) {
+        return m_caseSensitive ? c : Character.toLowerCase(c);
+    }
+
+    /**
+     * Converts the characters of a string to lower case the same way the replacer does if case is ignored.
+     *
+     * @param text the text to convert
+     * @return the text in lower case
+     */
+    static String toLowerCase(final String text) {
+        final char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private int next(final int node, final char c) {
+        int n = node;
+        int next;
+        while ((next = m_transitions.get(n, c)) < 0 && n != ROOT) {
+            n = m_failure[n];
+        }
+        return next < 0 ? ROOT : next;
+    }
+
+    /**
+     * Replaces all occurrences of the keys in the given text.
+     *
+     * @param text the text to search in
+     * @return the text with all matches replaced, the argument itself if nothing matches
+     */
+    String replace(final String text) {
+        StringBuilder result = null;
+        // the end of the part of the text that is already processed
+        int processed = 0;
+        int node = ROOT;
+        int matchStart = -1;
+        int matchEnd = -1;
+        String matchReplacement = null;
+        for (int i = 0; i < text.length(); i++) {
+            node = next(node, fold(text.charAt(i)));
+            // the longest key ending here is also the one that starts leftmost
+            final int matchNode = m_replacement[node] != null ? node : m_dictionarySuffix[node];
+            if (matchNode >= 0) {
+                final int start = i + 1 - m_depth[matchNode];
+                if (matchStart < 0 || start <= matchStart) {
+                    matchStart = start;
+                    matchEnd = i + 1;
+                    matchReplacement = m_replacement[matchNode];
+                }
+            }
+            // no key that is still being matched starts at or before the candidate, hence it's final
+            final boolean isLast = i == text.length() - 1;
+            if (matchStart >= 0 && (isLast || i + 1 - m_depth[node] > matchStart)) {
+                if (result == null) {
+                    result = new StringBuilder(text.length());
+                }
+                result.append(text, processed, matchStart).append(matchReplacement);
+                processed = matchEnd;
+                // continue directly after the match as matches must not overlap
+                i = matchEnd - 1;
+                node = ROOT;
+                matchStart = -1;
+            }
+        }
+        if (result == null) {
+            return text;
+        }
+        return result.append(text, processed, text.length()).toString();
+    }
+
+    /** Open addressing hash table mapping a node and a character to the next node. */
+    private static final class TransitionTable {
+
+        private static final long EMPTY = -1;
+
+        private final long[] m_keys;
+
+        private final int[] m_values;
+
+        private final int m_mask;
+
+        TransitionTable(final int expectedSize) {
+            // load factor of at most 0.5
+            final int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+            m_keys = new long[capacity];
+            Arrays.fill(m_keys, EMPTY);
+            m_values = new int[capacity];
+            m_mask = capacity - 1;
+        }
+
+        private static long key(final int node, final char c) {
+            return ((long)node << 16) | c;
+        }
+
+        private int index(final long key) {
+            final long h = key * 0x9E3779B97F4A7C15L;
+            return (int)(h ^ (h >>> 32)) & m_mask;
+        }
+
+        int get(final int node, final char c) {
+            final long key = key(node, c);
+            for (int i = index(key);; i = (i + 1) & m_mask) {
+                final long k = m_keys[i];
+                if (k == key) {
+                    return m_values[i];
+                } else if (k == EMPTY) {
+                    return -1;
+                }
+            }
+        }
+
+        void put(final int node, final char c, final int next) {
+            final long key = key(node, c);
+            int i = index(key);
+            while (m_keys[i] != EMPTY) {
+                i = (i + 1) & m_mask;
+            }
+            m_keys[i] = key;
+            m_values[i] = next;
+        }
+    }
+}
@@ -94,6 +94,10 @@ final class SearchReplaceDictNodeDialogPane extends NodeDialogPane {
 
     private final JTextField m_appendTextField;
 
+    private final JCheckBox m_replaceSubstringsChecker;
+
+    private final JCheckBox m_caseSensitiveChecker;
+
     /** Inits GUI. */
     @SuppressWarnings("unchecked")
     public SearchReplaceDictNodeDialogPane() {
@@ -145,6 +149,8 @@ public void keyTyped(final KeyEvent e) {
             }
         });
         m_appendTextField = new JTextField();
+        m_replaceSubstringsChecker = new JCheckBox("Replace occurrences within cells");
+        m_caseSensitiveChecker = new JCheckBox("Case sensitive");
         layout();
     }
 
@@ -176,6 +182,9 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final DataTableSp
         if (appendCol != null) {
             m_appendTextField.setText(appendCol);
         }
+        m_replaceSubstringsChecker
+            .setSelected(settings.getBoolean(SearchReplaceDictNodeModel.CFG_REPLACE_SUBSTRINGS, false));
+        m_caseSensitiveChecker.setSelected(settings.getBoolean(SearchReplaceDictNodeModel.CFG_CASE_SENSITIVE, true));
     }
 
     /** {@inheritDoc} */
@@ -213,6 +222,9 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         settings.addString(SearchReplaceDictNodeModel.CFG_DICT_LOCATION, dictLoc);
         settings.addString(SearchReplaceDictNodeModel.CFG_APPEND_COLUMN, appendCol);
         settings.addChar(SearchReplaceDictNodeModel.CFG_DELIMITER_IN_DICT, delim);
+        settings.addBoolean(SearchReplaceDictNodeModel.CFG_REPLACE_SUBSTRINGS,
+            m_replaceSubstringsChecker.isSelected());
+        settings.addBoolean(SearchReplaceDictNodeModel.CFG_CASE_SENSITIVE, m_caseSensitiveChecker.isSelected());
     }
 
     /** Layout the GUI elements with GridBagLayout. */
@@ -259,6 +271,14 @@ private void layout() {
         g.gridy++;
         panel.add(m_appendTextField, g);
 
+        g.gridx = 0;
+        g.gridy++;
+        g.gridwidth = 2;
+        panel.add(m_replaceSubstringsChecker, g);
+
+        g.gridy++;
+        panel.add(m_caseSensitiveChecker, g);
+
         addTab("Default", panel);
 
     }
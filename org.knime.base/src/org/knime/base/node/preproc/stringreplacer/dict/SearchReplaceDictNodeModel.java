@@ -54,6 +54,7 @@
 import java.net.MalformedURLException;
 import java.nio.file.InvalidPathException;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.StringTokenizer;
 
 import org.knime.core.data.DataCell;
@@ -97,6 +98,12 @@ final class SearchReplaceDictNodeModel extends SimpleStreamableFunctionNodeModel
     /** Config key for delimiter in dictionary. */
     static final String CFG_DELIMITER_IN_DICT = "delimiter_in_dict";
 
+    /** Config key for replacing occurrences of the keys within the cells instead of whole cells, added in 4.2. */
+    static final String CFG_REPLACE_SUBSTRINGS = "replace_substrings";
+
+    /** Config key for case sensitive matching of the keys, added in 4.2. */
+    static final String CFG_CASE_SENSITIVE = "case_sensitive";
+
     private String m_dictFileURLString;
 
     private String m_targetColumnName;
@@ -105,9 +112,16 @@ final class SearchReplaceDictNodeModel extends SimpleStreamableFunctionNodeModel
 
     private char m_delimInDictCharacter;
 
+    private boolean m_replaceSubstrings = false;
+
+    private boolean m_caseSensitive = true;
+
     /** temporarily used during execute. */
     private HashMap<String, String> m_replacementMap;
 
+    /** temporarily used during execute if substrings are replaced. */
+    private AhoCorasickReplacer m_substringReplacer;
+
     /** One input, one output. */
     public SearchReplaceDictNodeModel() {
     }
@@ -145,12 +159,13 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         throws Exception {
         exec.setMessage("Reading dictionary");
         ExecutionMonitor subExec = exec.createSubProgress(0.2);
-        m_replacementMap = readDictionary(subExec);
+        initReplacement(subExec);
         exec.setMessage("Searching & Replacing");
         DataTableSpec spec = inData[0].getDataTableSpec();
         ColumnRearranger rearranger = createColumnRearranger(spec);
         BufferedDataTable result = exec.createColumnRearrangeTable(inData[0], rearranger, exec.createSubProgress(0.8));
         m_replacementMap = null;
+        m_substringReplacer = null;
         return new BufferedDataTable[]{result};
     }
 
@@ -161,7 +176,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
     public StreamableFunction createStreamableOperator(final PartitionInfo partitionInfo, final PortObjectSpec[] inSpecs)
         throws InvalidSettingsException {
         try {
-            m_replacementMap = readDictionary(null);
+            initReplacement(null);
         } catch (IOException e) {
             throw new InvalidSettingsException("Can't read dictionary file.", e);
         }
@@ -183,7 +198,12 @@ protected ColumnRearranger createColumnRearranger(final DataTableSpec spec) {
         } else {
             newColCreator = new DataColumnSpecCreator(m_newColumnName, StringCell.TYPE);
         }
-        CellFactory amendedCol = new SingleCellFactory(newColCreator.createSpec()) {
+        // the dictionary is only read during execution, hence these are null during configure
+        final HashMap<String, String> replacementMap = m_replacementMap;
+        final AhoCorasickReplacer substringReplacer = m_substringReplacer;
+        final boolean caseSensitive = m_caseSensitive;
+        // the substring replacement is expensive and thread-safe, hence process the rows concurrently
+        CellFactory amendedCol = new SingleCellFactory(m_replaceSubstrings, newColCreator.createSpec()) {
             @Override
             public DataCell getCell(final DataRow row) {
                 DataCell c = row.getCell(targetColIndex);
@@ -191,7 +211,13 @@ public DataCell getCell(final DataRow row) {
                     return c;
                 }
                 String cellContent = c.toString();
-                String replacement = m_replacementMap.get(cellContent);
+                String replacement;
+                if (substringReplacer != null) {
+                    replacement = substringReplacer.replace(cellContent);
+                } else {
+                    replacement = replacementMap
+                        .get(caseSensitive ? cellContent : AhoCorasickReplacer.toLowerCase(cellContent));
+                }
                 if (replacement != null) {
                     return new StringCell(replacement);
                 } else {
@@ -209,6 +235,22 @@ public DataCell getCell(final DataRow row) {
         return result;
     }
 
+    /* execution context can be null -> no progress message*/
+    private void initReplacement(final ExecutionMonitor exec) throws IOException {
+        final HashMap<String, String> dictionary = readDictionary(exec);
+        if (m_replaceSubstrings) {
+            m_replacementMap = null;
+            m_substringReplacer = new AhoCorasickReplacer(dictionary, m_caseSensitive);
+        } else if (m_caseSensitive) {
+            m_replacementMap = dictionary;
+        } else {
+            m_replacementMap = new HashMap<String, String>();
+            for (Map.Entry<String, String> entry : dictionary.entrySet()) {
+                m_replacementMap.put(AhoCorasickReplacer.toLowerCase(entry.getKey()), entry.getValue());
+            }
+        }
+    }
+
     /* execution context can be null -> no progress message*/
     private HashMap<String, String> readDictionary(final ExecutionMonitor exec) throws IOException {
         File f = FileUtil.getFileFromURL(FileUtil.toURL(m_dictFileURLString));
@@ -266,12 +308,16 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         m_newColumnName = settings.getString(CFG_APPEND_COLUMN);
         m_dictFileURLString = settings.getString(CFG_DICT_LOCATION);
         m_delimInDictCharacter = settings.getChar(CFG_DELIMITER_IN_DICT);
+        // added in 4.2
+        m_replaceSubstrings = settings.getBoolean(CFG_REPLACE_SUBSTRINGS, false);
+        m_caseSensitive = settings.getBoolean(CFG_CASE_SENSITIVE, true);
     }
 
     /** {@inheritDoc} */
     @Override
     protected void reset() {
         m_replacementMap = null;
+        m_substringReplacer = null;
     }
 
     /** {@inheritDoc} */
@@ -289,6 +335,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
             settings.addString(CFG_APPEND_COLUMN, m_newColumnName);
             settings.addString(CFG_DICT_LOCATION, m_dictFileURLString);
             settings.addChar(CFG_DELIMITER_IN_DICT, m_delimInDictCharacter);
+            settings.addBoolean(CFG_REPLACE_SUBSTRINGS, m_replaceSubstrings);
+            settings.addBoolean(CFG_CASE_SENSITIVE, m_caseSensitive);
         }
 
     }
@@ -0,0 +1,513 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.transpose;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.Pair;
+
+/**
+ * Transposes a table with a single pass over the input.
+ *
+ * <p>
+ * The input columns are split into blocks of at most <i>block size</i> columns. Each added row is scattered into one
+ * buffer per block. If memory runs low, the buffers are spilled block by block into a temporary table (a
+ * <i>run</i>). Afterwards, the blocks are transposed one after the other by reading their part of all runs
+ * sequentially, so that only one transposed block has to be held in memory at any time. If all input columns are of
+ * type {@link DoubleCell#TYPE}, the buffers store primitive doubles instead of cells.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BlockedTransposer {
+
+    /** Buffered cells of one block are kept in a single array, hence its size is bounded. */
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    private final DataTableSpec m_spec;
+
+    private final ExecutionContext m_exec;
+
+    private final int m_blockSize;
+
+    private final boolean m_numeric;
+
+    private final BlockBuffer[] m_buffers;
+
+    private final MemoryActionIndicator m_memIndicator = MemoryAlertSystem.getInstance().newIndicator();
+
+    /** The spilled runs together with the number of input rows they contain. */
+    private final List<Pair<BufferedDataTable, Integer>> m_runs = new ArrayList<>();
+
+    private final List<String> m_colNames = new ArrayList<>();
+
+    private final List<DataType> m_colTypes = new ArrayList<>();
+
+    /** Index for unique column names if a row ID only contains whitespace. */
+    private int m_emptyNameIndex;
+
+    private int m_bufferedRows;
+
+    private int m_rowsBeforeForcedSpill;
+
+    /**
+     * @param spec the spec of the table to transpose, must contain at least one column
+     * @param blockSize the maximum number of input columns that are transposed at once
+     * @param exec used to create the temporary tables
+     */
+    BlockedTransposer(final DataTableSpec spec, final int blockSize, final ExecutionContext exec) {
+        CheckUtils.checkArgument(blockSize > 0, "The block size must be positive: %d", blockSize);
+        m_spec = spec;
+        m_exec = exec;
+        m_blockSize = Math.min(blockSize, Math.max(1, spec.getNumColumns()));
+        m_numeric = spec.getNumColumns() > 0
+            && spec.stream().allMatch(c -> DoubleCell.TYPE.equals(c.getType()));
+        final int nrBlocks = (spec.getNumColumns() + m_blockSize - 1) / m_blockSize;
+        m_buffers = new BlockBuffer[nrBlocks];
+        for (int b = 0; b < nrBlocks; b++) {
+            final int width = getWidth(b);
+            m_buffers[b] = m_numeric ? new DoubleBlockBuffer(width) : new CellBlockBuffer(width);
+        }
+    }
+
+    /**
+     * Spills the buffers after the given number of rows even if there is enough memory, used for testing only.
+     *
+     * @param rows the number of rows after which the buffers are spilled, 0 to spill only if memory runs low
+     */
+    void setRowsBeforeForcedSpill(final int rows) {
+        m_rowsBeforeForcedSpill = rows;
+    }
+
+    /**
+     * @return the number of runs spilled to temporary tables so far
+     */
+    int getNrRuns() {
+        return m_runs.size();
+    }
+
+    private int getWidth(final int block) {
+        return Math.min(m_blockSize, m_spec.getNumColumns() - block * m_blockSize);
+    }
+
+    /**
+     * Adds the next row of the table, which becomes the next column of the transposed table.
+     *
+     * @param row the row to add
+     * @throws CanceledExecutionException if the execution is canceled while spilling
+     */
+    void add(final DataRow row) throws CanceledExecutionException {
+        DataType type = null;
+        for (int i = 0; i < row.getNumCells(); i++) {
+            final DataType newType = row.getCell(i).getType();
+            type = type == null ? newType : DataType.getCommonSuperType(type, newType);
+        }
+        m_colTypes.add(type == null ? DataType.getType(DataCell.class) : type);
+        String colName = row.getKey().getString().trim();
+        if (colName.isEmpty()) {
+            colName = "<empty_" + m_emptyNameIndex + ">";
+            m_emptyNameIndex++;
+        }
+        m_colNames.add(colName);
+
+        for (int b = 0; b < m_buffers.length; b++) {
+            m_buffers[b].append(row, b * m_blockSize);
+        }
+        m_bufferedRows++;
+        if (m_memIndicator.lowMemoryActionRequired()
+            || (m_rowsBeforeForcedSpill > 0 && m_bufferedRows >= m_rowsBeforeForcedSpill)
+            || (long)(m_bufferedRows + 1) * m_blockSize > MAX_BUFFER_SIZE) {
+            spill();
+        }
+    }
+
+    private int getNrRows() {
+        return m_colNames.size();
+    }
+
+    /** Writes the buffers to a temporary table, the rows of the first block first. */
+    private void spill() throws CanceledExecutionException {
+        if (m_bufferedRows == 0) {
+            return;
+        }
+        final DataColumnSpec[] runColumns = new DataColumnSpec[m_blockSize];
+        for (int c = 0; c < m_blockSize; c++) {
+            runColumns[c] = new DataColumnSpecCreator("Cell " + c, DataType.getType(DataCell.class)).createSpec();
+        }
+        final BufferedDataContainer run = m_exec.createDataContainer(new DataTableSpec(runColumns), false, 0);
+        long rowIndex = 0;
+        final DataCell[] cells = new DataCell[m_blockSize];
+        Arrays.fill(cells, DataType.getMissingCell());
+        for (final BlockBuffer buffer : m_buffers) {
+            for (int r = 0; r < m_bufferedRows; r++) {
+                for (int c = 0; c < buffer.m_width; c++) {
+                    cells[c] = buffer.get(r, c);
+                }
+                run.addRowToTable(new DefaultRow(RowKey.createRowKey(rowIndex), cells));
+                rowIndex++;
+            }
+            buffer.clear();
+            m_exec.checkCanceled();
+        }
+        run.close();
+        m_runs.add(new Pair<>(run.getTable(), m_bufferedRows));
+        m_bufferedRows = 0;
+    }
+
+    /**
+     * Creates the transposed table from the added rows and releases all temporary tables.
+     *
+     * @param exec the monitor to report progress to
+     * @return the transposed table
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    BufferedDataTable createTransposedTable(final ExecutionMonitor exec) throws CanceledExecutionException {
+        final int nrRows = getNrRows();
+        final DataColumnSpec[] colSpecs = new DataColumnSpec[nrRows];
+        for (int c = 0; c < nrRows; c++) {
+            colSpecs[c] = new DataColumnSpecCreator(m_colNames.get(c), m_colTypes.get(c)).createSpec();
+        }
+        final BufferedDataContainer cont = m_exec.createDataContainer(new DataTableSpec(colSpecs));
+        final List<RunReader> readers = new ArrayList<>(m_runs.size());
+        try {
+            for (final Pair<BufferedDataTable, Integer> run : m_runs) {
+                readers.add(new RunReader(run.getFirst(), run.getSecond()));
+            }
+            for (int b = 0; b < m_buffers.length; b++) {
+                final int firstColumn = b * m_blockSize;
+                final TransposedBlock block = m_numeric ? new DoubleTransposedBlock(m_buffers[b].m_width, nrRows)
+                    : new CellTransposedBlock(m_buffers[b].m_width, nrRows);
+                int rowOffset = 0;
+                for (final RunReader reader : readers) {
+                    reader.readNextBlock(block, rowOffset);
+                    rowOffset += reader.m_nrRows;
+                }
+                final BlockBuffer buffer = m_buffers[b];
+                buffer.transposeInto(block, rowOffset);
+                buffer.clear();
+                for (int c = 0; c < buffer.m_width; c++) {
+                    cont.addRowToTable(
+                        new DefaultRow(m_spec.getColumnSpec(firstColumn + c).getName(), block.getRow(c)));
+                }
+                exec.checkCanceled();
+                exec.setProgress((b + 1) / (double)m_buffers.length,
+                    "Added rows " + (firstColumn + 1) + " to " + (firstColumn + buffer.m_width) + " to table.");
+            }
+        } finally {
+            readers.forEach(RunReader::close);
+            cont.close();
+            for (final Pair<BufferedDataTable, Integer> run : m_runs) {
+                m_exec.clearTable(run.getFirst());
+            }
+            m_runs.clear();
+        }
+        return cont.getTable();
+    }
+
+    /** Reads the blocks of a spilled run one after the other. */
+    private static final class RunReader implements AutoCloseable {
+
+        private final CloseableRowIterator m_iterator;
+
+        private final int m_nrRows;
+
+        RunReader(final BufferedDataTable run, final int nrRows) {
+            m_iterator = run.iterator();
+            m_nrRows = nrRows;
+        }
+
+        void readNextBlock(final TransposedBlock block, final int rowOffset) {
+            for (int r = 0; r < m_nrRows; r++) {
+                final DataRow row = m_iterator.next();
+                for (int c = 0; c < block.m_width; c++) {
+                    block.set(c, rowOffset + r, row.getCell(c));
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            m_iterator.close();
+        }
+    }
+
+    /** The cells of a block in input order, i.e. row by row. */
+    private abstract static class BlockBuffer {
+
+        final int m_width;
+
+        BlockBuffer(final int width) {
+            m_width = width;
+        }
+
+        /**
+         * @return the capacity needed to store the given number of cells, grown by half to amortize copying
+         */
+        static int grow(final int capacity, final int minCapacity) {
+            return (int)Math.min(MAX_BUFFER_SIZE, Math.max(minCapacity, capacity + (long)(capacity >> 1)));
+        }
+
+        abstract void append(DataRow row, int firstColumn);
+
+        abstract DataCell get(int row, int column);
+
+        abstract int getNrRows();
+
+        /**
+         * Copies the buffered cells into the transposed block.
+         *
+         * @param block the block to copy the cells into
+         * @param rowOffset the index of the first buffered row among all rows of the input table
+         */
+        void transposeInto(final TransposedBlock block, final int rowOffset) {
+            final int nrRows = getNrRows();
+            for (int r = 0; r < nrRows; r++) {
+                for (int c = 0; c < m_width; c++) {
+                    block.set(c, rowOffset + r, get(r, c));
+                }
+            }
+        }
+
+        abstract void clear();
+    }
+
+    private static final class CellBlockBuffer extends BlockBuffer {
+
+        private DataCell[] m_cells = new DataCell[0];
+
+        private int m_size;
+
+        CellBlockBuffer(final int width) {
+            super(width);
+        }
+
+        @Override
+        void append(final DataRow row, final int firstColumn) {
+            if (m_size + m_width > m_cells.length) {
+                m_cells = Arrays.copyOf(m_cells, grow(m_cells.length, m_size + m_width));
+            }
+            for (int c = 0; c < m_width; c++) {
+                m_cells[m_size++] = row.getCell(firstColumn + c);
+            }
+        }
+
+        @Override
+        DataCell get(final int row, final int column) {
+            return m_cells[row * m_width + column];
+        }
+
+        @Override
+        int getNrRows() {
+            return m_size / m_width;
+        }
+
+        @Override
+        void clear() {
+            m_cells = new DataCell[0];
+            m_size = 0;
+        }
+    }
+
+    private static final class DoubleBlockBuffer extends BlockBuffer {
+
+        private double[] m_values = new double[0];
+
+        private final BitSet m_missing = new BitSet();
+
+        private int m_size;
+
+        DoubleBlockBuffer(final int width) {
+            super(width);
+        }
+
+        @Override
+        void append(final DataRow row, final int firstColumn) {
+            if (m_size + m_width > m_values.length) {
+                m_values = Arrays.copyOf(m_values, grow(m_values.length, m_size + m_width));
+            }
+            for (int c = 0; c < m_width; c++) {
+                final DataCell cell = row.getCell(firstColumn + c);
+                if (cell.isMissing()) {
+                    m_missing.set(m_size);
+                } else {
+                    m_values[m_size] = ((DoubleValue)cell).getDoubleValue();
+                }
+                m_size++;
+            }
+        }
+
+        @Override
+        DataCell get(final int row, final int column) {
+            final int index = row * m_width + column;
+            return m_missing.get(index) ? DataType.getMissingCell() : new DoubleCell(m_values[index]);
+        }
+
+        @Override
+        int getNrRows() {
+            return m_size / m_width;
+        }
+
+        @Override
+        void transposeInto(final TransposedBlock block, final int rowOffset) {
+            // numeric buffers are always transposed into numeric blocks, no need to create cells
+            final DoubleTransposedBlock doubleBlock = (DoubleTransposedBlock)block;
+            for (int i = 0; i < m_size; i++) {
+                final int r = rowOffset + i / m_width;
+                final int c = i % m_width;
+                if (m_missing.get(i)) {
+                    doubleBlock.m_missing[c].set(r);
+                } else {
+                    doubleBlock.m_values[c][r] = m_values[i];
+                }
+            }
+        }
+
+        @Override
+        void clear() {
+            m_values = new double[0];
+            m_missing.clear();
+            m_size = 0;
+        }
+    }
+
+    /** The cells of a block in output order, i.e. one array per output row. */
+    private abstract static class TransposedBlock {
+
+        final int m_width;
+
+        TransposedBlock(final int width) {
+            m_width = width;
+        }
+
+        abstract void set(int row, int column, DataCell cell);
+
+        abstract DataCell[] getRow(int row);
+    }
+
+    private static final class CellTransposedBlock extends TransposedBlock {
+
+        private final DataCell[][] m_cells;
+
+        CellTransposedBlock(final int width, final int nrColumns) {
+            super(width);
+            m_cells = new DataCell[width][nrColumns];
+        }
+
+        @Override
+        void set(final int row, final int column, final DataCell cell) {
+            m_cells[row][column] = cell;
+        }
+
+        @Override
+        DataCell[] getRow(final int row) {
+            final DataCell[] cells = m_cells[row];
+            // release the row once it is in the output table
+            m_cells[row] = null;
+            return cells;
+        }
+    }
+
+    private static final class DoubleTransposedBlock extends TransposedBlock {
+
+        private final double[][] m_values;
+
+        private final BitSet[] m_missing;
+
+        DoubleTransposedBlock(final int width, final int nrColumns) {
+            super(width);
+            m_values = new double[width][nrColumns];
+            m_missing = new BitSet[width];
+            for (int r = 0; r < width; r++) {
+                m_missing[r] = new BitSet();
+            }
+        }
+
+        @Override
+        void set(final int row, final int column, final DataCell cell) {
+            if (cell.isMissing()) {
+                m_missing[row].set(column);
+            } else {
+                m_values[row][column] = ((DoubleValue)cell).getDoubleValue();
+            }
+        }
+
+        @Override
+        DataCell[] getRow(final int row) {
+            final double[] values = m_values[row];
+            final DataCell[] cells = new DataCell[values.length];
+            for (int c = 0; c < values.length; c++) {
+                cells[c] = m_missing[row].get(c) ? DataType.getMissingCell() : new DoubleCell(values[c]);
+            }
+            m_values[row] = null;
+            return cells;
+        }
+    }
+}
@@ -0,0 +1,574 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.viz.crosstable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.knime.base.node.parallel.ParallelChunkProcessor;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Computes the contingency table of two columns in a single pass, optionally weighted by a third column. The rows are
+ * read in chunks that are processed in parallel, see {@link ParallelChunkProcessor}. Each thread interns the row and
+ * column values into its own dense int ids and counts into its own long-keyed hash table. When merged, the values get
+ * global ids and the frequencies are kept in a dense array, or in a sparse long-keyed hash table if the number of
+ * combinations exceeds {@value #MAX_DENSE_CELLS}.
+ *
+ * <p>
+ * The result are the observed combinations of values (cells) sorted by the row and then the column value, which is
+ * the order of a group-by on both columns. A cell is observed if it contains at least one row, even if all of its
+ * weights are missing or negative, which are ignored.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class CrosstabCounter {
+
+    /** The maximum number of combinations of values that are counted in a dense array. */
+    static final int MAX_DENSE_CELLS = 1 << 22;
+
+    private final int m_rowVarIndex;
+
+    private final int m_colVarIndex;
+
+    /** The index of the weight column or -1. */
+    private final int m_weightIndex;
+
+    private final boolean m_collectKeys;
+
+    private final ParallelChunkProcessor m_processor;
+
+    /** The counts of the threads that are not in use. */
+    private final Queue<Counts> m_freeCounts = new ConcurrentLinkedQueue<>();
+
+    /** All counts, only modified by the threads while holding its lock. */
+    private final List<Counts> m_allCounts = new ArrayList<>();
+
+    /** The distinct row and column values in sorted order. */
+    private DataCell[] m_rowValues;
+
+    private DataCell[] m_colValues;
+
+    /** The row and column value ids and the frequency per observed cell. */
+    private int[] m_cellRows;
+
+    private int[] m_cellCols;
+
+    private double[] m_cellFreqs;
+
+    /** The row keys per observed cell, <code>null</code> if not collected. */
+    private List<Set<RowKey>> m_cellKeys;
+
+    private boolean m_hasNegativeWeights;
+
+    private boolean m_isDense;
+
+    /**
+     * Creates a new counter.
+     *
+     * @param rowVarIndex the index of the column with the row variable
+     * @param colVarIndex the index of the column with the column variable
+     * @param weightIndex the index of the weight column or -1 if the rows are counted
+     * @param collectKeys whether the row keys per cell are collected, e.g. for hiliting
+     */
+    CrosstabCounter(final int rowVarIndex, final int colVarIndex, final int weightIndex, final boolean collectKeys) {
+        this(rowVarIndex, colVarIndex, weightIndex, collectKeys, new ParallelChunkProcessor());
+    }
+
+    CrosstabCounter(final int rowVarIndex, final int colVarIndex, final int weightIndex, final boolean collectKeys,
+        final ParallelChunkProcessor processor) {
+        m_rowVarIndex = rowVarIndex;
+        m_colVarIndex = colVarIndex;
+        m_weightIndex = weightIndex;
+        m_collectKeys = collectKeys;
+        m_processor = processor;
+    }
+
+    /**
+     * @return the number of observed cells
+     */
+    int getCellCount() {
+        return m_cellFreqs.length;
+    }
+
+    /**
+     * @param cell the index of an observed cell
+     * @return the id of the row value of the cell
+     */
+    int getCellRow(final int cell) {
+        return m_cellRows[cell];
+    }
+
+    /**
+     * @param cell the index of an observed cell
+     * @return the id of the column value of the cell
+     */
+    int getCellCol(final int cell) {
+        return m_cellCols[cell];
+    }
+
+    /**
+     * @param cell the index of an observed cell
+     * @return the number of rows or the sum of the weights of the cell
+     */
+    double getCellFrequency(final int cell) {
+        return m_cellFreqs[cell];
+    }
+
+    /**
+     * @param cell the index of an observed cell
+     * @return the keys of the rows of the cell, <code>null</code> if not collected
+     */
+    Set<RowKey> getCellKeys(final int cell) {
+        return m_cellKeys == null ? null : m_cellKeys.get(cell);
+    }
+
+    /**
+     * @return the distinct row values, the index is their id
+     */
+    DataCell[] getRowValues() {
+        return m_rowValues;
+    }
+
+    /**
+     * @return the distinct column values, the index is their id
+     */
+    DataCell[] getColValues() {
+        return m_colValues;
+    }
+
+    /**
+     * @return whether negative weights have been ignored
+     */
+    boolean hasNegativeWeights() {
+        return m_hasNegativeWeights;
+    }
+
+    /**
+     * @return whether the frequencies have been merged into a dense array
+     */
+    boolean isDense() {
+        return m_isDense;
+    }
+
+    /**
+     * @return the sum of the frequencies per row value
+     */
+    double[] getRowTotals() {
+        final double[] totals = new double[m_rowValues.length];
+        for (int i = 0; i < m_cellFreqs.length; i++) {
+            totals[m_cellRows[i]] += m_cellFreqs[i];
+        }
+        return totals;
+    }
+
+    /**
+     * @return the sum of the frequencies per column value
+     */
+    double[] getColTotals() {
+        final double[] totals = new double[m_colValues.length];
+        for (int i = 0; i < m_cellFreqs.length; i++) {
+            totals[m_cellCols[i]] += m_cellFreqs[i];
+        }
+        return totals;
+    }
+
+    /**
+     * @return the sum of all frequencies
+     */
+    double getTotal() {
+        double total = 0;
+        for (final double freq : m_cellFreqs) {
+            total += freq;
+        }
+        return total;
+    }
+
+    /**
+     * Counts all rows of the table.
+     *
+     * @param table the table
+     * @param rowComparator the order of the row values
+     * @param colComparator the order of the column values
+     * @param exec for progress and cancellation
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    void count(final BufferedDataTable table, final Comparator<DataCell> rowComparator,
+        final Comparator<DataCell> colComparator, final ExecutionMonitor exec) throws CanceledExecutionException {
+        try (CloseableRowIterator rows = table.iterator()) {
+            count(rows, table.size(), rowComparator, colComparator, exec);
+        }
+    }
+
+    /**
+     * Counts all rows.
+     *
+     * @param rows the rows
+     * @param rowCount the number of rows
+     * @param rowComparator the order of the row values
+     * @param colComparator the order of the column values
+     * @param exec for progress and cancellation
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    void count(final Iterator<DataRow> rows, final long rowCount, final Comparator<DataCell> rowComparator,
+        final Comparator<DataCell> colComparator, final ExecutionMonitor exec) throws CanceledExecutionException {
+        m_hasNegativeWeights = false;
+        try {
+            m_processor.processUnchecked(rows, rowCount, (chunkRows, size, firstIndex) -> () -> {
+                count(chunkRows, size);
+                return null;
+            }, (result, chunkRows, size, firstIndex) -> {
+                // the rows are counted by the threads
+            }, read -> "Counted " + read + " rows", exec);
+            exec.setMessage("Merging counts");
+            merge(rowComparator, colComparator);
+        } finally {
+            m_freeCounts.clear();
+            m_allCounts.clear();
+        }
+    }
+
+    /** Counts a chunk in the counts of the current thread. */
+    private void count(final DataRow[] rows, final int size) {
+        Counts counts = m_freeCounts.poll();
+        if (counts == null) {
+            counts = new Counts();
+            synchronized (m_allCounts) {
+                m_allCounts.add(counts);
+            }
+        }
+        for (int r = 0; r < size; r++) {
+            counts.add(rows[r]);
+        }
+        m_freeCounts.add(counts);
+    }
+
+    /** Merges the counts of all threads and extracts the observed cells in sorted order. */
+    private void merge(final Comparator<DataCell> rowComparator, final Comparator<DataCell> colComparator) {
+        // assign global ids in sorted order
+        final Set<DataCell> rowSet = new HashSet<>();
+        final Set<DataCell> colSet = new HashSet<>();
+        for (final Counts counts : m_allCounts) {
+            rowSet.addAll(counts.m_rowValues);
+            colSet.addAll(counts.m_colValues);
+            m_hasNegativeWeights |= counts.m_hasNegativeWeights;
+        }
+        m_rowValues = sort(rowSet, rowComparator);
+        m_colValues = sort(colSet, colComparator);
+        final Map<DataCell, Integer> rowIds = toIds(m_rowValues);
+        final Map<DataCell, Integer> colIds = toIds(m_colValues);
+        final int cols = m_colValues.length;
+
+        m_isDense = (long)m_rowValues.length * cols <= MAX_DENSE_CELLS;
+        final long[] denseRowCounts = m_isDense ? new long[m_rowValues.length * cols] : null;
+        final double[] denseFreqs = m_isDense ? new double[denseRowCounts.length] : null;
+        final LongKeyedCounts sparse = m_isDense ? null : new LongKeyedCounts();
+        final Map<Long, Set<RowKey>> keys = m_collectKeys ? new HashMap<>() : null;
+        for (final Counts counts : m_allCounts) {
+            final int[] globalRows = toGlobalIds(counts.m_rowValues, rowIds);
+            final int[] globalCols = toGlobalIds(counts.m_colValues, colIds);
+            final LongKeyedCounts local = counts.m_counts;
+            for (int slot = 0; slot < local.m_keys.length; slot++) {
+                final long localKey = local.m_keys[slot];
+                if (localKey == LongKeyedCounts.EMPTY) {
+                    continue;
+                }
+                final int row = globalRows[rowOf(localKey)];
+                final int col = globalCols[colOf(localKey)];
+                if (m_isDense) {
+                    denseRowCounts[row * cols + col] += local.m_rowCounts[slot];
+                    denseFreqs[row * cols + col] += local.m_freqs[slot];
+                } else {
+                    sparse.add(toKey(row, col), local.m_rowCounts[slot], local.m_freqs[slot]);
+                }
+                if (keys != null) {
+                    keys.computeIfAbsent(toKey(row, col), k -> new HashSet<>())
+                        .addAll(counts.m_keys.get(localKey));
+                }
+            }
+        }
+
+        final long[] sortedKeys;
+        if (m_isDense) {
+            int observed = 0;
+            for (final long count : denseRowCounts) {
+                if (count > 0) {
+                    observed++;
+                }
+            }
+            sortedKeys = new long[observed];
+            m_cellFreqs = new double[observed];
+            for (int i = 0, cell = 0; i < denseRowCounts.length; i++) {
+                if (denseRowCounts[i] > 0) {
+                    sortedKeys[cell] = toKey(i / cols, i % cols);
+                    m_cellFreqs[cell++] = denseFreqs[i];
+                }
+            }
+        } else {
+            sortedKeys = sparse.sortedKeys();
+            m_cellFreqs = new double[sortedKeys.length];
+            for (int cell = 0; cell < sortedKeys.length; cell++) {
+                m_cellFreqs[cell] = sparse.getFrequency(sortedKeys[cell]);
+            }
+        }
+        m_cellRows = new int[sortedKeys.length];
+        m_cellCols = new int[sortedKeys.length];
+        m_cellKeys = keys == null ? null : new ArrayList<>(sortedKeys.length);
+        for (int cell = 0; cell < sortedKeys.length; cell++) {
+            m_cellRows[cell] = rowOf(sortedKeys[cell]);
+            m_cellCols[cell] = colOf(sortedKeys[cell]);
+            if (keys != null) {
+                m_cellKeys.add(keys.get(sortedKeys[cell]));
+            }
+        }
+    }
+
+    private static DataCell[] sort(final Set<DataCell> values, final Comparator<DataCell> comparator) {
+        final DataCell[] sorted = values.toArray(new DataCell[0]);
+        Arrays.sort(sorted, comparator);
+        return sorted;
+    }
+
+    private static Map<DataCell, Integer> toIds(final DataCell[] values) {
+        final Map<DataCell, Integer> ids = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            ids.put(values[i], i);
+        }
+        return ids;
+    }
+
+    private static int[] toGlobalIds(final List<DataCell> localValues, final Map<DataCell, Integer> ids) {
+        final int[] globalIds = new int[localValues.size()];
+        for (int i = 0; i < globalIds.length; i++) {
+            globalIds[i] = ids.get(localValues.get(i));
+        }
+        return globalIds;
+    }
+
+    private static long toKey(final int row, final int col) {
+        return ((long)row << 32) | col;
+    }
+
+    private static int rowOf(final long key) {
+        return (int)(key >>> 32);
+    }
+
+    private static int colOf(final long key) {
+        return (int)key;
+    }
+
+    /** The values and counts of a thread. */
+    private final class Counts {
+
+        private final Map<DataCell, Integer> m_rowIds = new HashMap<>();
+
+        private final List<DataCell> m_rowValues = new ArrayList<>();
+
+        private final Map<DataCell, Integer> m_colIds = new HashMap<>();
+
+        private final List<DataCell> m_colValues = new ArrayList<>();
+
+        private final LongKeyedCounts m_counts = new LongKeyedCounts();
+
+        /** The row keys per local cell key, only used if the keys are collected. */
+        private final Map<Long, List<RowKey>> m_keys = new HashMap<>();
+
+        private boolean m_hasNegativeWeights;
+
+        private void add(final DataRow row) {
+            final int rowId = intern(row.getCell(m_rowVarIndex), m_rowIds, m_rowValues);
+            final int colId = intern(row.getCell(m_colVarIndex), m_colIds, m_colValues);
+            double freq = 1;
+            if (m_weightIndex >= 0) {
+                final DataCell weightCell = row.getCell(m_weightIndex);
+                if (weightCell.isMissing()) {
+                    freq = 0;
+                } else {
+                    freq = ((DoubleValue)weightCell).getDoubleValue();
+                    if (freq < 0) {
+                        m_hasNegativeWeights = true;
+                        freq = 0;
+                    }
+                }
+            }
+            final long key = toKey(rowId, colId);
+            m_counts.add(key, 1, freq);
+            if (m_collectKeys) {
+                m_keys.computeIfAbsent(key, k -> new ArrayList<>()).add(row.getKey());
+            }
+        }
+
+        private int intern(final DataCell value, final Map<DataCell, Integer> ids, final List<DataCell> values) {
+            final Integer id = ids.get(value);
+            if (id != null) {
+                return id.intValue();
+            }
+            ids.put(value, values.size());
+            values.add(value);
+            return values.size() - 1;
+        }
+    }
+
+    /**
+     * An open addressing hash table from non-negative long keys to a row count and a frequency.
+     */
+    static final class LongKeyedCounts {
+
+        static final long EMPTY = -1;
+
+        private long[] m_keys = new long[16];
+
+        private long[] m_rowCounts = new long[16];
+
+        private double[] m_freqs = new double[16];
+
+        private int m_size;
+
+        LongKeyedCounts() {
+            Arrays.fill(m_keys, EMPTY);
+        }
+
+        /**
+         * Adds to the counts of a key.
+         *
+         * @param key the non-negative key
+         * @param rowCount the number of rows to add
+         * @param freq the frequency to add
+         */
+        void add(final long key, final long rowCount, final double freq) {
+            int slot = find(m_keys, key);
+            if (m_keys[slot] == EMPTY) {
+                if (2 * (m_size + 1) > m_keys.length) {
+                    grow();
+                    slot = find(m_keys, key);
+                }
+                m_keys[slot] = key;
+                m_size++;
+            }
+            m_rowCounts[slot] += rowCount;
+            m_freqs[slot] += freq;
+        }
+
+        /**
+         * @param key the key
+         * @return the frequency of the key or 0 if the key is not contained
+         */
+        double getFrequency(final long key) {
+            final int slot = find(m_keys, key);
+            return m_keys[slot] == EMPTY ? 0 : m_freqs[slot];
+        }
+
+        /**
+         * @return the number of keys
+         */
+        int size() {
+            return m_size;
+        }
+
+        /**
+         * @return the keys in ascending order
+         */
+        long[] sortedKeys() {
+            final long[] keys = new long[m_size];
+            int i = 0;
+            for (final long key : m_keys) {
+                if (key != EMPTY) {
+                    keys[i++] = key;
+                }
+            }
+            Arrays.sort(keys);
+            return keys;
+        }
+
+        private static int find(final long[] keys, final long key) {
+            final int mask = keys.length - 1;
+            final long hash = key * 0x9E3779B97F4A7C15L;
+            int slot = (int)(hash ^ (hash >>> 32)) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+            final long[] keys = m_keys;
+            final long[] rowCounts = m_rowCounts;
+            final double[] freqs = m_freqs;
+            m_keys = new long[keys.length * 2];
+            Arrays.fill(m_keys, EMPTY);
+            m_rowCounts = new long[m_keys.length];
+            m_freqs = new double[m_keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    final int slot = find(m_keys, keys[i]);
+                    m_keys[slot] = keys[i];
+                    m_rowCounts[slot] = rowCounts[i];
+                    m_freqs[slot] = freqs[i];
+                }
+            }
+        }
+    }
+}
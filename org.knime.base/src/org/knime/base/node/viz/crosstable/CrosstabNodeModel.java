@@ -52,22 +52,13 @@
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-import org.knime.base.data.aggregation.ColumnAggregator;
-import org.knime.base.data.aggregation.GlobalSettings;
-import org.knime.base.data.aggregation.GlobalSettings.AggregationContext;
-import org.knime.base.data.aggregation.OperatorColumnSettings;
-import org.knime.base.data.aggregation.OperatorData;
-import org.knime.base.data.aggregation.deprecated.SumOperator;
-import org.knime.base.data.aggregation.general.CountOperator;
-import org.knime.base.node.preproc.groupby.BigGroupByTable;
-import org.knime.base.node.preproc.groupby.ColumnNamePolicy;
-import org.knime.base.node.preproc.groupby.GroupByTable;
 import org.knime.base.node.viz.crosstable.CrosstabStatisticsCalculator.CrosstabStatistics;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -80,11 +71,9 @@
 import org.knime.core.data.StringValue;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
-import org.knime.core.data.filestore.FileStoreFactory;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTableHolder;
-import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
@@ -254,28 +243,36 @@ private DataTableSpec createOutSpec(final DataTableSpec inSpec)
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             final ExecutionContext exec) throws Exception {
         final BufferedDataTable table = inData[0];
-        final List<String> cols = Arrays.asList(new String[]{
-                m_settings.getRowVarColumn(),
-                m_settings.getColVarColumn()
-        });
-        final GroupByTable groupTable = createGroupByTable(
-                exec.createSubExecutionContext(0.6), table, cols);
-
-        final BufferedDataTable freqTable = groupTable.getBufferedTable();
-        // the index of the row variable in the group table
-        final int rowVarI = 0;
-        // the index of the column variable in the group table
-        final int colVarI = 1;
-        // the index of the frequency in the group table
-        final int freqI = 2;
-
-        final CrosstabTotals totals = computeTotals(freqTable, rowVarI, colVarI,
-                freqI);
+        final DataTableSpec inSpec = table.getDataTableSpec();
+        final int rowVarIndex = inSpec.findColumnIndex(m_settings.getRowVarColumn());
+        final int colVarIndex = inSpec.findColumnIndex(m_settings.getColVarColumn());
+        final int weightIndex = null != m_settings.getWeightColumn()
+            ? inSpec.findColumnIndex(m_settings.getWeightColumn()) : -1;
+        final CrosstabCounter counter = new CrosstabCounter(rowVarIndex,
+                colVarIndex, weightIndex, m_settings.getEnableHiliting());
+        counter.count(table,
+                inSpec.getColumnSpec(rowVarIndex).getType().getComparator(),
+                inSpec.getColumnSpec(colVarIndex).getType().getComparator(),
+                exec.createSubProgress(0.6));
+        if (counter.hasNegativeWeights()) {
+            setWarningMessage("The weight columns contains negative"
+                    + " which will be ignored.");
+        }
+        if (m_settings.getEnableHiliting()) {
+            final Map<RowKey, Set<RowKey>> mapping =
+                new HashMap<RowKey, Set<RowKey>>();
+            for (int i = 0; i < counter.getCellCount(); i++) {
+                mapping.put(RowKey.createRowKey((long)i),
+                        counter.getCellKeys(i));
+            }
+            setHiliteMapping(new DefaultHiLiteMapper(mapping));
+        }
+
+        final CrosstabTotals totals = computeTotals(counter);
         final CrosstabProperties naming = CrosstabProperties.create(
                 m_settings.getNamingVersion());
         final CrosstabStatisticsCalculator stats =
-            new CrosstabStatisticsCalculator(freqTable, rowVarI,
-                colVarI, freqI, totals, naming);
+            new CrosstabStatisticsCalculator(counter, totals, naming);
         stats.run(exec.createSubExecutionContext(0.1));
         final BufferedDataTable propsTable = stats.getTable();
         final int cellChiSquareI =
@@ -285,7 +282,6 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         // create output table
         final BufferedDataContainer cont = exec.createDataContainer(
                 createOutSpec(table.getSpec()));
-        final RowIterator freqIter = freqTable.iterator();
         final RowIterator statsIter = propsTable.iterator();
 
         final Map<String, Integer> props = new LinkedHashMap<String, Integer>();
@@ -295,19 +291,18 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             props.put(prop, i + 2);
         }
 
-        for (long i = 0; i < freqTable.size(); i++) {
+        for (int i = 0; i < counter.getCellCount(); i++) {
             final DataCell[] cells = new DataCell[props.size() + 2];
-            final DataRow freqRow = freqIter.next();
             // add the row variable
-            final DataCell rowVar = freqRow.getCell(rowVarI);
+            final DataCell rowVar =
+                counter.getRowValues()[counter.getCellRow(i)];
             cells[0] = rowVar;
             // add the column variable
-            final DataCell colVar = freqRow.getCell(colVarI);
+            final DataCell colVar =
+                counter.getColValues()[counter.getCellCol(i)];
             cells[1] = colVar;
             // the frequency
-            final DataCell freqCell = freqRow.getCell(freqI);
-            final double freq = freqCell.isMissing() ? 0.0
-                : ((DoubleValue)freqCell).getDoubleValue();
+            final double freq = counter.getCellFrequency(i);
             addToCells(cells, props, naming.getFrequencyName(),
                     new DoubleCell(freq));
             // the cell chi-square
@@ -361,7 +356,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
 
 
             final DefaultRow row =
-                new DefaultRow(RowKey.createRowKey(i), cells);
+                new DefaultRow(RowKey.createRowKey((long)i), cells);
             cont.addRowToTable(row);
         }
         cont.close();
@@ -418,6 +413,37 @@ private CrosstabTotals computeTotals(final BufferedDataTable freqTable,
         return new CrosstabTotals(rowTotal, colTotal, total);
     }
 
+    /**
+     * Computes row and column totals of the cross tabulation from the arrays
+     * of the counter.
+     */
+    private CrosstabTotals computeTotals(final CrosstabCounter counter) {
+        Map<DataCell, Double> rowTotal =
+            toTotals(counter.getRowValues(), counter.getRowTotals());
+        Map<DataCell, Double> colTotal =
+            toTotals(counter.getColValues(), counter.getColTotals());
+
+        // sort since we depend on a correct ordering in e.g. the view
+        if (rowTotal.size() > 1) {
+            rowTotal = sortTotals(rowTotal);
+        }
+        if (colTotal.size() > 1) {
+            colTotal = sortTotals(colTotal);
+        }
+
+        return new CrosstabTotals(rowTotal, colTotal, counter.getTotal());
+    }
+
+    private Map<DataCell, Double> toTotals(final DataCell[] vars,
+            final double[] totals) {
+        final Map<DataCell, Double> map =
+            new LinkedHashMap<DataCell, Double>();
+        for (int i = 0; i < vars.length; i++) {
+            map.put(vars[i], totals[i]);
+        }
+        return map;
+    }
+
     private void addToTotals(final Map<DataCell, Double> totals,
             final DataCell var, final double freq) {
         final double rowValue = totals.containsKey(var)
@@ -438,78 +464,6 @@ private Map<DataCell, Double> sortTotals(
         return sorted;
     }
 
-    /**
-     * Create group-by table.
-     * @param exec execution context
-     * @param table input table to group
-     * @param groupByCols column selected for group-by operation
-     * @return table with group and aggregation columns
-     * @throws CanceledExecutionException if the group-by table generation was
-     *         canceled externally
-     */
-    private final GroupByTable createGroupByTable(final ExecutionContext exec,
-            final BufferedDataTable table, final List<String> groupByCols)
-            throws CanceledExecutionException {
-        final int maxUniqueVals = Integer.MAX_VALUE;
-        final boolean enableHilite = m_settings.getEnableHiliting();
-        final boolean retainOrder = false;
-
-        final ColumnNamePolicy colNamePolicy =
-            ColumnNamePolicy.AGGREGATION_METHOD_COLUMN_NAME;
-        final GlobalSettings globalSettings = GlobalSettings.builder()
-                .setFileStoreFactory(FileStoreFactory.createWorkflowFileStoreFactory(exec))
-                .setGroupColNames(groupByCols)
-                .setMaxUniqueValues(maxUniqueVals)
-                .setValueDelimiter(GlobalSettings.STANDARD_DELIMITER)
-                .setDataTableSpec(table.getDataTableSpec())
-                .setNoOfRows(table.size())
-                .setAggregationContext(AggregationContext.ROW_AGGREGATION).build();
-
-        ColumnAggregator collAggregator = null;
-        if (null != m_settings.getWeightColumn()) {
-            final String weightColumn = m_settings.getWeightColumn();
-            // the column aggregator for the weighting column
-            final boolean inclMissing = false;
-            final DataColumnSpec originalColSpec =
-                table.getDataTableSpec().getColumnSpec(weightColumn);
-            final OperatorColumnSettings opColSettings =
-                new OperatorColumnSettings(inclMissing, originalColSpec);
-            collAggregator = new ColumnAggregator(
-                    originalColSpec,
-                    new NonNegativeSumOperator(globalSettings, opColSettings),
-                    inclMissing);
-        } else {
-            // use any column, does not matter as long as it exists and
-            // include missing is true;
-            final boolean inclMissing = true;
-            final DataColumnSpec originalColSpec =
-                table.getDataTableSpec().getColumnSpec(groupByCols.get(0));
-            final OperatorColumnSettings opColSettings =
-                new OperatorColumnSettings(inclMissing, originalColSpec);
-            collAggregator = new ColumnAggregator(
-                    originalColSpec,
-                    new CountOperator(globalSettings, opColSettings),
-                    inclMissing);
-        }
-
-        final GroupByTable resultTable =
-            new BigGroupByTable(exec, table, groupByCols,
-                    new ColumnAggregator[]{collAggregator},
-                    globalSettings, enableHilite, colNamePolicy, retainOrder);
-
-        if (enableHilite) {
-            setHiliteMapping(new DefaultHiLiteMapper(
-                    resultTable.getHiliteMapping()));
-        }
-        // check for skipped columns
-        final String warningMsg = resultTable.getSkippedGroupsMessage(3, 3);
-        if (warningMsg != null) {
-            setWarningMessage(warningMsg);
-        }
-        return resultTable;
-    }
-
-
     /**
      * Returns <code>true</code> if model is available, i.e. node has been
      * executed.
@@ -747,45 +701,4 @@ Map<DataCell, Double> getColTotal() {
             return m_total;
         }
     }
-
-    private class NonNegativeSumOperator extends SumOperator {
-
-        /**
-         * @param globalSettings
-         * @param opColSettings
-         */
-        public NonNegativeSumOperator(final GlobalSettings globalSettings,
-                final OperatorColumnSettings opColSettings) {
-            super(globalSettings, opColSettings);
-            // TODO Auto-generated constructor stub
-        }
-
-        /**
-         * @param operatorData
-         * @param globalSettings
-         * @param opColSettings
-         */
-        public NonNegativeSumOperator(final OperatorData operatorData,
-                final GlobalSettings globalSettings,
-                final OperatorColumnSettings opColSettings) {
-            super(operatorData, globalSettings, opColSettings);
-            // TODO Auto-generated constructor stub
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        protected boolean computeInternal(final DataCell cell) {
-            final double d = ((DoubleValue)cell).getDoubleValue();
-            if (d < 0) {
-                setWarningMessage("The weight columns contains negative"
-                        + " which will be ignored.");
-                return false;
-            } else {
-                return super.computeInternal(cell);
-            }
-        }
-
-    }
 }
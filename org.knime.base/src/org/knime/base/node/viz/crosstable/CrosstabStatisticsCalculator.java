@@ -109,6 +109,9 @@ public class CrosstabStatisticsCalculator {
 
     private final CrosstabProperties m_props;
 
+    /** The counts of the cells if computed by a {@link CrosstabCounter}, <code>null</code> otherwise. */
+    private final CrosstabCounter m_counter;
+
     /**
      * @param freqTable table with at least three columns for the explanatory and response variable and for the
      *            frequency.
@@ -128,6 +131,26 @@ public CrosstabStatisticsCalculator(final BufferedDataTable freqTable, final int
         m_totals = totals;
         m_isRun = false;
         m_props = props;
+        m_counter = null;
+    }
+
+    /**
+     * Computes the statistics directly from the arrays of a counter.
+     *
+     * @param counter the counter that has counted the cells
+     * @param totals the wrapper for the totals (row count total, column count totals and total count)
+     * @param props the crosstab properties which is a source for the column names of the table return by getTable()
+     */
+    CrosstabStatisticsCalculator(final CrosstabCounter counter, final CrosstabTotals totals,
+        final CrosstabProperties props) {
+        m_freqTable = null;
+        m_rowIndex = -1;
+        m_colIndex = -1;
+        m_freqIndex = -1;
+        m_totals = totals;
+        m_isRun = false;
+        m_props = props;
+        m_counter = counter;
     }
 
     /**
@@ -140,6 +163,10 @@ void run(final ExecutionContext exec) {
             return;
         }
         m_isRun = true;
+        if (m_counter != null) {
+            runOnCounts(exec);
+            return;
+        }
         double chiSquare = 0;
         DataTableSpec spec = createSpec();
         BufferedDataContainer cont = exec.createDataContainer(spec);
@@ -169,6 +196,68 @@ void run(final ExecutionContext exec) {
 
     }
 
+    /**
+     * Computes the statistics from the arrays of the counter, the cells are in the order of the frequency table.
+     */
+    private void runOnCounts(final ExecutionContext exec) {
+        final double[] rowTotals = m_counter.getRowTotals();
+        final double[] colTotals = m_counter.getColTotals();
+        final double n = m_totals.getTotal();
+        double chiSquare = 0;
+        BufferedDataContainer cont = exec.createDataContainer(createSpec());
+        for (int cell = 0, length = m_counter.getCellCount(); cell < length; cell++) {
+            final double nij = m_counter.getCellFrequency(cell);
+            final double eij = rowTotals[m_counter.getCellRow(cell)] / n * colTotals[m_counter.getCellCol(cell)];
+            // the cell chi square
+            final double cellChiSquare = (nij / eij * nij) - (2 * nij) + eij;
+            chiSquare += cellChiSquare;
+            cont.addRowToTable(new DefaultRow(RowKey.createRowKey((long)cell), new DoubleCell(cellChiSquare)));
+        }
+        cont.close();
+        m_statTable = cont.getTable();
+
+        // compute chi-square statistic
+        int chiSquareDF = (rowTotals.length - 1) * (colTotals.length - 1);
+        double chiSquarePValue = chiQuarePValue(chiSquare, chiSquareDF);
+        // compute fisher's exact test
+        double fisherPValue = fisherExactPValue(m_counter, m_totals.getRowTotal().keySet(),
+            m_totals.getColTotal().keySet());
+        m_statistics = new CrosstabStatistics(chiSquare, chiSquareDF, chiSquarePValue, fisherPValue);
+        m_statistics.run(exec);
+    }
+
+    /**
+     * Compute the p-value of the Fisher's exact test from the arrays of the counter.
+     */
+    private static double fisherExactPValue(final CrosstabCounter counter, final Collection<DataCell> rowVars,
+        final Collection<DataCell> colVars) {
+        if (rowVars.size() != 2 || colVars.size() != 2) {
+            return Double.NaN;
+        }
+        List<DataCell> rowVarList = new ArrayList<DataCell>(rowVars);
+        List<DataCell> colVarList = new ArrayList<DataCell>(colVars);
+        int[] rowIndices = new int[2];
+        int[] colIndices = new int[2];
+        for (int i = 0; i < 2; i++) {
+            rowIndices[i] = rowVarList.indexOf(counter.getRowValues()[i]);
+            colIndices[i] = colVarList.indexOf(counter.getColValues()[i]);
+        }
+
+        int[][] crosstab = new int[2][2];
+        for (int cell = 0, length = counter.getCellCount(); cell < length; cell++) {
+            double freq = counter.getCellFrequency(cell);
+            int intFreq = (int)freq;
+            // test if freq is a nonnegative integer
+            if (freq != intFreq || intFreq < 0) {
+                return Double.NaN;
+            }
+            crosstab[rowIndices[counter.getCellRow(cell)]][colIndices[counter.getCellCol(cell)]] = intFreq;
+        }
+
+        double x[] = exactPValue(crosstab);
+        return x[FISHERS_TWO_TAILED];
+    }
+
     /**
      * Compute p-value of the chi-squared statistics.
      *
@@ -48,10 +48,13 @@
  */
 package org.knime.base.node.viz.liftchart;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
 import org.knime.base.data.sort.SortedTable;
+import org.knime.base.node.viz.roc.ScoreCollector;
+import org.knime.base.node.viz.roc.ScoreCollector.ScoreCounts;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
@@ -79,6 +82,8 @@ public class LiftCalculator {
 
     private boolean m_ignoreMissingValues;
 
+    private boolean m_singlePass;
+
     private BufferedDataTable m_lift;
     private BufferedDataTable m_response;
     private SortedTable m_sorted;
@@ -98,10 +103,23 @@ public BufferedDataTable getResponseTable() {
     }
 
     /**
-     * @return the sorted input table
+     * @return the sorted input table or <code>null</code> if the lift has been computed in a single pass
      */
     public BufferedDataTable getSortedInput() {
-        return m_sorted.getBufferedDataTable();
+        return m_sorted == null ? null : m_sorted.getBufferedDataTable();
+    }
+
+    /**
+     * Sets whether the lift is computed in a single pass over the table instead of sorting it. The lift is the same
+     * as long as the scores fit into memory, except that rows with equal scores are not ranked in the order of the
+     * table but counted evenly over their ranks. Otherwise it is approximated by a histogram of the scores, see
+     * {@link ScoreCollector}. The sorted input table is not available in this case.
+     *
+     * @param singlePass <code>true</code> to compute the lift in a single pass, <code>false</code> to sort the table
+     * @since 4.2
+     */
+    public void setSinglePass(final boolean singlePass) {
+        m_singlePass = singlePass;
     }
 
     /**
@@ -143,6 +161,10 @@ public LiftCalculator(final String responseColumn, final String probabilityColum
      */
     public String calculateLiftTables(final BufferedDataTable table, final ExecutionContext exec)
             throws CanceledExecutionException {
+        if (m_singlePass) {
+            m_sorted = null;
+            return calculateLiftTablesInSinglePass(table, exec);
+        }
         int predColIndex = table.getDataTableSpec().findColumnIndex(m_responseColumn);
         String warning = null;
         List<String> inclList = new LinkedList<String>();
@@ -191,13 +213,68 @@ public String calculateLiftTables(final BufferedDataTable table, final Execution
         int[] counter = new int[nrParts];
         int partWidthAbsolute = (int)Math.ceil(rowIndex / (double)nrParts);
 
-        double avgResponse = (double)positiveResponses.size() / rowIndex;
-
         for (int rIndex : positiveResponses) {
             int index = rIndex / partWidthAbsolute;
             counter[index]++;
         }
 
+        createTables(Arrays.stream(counter).asDoubleStream().toArray(), totalResponses, rowIndex, partWidthAbsolute,
+            exec);
+        return warning;
+    }
+
+    /**
+     * Computes the lift from the counts of a single pass over the table, see {@link #setSinglePass(boolean)}.
+     */
+    private String calculateLiftTablesInSinglePass(final BufferedDataTable table, final ExecutionContext exec)
+            throws CanceledExecutionException {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final String responseLabel = m_responseLabel;
+        // miss. values in class column we always ignore
+        final ScoreCollector collector = new ScoreCollector(
+            new int[]{spec.findColumnIndex(m_probabilityColumn)}, spec.findColumnIndex(m_responseColumn),
+            cell -> ((StringValue)cell).getStringValue().trim().equalsIgnoreCase(responseLabel), true,
+            m_ignoreMissingValues);
+        final ScoreCounts counts = collector.collect(table, exec)[0];
+        String warning = collector.hasMissingValues() ? "Table contains missing values." : null;
+        if (!counts.isExact()) {
+            final String approximated = "Not enough memory to sort the scores, the lift is approximated.";
+            warning = warning == null ? approximated : (warning + " " + approximated);
+        }
+
+        long rowCount = 0;
+        long totalResponses = 0;
+        for (int g = 0; g < counts.getGroupCount(); g++) {
+            rowCount += counts.getPositives(g) + counts.getNegatives(g);
+            totalResponses += counts.getPositives(g);
+        }
+        int nrParts = (int)Math.ceil(100.0 / m_intervalWidth);
+        int partWidthAbsolute = (int)Math.ceil(rowCount / (double)nrParts);
+        double[] counter = new double[nrParts];
+        long start = 0;
+        for (int g = 0; g < counts.getGroupCount(); g++) {
+            final long positives = counts.getPositives(g);
+            final long size = positives + counts.getNegatives(g);
+            // the order of rows with the same score is arbitrary, the positives are spread evenly over their ranks
+            for (long part = start / partWidthAbsolute; positives > 0 && part * partWidthAbsolute < start + size;
+                    part++) {
+                final long overlap = Math.min(start + size, (part + 1) * partWidthAbsolute)
+                    - Math.max(start, part * partWidthAbsolute);
+                counter[(int)part] += (double)positives * overlap / size;
+            }
+            start += size;
+        }
+
+        createTables(counter, totalResponses, (int)rowCount, partWidthAbsolute, exec);
+        return warning;
+    }
+
+    private void createTables(final double[] counter, final long totalResponses, final int rowIndex,
+        final int partWidthAbsolute, final ExecutionContext exec) {
+        double partWidth = m_intervalWidth;
+
+        double avgResponse = (double)totalResponses / rowIndex;
+
         DataColumnSpec[] colSpec = new DataColumnSpec[3];
 
         colSpec[0] =
@@ -226,16 +303,16 @@ public String calculateLiftTables(final BufferedDataTable table, final Execution
 
         DataContainer responseCont = exec.createDataContainer(tableSpec);//new DataContainer(tableSpec);
 
-        long cumulativeCounter = 0;
+        double cumulativeCounter = 0;
 
         responseCont.addRowToTable(new DefaultRow(new RowKey("0"), 0.0, 0.0));
 
         for (int i = 0; i < counter.length; i++) {
             cumulativeCounter += counter[i];
-            double responseRate = (double)counter[i] / partWidthAbsolute;
+            double responseRate = counter[i] / partWidthAbsolute;
             double lift = responseRate / avgResponse;
 
-            double cumResponseRate = (double)cumulativeCounter / totalResponses;
+            double cumResponseRate = cumulativeCounter / totalResponses;
 
             long number = partWidthAbsolute * (i + 1);
 
@@ -246,7 +323,7 @@ public String calculateLiftTables(final BufferedDataTable table, final Execution
 
             double cumulativeLift =
             // (double)cumulativeCounter / (partWidthAbsolute * (i + 1));
-                    (double)cumulativeCounter / number;
+                    cumulativeCounter / number;
             cumulativeLift /= avgResponse;
 
             // cumulativeLift = lifts / (i+1);
@@ -272,6 +349,5 @@ public String calculateLiftTables(final BufferedDataTable table, final Execution
 
         m_lift = (BufferedDataTable)cont.getTable();
         m_response = (BufferedDataTable)responseCont.getTable();
-        return warning;
     }
 }
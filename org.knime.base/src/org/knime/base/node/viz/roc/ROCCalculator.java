@@ -54,6 +54,7 @@
 import java.util.List;
 
 import org.knime.base.data.sort.SortedTable;
+import org.knime.base.node.viz.roc.ScoreCollector.ScoreCounts;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -102,6 +103,8 @@ public class ROCCalculator {
 
     private String m_warningMessage = null;
 
+    private boolean m_singlePass;
+
     /**
      * @return Warning messages that occurred during execution
      */
@@ -139,6 +142,18 @@ public ROCCalculator(final List<String> curves, final String classCol,
         m_ignoreMissingValues = ignoreMissingValues;
     }
 
+    /**
+     * Sets whether all curves are computed in a single pass over the table instead of sorting the table once for
+     * each curve. The curves are the same as long as the scores fit into memory, otherwise they are approximated by
+     * histograms of the scores, see {@link ScoreCollector}.
+     *
+     * @param singlePass <code>true</code> to compute the curves in a single pass, <code>false</code> to sort the table
+     * @since 4.2
+     */
+    public void setSinglePass(final boolean singlePass) {
+        m_singlePass = singlePass;
+    }
+
     /**
      * Calculates the ROC curve.
      * @param table the table with the data
@@ -148,6 +163,10 @@ public ROCCalculator(final List<String> curves, final String classCol,
     public void calculateCurveData(final BufferedDataTable table, final ExecutionContext exec)
             throws CanceledExecutionException {
         m_warningMessage = null;
+        if (m_singlePass) {
+            calculateCurveDataInSinglePass(table, exec);
+            return;
+        }
         List<ROCCurve> curves = new ArrayList<ROCCurve>();
         int classIndex = table.getDataTableSpec().findColumnIndex(m_classCol);
         int curvesSize = m_curves.size();
@@ -205,27 +224,51 @@ public void calculateCurveData(final BufferedDataTable table, final ExecutionCon
 
             xValues = Arrays.copyOf(xValues, k + 1);
             yValues = Arrays.copyOf(yValues, k + 1);
+            addCurve(c, xValues, yValues, tp, fp, curves, outCont);
+        }
 
-            for (int j = 0; j <= k; j++) {
-                xValues[j] /= fp;
-                yValues[j] /= tp;
-            }
-            xValues[xValues.length - 1] = 1;
-            yValues[yValues.length - 1] = 1;
-
-            double area = 0;
-            for (k = 1; k < xValues.length; k++) {
-                if (xValues[k - 1] < xValues[k]) {
-                    // magical math: the rectangle + the triangle under
-                    // the segment xValues[k] to xValues[k - 1]
-                    area += 0.5 * (xValues[k] - xValues[k - 1])
-                        * (yValues[k] + yValues[k - 1]);
-                }
-            }
+        m_outCurves = curves;
+        outCont.close();
+        m_outTable = outCont.getTable();
+    }
+
+    /**
+     * Computes all curves from the counts of a single pass over the table, see {@link #setSinglePass(boolean)}.
+     */
+    private void calculateCurveDataInSinglePass(final BufferedDataTable table, final ExecutionContext exec)
+            throws CanceledExecutionException {
+        if (table.size() == 0) {
+            m_warningMessage = "Input table contains no rows";
+        }
+        final DataTableSpec spec = table.getDataTableSpec();
+        final int[] scoreColumns = m_curves.stream().mapToInt(spec::findColumnIndex).toArray();
+        final String posClass = m_posClass;
+        final ScoreCollector collector = new ScoreCollector(scoreColumns, spec.findColumnIndex(m_classCol),
+            cell -> cell.toString().equals(posClass), m_ignoreMissingValues, m_ignoreMissingValues);
+        final ScoreCounts[] counts = collector.collect(table, exec);
+        if (collector.hasMissingValues()) {
+            m_warningMessage = "Table contains missing values.";
+        }
+        if (counts.length > 0 && !counts[0].isExact()) {
+            final String approximated = "Not enough memory to sort the scores, the curves are approximated.";
+            m_warningMessage = m_warningMessage == null ? approximated : (m_warningMessage + " " + approximated);
+        }
 
-            curves.add(new ROCCurve(c, xValues, yValues, area, m_maxPoints));
-            outCont.addRowToTable(new DefaultRow(new RowKey(c.toString()),
-                    new DoubleCell(area)));
+        List<ROCCurve> curves = new ArrayList<ROCCurve>();
+        BufferedDataContainer outCont = exec.createDataContainer(OUT_SPEC);
+        for (int i = 0; i < counts.length; i++) {
+            // one point for each distinct score, the same points a walk over the sorted table creates
+            final int groups = counts[i].getGroupCount();
+            final double[] xValues = new double[groups + 1];
+            final double[] yValues = new double[groups + 1];
+            long tp = 0, fp = 0;
+            for (int g = 0; g < groups; g++) {
+                tp += counts[i].getPositives(g);
+                fp += counts[i].getNegatives(g);
+                xValues[g + 1] = fp;
+                yValues[g + 1] = tp;
+            }
+            addCurve(m_curves.get(i), xValues, yValues, tp, fp, curves, outCont);
         }
 
         m_outCurves = curves;
@@ -233,6 +276,33 @@ public void calculateCurveData(final BufferedDataTable table, final ExecutionCon
         m_outTable = outCont.getTable();
     }
 
+    /**
+     * Normalizes the coordinates, computes the area under the curve and adds the curve.
+     */
+    private void addCurve(final String c, final double[] xValues, final double[] yValues, final long tp,
+        final long fp, final List<ROCCurve> curves, final BufferedDataContainer outCont) {
+        for (int j = 0; j < xValues.length; j++) {
+            xValues[j] /= fp;
+            yValues[j] /= tp;
+        }
+        xValues[xValues.length - 1] = 1;
+        yValues[yValues.length - 1] = 1;
+
+        double area = 0;
+        for (int k = 1; k < xValues.length; k++) {
+            if (xValues[k - 1] < xValues[k]) {
+                // magical math: the rectangle + the triangle under
+                // the segment xValues[k] to xValues[k - 1]
+                area += 0.5 * (xValues[k] - xValues[k - 1])
+                    * (yValues[k] + yValues[k - 1]);
+            }
+        }
+
+        curves.add(new ROCCurve(c, xValues, yValues, area, m_maxPoints));
+        outCont.addRowToTable(new DefaultRow(new RowKey(c.toString()),
+                new DoubleCell(area)));
+    }
+
     /**
      * @return the table with areas under the curves
      */
@@ -56,6 +56,7 @@
 import java.util.Set;
 
 import javax.swing.DefaultComboBoxModel;
+import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JComponent;
 import javax.swing.JLabel;
@@ -98,6 +99,8 @@ public class ROCNodeDialog extends NodeDialogPane {
 
     private final JSpinner m_maxPoints = new JSpinner(new SpinnerNumberModel(2000, -1, Integer.MAX_VALUE, 10));
 
+    private final JCheckBox m_singlePass = new JCheckBox("Compute all curves in a single pass without sorting");
+
     @SuppressWarnings("unchecked")
     private final ColumnFilterPanel m_sortColumns =
             new ColumnFilterPanel(false, DoubleValue.class);
@@ -147,6 +150,12 @@ public void actionPerformed(final ActionEvent e) {
         c.gridx++;
         p.add(m_maxPoints, c);
 
+        c.gridx = 0;
+        c.gridy++;
+        c.gridwidth = 3;
+        p.add(m_singlePass, c);
+        c.gridwidth = 1;
+
         c.gridy++;
         c.gridx = 0;
         c.gridwidth = 3;
@@ -208,6 +217,7 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
         m_positiveClass.setSelectedItem(m_settings.getPositiveClass());
         m_sortColumns.update(specs[0], false, m_settings.getCurves());
         m_maxPoints.setValue(m_settings.getMaxPoints());
+        m_singlePass.setSelected(m_settings.isSinglePass());
     }
 
     /**
@@ -222,6 +232,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings)
         m_settings.getCurves().clear();
         m_settings.getCurves().addAll(m_sortColumns.getIncludedColumnSet());
         m_settings.setMaxPoints((Integer) m_maxPoints.getValue());
+        m_settings.setSinglePass(m_singlePass.isSelected());
         m_settings.saveSettings(settings);
     }
 
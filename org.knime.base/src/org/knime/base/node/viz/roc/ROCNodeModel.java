@@ -141,6 +141,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
                                                 m_settings.getClassColumn(),
                                                 m_settings.getMaxPoints(),
                                                 m_settings.getPositiveClass().toString());
+        calc.setSinglePass(m_settings.isSinglePass());
 
         calc.calculateCurveData(inData[0], exec);
 
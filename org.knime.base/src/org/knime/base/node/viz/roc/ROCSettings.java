@@ -69,6 +69,8 @@ public class ROCSettings {
 
     private int m_maxPoints = 2000;
 
+    private boolean m_singlePass = true;
+
     /**
      * Returns the list of class probability columns that should be shown
      * in the ROC view.
@@ -139,6 +141,28 @@ public int getMaxPoints() {
         return m_maxPoints;
     }
 
+    /**
+     * Sets whether all curves are computed in a single pass over the input table instead of sorting the table once
+     * for each curve.
+     *
+     * @param singlePass <code>true</code> for a single pass, <code>false</code> for sorting
+     * @since 4.2
+     */
+    public void setSinglePass(final boolean singlePass) {
+        m_singlePass = singlePass;
+    }
+
+    /**
+     * Returns whether all curves are computed in a single pass over the input table instead of sorting the table
+     * once for each curve.
+     *
+     * @return <code>true</code> for a single pass, <code>false</code> for sorting
+     * @since 4.2
+     */
+    public boolean isSinglePass() {
+        return m_singlePass;
+    }
+
     /**
      * Saves this object's settings to the given node settings.
      *
@@ -149,6 +173,7 @@ public void saveSettings(final NodeSettingsWO settings) {
         settings.addDataCell("positiveClass", m_positiveClass);
         settings.addStringArray("curves", m_curves.toArray(new String[0]));
         settings.addInt("maxPoints", m_maxPoints);
+        settings.addBoolean("singlePass", m_singlePass);
     }
 
     /**
@@ -168,6 +193,7 @@ public void loadSettings(final NodeSettingsRO settings)
         }
 
         m_maxPoints = settings.getInt("maxPoints", -1); // since 2.10
+        m_singlePass = settings.getBoolean("singlePass", false); // since 4.2
     }
 
     /**
@@ -185,5 +211,6 @@ public void loadSettingsForDialog(final NodeSettingsRO settings) {
         }
 
         m_maxPoints = settings.getInt("maxPoints", 2000); // since 2.10
+        m_singlePass = settings.getBoolean("singlePass", true); // since 4.2
     }
 }
@@ -0,0 +1,571 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.viz.roc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+
+import org.knime.base.node.parallel.ParallelChunkProcessor;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnDomain;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Counts the positive and negative rows per score for several score columns in a single pass over a table, which is
+ * all that is needed for ROC curves and lift charts. The rows are read in chunks that are processed in parallel, see
+ * {@link ParallelChunkProcessor}.
+ *
+ * <p>
+ * As long as the scores fit into memory they are kept in primitive arrays that are sorted at the end, which gives the
+ * exact counts for each distinct score. Otherwise (or if memory runs low during the pass) the scores are counted in
+ * histograms with {@value #HISTOGRAM_BINS} bins between the bounds of the column domain (or 0 and 1 if there is no
+ * domain). Each thread counts into its own histograms, which are merged at the end. The counts per bin then
+ * approximate the counts per score.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ */
+public final class ScoreCollector {
+
+    /** The number of bins of a histogram. */
+    static final int HISTOGRAM_BINS = 1 << 14;
+
+    private final int[] m_scoreColumns;
+
+    private final int m_classColumn;
+
+    private final Predicate<DataCell> m_isPositive;
+
+    private final boolean m_ignoreMissingClass;
+
+    private final boolean m_ignoreMissingScores;
+
+    private final ParallelChunkProcessor m_processor;
+
+    private long m_maxExactBytes = Runtime.getRuntime().maxMemory() / 4;
+
+    private boolean m_hasMissingValues;
+
+    /** The scores per column, positives from the front, negatives from the back; <code>null</code> for histograms. */
+    private long[][] m_scores;
+
+    private int[] m_positiveCount;
+
+    private int[] m_negativeCount;
+
+    /** The lower bounds and widths of the histograms per column. */
+    private double[] m_lower;
+
+    private double[] m_width;
+
+    /** The histograms of the threads that are not in use. */
+    private final Queue<Histograms> m_freeHistograms = new ConcurrentLinkedQueue<>();
+
+    /** All histograms, only modified by the threads while holding its lock. */
+    private final List<Histograms> m_allHistograms = new ArrayList<>();
+
+    /** The histograms chunks are counted in on the reading thread. */
+    private Histograms m_mainHistograms;
+
+    /** Whether the chunks are counted in histograms, only modified by the reading thread. */
+    private volatile boolean m_useHistograms;
+
+    /**
+     * Creates a new collector.
+     *
+     * @param scoreColumns the indices of the columns with the scores, must be compatible to {@link DoubleValue}
+     * @param classColumn the index of the column with the class
+     * @param isPositive tests whether a (non-missing) class is the positive one, must be thread-safe
+     * @param ignoreMissingClass whether rows with a missing class are ignored, otherwise they are negative
+     * @param ignoreMissingScores whether missing scores are ignored, otherwise they are ranked last
+     */
+    public ScoreCollector(final int[] scoreColumns, final int classColumn, final Predicate<DataCell> isPositive,
+        final boolean ignoreMissingClass, final boolean ignoreMissingScores) {
+        this(scoreColumns, classColumn, isPositive, ignoreMissingClass, ignoreMissingScores,
+            new ParallelChunkProcessor());
+    }
+
+    ScoreCollector(final int[] scoreColumns, final int classColumn, final Predicate<DataCell> isPositive,
+        final boolean ignoreMissingClass, final boolean ignoreMissingScores, final ParallelChunkProcessor processor) {
+        m_scoreColumns = scoreColumns.clone();
+        m_classColumn = classColumn;
+        m_isPositive = isPositive;
+        m_ignoreMissingClass = ignoreMissingClass;
+        m_ignoreMissingScores = ignoreMissingScores;
+        m_processor = processor;
+    }
+
+    /**
+     * @param maxExactBytes the maximum number of bytes the scores may occupy in memory, for tests
+     */
+    void setMaxExactBytes(final long maxExactBytes) {
+        m_maxExactBytes = maxExactBytes;
+    }
+
+    /**
+     * @return whether rows with missing values have been counted by the last call of a collect method
+     */
+    public boolean hasMissingValues() {
+        return m_hasMissingValues;
+    }
+
+    /**
+     * Counts the scores of all rows of the table.
+     *
+     * @param table the table
+     * @param exec for progress and cancellation
+     * @return the counts for each score column, in the order of the columns passed to the constructor
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    public ScoreCounts[] collect(final BufferedDataTable table, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final double[] lower = new double[m_scoreColumns.length];
+        final double[] upper = new double[m_scoreColumns.length];
+        for (int i = 0; i < m_scoreColumns.length; i++) {
+            final DataColumnDomain domain = spec.getColumnSpec(m_scoreColumns[i]).getDomain();
+            lower[i] = domain.hasLowerBound() ? ((DoubleValue)domain.getLowerBound()).getDoubleValue() : 0;
+            upper[i] = domain.hasUpperBound() ? ((DoubleValue)domain.getUpperBound()).getDoubleValue() : 1;
+        }
+        try (CloseableRowIterator rows = table.iterator()) {
+            return collect(rows, table.size(), lower, upper, exec);
+        }
+    }
+
+    /**
+     * Counts the scores of all rows.
+     *
+     * @param rows the rows
+     * @param rowCount the number of rows
+     * @param lower the lower bounds of the histograms per score column
+     * @param upper the upper bounds of the histograms per score column
+     * @param exec for progress and cancellation
+     * @return the counts for each score column
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    ScoreCounts[] collect(final Iterator<DataRow> rows, final long rowCount, final double[] lower,
+        final double[] upper, final ExecutionMonitor exec) throws CanceledExecutionException {
+        final int columns = m_scoreColumns.length;
+        m_hasMissingValues = false;
+        m_lower = lower.clone();
+        m_width = new double[columns];
+        for (int i = 0; i < columns; i++) {
+            // values outside of the bounds are counted in the first or last bin
+            m_width[i] = upper[i] > lower[i] ? upper[i] - lower[i] : 0;
+        }
+        m_positiveCount = new int[columns];
+        m_negativeCount = new int[columns];
+        m_useHistograms = rowCount > Integer.MAX_VALUE - 8 || rowCount * columns * Long.BYTES > m_maxExactBytes;
+        m_scores = m_useHistograms ? null : new long[columns][(int)rowCount];
+        final long[] missingPositives = new long[columns];
+        final long[] missingNegatives = new long[columns];
+
+        final MemoryActionIndicator memory = MemoryAlertSystem.getInstance().newIndicator();
+        try {
+            m_processor.processUnchecked(rows, rowCount, (chunkRows, size, firstIndex) -> {
+                if (m_scores != null && memory.lowMemoryActionRequired()) {
+                    switchToHistograms();
+                }
+                final boolean useHistograms = m_useHistograms;
+                return () -> count(chunkRows, size, useHistograms);
+            }, (chunk, chunkRows, size, firstIndex) -> add(chunk, missingPositives, missingNegatives),
+                read -> "Read " + read + " rows", exec);
+            exec.setMessage("Counting scores");
+            return finish(missingPositives, missingNegatives, exec);
+        } finally {
+            m_scores = null;
+            m_mainHistograms = null;
+            m_freeHistograms.clear();
+            m_allHistograms.clear();
+        }
+    }
+
+    /** Counts a chunk in the histograms of the current thread or extracts its scores. */
+    private Chunk count(final DataRow[] rows, final int size, final boolean useHistograms) {
+        final int columns = m_scoreColumns.length;
+        final Chunk chunk = new Chunk(columns, size, !useHistograms);
+        Histograms histograms = null;
+        if (useHistograms) {
+            histograms = m_freeHistograms.poll();
+            if (histograms == null) {
+                histograms = new Histograms(columns);
+                synchronized (m_allHistograms) {
+                    m_allHistograms.add(histograms);
+                }
+            }
+        }
+        for (int r = 0; r < size; r++) {
+            final DataRow row = rows[r];
+            final DataCell classCell = row.getCell(m_classColumn);
+            final boolean positive;
+            if (classCell.isMissing()) {
+                if (m_ignoreMissingClass) {
+                    continue;
+                }
+                chunk.m_hasMissingValues = true;
+                positive = false;
+            } else {
+                positive = m_isPositive.test(classCell);
+            }
+            for (int c = 0; c < columns; c++) {
+                final DataCell scoreCell = row.getCell(m_scoreColumns[c]);
+                if (scoreCell.isMissing()) {
+                    if (!m_ignoreMissingScores) {
+                        chunk.m_hasMissingValues = true;
+                        chunk.m_missing[c][positive ? 0 : 1]++;
+                    }
+                } else if (useHistograms) {
+                    histograms.add(c, bin(c, ((DoubleValue)scoreCell).getDoubleValue()), positive);
+                } else {
+                    final long score = toSortable(((DoubleValue)scoreCell).getDoubleValue());
+                    if (positive) {
+                        chunk.m_positives[c][chunk.m_positiveCount[c]++] = score;
+                    } else {
+                        chunk.m_negatives[c][chunk.m_negativeCount[c]++] = score;
+                    }
+                }
+            }
+        }
+        if (histograms != null) {
+            m_freeHistograms.add(histograms);
+        }
+        return chunk;
+    }
+
+    /** Adds the result of a chunk on the reading thread. */
+    private void add(final Chunk chunk, final long[] missingPositives, final long[] missingNegatives) {
+        m_hasMissingValues |= chunk.m_hasMissingValues;
+        for (int c = 0; c < m_scoreColumns.length; c++) {
+            missingPositives[c] += chunk.m_missing[c][0];
+            missingNegatives[c] += chunk.m_missing[c][1];
+            if (!chunk.hasScores()) {
+                continue;
+            }
+            if (m_scores != null) {
+                final long[] scores = m_scores[c];
+                System.arraycopy(chunk.m_positives[c], 0, scores, m_positiveCount[c], chunk.m_positiveCount[c]);
+                m_positiveCount[c] += chunk.m_positiveCount[c];
+                for (int i = 0; i < chunk.m_negativeCount[c]; i++) {
+                    scores[scores.length - 1 - m_negativeCount[c]++] = chunk.m_negatives[c][i];
+                }
+            } else {
+                // the chunk has been started before the switch to histograms
+                final Histograms histograms = getMainHistograms();
+                for (int i = 0; i < chunk.m_positiveCount[c]; i++) {
+                    histograms.add(c, bin(c, fromSortable(chunk.m_positives[c][i])), true);
+                }
+                for (int i = 0; i < chunk.m_negativeCount[c]; i++) {
+                    histograms.add(c, bin(c, fromSortable(chunk.m_negatives[c][i])), false);
+                }
+            }
+        }
+    }
+
+    /** Moves the scores collected so far into histograms and counts all following chunks in histograms. */
+    private void switchToHistograms() {
+        m_useHistograms = true;
+        final Histograms histograms = getMainHistograms();
+        for (int c = 0; c < m_scores.length; c++) {
+            final long[] scores = m_scores[c];
+            for (int i = 0; i < m_positiveCount[c]; i++) {
+                histograms.add(c, bin(c, fromSortable(scores[i])), true);
+            }
+            for (int i = 0; i < m_negativeCount[c]; i++) {
+                histograms.add(c, bin(c, fromSortable(scores[scores.length - 1 - i])), false);
+            }
+        }
+        m_scores = null;
+    }
+
+    /** @return the histograms of the reading thread, which are never used by the workers */
+    private Histograms getMainHistograms() {
+        if (m_mainHistograms == null) {
+            m_mainHistograms = new Histograms(m_scoreColumns.length);
+            synchronized (m_allHistograms) {
+                m_allHistograms.add(m_mainHistograms);
+            }
+        }
+        return m_mainHistograms;
+    }
+
+    private int bin(final int column, final double score) {
+        if (m_width[column] == 0 || score <= m_lower[column]) {
+            return 0;
+        }
+        final int bin = (int)((score - m_lower[column]) / m_width[column] * HISTOGRAM_BINS);
+        // NaN is ranked highest, as in a sorted table
+        return Double.isNaN(score) || bin >= HISTOGRAM_BINS ? HISTOGRAM_BINS - 1 : bin;
+    }
+
+    private ScoreCounts[] finish(final long[] missingPositives, final long[] missingNegatives,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        final int columns = m_scoreColumns.length;
+        final List<Callable<ScoreCounts>> tasks = new ArrayList<>(columns);
+        if (m_scores != null) {
+            for (int c = 0; c < columns; c++) {
+                final long[] scores = m_scores[c];
+                final int positives = m_positiveCount[c];
+                final int negatives = m_negativeCount[c];
+                final long missingPos = missingPositives[c];
+                final long missingNeg = missingNegatives[c];
+                // each column is sorted by a different thread
+                tasks.add(() -> ScoreCounts.fromScores(scores, positives, negatives, missingPos, missingNeg));
+            }
+        } else {
+            final Histograms merged = new Histograms(columns);
+            for (final Histograms histograms : m_allHistograms) {
+                merged.addAll(histograms);
+            }
+            for (int c = 0; c < columns; c++) {
+                final int column = c;
+                tasks.add(() -> ScoreCounts.fromHistogram(merged.m_counts[column], missingPositives[column],
+                    missingNegatives[column]));
+            }
+        }
+        return m_processor.invokeAllUnchecked(tasks, exec).toArray(new ScoreCounts[columns]);
+    }
+
+    /**
+     * @param value any double
+     * @return a long with the same order as the double, see {@link Double#compare(double, double)}
+     */
+    static long toSortable(final double value) {
+        final long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    static double fromSortable(final long sortable) {
+        return Double.longBitsToDouble(sortable ^ ((sortable >> 63) & Long.MAX_VALUE));
+    }
+
+    /** The result of a chunk. */
+    private static final class Chunk {
+
+        private boolean m_hasMissingValues;
+
+        /** The number of missing scores per column for positive and negative rows. */
+        private final long[][] m_missing;
+
+        /** The sortable scores per column, <code>null</code> if the chunk has been counted in histograms. */
+        private final long[][] m_positives;
+
+        private final long[][] m_negatives;
+
+        private final int[] m_positiveCount;
+
+        private final int[] m_negativeCount;
+
+        Chunk(final int columns, final int size, final boolean withScores) {
+            m_missing = new long[columns][2];
+            m_positives = withScores ? new long[columns][size] : null;
+            m_negatives = withScores ? new long[columns][size] : null;
+            m_positiveCount = new int[columns];
+            m_negativeCount = new int[columns];
+        }
+
+        boolean hasScores() {
+            return m_positives != null;
+        }
+    }
+
+    /** The histograms of all columns, used by one thread at a time. */
+    private static final class Histograms {
+
+        /** The counts per column, positives at even, negatives at odd indices. */
+        private final long[][] m_counts;
+
+        Histograms(final int columns) {
+            m_counts = new long[columns][2 * HISTOGRAM_BINS];
+        }
+
+        void add(final int column, final int bin, final boolean positive) {
+            m_counts[column][2 * bin + (positive ? 0 : 1)]++;
+        }
+
+        void addAll(final Histograms other) {
+            for (int c = 0; c < m_counts.length; c++) {
+                for (int i = 0; i < m_counts[c].length; i++) {
+                    m_counts[c][i] += other.m_counts[c][i];
+                }
+            }
+        }
+    }
+
+    /**
+     * The number of positive and negative rows for each distinct score (or each bin of scores), in the order of
+     * descending scores. Missing scores that are not ignored form the last group.
+     */
+    public static final class ScoreCounts {
+
+        private final long[] m_positives;
+
+        private final long[] m_negatives;
+
+        private final boolean m_exact;
+
+        private ScoreCounts(final long[] positives, final long[] negatives, final boolean exact) {
+            m_positives = positives;
+            m_negatives = negatives;
+            m_exact = exact;
+        }
+
+        /** Sorts the scores and counts the rows per distinct score. */
+        static ScoreCounts fromScores(final long[] scores, final int positiveCount, final int negativeCount,
+            final long missingPositives, final long missingNegatives) {
+            final int negativeStart = scores.length - negativeCount;
+            Arrays.sort(scores, 0, positiveCount);
+            Arrays.sort(scores, negativeStart, scores.length);
+            // the first pass counts the groups, the second one fills them
+            long[] positives = null;
+            long[] negatives = null;
+            int groups = 0;
+            for (int pass = 0; pass < 2; pass++) {
+                int p = positiveCount - 1;
+                int n = scores.length - 1;
+                groups = 0;
+                while (p >= 0 || n >= negativeStart) {
+                    final long score = p < 0 ? scores[n]
+                        : (n < negativeStart ? scores[p] : Math.max(scores[p], scores[n]));
+                    long pos = 0;
+                    while (p >= 0 && scores[p] == score) {
+                        pos++;
+                        p--;
+                    }
+                    long neg = 0;
+                    while (n >= negativeStart && scores[n] == score) {
+                        neg++;
+                        n--;
+                    }
+                    if (positives != null) {
+                        positives[groups] = pos;
+                        negatives[groups] = neg;
+                    }
+                    groups++;
+                }
+                if (positives == null) {
+                    final int size = groups + (missingPositives + missingNegatives > 0 ? 1 : 0);
+                    positives = new long[size];
+                    negatives = new long[size];
+                }
+            }
+            if (groups < positives.length) {
+                positives[groups] = missingPositives;
+                negatives[groups] = missingNegatives;
+            }
+            return new ScoreCounts(positives, negatives, true);
+        }
+
+        /** Takes the non-empty bins in descending order. */
+        static ScoreCounts fromHistogram(final long[] counts, final long missingPositives,
+            final long missingNegatives) {
+            final long[] positives = new long[HISTOGRAM_BINS + 1];
+            final long[] negatives = new long[HISTOGRAM_BINS + 1];
+            int groups = 0;
+            for (int bin = HISTOGRAM_BINS - 1; bin >= 0; bin--) {
+                if (counts[2 * bin] + counts[2 * bin + 1] > 0) {
+                    positives[groups] = counts[2 * bin];
+                    negatives[groups] = counts[2 * bin + 1];
+                    groups++;
+                }
+            }
+            if (missingPositives + missingNegatives > 0) {
+                positives[groups] = missingPositives;
+                negatives[groups] = missingNegatives;
+                groups++;
+            }
+            return new ScoreCounts(Arrays.copyOf(positives, groups), Arrays.copyOf(negatives, groups), false);
+        }
+
+        /**
+         * @return the number of distinct scores (or bins of scores)
+         */
+        public int getGroupCount() {
+            return m_positives.length;
+        }
+
+        /**
+         * @param group the index of the group, 0 is the one with the highest score
+         * @return the number of positive rows with the score
+         */
+        public long getPositives(final int group) {
+            return m_positives[group];
+        }
+
+        /**
+         * @param group the index of the group, 0 is the one with the highest score
+         * @return the number of negative rows with the score
+         */
+        public long getNegatives(final int group) {
+            return m_negatives[group];
+        }
+
+        /**
+         * @return <code>true</code> if each group holds exactly one score, <code>false</code> if the groups are bins
+         *         of a histogram and the counts are an approximation
+         */
+        public boolean isExact() {
+            return m_exact;
+        }
+    }
+}
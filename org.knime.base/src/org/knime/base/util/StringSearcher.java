@@ -0,0 +1,153 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.util;
+
+import java.util.Arrays;
+
+/**
+ * Searches for a fixed string. Short strings are searched by {@link String#indexOf(String, int)}, longer ones by the
+ * Boyer-Moore-Horspool algorithm, which skips parts of the text based on the last character of the current window.
+ *
+ * <p>
+ * Instances are immutable and can be used concurrently.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ */
+public final class StringSearcher {
+
+    /** Strings shorter than this are searched by {@link String#indexOf(String, int)}, which is an intrinsic. */
+    private static final int MIN_SKIP_LENGTH = 8;
+
+    /** The skip table is indexed by the lower bits of the characters. */
+    private static final int SKIP_TABLE_SIZE = 256;
+
+    private final String m_needle;
+
+    private final int[] m_skip;
+
+    /**
+     * Creates a searcher for the given string.
+     *
+     * @param needle the string to search for, must not be empty
+     * @throws IllegalArgumentException if the string is empty
+     */
+    public StringSearcher(final String needle) {
+        if (needle.isEmpty()) {
+            throw new IllegalArgumentException("The string to search for must not be empty.");
+        }
+        m_needle = needle;
+        final int length = needle.length();
+        if (length < MIN_SKIP_LENGTH) {
+            m_skip = null;
+        } else {
+            m_skip = new int[SKIP_TABLE_SIZE];
+            Arrays.fill(m_skip, length);
+            for (int i = 0; i < length - 1; i++) {
+                m_skip[needle.charAt(i) & (SKIP_TABLE_SIZE - 1)] = length - 1 - i;
+            }
+        }
+    }
+
+    /**
+     * @return the string that is searched for
+     */
+    public String getNeedle() {
+        return m_needle;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the string at or after the given index.
+     *
+     * @param text the text to search in
+     * @param fromIndex the index to start the search from
+     * @return the index of the first occurrence or -1 if there is none
+     */
+    public int indexOf(final String text, final int fromIndex) {
+        if (m_skip == null) {
+            return text.indexOf(m_needle, fromIndex);
+        }
+        final int length = m_needle.length();
+        final int last = length - 1;
+        final char lastChar = m_needle.charAt(last);
+        int i = Math.max(0, fromIndex) + last;
+        while (i < text.length()) {
+            final char c = text.charAt(i);
+            if (c == lastChar && text.regionMatches(i - last, m_needle, 0, last)) {
+                return i - last;
+            }
+            i += m_skip[c & (SKIP_TABLE_SIZE - 1)];
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces all non-overlapping occurrences of the string from left to right, equivalent to
+     * {@link String#replace(CharSequence, CharSequence)}.
+     *
+     * @param text the text to search in
+     * @param replacement the literal replacement
+     * @return the text with all occurrences replaced, the argument itself if there is none
+     */
+    public String replaceAll(final String text, final String replacement) {
+        int index = indexOf(text, 0);
+        if (index < 0) {
+            return text;
+        }
+        final StringBuilder result = new StringBuilder(text.length() + replacement.length());
+        int processed = 0;
+        do {
+            result.append(text, processed, index).append(replacement);
+            processed = index + m_needle.length();
+            index = indexOf(text, processed);
+        } while (index >= 0);
+        return result.append(text, processed, text.length()).toString();
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.filehandling.core.connections.base;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.AccessMode;
+import java.nio.file.CopyOption;
+import java.nio.file.DirectoryStream;
+import java.nio.file.DirectoryStream.Filter;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.filehandling.core.connections.base.attributes.BaseFileAttributes;
+import org.knime.filehandling.core.defaultnodesettings.FileSystemChoice.Choice;
+
+/**
+ * Tests the attribute caching of the {@link BaseFileSystemProvider} against an in-memory file system that, like a blob
+ * store, only creates a file when the writing stream or channel is closed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public class BaseFileSystemProviderTest {
+
+    private static final class InMemoryPath extends UnixStylePath {
+
+        InMemoryPath(final InMemoryFileSystem fileSystem, final String first, final String... more) {
+            super(fileSystem, first, more);
+        }
+    }
+
+    private static final class InMemoryFileSystem extends BaseFileSystem<InMemoryPath> {
+
+        InMemoryFileSystem(final InMemoryProvider provider, final URI uri) {
+            super(provider, uri, 60000, "/", Choice.CONNECTED_FS, Optional.empty());
+        }
+
+        @Override
+        public InMemoryPath getPath(final String first, final String... more) {
+            return new InMemoryPath(this, first, more);
+        }
+
+        @Override
+        public String getSeparator() {
+            return "/";
+        }
+
+        @Override
+        public Iterable<Path> getRootDirectories() {
+            return Collections.singletonList(getPath("/"));
+        }
+
+        @Override
+        protected void prepareClose() {
+            // nothing to do
+        }
+
+        @Override
+        public String getSchemeString() {
+            return "mem";
+        }
+
+        @Override
+        public String getHostString() {
+            return "test";
+        }
+    }
+
+    private static final class InMemoryProvider extends BaseFileSystemProvider<InMemoryPath, InMemoryFileSystem> {
+
+        private final Map<String, byte[]> m_files = new ConcurrentHashMap<>();
+
+        private final AtomicInteger m_fetchCount = new AtomicInteger();
+
+        private BaseFileAttributes createAttributes(final InMemoryPath path) {
+            final byte[] content = m_files.get(path.toString());
+            final FileTime time = FileTime.fromMillis(0);
+            return new BaseFileAttributes(content != null, path, time, time, time,
+                content != null ? content.length : 0, false, false, null);
+        }
+
+        @Override
+        protected InMemoryFileSystem createFileSystem(final URI uri, final Map<String, ?> env) {
+            return new InMemoryFileSystem(this, uri);
+        }
+
+        @Override
+        protected SeekableByteChannel newByteChannelInternal(final InMemoryPath path,
+            final Set<? extends OpenOption> options, final FileAttribute<?>... attrs) throws IOException {
+            return new TempFileSeekableByteChannel<InMemoryPath>(path, options) {
+
+                @Override
+                public void copyFromRemote(final InMemoryPath remoteFile, final Path tempFile) throws IOException {
+                    final byte[] content = m_files.get(remoteFile.toString());
+                    if (content == null) {
+                        throw new NoSuchFileException(remoteFile.toString());
+                    }
+                    Files.write(tempFile, content);
+                }
+
+                @Override
+                public void copyToRemote(final InMemoryPath remoteFile, final Path tempFile) throws IOException {
+                    m_files.put(remoteFile.toString(), Files.readAllBytes(tempFile));
+                }
+            };
+        }
+
+        @Override
+        protected InputStream newInputStreamInternal(final InMemoryPath path, final OpenOption... options) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected OutputStream newOutputStreamInternal(final InMemoryPath path, final OpenOption... options) {
+            return new ByteArrayOutputStream() {
+                @Override
+                public void close() {
+                    m_files.put(path.toString(), toByteArray());
+                }
+            };
+        }
+
+        @Override
+        protected void moveInternal(final InMemoryPath source, final InMemoryPath target,
+            final CopyOption... options) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void copyInternal(final InMemoryPath source, final InMemoryPath target,
+            final CopyOption... options) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Iterator<InMemoryPath> createPathIterator(final InMemoryPath dir, final Filter<? super Path> filter) {
+            throw new UnsupportedOperationException();
+        }
+
+        /** Reports the attributes of each file when the iterator reaches it, like a listing fetched page by page. */
+        @Override
+        protected Iterator<InMemoryPath> createPathIterator(final InMemoryPath dir, final Filter<? super Path> filter,
+            final BiConsumer<InMemoryPath, BaseFileAttributes> listedAttributes) {
+            final Iterator<String> names = new ArrayList<>(m_files.keySet()).iterator();
+            return new Iterator<InMemoryPath>() {
+                @Override
+                public boolean hasNext() {
+                    return names.hasNext();
+                }
+
+                @Override
+                public InMemoryPath next() {
+                    final InMemoryPath path = getFileSystemInternal().getPath(names.next());
+                    listedAttributes.accept(path, createAttributes(path));
+                    return path;
+                }
+            };
+        }
+
+        @Override
+        protected void createDirectoryInternal(final InMemoryPath dir, final FileAttribute<?>... attrs) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected boolean exists(final InMemoryPath path) {
+            return path.getParent() == null || m_files.containsKey(path.toString());
+        }
+
+        @Override
+        protected BaseFileAttributes fetchAttributesInternal(final InMemoryPath path, final Class<?> type) {
+            m_fetchCount.incrementAndGet();
+            return createAttributes(path);
+        }
+
+        @Override
+        protected void checkAccessInternal(final InMemoryPath path, final AccessMode... modes) {
+            // everything is accessible
+        }
+
+        @Override
+        protected void deleteInternal(final InMemoryPath path) {
+            m_files.remove(path.toString());
+        }
+
+        @Override
+        public String getScheme() {
+            return "mem";
+        }
+
+        @Override
+        public boolean isHidden(final Path path) {
+            return false;
+        }
+
+        @Override
+        public FileStore getFileStore(final Path path) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private InMemoryProvider m_provider;
+
+    private InMemoryFileSystem m_fileSystem;
+
+    @Before
+    public void setUp() throws IOException {
+        m_provider = new InMemoryProvider();
+        m_fileSystem = m_provider.newFileSystem(URI.create("mem://test/"), Collections.emptyMap());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        m_fileSystem.close();
+    }
+
+    @Test
+    public void testOutputStreamEvictsOnClose() throws IOException {
+        final Path path = m_fileSystem.getPath("/file.txt");
+        try (final OutputStream out = Files.newOutputStream(path)) {
+            out.write(new byte[]{1, 2, 3});
+            // the file is only created on close, the path is now cached as non-existent
+            assertFalse(Files.exists(path));
+        }
+        assertTrue(Files.exists(path));
+        assertEquals(3, Files.size(path));
+    }
+
+    @Test
+    public void testWritingChannelEvictsOnClose() throws IOException {
+        final Path path = m_fileSystem.getPath("/file.txt");
+        try (final SeekableByteChannel channel =
+            Files.newByteChannel(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}));
+            assertFalse(Files.exists(path));
+        }
+        assertTrue(Files.exists(path));
+        assertEquals(4, Files.size(path));
+
+        // overwriting an existing file refreshes its cached size
+        try (final SeekableByteChannel channel =
+            Files.newByteChannel(path, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1}));
+            assertEquals(4, Files.size(path));
+        }
+        assertEquals(1, Files.size(path));
+    }
+
+    @Test
+    public void testListedAttributesAreCachedWhileIterating() throws IOException {
+        m_provider.m_files.put("/a", new byte[1]);
+        m_provider.m_files.put("/b", new byte[2]);
+        m_provider.m_files.put("/c", new byte[3]);
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(m_fileSystem.getPath("/"))) {
+            final int fetchCount = m_provider.m_fetchCount.get();
+            for (final Path path : stream) {
+                final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                assertTrue(attributes.isRegularFile());
+                assertEquals(m_provider.m_files.get(path.toString()).length, attributes.size());
+            }
+            assertEquals("Listed attributes were fetched again", fetchCount, m_provider.m_fetchCount.get());
+        }
+    }
+}
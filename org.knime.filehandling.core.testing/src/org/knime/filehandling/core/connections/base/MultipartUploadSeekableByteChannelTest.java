@@ -0,0 +1,400 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.filehandling.core.connections.base;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.NonReadableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.filehandling.core.connections.FSPath;
+
+/**
+ * Tests the {@link MultipartUploadSeekableByteChannel} against a local stand-in for a remote file system.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public class MultipartUploadSeekableByteChannelTest {
+
+    private static final int PART_SIZE = 16;
+
+    private static final int MAX_PENDING_PARTS = 2;
+
+    private static final Set<OpenOption> OPTIONS = new HashSet<>(
+        Arrays.asList(StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+
+    @Rule
+    public TemporaryFolder m_tempFolder = new TemporaryFolder();
+
+    private Path m_remoteFile;
+
+    private FSPath m_path;
+
+    @Before
+    public void setUp() throws IOException {
+        m_remoteFile = m_tempFolder.newFolder("remote").toPath().resolve("file.bin");
+        m_path = mock(FSPath.class);
+        when(m_path.getFileName()).thenReturn(Paths.get("file.bin"));
+    }
+
+    /** Stores the parts in memory and concatenates them into the local "remote" file on completion. */
+    private final class LocalMultipartChannel extends MultipartUploadSeekableByteChannel<FSPath> {
+
+        private final Map<Integer, byte[]> m_parts = new ConcurrentHashMap<>();
+
+        private boolean m_started;
+
+        private boolean m_aborted;
+
+        private boolean m_fallback;
+
+        private boolean m_completed;
+
+        /** Odd parts take longer to upload than even ones if set. */
+        private boolean m_delayOddParts;
+
+        /** The part whose upload fails, or -1. */
+        private int m_failingPart = -1;
+
+        private final AtomicInteger m_runningUploads = new AtomicInteger();
+
+        private final AtomicInteger m_maxRunningUploads = new AtomicInteger();
+
+        private final Queue<Integer> m_finishedParts = new ConcurrentLinkedQueue<>();
+
+        LocalMultipartChannel() {
+            super(m_path, OPTIONS, PART_SIZE, MAX_PENDING_PARTS);
+        }
+
+        @Override
+        protected void startUpload(final FSPath remoteFile) {
+            m_started = true;
+        }
+
+        @Override
+        protected void uploadPart(final FSPath remoteFile, final int partNumber, final ByteBuffer data)
+            throws IOException {
+            m_maxRunningUploads.accumulateAndGet(m_runningUploads.incrementAndGet(), Math::max);
+            try {
+                if (m_delayOddParts && partNumber % 2 == 1) {
+                    Thread.sleep(50);
+                }
+                if (partNumber == m_failingPart) {
+                    throw new IOException("Upload of part " + partNumber + " failed");
+                }
+                final byte[] bytes = new byte[data.remaining()];
+                data.duplicate().get(bytes);
+                m_parts.put(partNumber, bytes);
+                m_finishedParts.add(partNumber);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            } finally {
+                m_runningUploads.decrementAndGet();
+            }
+        }
+
+        @Override
+        protected void completeUpload(final FSPath remoteFile, final int numberOfParts) throws IOException {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (int i = 1; i <= numberOfParts; i++) {
+                out.write(m_parts.get(i));
+            }
+            Files.write(m_remoteFile, out.toByteArray());
+            m_completed = true;
+        }
+
+        @Override
+        protected void abortUpload(final FSPath remoteFile) {
+            m_aborted = true;
+        }
+
+        @Override
+        protected SeekableByteChannel createFallbackChannel(final FSPath remoteFile,
+            final Set<? extends OpenOption> options) throws IOException {
+            m_fallback = true;
+            return new TempFileSeekableByteChannel<FSPath>(remoteFile, options) {
+
+                @Override
+                public void copyFromRemote(final FSPath remote, final Path tempFile) throws IOException {
+                    Files.copy(m_remoteFile, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+
+                @Override
+                public void copyToRemote(final FSPath remote, final Path tempFile) throws IOException {
+                    Files.copy(tempFile, m_remoteFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            };
+        }
+    }
+
+    private static byte[] createData(final int length) {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte)(i * 31 + 7);
+        }
+        return data;
+    }
+
+    private static void write(final SeekableByteChannel channel, final byte[] data, final int chunkSize)
+        throws IOException {
+        for (int i = 0; i < data.length; i += chunkSize) {
+            assertEquals(Math.min(chunkSize, data.length - i),
+                channel.write(ByteBuffer.wrap(data, i, Math.min(chunkSize, data.length - i))));
+        }
+    }
+
+    @Test
+    public void testSequentialWriteUploadsParts() throws IOException {
+        final byte[] data = createData(100);
+        final LocalMultipartChannel channel = new LocalMultipartChannel();
+        write(channel, data, 7);
+        assertEquals(100, channel.position());
+        assertEquals(100, channel.size());
+        channel.close();
+        assertFalse(channel.isOpen());
+        assertEquals(7, channel.m_parts.size());
+        assertFalse(channel.m_fallback);
+        assertFalse(channel.m_aborted);
+        assertArrayEquals(data, Files.readAllBytes(m_remoteFile));
+    }
+
+    @Test
+    public void testSmallAndEmptyFiles() throws IOException {
+        final byte[] data = createData(PART_SIZE);
+        LocalMultipartChannel channel = new LocalMultipartChannel();
+        write(channel, data, PART_SIZE);
+        channel.close();
+        assertEquals(1, channel.m_parts.size());
+        assertArrayEquals(data, Files.readAllBytes(m_remoteFile));
+
+        channel = new LocalMultipartChannel();
+        channel.close();
+        assertTrue(channel.m_started);
+        assertEquals(0, Files.size(m_remoteFile));
+    }
+
+    @Test
+    public void testRandomAccessWithinCurrentPart() throws IOException {
+        final byte[] data = createData(2 * PART_SIZE + 5);
+        final LocalMultipartChannel channel = new LocalMultipartChannel();
+        write(channel, data, 3);
+        channel.position(2 * PART_SIZE + 1);
+        channel.write(ByteBuffer.wrap(new byte[]{42}));
+        data[2 * PART_SIZE + 1] = 42;
+        channel.position(data.length);
+        channel.truncate(data.length - 1);
+        assertEquals(data.length - 1, channel.position());
+        channel.close();
+        assertFalse(channel.m_fallback);
+        assertArrayEquals(Arrays.copyOf(data, data.length - 1), Files.readAllBytes(m_remoteFile));
+    }
+
+    @Test
+    public void testFallbackBeforeFirstPart() throws IOException {
+        final byte[] data = createData(2 * PART_SIZE);
+        final LocalMultipartChannel channel = new LocalMultipartChannel();
+        write(channel, Arrays.copyOf(data, 10), 4);
+        // moving beyond the written data is random access
+        channel.position(12);
+        assertTrue(channel.m_fallback);
+        channel.write(ByteBuffer.wrap(data, 12, data.length - 12));
+        channel.position(10);
+        channel.write(ByteBuffer.wrap(data, 10, 2));
+        assertEquals(data.length, channel.size());
+        channel.close();
+        assertFalse(channel.m_started);
+        assertArrayEquals(data, Files.readAllBytes(m_remoteFile));
+    }
+
+    @Test
+    public void testRandomAccessAfterUploadFails() throws IOException {
+        final byte[] data = createData(3 * PART_SIZE);
+        final LocalMultipartChannel channel = new LocalMultipartChannel();
+        write(channel, data, PART_SIZE);
+        try {
+            channel.position(0);
+            fail("Seeking into uploaded data must fail.");
+        } catch (IOException e) {
+            // expected
+        }
+        channel.close();
+        assertArrayEquals(data, Files.readAllBytes(m_remoteFile));
+    }
+
+    @Test
+    public void testPartsCompletingOutOfOrder() throws IOException {
+        final byte[] data = createData(8 * PART_SIZE + 3);
+        final LocalMultipartChannel channel = new LocalMultipartChannel();
+        channel.m_delayOddParts = true;
+        write(channel, data, 5);
+        channel.close();
+        assertEquals(9, channel.m_parts.size());
+        assertTrue("Parts must be uploaded concurrently", channel.m_maxRunningUploads.get() > 1);
+        assertTrue("Too many concurrent uploads: " + channel.m_maxRunningUploads.get(),
+            channel.m_maxRunningUploads.get() <= MAX_PENDING_PARTS);
+        final List<Integer> finishedParts = new ArrayList<>(channel.m_finishedParts);
+        assertEquals(Integer.valueOf(2), finishedParts.get(0));
+        assertTrue(channel.m_completed);
+        assertArrayEquals(data, Files.readAllBytes(m_remoteFile));
+    }
+
+    @Test
+    public void testUploadFailureIsPropagated() throws IOException {
+        final byte[] data = createData(10 * PART_SIZE);
+        final LocalMultipartChannel channel = new LocalMultipartChannel();
+        channel.m_failingPart = 3;
+        try {
+            write(channel, data, PART_SIZE);
+            channel.close();
+            fail("The failed upload must be reported.");
+        } catch (IOException e) {
+            assertEquals("Upload of part 3 failed", e.getMessage());
+        }
+        assertTrue(channel.m_aborted);
+        assertFalse(channel.m_completed);
+        assertFalse(channel.m_parts.containsKey(3));
+        try {
+            channel.write(ByteBuffer.wrap(data));
+            fail("Writing after a failed upload must fail.");
+        } catch (IOException e) {
+            assertEquals("Upload of part 3 failed", e.getCause().getMessage());
+        }
+        // the failure has been reported already, closing must neither fail nor complete the upload
+        channel.close();
+        assertFalse(channel.isOpen());
+        assertFalse(channel.m_completed);
+        assertFalse(Files.exists(m_remoteFile));
+    }
+
+    @Test
+    public void testFailureOfLastPartIsReportedByClose() throws IOException {
+        final byte[] data = createData(3 * PART_SIZE + 1);
+        final LocalMultipartChannel channel = new LocalMultipartChannel();
+        channel.m_failingPart = 4;
+        write(channel, data, PART_SIZE);
+        try {
+            channel.close();
+            fail("The failed upload must be reported.");
+        } catch (IOException e) {
+            assertEquals("Upload of part 4 failed", e.getMessage());
+        }
+        assertTrue(channel.m_aborted);
+        assertFalse(channel.m_completed);
+        assertFalse(channel.isOpen());
+    }
+
+    @Test(expected = NonReadableChannelException.class)
+    public void testReadNotSupported() throws IOException {
+        try (final LocalMultipartChannel channel = new LocalMultipartChannel()) {
+            channel.read(ByteBuffer.allocate(1));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadOptionNotSupported() {
+        final Set<OpenOption> options = new HashSet<>(OPTIONS);
+        options.add(StandardOpenOption.READ);
+        assertFalse(MultipartUploadSeekableByteChannel.supportsOptions(options));
+        new MultipartUploadSeekableByteChannel<FSPath>(m_path, options) {
+
+            @Override
+            protected void startUpload(final FSPath remoteFile) {
+            }
+
+            @Override
+            protected void uploadPart(final FSPath remoteFile, final int partNumber, final ByteBuffer data) {
+            }
+
+            @Override
+            protected void completeUpload(final FSPath remoteFile, final int numberOfParts) {
+            }
+
+            @Override
+            protected void abortUpload(final FSPath remoteFile) {
+            }
+
+            @Override
+            protected SeekableByteChannel createFallbackChannel(final FSPath remoteFile,
+                final Set<? extends OpenOption> opts) {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.filehandling.core.connections.base;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+import org.knime.filehandling.core.connections.FSPath;
+
+/**
+ * Tests the {@link PrefetchingSeekableByteChannel} against an in-memory stand-in for a remote file.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public class PrefetchingSeekableByteChannelTest {
+
+    private static final int BLOCK_SIZE = 16;
+
+    private static final int READ_AHEAD = 3;
+
+    /** Serves ranged reads from a byte array and remembers the requested offsets. */
+    private static final class InMemoryChannel extends PrefetchingSeekableByteChannel<FSPath> {
+
+        private final byte[] m_content;
+
+        private final Set<Long> m_requested = ConcurrentHashMap.newKeySet();
+
+        /** Reads of the block starting at this position fail, or -1. */
+        private volatile long m_failingBlock = -1;
+
+        InMemoryChannel(final byte[] content) {
+            this(content, content.length);
+        }
+
+        InMemoryChannel(final byte[] content, final long size) {
+            super(mock(FSPath.class), size, BLOCK_SIZE, READ_AHEAD);
+            m_content = content;
+        }
+
+        @Override
+        protected int readRange(final FSPath remoteFile, final long position, final ByteBuffer dst)
+            throws IOException {
+            if (position == m_failingBlock) {
+                throw new IOException("Reading block at " + position + " failed");
+            }
+            if (position >= m_content.length) {
+                return -1;
+            }
+            m_requested.add(position);
+            // return less than requested to exercise the retry loop
+            final int length = Math.min(Math.min(dst.remaining(), 5), m_content.length - (int)position);
+            dst.put(m_content, (int)position, length);
+            return length;
+        }
+    }
+
+    private static byte[] createData(final int length) {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte)(i * 31 + 7);
+        }
+        return data;
+    }
+
+    @Test
+    public void testSequentialRead() throws IOException {
+        final byte[] data = createData(10 * BLOCK_SIZE + 3);
+        final byte[] read = new byte[data.length];
+        try (final InMemoryChannel channel = new InMemoryChannel(data);
+                final InputStream in = Channels.newInputStream(channel)) {
+            assertEquals(data.length, channel.size());
+            int offset = 0;
+            int n;
+            while ((n = in.read(read, offset, Math.min(7, read.length - offset))) > 0) {
+                offset += n;
+            }
+            assertEquals(data.length, offset);
+            assertEquals(-1, in.read());
+        }
+        assertArrayEquals(data, read);
+    }
+
+    @Test
+    public void testReadAhead() throws IOException {
+        final byte[] data = createData(10 * BLOCK_SIZE);
+        try (final InMemoryChannel channel = new InMemoryChannel(data)) {
+            assertEquals(1, channel.read(ByteBuffer.allocate(1)));
+            // wait until the read-ahead blocks arrived
+            while (!channel.m_requested.contains((long)(READ_AHEAD - 1) * BLOCK_SIZE)) {
+                Thread.yield();
+            }
+            assertFalse("Block beyond the read-ahead window requested",
+                channel.m_requested.contains((long)READ_AHEAD * BLOCK_SIZE));
+        }
+    }
+
+    @Test
+    public void testRandomAccess() throws IOException {
+        final byte[] data = createData(10 * BLOCK_SIZE + 3);
+        try (final InMemoryChannel channel = new InMemoryChannel(data)) {
+            for (final int position : new int[]{100, 3, 17, 160, 0, 64, 161}) {
+                channel.position(position);
+                final ByteBuffer buffer = ByteBuffer.allocate(40);
+                int read = 0;
+                int n;
+                while ((n = channel.read(buffer)) > 0) {
+                    read += n;
+                }
+                assertEquals(Math.min(40, data.length - position), read);
+                assertEquals(position + read, channel.position());
+                assertArrayEquals(Arrays.copyOfRange(data, position, position + read),
+                    Arrays.copyOf(buffer.array(), read));
+            }
+            channel.position(data.length + 10);
+            assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        }
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        try (final InMemoryChannel channel = new InMemoryChannel(new byte[0])) {
+            assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        }
+    }
+
+    @Test
+    public void testEmptyBuffer() throws IOException {
+        final byte[] data = createData(2 * BLOCK_SIZE);
+        try (final InMemoryChannel channel = new InMemoryChannel(data)) {
+            assertEquals(0, channel.read(ByteBuffer.allocate(0)));
+            assertEquals(0, channel.position());
+            final ByteBuffer full = ByteBuffer.allocate(4);
+            full.position(4);
+            assertEquals(0, channel.read(full));
+            channel.position(data.length);
+            assertEquals(-1, channel.read(ByteBuffer.allocate(0)));
+        }
+    }
+
+    @Test
+    public void testEndOfFile() throws IOException {
+        final byte[] data = createData(2 * BLOCK_SIZE + 3);
+        try (final InMemoryChannel channel = new InMemoryChannel(data)) {
+            channel.position(data.length - 1);
+            final ByteBuffer buffer = ByteBuffer.allocate(10);
+            assertEquals(1, channel.read(buffer));
+            assertEquals(data[data.length - 1], buffer.get(0));
+            assertEquals(data.length, channel.position());
+            assertEquals(-1, channel.read(buffer));
+            assertEquals(data.length, channel.position());
+        }
+    }
+
+    @Test
+    public void testFileShorterThanSize() throws IOException {
+        final byte[] data = createData(BLOCK_SIZE + 5);
+        try (final InMemoryChannel channel = new InMemoryChannel(data, 3 * BLOCK_SIZE)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(4 * BLOCK_SIZE);
+            int read = 0;
+            int n;
+            while ((n = channel.read(buffer)) >= 0) {
+                assertTrue("No progress at position " + channel.position(), n > 0);
+                read += n;
+            }
+            assertEquals(data.length, read);
+            assertArrayEquals(data, Arrays.copyOf(buffer.array(), read));
+        }
+    }
+
+    @Test
+    public void testReadFailureIsPropagated() throws IOException {
+        final byte[] data = createData(6 * BLOCK_SIZE);
+        try (final InMemoryChannel channel = new InMemoryChannel(data)) {
+            channel.m_failingBlock = 2 * BLOCK_SIZE;
+            final ByteBuffer buffer = ByteBuffer.allocate(data.length);
+            try {
+                while (channel.read(buffer) >= 0) {
+                    // read until the failing block is reached
+                }
+                fail("The failed read must be reported.");
+            } catch (IOException e) {
+                assertEquals("Reading block at " + 2 * BLOCK_SIZE + " failed", e.getMessage());
+            }
+            assertEquals(2 * BLOCK_SIZE, channel.position());
+            // the next read starts over
+            channel.m_failingBlock = -1;
+            while (channel.read(buffer) >= 0) {
+                // read the rest
+            }
+            assertArrayEquals(data, buffer.array());
+        }
+    }
+
+    @Test(expected = NonWritableChannelException.class)
+    public void testWriteNotSupported() throws IOException {
+        try (final InMemoryChannel channel = new InMemoryChannel(createData(1))) {
+            channel.write(ByteBuffer.allocate(1));
+        }
+    }
+
+    @Test(expected = ClosedChannelException.class)
+    public void testReadAfterClose() throws IOException {
+        final InMemoryChannel channel = new InMemoryChannel(createData(1));
+        channel.close();
+        assertFalse(channel.isOpen());
+        assertTrue(channel.m_requested.isEmpty());
+        channel.read(ByteBuffer.allocate(1));
+    }
+}
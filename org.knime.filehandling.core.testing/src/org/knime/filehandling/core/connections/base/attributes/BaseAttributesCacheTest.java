@@ -0,0 +1,209 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.filehandling.core.connections.base.attributes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link BaseAttributesCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BaseAttributesCacheTest {
+
+    private static final long TIME_TO_LIVE = 60000;
+
+    private static BaseFileAttributes createAttributes(final String path) {
+        final FileTime time = FileTime.fromMillis(0);
+        return new BaseFileAttributes(true, Paths.get(path), time, time, time, 42, false, false, null);
+    }
+
+    /**
+     * Tests that stored attributes are returned and counted as hits, unknown paths as misses.
+     */
+    @Test
+    public void testStoreAndGet() {
+        final BaseAttributesCache cache = new BaseAttributesCache(TIME_TO_LIVE);
+        final BaseFileAttributes attributes = createAttributes("/dir/file");
+        cache.storeAttributes("/dir/file", attributes);
+        assertSame(attributes, cache.getAttributes("/dir/file").get());
+        assertFalse(cache.getAttributes("/dir/other").isPresent());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        cache.removeAttribute("/dir/file");
+        assertFalse(cache.getAttributes("/dir/file").isPresent());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    /**
+     * Tests that the attributes of several paths are stored at once.
+     */
+    @Test
+    public void testStoreAll() {
+        final BaseAttributesCache cache = new BaseAttributesCache(TIME_TO_LIVE);
+        final Map<String, BaseFileAttributes> attributes = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            attributes.put("/dir/file" + i, createAttributes("/dir/file" + i));
+        }
+        cache.storeAllAttributes(attributes);
+        for (final Map.Entry<String, BaseFileAttributes> entry : attributes.entrySet()) {
+            assertSame(entry.getValue(), cache.getAttributes(entry.getKey()).get());
+        }
+        assertEquals(10, cache.getHitCount());
+    }
+
+    /**
+     * Tests that a path cached as non-existent is reported as such, is a miss for the attribute lookup and is
+     * replaced by stored attributes.
+     */
+    @Test
+    public void testNonExistentPath() {
+        final BaseAttributesCache cache = new BaseAttributesCache(TIME_TO_LIVE);
+        cache.storeNonExistentPath("/missing");
+        assertTrue(cache.isNonExistentPath("/missing"));
+        assertFalse(cache.isNonExistentPath("/unknown"));
+        assertFalse(cache.getAttributes("/missing").isPresent());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getNonExistentHitCount());
+
+        final BaseFileAttributes attributes = createAttributes("/missing");
+        cache.storeAttributes("/missing", attributes);
+        assertFalse(cache.isNonExistentPath("/missing"));
+        assertSame(attributes, cache.getAttributes("/missing").get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getNonExistentHitCount());
+    }
+
+    /**
+     * Tests that attributes and non-existent paths expire after the time to live.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testTimeToLive() throws InterruptedException {
+        final BaseAttributesCache cache = new BaseAttributesCache(200);
+        cache.storeAttributes("/file", createAttributes("/file"));
+        cache.storeNonExistentPath("/missing");
+        assertTrue(cache.getAttributes("/file").isPresent());
+        assertTrue(cache.isNonExistentPath("/missing"));
+        Thread.sleep(400);
+        assertFalse(cache.getAttributes("/file").isPresent());
+        assertFalse(cache.isNonExistentPath("/missing"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    /**
+     * Tests that attributes fetched before they have been stored expire according to their fetch time.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testTimeToLiveStartsAtFetchTime() throws InterruptedException {
+        final BaseAttributesCache cache = new BaseAttributesCache(200);
+        final BaseFileAttributes attributes = createAttributes("/file");
+        Thread.sleep(400);
+        cache.storeAttributes("/file", attributes);
+        assertFalse(cache.getAttributes("/file").isPresent());
+    }
+
+    /**
+     * Tests that the cache evicts entries once their estimated weight exceeds the maximum weight.
+     */
+    @Test
+    public void testWeightEviction() {
+        final int numberOfPaths = 1000;
+        // each entry weighs more than 300 bytes, hence at most 10 entries fit
+        final BaseAttributesCache smallCache = new BaseAttributesCache(TIME_TO_LIVE, 3200);
+        final BaseAttributesCache largeCache =
+            new BaseAttributesCache(TIME_TO_LIVE, BaseAttributesCache.DEFAULT_MAXIMUM_WEIGHT);
+        for (int i = 0; i < numberOfPaths; i++) {
+            final String path = "/dir/file" + i;
+            smallCache.storeAttributes(path, createAttributes(path));
+            largeCache.storeAttributes(path, createAttributes(path));
+        }
+        int cachedInSmall = 0;
+        int cachedInLarge = 0;
+        for (int i = 0; i < numberOfPaths; i++) {
+            final String path = "/dir/file" + i;
+            cachedInSmall += smallCache.getAttributes(path).isPresent() ? 1 : 0;
+            cachedInLarge += largeCache.getAttributes(path).isPresent() ? 1 : 0;
+        }
+        assertTrue("Too many cached entries: " + cachedInSmall, cachedInSmall <= 10);
+        assertEquals(numberOfPaths, cachedInLarge);
+        assertEquals(cachedInSmall, smallCache.getHitCount());
+        assertEquals(numberOfPaths - cachedInSmall, smallCache.getMissCount());
+    }
+
+    /**
+     * Tests that clearing the cache removes attributes and non-existent paths.
+     */
+    @Test
+    public void testClearCache() {
+        final BaseAttributesCache cache = new BaseAttributesCache(TIME_TO_LIVE);
+        cache.storeAttributes("/file", createAttributes("/file"));
+        cache.storeNonExistentPath("/missing");
+        cache.clearCache();
+        assertFalse(cache.getAttributes("/file").isPresent());
+        assertFalse(cache.isNonExistentPath("/missing"));
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.filehandling.core.connections.url;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.filehandling.core.connections.base.PrefetchingSeekableByteChannel;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests that the {@link URIFileSystemProvider} reads files from HTTP servers that support byte ranges with concurrent
+ * ranged requests, and falls back to a single request otherwise.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public class URIFileSystemProviderTest {
+
+    private static final int BLOCK_SIZE = PrefetchingSeekableByteChannel.DEFAULT_BLOCK_SIZE;
+
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+    private final List<String> m_requests = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile byte[] m_content;
+
+    private volatile boolean m_supportsRanges = true;
+
+    private HttpServer m_server;
+
+    private ExecutorService m_executor;
+
+    private URIFileSystem m_fileSystem;
+
+    @Before
+    public void setUp() throws IOException {
+        m_server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        m_server.createContext("/", this::handle);
+        m_executor = Executors.newCachedThreadPool();
+        m_server.setExecutor(m_executor);
+        m_server.start();
+        final URI uri = URI.create("http://127.0.0.1:" + m_server.getAddress().getPort() + "/");
+        m_fileSystem = new URIFileSystemProvider(10000).newFileSystem(uri, Collections.emptyMap());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        m_fileSystem.close();
+        m_server.stop(0);
+        m_executor.shutdownNow();
+    }
+
+    /** Serves {@link #m_content}, answering range requests with a partial response if ranges are supported. */
+    private void handle(final HttpExchange exchange) throws IOException {
+        final String range = exchange.getRequestHeaders().getFirst("Range");
+        m_requests.add(exchange.getRequestMethod() + " " + range);
+        final byte[] content = m_content;
+        final Matcher matcher = range != null ? RANGE.matcher(range) : null;
+        try (final OutputStream out = exchange.getResponseBody()) {
+            if (!m_supportsRanges || matcher == null || !matcher.matches()) {
+                exchange.sendResponseHeaders(200, content.length == 0 ? -1 : content.length);
+                out.write(content);
+                return;
+            }
+            final int start = Integer.parseInt(matcher.group(1));
+            if (start >= content.length) {
+                exchange.getResponseHeaders().add("Content-Range", "bytes */" + content.length);
+                exchange.sendResponseHeaders(416, -1);
+                return;
+            }
+            final int end = Math.min(Integer.parseInt(matcher.group(2)), content.length - 1);
+            exchange.getResponseHeaders().add("Content-Range",
+                String.format("bytes %d-%d/%d", start, end, content.length));
+            exchange.sendResponseHeaders(206, end - start + 1L);
+            out.write(content, start, end - start + 1);
+        }
+    }
+
+    private static byte[] createData(final int length) {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte)(i * 31 + 7);
+        }
+        return data;
+    }
+
+    private byte[] readWithInputStream() throws IOException {
+        final Path path = m_fileSystem.getPath("file.bin");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final InputStream in = Files.newInputStream(path)) {
+            final byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) >= 0) {
+                bytes.write(buffer, 0, n);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void testInputStreamReadsRanges() throws IOException {
+        m_content = createData(3 * BLOCK_SIZE + 17);
+        assertArrayEquals(m_content, readWithInputStream());
+        // the first block is fetched by the request that checks for range support, no request for the whole file
+        assertEquals(m_requests.toString(), 4, m_requests.size());
+        for (int i = 0; i < 4; i++) {
+            final long start = (long)i * BLOCK_SIZE;
+            final long end = Math.min(start + BLOCK_SIZE, m_content.length) - 1;
+            assertTrue(m_requests.toString(), m_requests.contains(String.format("GET bytes=%d-%d", start, end)));
+        }
+    }
+
+    @Test
+    public void testSmallFileNeedsSingleRequest() throws IOException {
+        m_content = createData(100);
+        assertArrayEquals(m_content, readWithInputStream());
+        assertEquals(Collections.singletonList("GET bytes=0-" + (BLOCK_SIZE - 1)), m_requests);
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        m_content = new byte[0];
+        assertArrayEquals(m_content, readWithInputStream());
+        assertEquals(1, m_requests.size());
+    }
+
+    @Test
+    public void testServerWithoutRanges() throws IOException {
+        m_supportsRanges = false;
+        m_content = createData(BLOCK_SIZE + 5);
+        assertArrayEquals(m_content, readWithInputStream());
+        assertEquals(2, m_requests.size());
+        assertEquals("GET null", m_requests.get(1));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.filehandling.core.data.location.cell;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+import org.knime.core.data.filestore.FileStoreKey;
+
+import com.google.common.cache.CacheStats;
+
+/**
+ * Unit tests for {@link MemoryAlertAwareGuavaCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class MemoryAlertAwareGuavaCacheTest {
+
+	private static final UUID STORE = UUID.randomUUID();
+
+	private static FileStoreKey key(final int index) {
+		return new FileStoreKey(STORE, index, null, -1, "fs_" + index);
+	}
+
+	/**
+	 * Tests that loaded and stored values are returned and counted in the statistics.
+	 *
+	 * @throws ExecutionException never
+	 */
+	@Test
+	public void testGetAndStats() throws ExecutionException {
+		final MemoryAlertAwareGuavaCache cache = new MemoryAlertAwareGuavaCache(1000, (k, v) -> 1);
+		cache.put(key(0), "stored");
+		assertEquals("stored", cache.get(key(0), () -> "loaded"));
+		assertEquals("loaded", cache.get(key(1), () -> "loaded"));
+		assertEquals("loaded", cache.get(key(1), () -> "reloaded"));
+		assertEquals("loaded", cache.get(key(1), String.class).get());
+		assertFalse(cache.get(key(2), String.class).isPresent());
+
+		final CacheStats stats = cache.getStats();
+		assertEquals(3, stats.hitCount());
+		assertEquals(2, stats.missCount());
+		assertEquals(1, stats.loadCount());
+	}
+
+	/**
+	 * Tests that storing a second value for the same key fails.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testPutTwice() {
+		final MemoryAlertAwareGuavaCache cache = new MemoryAlertAwareGuavaCache(1000, (k, v) -> 1);
+		cache.put(key(0), "first");
+		cache.put(key(0), "second");
+	}
+
+	/**
+	 * Tests that the cache doesn't exceed its maximum weight.
+	 */
+	@Test
+	public void testMaximumWeight() {
+		final MemoryAlertAwareGuavaCache cache = new MemoryAlertAwareGuavaCache(100, (k, v) -> 10);
+		for (int i = 0; i < 50; i++) {
+			cache.put(key(i), Integer.valueOf(i));
+		}
+		assertTrue(cache.size() <= 10);
+		assertTrue(cache.getStats().evictionCount() >= 40);
+	}
+
+	/**
+	 * Tests that only a fraction of the entries is evicted.
+	 */
+	@Test
+	public void testPartialEviction() {
+		final MemoryAlertAwareGuavaCache cache = new MemoryAlertAwareGuavaCache(1000, (k, v) -> 1);
+		for (int i = 0; i < 10; i++) {
+			cache.put(key(i), Integer.valueOf(i));
+		}
+		cache.evict(0.5);
+		assertEquals(5, cache.size());
+		cache.evict(1);
+		assertEquals(0, cache.size());
+	}
+
+	/**
+	 * Tests that the least recently accessed entries are evicted first.
+	 *
+	 * @throws ExecutionException never
+	 */
+	@Test
+	public void testEvictColdEntriesFirst() throws ExecutionException {
+		final MemoryAlertAwareGuavaCache cache = new MemoryAlertAwareGuavaCache(1000, (k, v) -> 1);
+		for (int i = 0; i < 10; i++) {
+			cache.put(key(i), Integer.valueOf(i));
+		}
+		for (int i = 9; i >= 0; i -= 2) {
+			assertEquals(Integer.valueOf(i), cache.get(key(i), () -> Integer.valueOf(-1)));
+		}
+		cache.evict(0.5);
+		for (int i = 0; i < 10; i++) {
+			assertEquals(i % 2 == 1, cache.get(key(i), Integer.class).isPresent());
+		}
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.filehandling.core.defaultnodesettings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link DirectoryCrawler} in ordered and unordered mode.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DirectoryCrawlerTest {
+
+    private static final long TIMEOUT = 10000;
+
+    /**
+     * Temporary test folder
+     */
+    @Rule
+    public final TemporaryFolder m_testFolder = new TemporaryFolder();
+
+    private Path m_root;
+
+    private List<Path> m_csvFiles;
+
+    private int m_txtFiles;
+
+    /**
+     * Creates a directory tree with files on several levels.
+     *
+     * @throws IOException
+     */
+    @Before
+    public void init() throws IOException {
+        m_root = m_testFolder.getRoot().toPath();
+        m_csvFiles = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final Path dir = Files.createDirectories(m_root.resolve("dir" + i).resolve("sub"));
+            for (int j = 0; j < 20; j++) {
+                m_csvFiles.add(Files.createFile(dir.getParent().resolve("file" + j + ".csv")));
+                m_csvFiles.add(Files.createFile(dir.resolve("file" + j + ".csv")));
+                Files.createFile(dir.resolve("file" + j + ".txt"));
+                m_txtFiles++;
+            }
+            m_csvFiles.add(Files.createFile(m_root.resolve("dir" + i + ".csv")));
+        }
+        Collections.sort(m_csvFiles);
+    }
+
+    private static Predicate<Path> csvFilter() {
+        return p -> p.getFileName().toString().endsWith(".csv");
+    }
+
+    private static List<Path> crawl(final DirectoryCrawler crawler) throws IOException {
+        final List<Path> paths = new ArrayList<>();
+        try {
+            for (Path path = crawler.next(); path != null; path = crawler.next()) {
+                paths.add(path);
+            }
+        } finally {
+            crawler.close();
+        }
+        return paths;
+    }
+
+    /**
+     * Tests that the ordered mode returns the matching files in lexicographic order.
+     *
+     * @throws IOException
+     */
+    @Test(timeout = TIMEOUT)
+    public void testOrdered() throws IOException {
+        final DirectoryCrawler crawler = new DirectoryCrawler(m_root, true, csvFilter(), true, 4, 2);
+        assertEquals(m_csvFiles, crawl(crawler));
+        assertTrue(crawler.isDone());
+        assertEquals(m_csvFiles.size(), crawler.getNumberOfMatchingFiles());
+        assertEquals(m_csvFiles.size() + m_txtFiles, crawler.getNumberOfScannedFiles());
+    }
+
+    /**
+     * Tests that the unordered mode returns all matching files, also if the queue is much smaller than the number of
+     * matching files.
+     *
+     * @throws IOException
+     */
+    @Test(timeout = TIMEOUT)
+    public void testUnordered() throws IOException {
+        final DirectoryCrawler crawler = new DirectoryCrawler(m_root, true, csvFilter(), false, 4, 2);
+        final List<Path> paths = crawl(crawler);
+        assertEquals(m_csvFiles.size(), paths.size());
+        assertEquals(new HashSet<>(m_csvFiles), new HashSet<>(paths));
+        assertTrue(crawler.isDone());
+        assertEquals(m_csvFiles.size(), crawler.getNumberOfMatchingFiles());
+        assertEquals(m_csvFiles.size() + m_txtFiles, crawler.getNumberOfScannedFiles());
+    }
+
+    /**
+     * Tests that only the top level is crawled if sub folders are excluded.
+     *
+     * @throws IOException
+     */
+    @Test(timeout = TIMEOUT)
+    public void testWithoutSubfolders() throws IOException {
+        for (final boolean ordered : new boolean[]{true, false}) {
+            final List<Path> paths =
+                crawl(new DirectoryCrawler(m_root, false, csvFilter(), ordered, 4, 2));
+            if (!ordered) {
+                Collections.sort(paths);
+            }
+            assertEquals(5, paths.size());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(m_root.resolve("dir" + i + ".csv"), paths.get(i));
+            }
+        }
+    }
+
+    /**
+     * Tests that an I/O error while crawling, here a symbolic link cycle, is rethrown instead of blocking the
+     * consumer.
+     *
+     * @throws IOException
+     */
+    @Test(timeout = TIMEOUT)
+    public void testIOFailure() throws IOException {
+        try {
+            Files.createSymbolicLink(m_root.resolve("dir3").resolve("sub").resolve("loop"), m_root);
+        } catch (UnsupportedOperationException | IOException e) {
+            Assume.assumeNoException(e);
+        }
+        for (final boolean ordered : new boolean[]{true, false}) {
+            try {
+                crawl(new DirectoryCrawler(m_root, true, csvFilter(), ordered, 4, 2));
+                fail("Expected an exception in " + (ordered ? "ordered" : "unordered") + " mode.");
+            } catch (FileSystemLoopException e) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * Tests that a runtime exception thrown by the filter is rethrown instead of blocking the consumer.
+     *
+     * @throws IOException
+     */
+    @Test(timeout = TIMEOUT)
+    public void testFilterFailure() throws IOException {
+        final IllegalStateException failure = new IllegalStateException("Filter failed");
+        final Predicate<Path> filter = p -> {
+            if (p.getFileName().toString().equals("file7.txt")) {
+                throw failure;
+            }
+            return true;
+        };
+        for (final boolean ordered : new boolean[]{true, false}) {
+            try {
+                crawl(new DirectoryCrawler(m_root, true, filter, ordered, 4, 2));
+                fail("Expected an exception in " + (ordered ? "ordered" : "unordered") + " mode.");
+            } catch (IOException e) {
+                assertEquals(failure, e.getCause());
+            }
+        }
+    }
+}
@@ -243,6 +243,51 @@ public void addToAttributeCache(final Path path, final BaseFileAttributes attrib
         m_cache.storeAttributes(getCachedAttributesKey(path), attributes);
     }
 
+    /**
+     * Stores in the attribute cache that the given path does not exist.
+     *
+     * @param path the path
+     * @since 4.2
+     */
+    public void addNonExistentToAttributeCache(final Path path) {
+        m_cache.storeNonExistentPath(getCachedAttributesKey(path));
+    }
+
+    /**
+     * Returns whether the attribute cache contains a valid entry stating that the path does not exist.
+     *
+     * @param path the path
+     * @return whether the path is cached as non-existent
+     * @since 4.2
+     */
+    public boolean isCachedAsNonExistent(final Path path) {
+        return m_cache.isNonExistentPath(getCachedAttributesKey(path));
+    }
+
+    /**
+     * @return the number of attribute lookups answered by the attribute cache
+     * @since 4.2
+     */
+    public long getAttributeCacheHitCount() {
+        return m_cache.getHitCount();
+    }
+
+    /**
+     * @return the number of attribute lookups that could not be answered by the attribute cache
+     * @since 4.2
+     */
+    public long getAttributeCacheMissCount() {
+        return m_cache.getMissCount();
+    }
+
+    /**
+     * @return the number of existence checks answered by a path cached as non-existent
+     * @since 4.2
+     */
+    public long getAttributeCacheNonExistentHitCount() {
+        return m_cache.getNonExistentHitCount();
+    }
+
     /**
      * Removes an attribute for the path with the given URI from the attribute cache.
      *
@@ -87,6 +87,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import org.knime.filehandling.core.connections.FSFileSystemProvider;
 import org.knime.filehandling.core.connections.FSPath;
@@ -104,7 +105,8 @@
 
     private static final String PATH_FROM_DIFFERENT_PROVIDER_MESSAGE = "Path is from a different file system provider";
 
-    private F m_fileSystem;
+    /** Volatile so that the hot accessors can read it without acquiring the monitor, writes are synchronized. */
+    private volatile F m_fileSystem;
 
     /**
      * {@inheritDoc}
@@ -176,7 +178,13 @@ public SeekableByteChannel newByteChannel(final Path path, final Set<? extends O
             checkParentDirectoryExists(checkedPath);
         }
 
-        return new BaseSeekableByteChannel(newByteChannelInternal(checkedPath, sanitizedOptions, attrs), m_fileSystem);
+        final SeekableByteChannel channel = newByteChannelInternal(checkedPath, sanitizedOptions, attrs);
+        if (sanitizedOptions.contains(StandardOpenOption.WRITE)) {
+            // the file may have been created or changed, again when the channel is closed
+            getFileSystemInternal().removeFromAttributeCache(checkedPath);
+            return new BaseSeekableByteChannel(channel, m_fileSystem, checkedPath);
+        }
+        return new BaseSeekableByteChannel(channel, m_fileSystem);
     }
 
     /**
@@ -288,6 +296,7 @@ public void move(final Path source, final Path target, final CopyOption... optio
 
         moveInternal(checkedSource, checkedTarget, options);
         getFileSystemInternal().removeFromAttributeCache(checkedSource);
+        getFileSystemInternal().removeFromAttributeCache(checkedTarget);
     }
 
     /**
@@ -327,6 +336,7 @@ public void copy(final Path source, final Path target, final CopyOption... optio
             throw new FileAlreadyExistsException(String.format("Target file %s already exists.", target.toString()));
         }
         copyInternal(checkedSource, checkedTarget, options);
+        getFileSystemInternal().removeFromAttributeCache(checkedTarget);
     }
 
     /**
@@ -357,7 +367,10 @@ public OutputStream newOutputStream(final Path path, final OpenOption... options
         final OpenOption[] validatedOpenOptions = ensureValidAndDefaultOpenOptionsForWriting(options);
         final P checkedPath = checkCastAndAbsolutizePath(path);
 
-        return new BaseOutputStream(newOutputStreamInternal(checkedPath, validatedOpenOptions), getFileSystemInternal());
+        final OutputStream outputStream = newOutputStreamInternal(checkedPath, validatedOpenOptions);
+        // the file may have been created or changed, again when the stream is closed
+        getFileSystemInternal().removeFromAttributeCache(checkedPath);
+        return new BaseOutputStream(outputStream, getFileSystemInternal(), checkedPath);
     }
 
     /**
@@ -407,7 +420,30 @@ public DirectoryStream<Path> newDirectoryStream(final Path dir, final Filter<? s
             throw new NotDirectoryException(checkedDir.toString());
         }
 
-        return new BaseDirectoryStream((Iterator<Path>)createPathIterator(checkedDir, filter), getFileSystemInternal());
+        final F fileSystem = getFileSystemInternal();
+        final Iterator<? extends Path> iterator =
+            createPathIterator(checkedDir, filter, fileSystem::addToAttributeCache);
+        return new BaseDirectoryStream((Iterator<Path>)iterator, fileSystem);
+    }
+
+    /**
+     * Creates the file system specific path iterator and reports the attributes of the listed paths if the backing
+     * file system returns them together with the listing, e.g. the size and modification time of the objects listed
+     * by a blob store. The reported attributes are stored in the attribute cache right away, so iterators that fetch
+     * the listing page by page should report them whenever a page arrives, before the paths are passed to the filter.
+     * The default implementation calls {@link #createPathIterator(FSPath, Filter)} and reports no attributes.
+     *
+     * @param dir the path to the directory
+     * @param filter the directory stream filter
+     * @param listedAttributes receives the attributes of the listed paths
+     *
+     * @return a new {@code Iterator<Path>} object
+     * @throws IOException if I/O error occurs
+     * @since 4.2
+     */
+    protected Iterator<P> createPathIterator(final P dir, final Filter<? super Path> filter,
+        final BiConsumer<P, BaseFileAttributes> listedAttributes) throws IOException {
+        return createPathIterator(dir, filter);
     }
 
     /**
@@ -435,6 +471,7 @@ public void createDirectory(final Path dir, final FileAttribute<?>... attrs) thr
             throw new FileAlreadyExistsException(checkedDir.toString());
         } catch (NoSuchFileException e) {
             createDirectoryInternal(checkedDir, attrs);
+            getFileSystemInternal().removeFromAttributeCache(checkedDir);
         }
     }
 
@@ -462,11 +499,12 @@ public synchronized F getFileSystem(final URI uri) {
      *
      * @return the {@code FileSystem} created by this provider if it exists.
      */
-    protected final synchronized F getFileSystemInternal() {
-        if (m_fileSystem == null) {
+    protected final F getFileSystemInternal() {
+        final F fileSystem = m_fileSystem;
+        if (fileSystem == null) {
             throw new FileSystemNotFoundException();
         }
-        return m_fileSystem;
+        return fileSystem;
     }
 
     /**
@@ -484,7 +522,7 @@ protected synchronized void removeFileSystem(final URI uri) {
      * @param uri the URI to the file system
      * @return whether a file system for the uri exists
      */
-    public synchronized boolean isOpen(final URI uri) {
+    public boolean isOpen(final URI uri) {
         return m_fileSystem != null;
     }
 
@@ -496,7 +534,8 @@ protected P checkCastAndAbsolutizePath(final Path path) {
 
     /**
      * Tests whether the given path (after toAbsolute().normalize()) exists, by
-     * first checking for a cache entry, and then invoking {@link #exists(FSPath)}.
+     * first checking for a cache entry, and then invoking {@link #exists(FSPath)}. Paths that do not exist are
+     * remembered in the cache as well.
      *
      * @param path The path to check.
      * @return whether the path exists or not.
@@ -504,7 +543,17 @@ protected P checkCastAndAbsolutizePath(final Path path) {
      */
     final protected boolean existsCached(final P path) throws IOException {
         final P normalizedAbsolute = (P) path.toAbsolutePath().normalize();
-        return getFileSystemInternal().hasCachedAttributes(normalizedAbsolute) || exists(normalizedAbsolute);
+        final F fileSystem = getFileSystemInternal();
+        if (fileSystem.hasCachedAttributes(normalizedAbsolute)) {
+            return true;
+        } else if (fileSystem.isCachedAsNonExistent(normalizedAbsolute)) {
+            return false;
+        }
+        final boolean exists = exists(normalizedAbsolute);
+        if (!exists) {
+            fileSystem.addNonExistentToAttributeCache(normalizedAbsolute);
+        }
+        return exists;
     }
 
     /**
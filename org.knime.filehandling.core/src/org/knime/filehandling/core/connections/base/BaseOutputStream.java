@@ -50,6 +50,7 @@
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Path;
 
 /**
  * Wrapper for {@link OutputStream} that is closed when the file system is closed.
@@ -62,6 +63,8 @@ public class BaseOutputStream extends OutputStream {
 
     private final BaseFileSystem<?> m_fileSystem;
 
+    private final Path m_path;
+
     /**
      * Wraps the given outputStream and registers it at the file system.
      *
@@ -69,8 +72,22 @@ public class BaseOutputStream extends OutputStream {
      * @param fileSystem the handling file system
      */
     public BaseOutputStream(final OutputStream outputStream, final BaseFileSystem<?> fileSystem) {
+        this(outputStream, fileSystem, null);
+    }
+
+    /**
+     * Wraps the given outputStream and registers it at the file system. The given path is removed from the attribute
+     * cache when the stream is closed, since remote file systems often only create or replace the file on close.
+     *
+     * @param outputStream outputStreamt to wrap
+     * @param fileSystem the handling file system
+     * @param path the path that is written, or {@code null}
+     * @since 4.2
+     */
+    public BaseOutputStream(final OutputStream outputStream, final BaseFileSystem<?> fileSystem, final Path path) {
         m_outputStream = outputStream;
         m_fileSystem = fileSystem;
+        m_path = path;
         m_fileSystem.addCloseable(this);
     }
 
@@ -116,6 +133,10 @@ public void close() throws IOException {
         try {
             m_outputStream.close();
         } finally {
+            if (m_path != null) {
+                // the file may have been created or changed
+                m_fileSystem.removeFromAttributeCache(m_path);
+            }
             m_fileSystem.notifyClosed(this);
         }
     }
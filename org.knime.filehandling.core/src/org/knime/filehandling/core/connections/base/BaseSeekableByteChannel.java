@@ -51,6 +51,7 @@
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
 
 /**
  *
@@ -62,12 +63,28 @@ public class BaseSeekableByteChannel implements SeekableByteChannel {
 
     private final BaseFileSystem m_fileSystem;
 
+    private final Path m_writtenPath;
+
     /**
      * @param seekableByteChannel
      */
     public BaseSeekableByteChannel(final SeekableByteChannel seekableByteChannel, final BaseFileSystem fileSystem) {
+        this(seekableByteChannel, fileSystem, null);
+    }
+
+    /**
+     * @param seekableByteChannel the channel to wrap
+     * @param fileSystem the handling file system
+     * @param writtenPath the path if the channel was opened for writing, or {@code null}; it is removed from the
+     *            attribute cache when the channel is closed, since remote file systems often only create or replace
+     *            the file on close
+     * @since 4.2
+     */
+    public BaseSeekableByteChannel(final SeekableByteChannel seekableByteChannel, final BaseFileSystem fileSystem,
+        final Path writtenPath) {
         m_seekableByteChannel = seekableByteChannel;
         m_fileSystem = fileSystem;
+        m_writtenPath = writtenPath;
         m_fileSystem.addCloseable(this);
     }
 
@@ -84,8 +101,15 @@ public boolean isOpen() {
      */
     @Override
     public void close() throws IOException {
-        m_seekableByteChannel.close();
-        m_fileSystem.notifyClosed(this);
+        try {
+            m_seekableByteChannel.close();
+        } finally {
+            if (m_writtenPath != null) {
+                // the file may have been created or changed
+                m_fileSystem.removeFromAttributeCache(m_writtenPath);
+            }
+            m_fileSystem.notifyClosed(this);
+        }
     }
 
     /**
@@ -0,0 +1,514 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.filehandling.core.connections.base;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonReadableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+import org.knime.filehandling.core.connections.FSPath;
+
+/**
+ * Write-only implementation of {@link SeekableByteChannel} for remote file systems that support multipart uploads.
+ * In contrast to {@link TempFileSeekableByteChannel} the written data is not staged in a local temporary file but
+ * split into parts of a fixed size, which are uploaded in the background while the writer keeps producing data. Only
+ * a bounded number of parts is held in memory, if the uploads cannot keep up the writer is blocked.
+ *
+ * <p>
+ * Sequential writers (which is what most writers are) never leave the streaming mode. Changing the position or
+ * truncating within the part that has not been uploaded yet is supported as well. Any other random access switches to
+ * the channel returned by {@link #createFallbackChannel(FSPath, Set)}, usually a {@link TempFileSeekableByteChannel},
+ * provided that no part has been uploaded so far. Otherwise the access fails with an {@link IOException}, as the
+ * uploaded data cannot be read back.
+ * </p>
+ *
+ * <p>
+ * The channel can only be opened with {@link StandardOpenOption#WRITE} and neither with
+ * {@link StandardOpenOption#READ} nor with {@link StandardOpenOption#APPEND}, see
+ * {@link #supportsOptions(Set)}. Providers should use a {@link TempFileSeekableByteChannel} for all other cases.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @param <P> Path implementation
+ * @since 4.2
+ */
+public abstract class MultipartUploadSeekableByteChannel<P extends FSPath> implements SeekableByteChannel {
+
+    /** The default size of a part in bytes. */
+    public static final int DEFAULT_PART_SIZE = 8 * 1024 * 1024;
+
+    /** The default maximum number of parts that are uploaded concurrently. */
+    public static final int DEFAULT_MAX_PENDING_PARTS = 4;
+
+    private final P m_file;
+
+    private final Set<? extends OpenOption> m_options;
+
+    private final int m_partSize;
+
+    private final int m_maxPendingParts;
+
+    /** Uploads the parts, bounded by the maximum number of pending parts. */
+    private final ThreadPool m_uploadPool;
+
+    /** The parts that are being uploaded, in the order of their part numbers. */
+    private final Deque<PendingPart> m_pendingParts = new ArrayDeque<>();
+
+    /** Buffers of uploaded parts that can be reused. */
+    private final Deque<ByteBuffer> m_freeBuffers = new ArrayDeque<>();
+
+    /** The part that is currently written. */
+    private ByteBuffer m_buffer;
+
+    /** The offset of the current part in the file. */
+    private long m_bufferStart;
+
+    /** The number of bytes written to the current part. */
+    private int m_bufferLength;
+
+    private long m_position;
+
+    /** The number of parts that have been passed to {@link #uploadPart(FSPath, int, ByteBuffer)}. */
+    private int m_numberOfParts;
+
+    private SeekableByteChannel m_fallbackChannel;
+
+    /** The failure of an upload that has been reported by a write, the upload has been aborted. */
+    private IOException m_failure;
+
+    private boolean m_isClosed = false;
+
+    /**
+     * Creates a channel with {@link #DEFAULT_PART_SIZE} and {@link #DEFAULT_MAX_PENDING_PARTS}.
+     *
+     * @param file the remote file
+     * @param options options specifying how the file is opened, see {@link #supportsOptions(Set)}
+     */
+    public MultipartUploadSeekableByteChannel(final P file, final Set<? extends OpenOption> options) {
+        this(file, options, DEFAULT_PART_SIZE, DEFAULT_MAX_PENDING_PARTS);
+    }
+
+    /**
+     * Creates a channel.
+     *
+     * @param file the remote file
+     * @param options options specifying how the file is opened, see {@link #supportsOptions(Set)}
+     * @param partSize the size of a part in bytes, i.e. the minimal part size of the remote file system
+     * @param maxPendingParts the maximum number of parts that are uploaded concurrently
+     */
+    public MultipartUploadSeekableByteChannel(final P file, final Set<? extends OpenOption> options,
+        final int partSize, final int maxPendingParts) {
+        if (!supportsOptions(options)) {
+            throw new IllegalArgumentException("Only WRITE without READ and APPEND is supported: " + options);
+        }
+        if (partSize <= 0 || maxPendingParts <= 0) {
+            throw new IllegalArgumentException("Part size and number of pending parts must be positive.");
+        }
+        m_file = file;
+        m_options = options;
+        m_partSize = partSize;
+        m_maxPendingParts = maxPendingParts;
+        m_uploadPool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(maxPendingParts);
+        m_buffer = ByteBuffer.allocate(partSize);
+
+        if (file.getFileSystem() instanceof BaseFileSystem) {
+            ((BaseFileSystem<?>)file.getFileSystem()).addCloseable(this);
+        }
+    }
+
+    /**
+     * Returns whether the channel can be opened with the given options, i.e. whether the file is only written.
+     *
+     * @param options the (sanitized) open options
+     * @return <code>true</code> if the options contain {@link StandardOpenOption#WRITE} but neither
+     *         {@link StandardOpenOption#READ} nor {@link StandardOpenOption#APPEND}
+     */
+    public static boolean supportsOptions(final Set<? extends OpenOption> options) {
+        return options.contains(StandardOpenOption.WRITE) && !options.contains(StandardOpenOption.READ)
+            && !options.contains(StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Starts the multipart upload of the remote file. Called once before the first part is uploaded.
+     *
+     * @param remoteFile the remote file to upload to
+     * @throws IOException if an I/O error occurs
+     */
+    protected abstract void startUpload(final P remoteFile) throws IOException;
+
+    /**
+     * Uploads a part of the remote file. Parts are numbered consecutively starting at 1, all parts except for the last
+     * one have the configured part size. The method is called concurrently from several threads.
+     *
+     * @param remoteFile the remote file to upload to
+     * @param partNumber the number of the part
+     * @param data the content of the part between its position and limit, must not be modified
+     * @throws IOException if an I/O error occurs
+     */
+    protected abstract void uploadPart(final P remoteFile, final int partNumber, final ByteBuffer data)
+        throws IOException;
+
+    /**
+     * Completes the multipart upload after all parts have been uploaded successfully.
+     *
+     * @param remoteFile the remote file to upload to
+     * @param numberOfParts the number of uploaded parts
+     * @throws IOException if an I/O error occurs
+     */
+    protected abstract void completeUpload(final P remoteFile, final int numberOfParts) throws IOException;
+
+    /**
+     * Aborts a started multipart upload after a failure and discards the uploaded parts.
+     *
+     * @param remoteFile the remote file to upload to
+     * @throws IOException if an I/O error occurs
+     */
+    protected abstract void abortUpload(final P remoteFile) throws IOException;
+
+    /**
+     * Uploads a file that fits into a single part, i.e. no other part has been uploaded. The default implementation
+     * performs a multipart upload with a single part, implementations may override it with a simple upload.
+     *
+     * @param remoteFile the remote file to upload to
+     * @param data the content of the file between its position and limit
+     * @throws IOException if an I/O error occurs
+     */
+    protected void uploadFile(final P remoteFile, final ByteBuffer data) throws IOException {
+        startUpload(remoteFile);
+        try {
+            uploadPart(remoteFile, 1, data);
+            completeUpload(remoteFile, 1);
+        } catch (IOException e) {
+            abortQuietly(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the channel that takes over if random access is used before any part has been uploaded, usually a
+     * {@link TempFileSeekableByteChannel}.
+     *
+     * @param remoteFile the remote file
+     * @param options the options the channel has been opened with
+     * @return the fallback channel
+     * @throws IOException if an I/O error occurs
+     */
+    protected abstract SeekableByteChannel createFallbackChannel(final P remoteFile,
+        final Set<? extends OpenOption> options) throws IOException;
+
+    @Override
+    public boolean isOpen() {
+        return !m_isClosed;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        checkOpen();
+        if (m_fallbackChannel != null) {
+            return m_fallbackChannel.read(dst);
+        }
+        throw new NonReadableChannelException();
+    }
+
+    @Override
+    public int write(final ByteBuffer src) throws IOException {
+        checkOpen();
+        if (m_fallbackChannel != null) {
+            return m_fallbackChannel.write(src);
+        }
+        final int written = src.remaining();
+        while (src.hasRemaining()) {
+            int offset = (int)(m_position - m_bufferStart);
+            if (offset == m_partSize) {
+                try {
+                    submitPart();
+                } catch (IOException e) {
+                    abortQuietly(e);
+                    m_failure = e;
+                    throw e;
+                }
+                offset = 0;
+            }
+            final int length = Math.min(src.remaining(), m_partSize - offset);
+            final ByteBuffer chunk = src.duplicate();
+            chunk.limit(chunk.position() + length);
+            m_buffer.position(offset);
+            m_buffer.put(chunk);
+            src.position(src.position() + length);
+            m_position += length;
+            m_bufferLength = Math.max(m_bufferLength, offset + length);
+        }
+        return written;
+    }
+
+    @Override
+    public long position() throws IOException {
+        checkOpen();
+        return m_fallbackChannel != null ? m_fallbackChannel.position() : m_position;
+    }
+
+    @Override
+    public SeekableByteChannel position(final long newPosition) throws IOException {
+        checkOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("Negative position: " + newPosition);
+        }
+        if (m_fallbackChannel != null) {
+            m_fallbackChannel.position(newPosition);
+        } else if (newPosition >= m_bufferStart && newPosition <= m_bufferStart + m_bufferLength) {
+            // within the part that has not been uploaded yet
+            m_position = newPosition;
+        } else {
+            switchToFallbackChannel().position(newPosition);
+        }
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        checkOpen();
+        return m_fallbackChannel != null ? m_fallbackChannel.size() : (m_bufferStart + m_bufferLength);
+    }
+
+    @Override
+    public SeekableByteChannel truncate(final long size) throws IOException {
+        checkOpen();
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+        if (m_fallbackChannel != null) {
+            m_fallbackChannel.truncate(size);
+        } else if (size >= m_bufferStart) {
+            // within the part that has not been uploaded yet (or larger than the file)
+            m_bufferLength = (int)Math.min(m_bufferLength, size - m_bufferStart);
+            m_position = Math.min(m_position, size);
+        } else {
+            switchToFallbackChannel().truncate(size);
+        }
+        return this;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (m_isClosed) {
+            return;
+        }
+        m_isClosed = true;
+        try {
+            if (m_fallbackChannel != null) {
+                m_fallbackChannel.close();
+            } else if (m_failure != null) {
+                // the upload has already been aborted and the failure reported
+                return;
+            } else if (m_numberOfParts == 0) {
+                m_buffer.limit(m_bufferLength);
+                m_buffer.position(0);
+                uploadFile(m_file, m_buffer);
+            } else {
+                try {
+                    if (m_bufferLength > 0) {
+                        submitPart();
+                    }
+                    while (!m_pendingParts.isEmpty()) {
+                        awaitOldestPart();
+                    }
+                    completeUpload(m_file, m_numberOfParts);
+                } catch (IOException e) {
+                    abortQuietly(e);
+                    throw e;
+                }
+            }
+        } finally {
+            m_buffer = null;
+            m_freeBuffers.clear();
+            if (m_file.getFileSystem() instanceof BaseFileSystem) {
+                ((BaseFileSystem<?>)m_file.getFileSystem()).notifyClosed(this);
+            }
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (m_isClosed) {
+            throw new ClosedChannelException();
+        } else if (m_failure != null) {
+            throw new IOException("Uploading " + m_file + " has failed: " + m_failure.getMessage(), m_failure);
+        }
+    }
+
+    /** Hands the current part to the upload threads and continues with an empty buffer. */
+    private void submitPart() throws IOException {
+        if (m_numberOfParts == 0) {
+            startUpload(m_file);
+        }
+        while (m_pendingParts.size() >= m_maxPendingParts) {
+            awaitOldestPart();
+        }
+        final ByteBuffer part = m_buffer;
+        part.limit(m_bufferLength);
+        part.position(0);
+        final int partNumber = ++m_numberOfParts;
+        final Future<Void> future = m_uploadPool.enqueue(() -> {
+            uploadPart(m_file, partNumber, part);
+            return null;
+        });
+        m_pendingParts.add(new PendingPart(future, part));
+
+        m_bufferStart += m_bufferLength;
+        m_bufferLength = 0;
+        m_buffer = m_freeBuffers.isEmpty() ? ByteBuffer.allocate(m_partSize) : m_freeBuffers.poll();
+        m_buffer.clear();
+    }
+
+    private void awaitOldestPart() throws IOException {
+        final PendingPart pendingPart = m_pendingParts.peek();
+        try {
+            waitFor(pendingPart.m_future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while uploading " + m_file);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException("Uploading a part of " + m_file + " failed: " + cause.getMessage(), cause);
+        }
+        m_pendingParts.poll();
+        m_freeBuffers.add(pendingPart.m_buffer);
+    }
+
+    /**
+     * Waits for the upload of a part. The writer is invisible to its thread pool while waiting, such that the uploads
+     * can run even if all threads of the pool are busy.
+     */
+    private void waitFor(final Future<Void> future) throws InterruptedException, ExecutionException {
+        try {
+            m_uploadPool.runInvisible(future::get);
+        } catch (IllegalThreadStateException e) {
+            // the writer has not been started by a thread from a thread pool
+            future.get();
+        } catch (ExecutionException e) {
+            // the exception thrown by future.get()
+            final Throwable cause = e.getCause();
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException)cause;
+            } else if (cause instanceof ExecutionException) {
+                throw (ExecutionException)cause;
+            }
+            throw e;
+        }
+    }
+
+    private void abortQuietly(final IOException cause) {
+        for (final PendingPart pendingPart : m_pendingParts) {
+            pendingPart.m_future.cancel(true);
+        }
+        m_pendingParts.clear();
+        try {
+            abortUpload(m_file);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Switches to the fallback channel, which is only possible as long as no part has been uploaded.
+     */
+    private SeekableByteChannel switchToFallbackChannel() throws IOException {
+        if (m_numberOfParts > 0) {
+            throw new IOException(String.format(
+                "Random access to %s is not supported after %d bytes have been written (the data is already uploaded).",
+                m_file, m_bufferStart));
+        }
+        @SuppressWarnings("resource")
+        final SeekableByteChannel fallbackChannel = createFallbackChannel(m_file, m_options);
+        try {
+            m_buffer.limit(m_bufferLength);
+            m_buffer.position(0);
+            while (m_buffer.hasRemaining()) {
+                fallbackChannel.write(m_buffer);
+            }
+            fallbackChannel.position(m_position);
+        } catch (IOException e) {
+            try {
+                fallbackChannel.close();
+            } catch (IOException ex) {
+                e.addSuppressed(ex);
+            }
+            throw e;
+        }
+        m_fallbackChannel = fallbackChannel;
+        m_buffer = ByteBuffer.allocate(0);
+        return fallbackChannel;
+    }
+
+    private static final class PendingPart {
+
+        private final Future<Void> m_future;
+
+        private final ByteBuffer m_buffer;
+
+        PendingPart(final Future<Void> future, final ByteBuffer buffer) {
+            m_future = future;
+            m_buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.filehandling.core.connections.base;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+import org.knime.filehandling.core.connections.FSPath;
+
+/**
+ * Read-only implementation of {@link SeekableByteChannel} for remote file systems that support ranged reads. The file
+ * is split into blocks of a fixed size and the blocks following the current position are fetched concurrently in the
+ * background, so that the throughput on high-latency file systems is bounded by the bandwidth rather than by the
+ * round-trip time of a single request. At most a configured number of blocks is requested or held in memory at any
+ * time, their buffers are reused.
+ *
+ * <p>
+ * Changing the position within the blocks that have been requested keeps the fetched data, any other position
+ * discards the blocks and restarts the read-ahead at the new position. Providers can wrap the channel with
+ * {@link java.nio.channels.Channels#newInputStream(java.nio.channels.ReadableByteChannel)} to implement
+ * {@link BaseFileSystemProvider#newInputStreamInternal(FSPath, java.nio.file.OpenOption...)}.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @param <P> Path implementation
+ * @since 4.2
+ */
+public abstract class PrefetchingSeekableByteChannel<P extends FSPath> implements SeekableByteChannel {
+
+    /** The default size of a block in bytes. */
+    public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+    /** The default number of blocks that are fetched ahead of the current position. */
+    public static final int DEFAULT_READ_AHEAD_BLOCKS = 8;
+
+    private final P m_file;
+
+    private final long m_size;
+
+    private final int m_blockSize;
+
+    private final int m_readAheadBlocks;
+
+    /** Fetches the blocks, bounded by the number of read-ahead blocks. */
+    private final ThreadPool m_readPool;
+
+    /** The requested blocks, consecutive and in ascending order. */
+    private final Deque<Block> m_blocks = new ArrayDeque<>();
+
+    /** Buffers of consumed blocks that can be reused. */
+    private final Deque<ByteBuffer> m_freeBuffers = new ArrayDeque<>();
+
+    private long m_position;
+
+    private boolean m_isClosed = false;
+
+    /**
+     * Creates a channel with {@link #DEFAULT_BLOCK_SIZE} and {@link #DEFAULT_READ_AHEAD_BLOCKS}.
+     *
+     * @param file the remote file
+     * @param size the size of the remote file in bytes
+     */
+    public PrefetchingSeekableByteChannel(final P file, final long size) {
+        this(file, size, DEFAULT_BLOCK_SIZE, DEFAULT_READ_AHEAD_BLOCKS);
+    }
+
+    /**
+     * Creates a channel.
+     *
+     * @param file the remote file
+     * @param size the size of the remote file in bytes
+     * @param blockSize the size of a block in bytes, i.e. the length of a single ranged read
+     * @param readAheadBlocks the maximum number of blocks that are requested concurrently
+     */
+    public PrefetchingSeekableByteChannel(final P file, final long size, final int blockSize,
+        final int readAheadBlocks) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+        if (blockSize <= 0 || readAheadBlocks <= 0) {
+            throw new IllegalArgumentException("Block size and number of read-ahead blocks must be positive.");
+        }
+        m_file = file;
+        m_size = size;
+        m_blockSize = blockSize;
+        m_readAheadBlocks = readAheadBlocks;
+        m_readPool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(readAheadBlocks);
+
+        if (file.getFileSystem() instanceof BaseFileSystem) {
+            ((BaseFileSystem<?>)file.getFileSystem()).addCloseable(this);
+        }
+    }
+
+    /**
+     * Reads a range of the remote file. The method is called concurrently from several threads.
+     *
+     * @param remoteFile the remote file to read from
+     * @param position the offset in the file of the first byte to read
+     * @param dst the buffer to read into, at most {@link ByteBuffer#remaining()} bytes must be read
+     * @return the number of bytes read, possibly less than requested, or -1 if the position is beyond the end of the
+     *         file
+     * @throws IOException if an I/O error occurs
+     */
+    protected abstract int readRange(final P remoteFile, final long position, final ByteBuffer dst)
+        throws IOException;
+
+    @Override
+    public boolean isOpen() {
+        return !m_isClosed;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        checkOpen();
+        if (m_position >= m_size) {
+            return -1;
+        } else if (!dst.hasRemaining()) {
+            return 0;
+        }
+        int read = 0;
+        while (dst.hasRemaining() && m_position < m_size) {
+            final long index = m_position / m_blockSize;
+            // only wait for the first block, return what we have if the next one is still in flight
+            if (read > 0 && !isBlockAvailable(index)) {
+                break;
+            }
+            final ByteBuffer data = getBlock(index);
+            final int offset = (int)(m_position - index * m_blockSize);
+            if (offset >= data.limit()) {
+                // the file got shorter since the size has been determined, i.e. its end has been reached
+                return read == 0 ? -1 : read;
+            }
+            final int length = Math.min(dst.remaining(), data.limit() - offset);
+            final ByteBuffer chunk = data.duplicate();
+            chunk.position(offset);
+            chunk.limit(offset + length);
+            dst.put(chunk);
+            m_position += length;
+            read += length;
+        }
+        return read;
+    }
+
+    @Override
+    public int write(final ByteBuffer src) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long position() throws IOException {
+        checkOpen();
+        return m_position;
+    }
+
+    @Override
+    public SeekableByteChannel position(final long newPosition) throws IOException {
+        checkOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("Negative position: " + newPosition);
+        }
+        // the blocks are dropped lazily on the next read
+        m_position = newPosition;
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        checkOpen();
+        return m_size;
+    }
+
+    @Override
+    public SeekableByteChannel truncate(final long size) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (m_isClosed) {
+            return;
+        }
+        m_isClosed = true;
+        discardBlocks();
+        m_freeBuffers.clear();
+        if (m_file.getFileSystem() instanceof BaseFileSystem) {
+            ((BaseFileSystem<?>)m_file.getFileSystem()).notifyClosed(this);
+        }
+    }
+
+    private void checkOpen() throws ClosedChannelException {
+        if (m_isClosed) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    private boolean isBlockAvailable(final long index) {
+        for (final Block block : m_blocks) {
+            if (block.m_index == index) {
+                return block.m_future.isDone();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the content of the block with the given index, waiting for it if necessary, and makes sure that the
+     * following blocks are requested.
+     */
+    private ByteBuffer getBlock(final long index) throws IOException {
+        // release the blocks before the current one
+        while (!m_blocks.isEmpty() && m_blocks.peek().m_index < index) {
+            releaseBlock(m_blocks.poll());
+        }
+        if (!m_blocks.isEmpty() && m_blocks.peek().m_index != index) {
+            // the position has been moved beyond the requested blocks
+            discardBlocks();
+        }
+
+        long next = m_blocks.isEmpty() ? index : (m_blocks.peekLast().m_index + 1);
+        while (m_blocks.size() < m_readAheadBlocks && next * m_blockSize < m_size) {
+            m_blocks.add(requestBlock(next));
+            next++;
+        }
+
+        final Block block = m_blocks.peek();
+        try {
+            return waitFor(block.m_future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading " + m_file);
+        } catch (ExecutionException e) {
+            // start over with the next read
+            discardBlocks();
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException("Reading from " + m_file + " failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private Block requestBlock(final long index) {
+        final ByteBuffer buffer = m_freeBuffers.isEmpty() ? ByteBuffer.allocate(m_blockSize) : m_freeBuffers.poll();
+        buffer.clear();
+        final long start = index * m_blockSize;
+        buffer.limit((int)Math.min(m_blockSize, m_size - start));
+        final Future<ByteBuffer> future = m_readPool.enqueue(() -> {
+            while (buffer.hasRemaining()) {
+                if (readRange(m_file, start + buffer.position(), buffer) <= 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            return buffer;
+        });
+        return new Block(index, future, buffer);
+    }
+
+    /**
+     * Waits for a block. The reader is invisible to its thread pool while waiting, such that the blocks can be fetched
+     * even if all threads of the pool are busy.
+     */
+    private ByteBuffer waitFor(final Future<ByteBuffer> future) throws InterruptedException, ExecutionException {
+        try {
+            return m_readPool.runInvisible(future::get);
+        } catch (IllegalThreadStateException e) {
+            // the reader has not been started by a thread from a thread pool
+            return future.get();
+        } catch (ExecutionException e) {
+            // the exception thrown by future.get()
+            final Throwable cause = e.getCause();
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException)cause;
+            } else if (cause instanceof ExecutionException) {
+                throw (ExecutionException)cause;
+            }
+            throw e;
+        }
+    }
+
+    private void releaseBlock(final Block block) {
+        if (block.m_future.isDone()) {
+            m_freeBuffers.add(block.m_buffer);
+        } else {
+            // the buffer is still written to, leave it to the garbage collector
+            block.m_future.cancel(true);
+        }
+    }
+
+    private void discardBlocks() {
+        while (!m_blocks.isEmpty()) {
+            releaseBlock(m_blocks.poll());
+        }
+    }
+
+    private static final class Block {
+
+        private final long m_index;
+
+        private final Future<ByteBuffer> m_future;
+
+        private final ByteBuffer m_buffer;
+
+        Block(final long index, final Future<ByteBuffer> future, final ByteBuffer buffer) {
+            m_index = index;
+            m_future = future;
+            m_buffer = buffer;
+        }
+    }
+}
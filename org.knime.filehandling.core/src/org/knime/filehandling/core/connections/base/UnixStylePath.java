@@ -133,7 +133,8 @@ protected static String concatenatePathSegments(final String separator, final St
 
         for (final String segment : more) {
             if (segment.length() > 0) {
-                if (sb.length() > 0) {
+                // do not double the separator after the root, e.g. when joining "/" and "file"
+                if (sb.length() > 0 && sb.lastIndexOf(separator) != sb.length() - separator.length()) {
                     sb.append(separator);
                 }
                 sb.append(segment);
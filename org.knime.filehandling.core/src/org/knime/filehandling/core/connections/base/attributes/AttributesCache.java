@@ -48,6 +48,7 @@
  */
 package org.knime.filehandling.core.connections.base.attributes;
 
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -65,6 +66,38 @@ public interface AttributesCache {
      */
     void storeAttributes(final String path, BaseFileAttributes attributes);
 
+    /**
+     * Stores the attributes of several paths at once, e.g. the attributes of all children that have been returned by
+     * a directory listing.
+     *
+     * @param attributes the file attributes to cache mapped by the paths as string
+     * @since 4.2
+     */
+    default void storeAllAttributes(final Map<String, BaseFileAttributes> attributes) {
+        attributes.forEach(this::storeAttributes);
+    }
+
+    /**
+     * Remembers that a path does not exist. The entry is replaced as soon as attributes are stored for the path.
+     *
+     * @param path the path as string
+     * @since 4.2
+     */
+    default void storeNonExistentPath(final String path) {
+        // negative caching is optional
+    }
+
+    /**
+     * Returns whether the cache knows that the path does not exist.
+     *
+     * @param path the path as string
+     * @return <code>true</code> if the path is cached as not existing
+     * @since 4.2
+     */
+    default boolean isNonExistentPath(final String path) {
+        return false;
+    }
+
     /**
      * Returns an Optional containing the cached file-attributes for a path if present.
      *
@@ -85,4 +118,29 @@ public interface AttributesCache {
      */
     void removeAttribute(String path);
 
+    /**
+     * @return the number of lookups that have been answered by the cache
+     * @since 4.2
+     */
+    default long getHitCount() {
+        return 0;
+    }
+
+    /**
+     * @return the number of lookups that could not be answered by the cache
+     * @since 4.2
+     */
+    default long getMissCount() {
+        return 0;
+    }
+
+    /**
+     * @return the number of lookups by {@link #isNonExistentPath(String)} that have been answered by a path cached as
+     *         not existing
+     * @since 4.2
+     */
+    default long getNonExistentHitCount() {
+        return 0;
+    }
+
 }
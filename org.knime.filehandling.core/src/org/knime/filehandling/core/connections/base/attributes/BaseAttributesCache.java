@@ -48,8 +48,10 @@
  */
 package org.knime.filehandling.core.connections.base.attributes;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
@@ -57,13 +59,38 @@
 /**
  * Cache for file attributes. Attributes can be stored
  *
+ * <p>
+ * The cache is bounded by the estimated number of bytes its entries occupy and can be accessed concurrently without
+ * any global lock. Besides the attributes of existing paths it also remembers paths that are known not to exist
+ * (negative caching). Both kinds of entries expire after the time to live.
+ * </p>
+ *
  * @author Mareike Hoeger, KNIME GmbH, Konstanz, Germany
  */
 public class BaseAttributesCache implements AttributesCache {
 
+    /**
+     * The default maximum weight, i.e. the estimated number of bytes of all cache entries.
+     *
+     * @since 4.2
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 32L * 1024 * 1024;
+
+    /** Rough estimate of the memory occupied by an entry without its key. */
+    private static final int ENTRY_WEIGHT = 64;
+
+    /** Rough estimate of the memory occupied by {@link BaseFileAttributes}. */
+    private static final int ATTRIBUTES_WEIGHT = 256;
+
     private final long m_timeTolive;
 
-    private final Cache<String, BaseFileAttributes> m_attributesCache;
+    private final Cache<String, CacheEntry> m_attributesCache;
+
+    private final LongAdder m_hitCount = new LongAdder();
+
+    private final LongAdder m_missCount = new LongAdder();
+
+    private final LongAdder m_nonExistentHitCount = new LongAdder();
 
     /**
      * Constructs a attribute cache with the given time to live in milliseconds.
@@ -71,44 +98,97 @@ public class BaseAttributesCache implements AttributesCache {
      * @param timeToLive time to live in milliseconds
      */
     public BaseAttributesCache(final long timeToLive) {
+        this(timeToLive, DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    /**
+     * Constructs a attribute cache with the given time to live in milliseconds and maximum weight.
+     *
+     * @param timeToLive time to live in milliseconds
+     * @param maximumWeight the maximum estimated number of bytes occupied by the cache entries
+     * @since 4.2
+     */
+    public BaseAttributesCache(final long timeToLive, final long maximumWeight) {
         m_timeTolive = timeToLive;
-        m_attributesCache =
-            CacheBuilder.newBuilder().softValues().expireAfterWrite(m_timeTolive, TimeUnit.MILLISECONDS).build();
+        m_attributesCache = CacheBuilder.newBuilder() //
+            .concurrencyLevel(Runtime.getRuntime().availableProcessors()) //
+            .maximumWeight(maximumWeight) //
+            .weigher((final String path, final CacheEntry entry) -> entry.getWeight(path)) //
+            .expireAfterWrite(m_timeTolive, TimeUnit.MILLISECONDS) //
+            .build();
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void storeAttributes(final String path, final BaseFileAttributes attributes) {
+        m_attributesCache.put(path, new CacheEntry(attributes, attributes.getFetchTime()));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void storeAttributes(final String path, final BaseFileAttributes attributes) {
-        m_attributesCache.put(path, attributes);
+    public void storeAllAttributes(final Map<String, BaseFileAttributes> attributes) {
+        attributes.forEach(this::storeAttributes);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized Optional<BaseFileAttributes> getAttributes(final String path) {
+    public void storeNonExistentPath(final String path) {
+        m_attributesCache.put(path, new CacheEntry(null, System.currentTimeMillis()));
+    }
 
-        Optional<BaseFileAttributes> attributes = Optional.ofNullable(m_attributesCache.getIfPresent(path));
-        if (attributes.isPresent() && isExpired(attributes.get())) {
-            m_attributesCache.invalidate(path);
-            attributes = Optional.empty();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<BaseFileAttributes> getAttributes(final String path) {
+        final CacheEntry entry = getEntry(path);
+        if (entry == null || entry.m_attributes == null) {
+            // callers fall back to fetching the attributes, hence a path cached as non-existent is a miss here
+            m_missCount.increment();
+            return Optional.empty();
         }
-        return attributes;
+        m_hitCount.increment();
+        return Optional.of(entry.m_attributes);
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNonExistentPath(final String path) {
+        final CacheEntry entry = getEntry(path);
+        final boolean isNonExistent = entry != null && entry.m_attributes == null;
+        if (isNonExistent) {
+            m_nonExistentHitCount.increment();
+        }
+        return isNonExistent;
+    }
+
+    private CacheEntry getEntry(final String path) {
+        final CacheEntry entry = m_attributesCache.getIfPresent(path);
+        if (entry != null && isExpired(entry)) {
+            // the attributes might have been fetched before they were stored
+            m_attributesCache.asMap().remove(path, entry);
+            return null;
+        }
+        return entry;
     }
 
-    private boolean isExpired(final BaseFileAttributes attributes) {
-        return (System.currentTimeMillis() - attributes.getFetchTime()) > m_timeTolive;
+    private boolean isExpired(final CacheEntry entry) {
+        return (System.currentTimeMillis() - entry.m_fetchTime) > m_timeTolive;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void clearCache() {
+    public void clearCache() {
         m_attributesCache.invalidateAll();
     }
 
@@ -120,4 +200,47 @@ public void removeAttribute(final String path) {
         m_attributesCache.invalidate(path);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Only {@link #getAttributes(String)} is counted, a lookup of a path cached as non-existent is a miss as no
+     * attributes are returned.
+     */
+    @Override
+    public long getHitCount() {
+        return m_hitCount.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMissCount() {
+        return m_missCount.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNonExistentHitCount() {
+        return m_nonExistentHitCount.sum();
+    }
+
+    /** Attributes of an existing path or <code>null</code> attributes for a path that does not exist. */
+    private static final class CacheEntry {
+
+        private final BaseFileAttributes m_attributes;
+
+        private final long m_fetchTime;
+
+        CacheEntry(final BaseFileAttributes attributes, final long fetchTime) {
+            m_attributes = attributes;
+            m_fetchTime = fetchTime;
+        }
+
+        int getWeight(final String path) {
+            return ENTRY_WEIGHT + 2 * path.length() + (m_attributes == null ? 0 : ATTRIBUTES_WEIGHT);
+        }
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.filehandling.core.connections.url;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.knime.core.util.FileUtil;
+import org.knime.filehandling.core.connections.base.PrefetchingSeekableByteChannel;
+
+/**
+ * Read-only channel for HTTP(S) URLs whose server supports byte range requests. The blocks of the file are fetched
+ * concurrently with ranged GET requests, see {@link PrefetchingSeekableByteChannel}. The request that checks for
+ * range support already fetches the first block, so no separate request is needed to determine the size.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class HttpRangeSeekableByteChannel extends PrefetchingSeekableByteChannel<URIPath> {
+
+    /** Status code of a request for a range that starts beyond the end of the file. */
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
+    private final int m_timeoutInMillis;
+
+    /** The first block of the file fetched by {@link #open(URIPath, int)}, released once it has been read. */
+    private volatile byte[] m_firstBlock;
+
+    private HttpRangeSeekableByteChannel(final URIPath path, final long size, final byte[] firstBlock,
+        final int timeoutInMillis) {
+        super(path, size);
+        m_firstBlock = firstBlock;
+        m_timeoutInMillis = timeoutInMillis;
+    }
+
+    /**
+     * Opens a channel if the URL is an HTTP(S) URL and the server answers a byte range request for the first block of
+     * the file with the requested range and the length of the file.
+     *
+     * @param path the path to read
+     * @param timeoutInMillis timeout in milliseconds for the connect and read operations
+     * @return the channel, or an empty optional if the file cannot be read with ranged requests
+     * @throws IOException if the server cannot be reached
+     */
+    static Optional<SeekableByteChannel> open(final URIPath path, final int timeoutInMillis) throws IOException {
+        final URL url = FileUtil.toURL(path.toUri().toString());
+        if (!"http".equalsIgnoreCase(url.getProtocol()) && !"https".equalsIgnoreCase(url.getProtocol())) {
+            return Optional.empty();
+        }
+        final HttpURLConnection connection = openConnection(url, timeoutInMillis);
+        try {
+            connection.setRequestProperty("Range", String.format("bytes=0-%d", DEFAULT_BLOCK_SIZE - 1));
+            final int responseCode = connection.getResponseCode();
+            final long size = getTotalLength(connection.getHeaderField("Content-Range"));
+            if (responseCode == HTTP_RANGE_NOT_SATISFIABLE && size == 0) {
+                // the file is empty
+                return Optional.of(new HttpRangeSeekableByteChannel(path, 0, new byte[0], timeoutInMillis));
+            } else if (responseCode != HttpURLConnection.HTTP_PARTIAL || size < 0) {
+                return Optional.empty();
+            }
+            final ByteBuffer firstBlock = ByteBuffer.allocate((int)Math.min(size, DEFAULT_BLOCK_SIZE));
+            read(connection, firstBlock);
+            return Optional.of(new HttpRangeSeekableByteChannel(path, size,
+                Arrays.copyOf(firstBlock.array(), firstBlock.position()), timeoutInMillis));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Returns the length of the file from a Content-Range header such as {@code bytes 0-1023/4096}, or -1 if the header
+     * is missing or the length is unknown.
+     */
+    private static long getTotalLength(final String contentRange) {
+        if (contentRange == null || contentRange.indexOf('/') < 0) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentRange.substring(contentRange.indexOf('/') + 1).trim());
+        } catch (NumberFormatException e) { // NOSONAR the length is unknown, i.e. "*"
+            return -1;
+        }
+    }
+
+    /** Reads the response into the buffer until it is full or the response ends, returns the number of bytes read. */
+    private static int read(final HttpURLConnection connection, final ByteBuffer dst) throws IOException {
+        int read = 0;
+        try (final InputStream in = connection.getInputStream();
+                final ReadableByteChannel channel = Channels.newChannel(in)) {
+            while (dst.hasRemaining()) {
+                final int n = channel.read(dst);
+                if (n < 0) {
+                    break;
+                }
+                read += n;
+            }
+        }
+        return read;
+    }
+
+    private static HttpURLConnection openConnection(final URL url, final int timeoutInMillis) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection)url.openConnection();
+        connection.setConnectTimeout(timeoutInMillis);
+        connection.setReadTimeout(timeoutInMillis);
+        return connection;
+    }
+
+    @Override
+    protected int readRange(final URIPath remoteFile, final long position, final ByteBuffer dst) throws IOException {
+        final byte[] firstBlock = m_firstBlock;
+        if (firstBlock != null && position < firstBlock.length) {
+            final int length = (int)Math.min(dst.remaining(), firstBlock.length - position);
+            dst.put(firstBlock, (int)position, length);
+            if (position + length == firstBlock.length) {
+                m_firstBlock = null;
+            }
+            return length;
+        }
+        final URL url = FileUtil.toURL(remoteFile.toUri().toString());
+        final HttpURLConnection connection = openConnection(url, m_timeoutInMillis);
+        try {
+            connection.setRequestProperty("Range",
+                String.format("bytes=%d-%d", position, position + dst.remaining() - 1));
+            final int responseCode = connection.getResponseCode();
+            if (responseCode == HTTP_RANGE_NOT_SATISFIABLE) {
+                return -1;
+            } else if (responseCode != HttpURLConnection.HTTP_PARTIAL) {
+                throw new IOException(
+                    String.format("Reading bytes %d to %d of %s failed with HTTP status %d.", position,
+                        position + dst.remaining() - 1, url, responseCode));
+            }
+            final int read = read(connection, dst);
+            return read == 0 ? -1 : read;
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
@@ -55,6 +55,7 @@
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.AccessMode;
 import java.nio.file.CopyOption;
@@ -72,6 +73,7 @@
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -148,6 +150,12 @@ private static String getURIPathQueryAndFragment(final URI uri) {
     protected SeekableByteChannel newByteChannelInternal(final URIPath path, final Set<? extends OpenOption> options,
         final FileAttribute<?>... attrs) throws IOException {
 
+        if (!options.contains(StandardOpenOption.WRITE) && !options.contains(StandardOpenOption.APPEND)) {
+            final Optional<SeekableByteChannel> channel = openRangeChannel(path);
+            if (channel.isPresent()) {
+                return channel.get();
+            }
+        }
         throw new UnsupportedOperationException();
     }
 
@@ -254,8 +262,24 @@ protected boolean exists(final URIPath path) {
     }
 
 
+    /**
+     * Files on HTTP servers that support byte ranges are read with concurrent ranged requests.
+     */
+    private Optional<SeekableByteChannel> openRangeChannel(final URIPath path) throws IOException {
+        try {
+            return HttpRangeSeekableByteChannel.open(path, getTimeout());
+        } catch (IOException e) {
+            throw convertToFileSystemExceptionIfPossible(path, e);
+        }
+    }
+
+    @SuppressWarnings("resource")
     @Override
     protected InputStream newInputStreamInternal(final URIPath path, final OpenOption... options) throws IOException {
+        final Optional<SeekableByteChannel> channel = openRangeChannel(path);
+        if (channel.isPresent()) {
+            return Channels.newInputStream(channel.get());
+        }
         try {
             return path.openURLConnection(getTimeout()).getInputStream();
         } catch (IOException e) {
@@ -69,7 +69,11 @@
  */
 final class FSLocationCellMetaData {
 
-    private static final MemoryAlertAwareGuavaCache CACHE = new MemoryAlertAwareGuavaCache();
+    /** Rough estimate of the memory occupied by a cache entry without its strings. */
+    private static final int ENTRY_WEIGHT = 128;
+
+    private static final MemoryAlertAwareGuavaCache CACHE =
+        new MemoryAlertAwareGuavaCache((key, value) -> ((FSLocationCellMetaData)value).getWeight());
 
     private final String m_fileSystemType;
 
@@ -102,6 +106,11 @@ String getFileSystemSpecifier() {
         return m_fileSystemSpecifier;
     }
 
+    private int getWeight() {
+        return ENTRY_WEIGHT + 2 * (m_fileSystemType.length()
+            + (m_fileSystemSpecifier == null ? 0 : m_fileSystemSpecifier.length()));
+    }
+
     void write(final FileStore fileStore) throws IOException {
         final File file = fileStore.getFile();
         synchronized (file) {
@@ -48,11 +48,15 @@
  */
 package org.knime.filehandling.core.data.location.cell;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.knime.core.data.filestore.FileStoreKey;
 import org.knime.core.data.util.memory.MemoryAlert;
@@ -63,58 +67,138 @@
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
 
 /**
- * Wrapper for a Guava Cache that listens to memory alerts from {@link MemoryAlertSystem} and cleans the cache if memory
- * gets low.
+ * Wrapper for a Guava Cache that listens to memory alerts from {@link MemoryAlertSystem} and shrinks the cache if
+ * memory gets low.
+ *
+ * <p>
+ * The cache is bounded by the weight of its entries, the maximum weight can be configured with the system property
+ * {@value #PROPERTY_MAXIMUM_WEIGHT}. On a memory alert only the least recently accessed fraction of the entries is
+ * evicted, so that readers don't have to reload all values afterwards. Hit and miss counts are recorded and the hit
+ * rate is logged every {@value #STATS_LOG_INTERVAL} accesses.
+ * </p>
  *
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  */
 final class MemoryAlertAwareGuavaCache {
 
-    private Cache<FileStoreKey, Object> m_cache;
+    /**
+     * A system property to configure the maximum weight of the cache. For instance
+     * -D{@value #PROPERTY_MAXIMUM_WEIGHT}=4194304 allows the cached values to occupy about 4 MB.
+     */
+    static final String PROPERTY_MAXIMUM_WEIGHT = "knime.fslocation.metadata.cache.maxweight";
 
-    private final Semaphore m_gate = new Semaphore(1);
+    /** The maximum weight used if the system property is not set. */
+    static final long DEFAULT_MAXIMUM_WEIGHT = 1024L * 1024;
 
-    private static final int CACHE_SIZE = 20;
+    /** The fraction of entries that is evicted in response to a memory alert. */
+    static final double EVICTION_FRACTION = 0.5;
+
+    /** The number of accesses after which the statistics are logged. */
+    static final long STATS_LOG_INTERVAL = 1L << 16;
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(MemoryAlertAwareGuavaCache.class);
 
-    MemoryAlertAwareGuavaCache() {
-        m_cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).softValues().build();
+    private final Cache<FileStoreKey, Entry> m_cache;
+
+    private final Semaphore m_gate = new Semaphore(1);
+
+    /** Counts the accesses, used to order the entries by their last access. */
+    private final AtomicLong m_clock = new AtomicLong();
+
+    /**
+     * Creates a cache whose maximum weight is read from the system property {@value #PROPERTY_MAXIMUM_WEIGHT}.
+     *
+     * @param weigher estimates the number of bytes occupied by an entry
+     */
+    MemoryAlertAwareGuavaCache(final Weigher<FileStoreKey, Object> weigher) {
+        this(getConfiguredMaximumWeight(), weigher);
+    }
+
+    /**
+     * @param maximumWeight the maximum total weight of the entries
+     * @param weigher estimates the number of bytes occupied by an entry
+     */
+    MemoryAlertAwareGuavaCache(final long maximumWeight, final Weigher<FileStoreKey, Object> weigher) {
+        m_cache = CacheBuilder.newBuilder() //
+            .concurrencyLevel(Runtime.getRuntime().availableProcessors()) //
+            .maximumWeight(maximumWeight) //
+            .weigher((final FileStoreKey key, final Entry entry) -> weigher.weigh(key, entry.m_value)) //
+            .recordStats() //
+            .build();
 
         MemoryAlertSystem.getInstance().addListener(new MemoryAlertListener() {
             @Override
             protected boolean memoryAlert(final MemoryAlert alert) {
-                if (m_gate.tryAcquire()) {
-                    LOGGER.infoWithFormat("Cleaning %s entries from cache in response to memory alert.",
-                        m_cache.size());
-                    m_cache.invalidateAll();
-                    m_cache.cleanUp();
-                    m_gate.release();
-                }
+                evict(EVICTION_FRACTION);
                 return false;
             }
         });
     }
 
+    private static long getConfiguredMaximumWeight() {
+        final String property = System.getProperty(PROPERTY_MAXIMUM_WEIGHT);
+        if (property == null || property.trim().isEmpty()) {
+            return DEFAULT_MAXIMUM_WEIGHT;
+        }
+        long maximumWeight;
+        try {
+            maximumWeight = Long.parseLong(property.trim());
+        } catch (NumberFormatException ex) {
+            maximumWeight = -1;
+        }
+        if (maximumWeight >= 0) {
+            return maximumWeight;
+        }
+        LOGGER.warnWithFormat("Invalid value '%s' for system property %s, using the default of %d instead.", property,
+            PROPERTY_MAXIMUM_WEIGHT, DEFAULT_MAXIMUM_WEIGHT);
+        return DEFAULT_MAXIMUM_WEIGHT;
+    }
+
     /**
-     * Associates value with key in this cache. If the cache previously contained a value associated with key, the old
-     * value is replaced by value.
+     * Evicts the given fraction of the entries, starting with the least recently accessed ones. The evicted entries are
+     * reloaded on their next access.
      *
-     * @param key under which to store <b>value</b>
-     * @param value to store
+     * @param fraction the fraction of entries to evict, between 0 and 1
      */
-    synchronized void put(final FileStoreKey key, final Object value) {
+    void evict(final double fraction) {
+        // NB: semaphore to avoid concurrent evictions in response to the same shortage of memory
         if (m_gate.tryAcquire()) {
-            CheckUtils.checkState(m_cache.getIfPresent(key) == null,
-                "There is already a value stored for the key '%s'.", key);
-            m_cache.put(key, value);
-            m_gate.release();
+            try {
+                // NB: the access times are copied, since they may change while the entries are sorted
+                final List<Map.Entry<FileStoreKey, Long>> accesses = new ArrayList<>();
+                m_cache.asMap()
+                    .forEach((key, entry) -> accesses.add(new SimpleImmutableEntry<>(key, entry.m_lastAccess)));
+                accesses.sort(Map.Entry.comparingByValue());
+                final int toEvict = (int)Math.ceil(accesses.size() * fraction);
+                LOGGER.debugWithFormat("Evicting %d of %d entries from cache in response to memory alert (%s).",
+                    toEvict, accesses.size(), m_cache.stats());
+                for (int i = 0; i < toEvict; i++) {
+                    m_cache.invalidate(accesses.get(i).getKey());
+                }
+                m_cache.cleanUp();
+            } finally {
+                m_gate.release();
+            }
         }
     }
 
+    /**
+     * Associates value with key in this cache.
+     *
+     * @param key under which to store <b>value</b>
+     * @param value to store
+     * @throws IllegalStateException if there is already a value stored for the key
+     */
+    void put(final FileStoreKey key, final Object value) {
+        final Entry previous = m_cache.asMap().putIfAbsent(key, new Entry(value, tick()));
+        CheckUtils.checkState(previous == null, "There is already a value stored for the key '%s'.", key);
+    }
+
     /**
      * Returns the value associated with key in this cache, or <code>Optional.empty</code> if there is no cached value
      * for key.
@@ -122,15 +206,13 @@ synchronized void put(final FileStoreKey key, final Object value) {
      * @param key to fetch value for
      * @return the value associated with key
      */
-    private Optional<Object> get(final UUID key) {
-        final Object o = m_cache.getIfPresent(key);
-        return o == null ? Optional.empty() : Optional.of(o);
+    private Optional<Object> get(final FileStoreKey key) {
+        return Optional.ofNullable(m_cache.getIfPresent(key)).map(this::access);
     }
 
-    <V> Optional<V> get(final UUID key, final Class<V> expectedClass) {
+    <V> Optional<V> get(final FileStoreKey key, final Class<V> expectedClass) {
         return get(key).map(v -> checkTypeAndCast(expectedClass, v));
     }
-
     private static <V> V checkTypeAndCast(final Class<V> expectedClass, final Object value) {
         CheckUtils.checkState(expectedClass.isAssignableFrom(value.getClass()),
             "The retrieved value '%s' of class '%s' is not of the expected class '%s'.", value, value.getClass(),
@@ -153,7 +235,22 @@ <V> V get(final FileStoreKey key, final Callable<V> valueLoader) throws Executio
         // NB: guava takes care about synchronization.
         // see:
         // https://google.github.io/guava/releases/21.0/api/docs/com/google/common/cache/Cache.html
-        return (V)m_cache.get(key, valueLoader);
+        return (V)access(m_cache.get(key, () -> new Entry(valueLoader.call(), 0)));
+    }
+
+    private Object access(final Entry entry) {
+        entry.m_lastAccess = tick();
+        return entry.m_value;
+    }
+
+    private long tick() {
+        final long time = m_clock.incrementAndGet();
+        if (time % STATS_LOG_INTERVAL == 0) {
+            final CacheStats stats = m_cache.stats();
+            LOGGER.debugWithFormat("Hit rate of the cache after %d accesses: %.1f%% (%s).", time,
+                100 * stats.hitRate(), stats);
+        }
+        return time;
     }
 
     /**
@@ -161,10 +258,24 @@ <V> V get(final FileStoreKey key, final Callable<V> valueLoader) throws Executio
      *
      * @param key to remove value of
      */
-    public void remove(final UUID key) {
+    public void remove(final FileStoreKey key) {
         m_cache.invalidate(key);
     }
 
+    /**
+     * @return the hit, miss, load and eviction statistics of the cache
+     */
+    CacheStats getStats() {
+        return m_cache.stats();
+    }
+
+    /**
+     * @return the number of entries in the cache
+     */
+    long size() {
+        return m_cache.size();
+    }
+
     /**
      * Cleans up the cache, i.e. removes all invalidated objects.
      */
@@ -175,4 +286,17 @@ public synchronized void cleanUp() {
             m_gate.release();
         }
     }
+
+    /** A cached value and the time of its last access. */
+    private static final class Entry {
+
+        private final Object m_value;
+
+        private volatile long m_lastAccess;
+
+        Entry(final Object value, final long lastAccess) {
+            m_value = value;
+            m_lastAccess = lastAccess;
+        }
+    }
 }
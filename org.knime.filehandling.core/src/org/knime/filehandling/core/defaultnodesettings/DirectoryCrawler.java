@@ -0,0 +1,496 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.filehandling.core.defaultnodesettings;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import org.knime.core.node.workflow.NodeContext;
+
+/**
+ * Crawls a directory (tree) with a pool of fork/join workers and hands out the paths matching a filter as soon as they
+ * are found, i.e. readers can start processing the first files while the rest of the tree is still being listed.
+ *
+ * <p>
+ * In <i>unordered</i> mode each directory is listed by its own task and matching paths are put into a bounded queue,
+ * the workers block once the queue is full until the consumer catches up. In <i>ordered</i> mode the paths are
+ * returned in the lexicographic order of their path strings (the order {@link FileChooserHelper#scanDirectoryTree()}
+ * returns them in). The consumer walks the tree depth first while a bounded window of the upcoming directories is
+ * listed in parallel.
+ * </p>
+ *
+ * <p>
+ * Like {@link Files#walk(Path, java.nio.file.FileVisitOption...)} with
+ * {@link java.nio.file.FileVisitOption#FOLLOW_LINKS} symbolic links are followed, a cycle results in a
+ * {@link FileSystemLoopException}. Any I/O error terminates the crawl and is rethrown by {@link #next()}, a runtime
+ * exception thrown by the filter is rethrown wrapped into an {@link IOException}. Instances
+ * must be {@link #close() closed} if they are not consumed entirely.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ */
+public final class DirectoryCrawler implements AutoCloseable {
+
+    /** The default number of matching paths that are buffered in unordered mode. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /** The default number of workers, listing directories is I/O bound hence more workers than cores are used. */
+    public static final int DEFAULT_PARALLELISM =
+        Math.min(16, Math.max(4, 2 * Runtime.getRuntime().availableProcessors()));
+
+    /** Time in milliseconds the consumer and the workers wait before checking whether the crawl is cancelled. */
+    private static final long POLL_INTERVAL = 100;
+
+    private final Path m_root;
+
+    private final boolean m_includeSubfolders;
+
+    private final Predicate<Path> m_filter;
+
+    private final boolean m_ordered;
+
+    private final NodeContext m_nodeContext;
+
+    private final ForkJoinPool m_pool;
+
+    /** Marks the end of the matching paths in the queue. */
+    private static final Object END = new Object();
+
+    /** Matching paths followed by {@link #END} in unordered mode. */
+    private final BlockingQueue<Object> m_queue;
+
+    /** The depth first stack of files and directories the consumer walks in ordered mode. */
+    private final Deque<Object> m_stack = new ArrayDeque<>();
+
+    /** The maximum number of directory listings that are submitted but not yet consumed in ordered mode. */
+    private final int m_prefetchWindow;
+
+    private int m_submittedListings;
+
+    private final AtomicLong m_numberOfScannedFiles = new AtomicLong();
+
+    private final AtomicLong m_numberOfMatchingFiles = new AtomicLong();
+
+    private final AtomicReference<IOException> m_failure = new AtomicReference<>();
+
+    private volatile boolean m_done;
+
+    /** Whether the consumer has reached the end, only accessed by the consumer. */
+    private boolean m_finished;
+
+    private volatile boolean m_closed;
+
+    /**
+     * Creates and starts a crawler.
+     *
+     * @param root the directory to crawl
+     * @param includeSubfolders whether sub directories are crawled recursively
+     * @param filter the filter the files have to match, must be thread-safe
+     * @param ordered whether the paths are returned in lexicographic order
+     * @param queueCapacity the number of matching paths buffered in unordered mode, must be positive
+     * @param parallelism the number of workers, must be positive
+     */
+    DirectoryCrawler(final Path root, final boolean includeSubfolders, final Predicate<Path> filter,
+        final boolean ordered, final int queueCapacity, final int parallelism) {
+        m_root = root;
+        m_includeSubfolders = includeSubfolders;
+        m_filter = filter;
+        m_ordered = ordered;
+        m_nodeContext = NodeContext.getContext();
+        m_pool = new ForkJoinPool(parallelism);
+        m_prefetchWindow = 4 * parallelism;
+        if (ordered) {
+            m_queue = null;
+            m_stack.push(submit(new Directory(root, null)));
+        } else {
+            m_queue = new ArrayBlockingQueue<>(queueCapacity);
+            m_pool.execute(new CrawlTask(new Directory(root, null), true));
+        }
+    }
+
+    /**
+     * Returns the next matching path, blocking until it is available.
+     *
+     * @return the next matching path or <code>null</code> if all paths have been returned
+     * @throws IOException if the directory tree could not be crawled
+     * @throws InterruptedIOException if the calling thread has been interrupted or the crawler has been closed
+     */
+    public Path next() throws IOException {
+        try {
+            return m_ordered ? nextOrdered() : nextUnordered();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new InterruptedIOException("Crawling " + m_root + " has been interrupted.");
+        }
+    }
+
+    private Path nextUnordered() throws IOException, InterruptedException {
+        while (!m_finished) {
+            checkState();
+            final Object next = m_queue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+            if (next == END) {
+                m_finished = true;
+                m_pool.shutdown();
+            } else if (next != null) {
+                return (Path)next;
+            }
+        }
+        return null;
+    }
+
+    private Path nextOrdered() throws IOException, InterruptedException {
+        while (true) {
+            checkState();
+            final Object top = m_stack.poll();
+            if (top == null) {
+                m_done = true;
+                m_pool.shutdown();
+                return null;
+            } else if (top instanceof Path) {
+                return (Path)top;
+            }
+            final Directory directory = (Directory)top;
+            if (directory.m_listing == null) {
+                submit(directory);
+            }
+            final List<Object> entries = directory.await();
+            m_submittedListings--;
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                m_stack.push(entries.get(i));
+            }
+            // prefetch the sub directories that will be consumed next
+            for (final Object entry : entries) {
+                if (m_submittedListings >= m_prefetchWindow) {
+                    break;
+                } else if (entry instanceof Directory) {
+                    submit((Directory)entry);
+                }
+            }
+        }
+    }
+
+    private Directory submit(final Directory directory) {
+        directory.m_listing = m_pool.submit(new ListTask(directory));
+        m_submittedListings++;
+        return directory;
+    }
+
+    private void checkState() throws IOException {
+        final IOException failure = m_failure.get();
+        if (failure != null) {
+            close();
+            throw failure;
+        } else if (m_closed) {
+            throw new InterruptedIOException("The crawler has been closed.");
+        }
+    }
+
+    private void fail(final IOException e) {
+        m_failure.compareAndSet(null, e);
+        m_closed = true;
+    }
+
+    /**
+     * @return the number of files (and in non-recursive mode also directories) that have been tested against the
+     *         filter so far
+     */
+    public long getNumberOfScannedFiles() {
+        return m_numberOfScannedFiles.get();
+    }
+
+    /**
+     * @return the number of files that matched the filter so far
+     */
+    public long getNumberOfMatchingFiles() {
+        return m_numberOfMatchingFiles.get();
+    }
+
+    /**
+     * @return <code>true</code> if the whole tree has been listed
+     */
+    public boolean isDone() {
+        return m_done;
+    }
+
+    /**
+     * Stops the crawl and releases the workers.
+     */
+    @Override
+    public void close() {
+        m_closed = true;
+        if (m_queue != null) {
+            // unblock the workers waiting for space in the queue
+            m_queue.clear();
+        }
+        m_pool.shutdownNow();
+    }
+
+    /**
+     * Lists the entries of a directory, tests the files against the filter and returns the matching files and the sub
+     * directories (if included).
+     *
+     * @param directory the directory to list
+     * @param matchingFiles the list the matching files are added to
+     * @param subDirectories the list the sub directories are added to
+     */
+    private void list(final Directory directory, final List<Path> matchingFiles,
+        final List<Directory> subDirectories) throws IOException {
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory.m_path)) {
+            for (final Path entry : stream) {
+                if (m_closed) {
+                    return;
+                }
+                final BasicFileAttributes attrs = readAttributes(entry);
+                if (m_includeSubfolders && attrs != null && attrs.isDirectory()) {
+                    subDirectories.add(new Directory(entry, directory).checkForLoop(attrs.fileKey()));
+                } else {
+                    m_numberOfScannedFiles.incrementAndGet();
+                    if (m_filter.test(entry)) {
+                        m_numberOfMatchingFiles.incrementAndGet();
+                        matchingFiles.add(entry);
+                    }
+                }
+            }
+        } catch (DirectoryIteratorException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** Reads the attributes following links, returns <code>null</code> for broken links like Files.walk does. */
+    private static BasicFileAttributes readAttributes(final Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void runWithContext(final IORunnable runnable) {
+        if (m_nodeContext != null) {
+            NodeContext.pushContext(m_nodeContext);
+        }
+        try {
+            runnable.run();
+        } catch (IOException e) {
+            fail(e);
+        } catch (RuntimeException e) {
+            // e.g. thrown by the filter, the consumer must not wait for the end of a crawl that has died
+            fail(new IOException(e.getMessage(), e));
+        } catch (Error e) {
+            fail(new IOException(e.getMessage(), e));
+            throw e;
+        } finally {
+            if (m_nodeContext != null) {
+                NodeContext.removeLastContext();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IORunnable {
+        void run() throws IOException;
+    }
+
+    /** A directory that has been reached while crawling. */
+    private static final class Directory {
+
+        private final Path m_path;
+
+        private final Directory m_parent;
+
+        private Object m_fileKey;
+
+        /** The listing in ordered mode, only accessed by the consumer. */
+        private ForkJoinTask<List<Object>> m_listing;
+
+        Directory(final Path path, final Directory parent) {
+            m_path = path;
+            m_parent = parent;
+        }
+
+        /** Throws a {@link FileSystemLoopException} if the directory is one of its own ancestors. */
+        Directory checkForLoop(final Object fileKey) throws IOException {
+            m_fileKey = fileKey;
+            for (Directory ancestor = m_parent; ancestor != null; ancestor = ancestor.m_parent) {
+                final boolean same = fileKey != null && ancestor.m_fileKey != null ? fileKey.equals(ancestor.m_fileKey)
+                    : Files.isSameFile(m_path, ancestor.m_path);
+                if (same) {
+                    throw new FileSystemLoopException(m_path.toString());
+                }
+            }
+            return this;
+        }
+
+        /** Sort key, the separator makes the depth first order equal to the lexicographic order of the paths. */
+        String getSortKey() {
+            return m_path.getFileName().toString() + m_path.getFileSystem().getSeparator();
+        }
+
+        List<Object> await() throws IOException, InterruptedException {
+            try {
+                return m_listing.get();
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException)cause;
+                }
+                throw new IOException(cause.getMessage(), cause);
+            }
+        }
+    }
+
+    /** Crawls a directory and its sub directories in unordered mode. */
+    private final class CrawlTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Directory m_directory;
+
+        private final boolean m_isRoot;
+
+        CrawlTask(final Directory directory, final boolean isRoot) {
+            m_directory = directory;
+            m_isRoot = isRoot;
+        }
+
+        @Override
+        protected void compute() {
+            final List<CrawlTask> subTasks = new ArrayList<>();
+            runWithContext(() -> {
+                final List<Path> matchingFiles = new ArrayList<>();
+                final List<Directory> subDirectories = new ArrayList<>();
+                list(m_directory, matchingFiles, subDirectories);
+                for (final Directory subDirectory : subDirectories) {
+                    final CrawlTask subTask = new CrawlTask(subDirectory, false);
+                    subTask.fork();
+                    subTasks.add(subTask);
+                }
+                for (final Path path : matchingFiles) {
+                    enqueue(path);
+                }
+            });
+            for (final CrawlTask subTask : subTasks) {
+                subTask.join();
+            }
+            if (m_isRoot) {
+                m_done = m_failure.get() == null;
+                try {
+                    enqueue(END);
+                } catch (InterruptedIOException e) {
+                    fail(e);
+                }
+            }
+        }
+
+        private void enqueue(final Object path) throws InterruptedIOException {
+            try {
+                while (!m_closed) {
+                    if (m_queue.offer(path, POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+    }
+
+    /** Lists a single directory in ordered mode. */
+    private final class ListTask extends RecursiveTask<List<Object>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Directory m_directory;
+
+        ListTask(final Directory directory) {
+            m_directory = directory;
+        }
+
+        @Override
+        protected List<Object> compute() {
+            final List<Path> matchingFiles = new ArrayList<>();
+            final List<Directory> subDirectories = new ArrayList<>();
+            runWithContext(() -> list(m_directory, matchingFiles, subDirectories));
+            final List<Object> entries = new ArrayList<>(matchingFiles.size() + subDirectories.size());
+            entries.addAll(matchingFiles);
+            entries.addAll(subDirectories);
+            Collections.sort(entries, (o1, o2) -> getSortKey(o1).compareTo(getSortKey(o2)));
+            return entries;
+        }
+
+        private String getSortKey(final Object entry) {
+            return entry instanceof Path ? ((Path)entry).getFileName().toString() : ((Directory)entry).getSortKey();
+        }
+    }
+}
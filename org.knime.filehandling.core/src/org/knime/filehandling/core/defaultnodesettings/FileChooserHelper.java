@@ -50,14 +50,13 @@
 
 import java.io.IOException;
 import java.net.URI;
-import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.function.Consumer;
 
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.workflow.NodeContext;
@@ -142,22 +141,48 @@ public final FSFileSystem<?> getFileSystem() throws IOException {
      * @throws IOException thrown if directory could not be scanned
      */
     public final List<Path> scanDirectoryTree() throws IOException {
+        final List<Path> paths = new ArrayList<>();
+        scanDirectoryTree(paths::add);
+        return Collections.unmodifiableList(paths);
+    }
+
+    /**
+     * Assumes that the file specified in the settings model is a folder, scans the folder for files matching the filter
+     * from the settings model, and passes the matching {@link Path}s in lexicographic order to the given consumer as
+     * soon as they are found, i.e. while the rest of the folder is still being scanned.
+     *
+     * @param consumer the consumer of the paths that matched the filter from the settings model
+     * @throws IOException thrown if directory could not be scanned
+     * @since 4.2
+     */
+    public final void scanDirectoryTree(final Consumer<Path> consumer) throws IOException {
         setCounts(0, 0);
-        final Path dirPath = getFileSystem().getPath(m_settings.getPathOrURL());
-        final boolean includeSubfolders = m_settings.getIncludeSubfolders();
-
-        final List<Path> paths;
-        try (final Stream<Path> stream = includeSubfolders
-            ? Files.walk(dirPath, Integer.MAX_VALUE, FileVisitOption.FOLLOW_LINKS) : Files.list(dirPath)) {
-
-            m_filter.resetCount();
-            final Path[] pathArray = stream.filter(m_filter).toArray(Path[]::new);
-            // enforce lexicographic sorting on the paths
-            Arrays.sort(pathArray);
-            paths = Collections.unmodifiableList(Arrays.asList(pathArray));
-            setCounts(paths.size(), m_filter.getNumberOfFilteredFiles());
+        int numberOfMatchingFiles = 0;
+        try (final DirectoryCrawler crawler = crawlDirectoryTree(true)) {
+            for (Path path = crawler.next(); path != null; path = crawler.next()) {
+                consumer.accept(path);
+                numberOfMatchingFiles++;
+            }
         }
-        return paths;
+        setCounts(numberOfMatchingFiles, m_filter.getNumberOfFilteredFiles());
+    }
+
+    /**
+     * Assumes that the file specified in the settings model is a folder and starts crawling it in parallel for files
+     * matching the filter from the settings model. In contrast to {@link #scanDirectoryTree()} the matching paths can
+     * be consumed while the folder is still being scanned. The counts returned by {@link #getCounts()} are not updated,
+     * use {@link DirectoryCrawler#getNumberOfMatchingFiles()} and {@link #getNumberOfFilteredFiles()} instead.
+     *
+     * @param ordered whether the paths are returned in lexicographic order, which limits the look ahead of the crawler
+     * @return the crawler, which has to be closed after use
+     * @throws IOException thrown when the file system could not be retrieved
+     * @since 4.2
+     */
+    public final DirectoryCrawler crawlDirectoryTree(final boolean ordered) throws IOException {
+        final Path dirPath = getFileSystem().getPath(m_settings.getPathOrURL());
+        m_filter.resetCount();
+        return new DirectoryCrawler(dirPath, m_settings.getIncludeSubfolders(), m_filter, ordered,
+            DirectoryCrawler.DEFAULT_QUEUE_CAPACITY, DirectoryCrawler.DEFAULT_PARALLELISM);
     }
 
     /**
@@ -202,6 +227,17 @@ public final Pair<Integer, Integer> getCounts() {
         return m_counts;
     }
 
+    /**
+     * Returns the number of files that did not match the filter since the last scan or crawl of the folder was started.
+     * In contrast to {@link #getCounts()} the number is updated while the folder is crawled.
+     *
+     * @return the number of files that did not match the filter
+     * @since 4.2
+     */
+    public final int getNumberOfFilteredFiles() {
+        return m_filter.getNumberOfFilteredFiles();
+    }
+
     /**
      * Creates and returns a new Path object according to the path or URL provided by the underlying settings model.
      *
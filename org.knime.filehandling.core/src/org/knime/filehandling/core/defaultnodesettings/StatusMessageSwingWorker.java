@@ -84,6 +84,12 @@ class StatusMessageSwingWorker extends SwingWorkerWithContext<Pair<Color, String
     /** String used as placeholder for the label when typing in the file selection component */
     private static final String SCANNING_MESSAGE = "Scanning...";
 
+    /** Formatted string used for the label while the folder is being scanned */
+    private static final String SCANNING_PROGRESS_MESSAGE = "Scanning... (%d matching files found so far)";
+
+    /** The number of matching files after which the label is updated while scanning */
+    private static final int SCANNING_PROGRESS_INTERVAL = 1000;
+
     /** String used for the label in case of an IOException while scanning */
     private static final String FOLDER_SCAN_EXCEPTION_FAILURE_MESSAGE = "Failed to scan folder: </br>%s";
 
@@ -235,16 +241,22 @@ protected Pair<Color, String> doInBackgroundWithContext() throws Exception {
         return mkSuccess("");
     }
 
-    private static Pair<Color, String> scanFolder(final FileChooserHelper helper) {
+    private Pair<Color, String> scanFolder(final FileChooserHelper helper) {
         Pair<Color, String> toReturn;
 
-        try {
-            helper.scanDirectoryTree();
-            final Pair<Integer, Integer> matchPair = helper.getCounts();
+        try (final DirectoryCrawler crawler = helper.crawlDirectoryTree(false)) {
+            long numberOfMatchingFiles = 0;
+            for (Path path = crawler.next(); path != null && !isCancelled(); path = crawler.next()) {
+                numberOfMatchingFiles++;
+                if (numberOfMatchingFiles % SCANNING_PROGRESS_INTERVAL == 0) {
+                    publish(new Pair<>(Color.BLACK, format(SCANNING_PROGRESS_MESSAGE, numberOfMatchingFiles)));
+                }
+            }
+            final long numberOfFilteredFiles = helper.getNumberOfFilteredFiles();
 
-            if (matchPair.getFirst() > 0) {
-                final String msg = format(SCANNED_FILES_MESSAGE, matchPair.getFirst(),
-                    matchPair.getFirst() + matchPair.getSecond(), matchPair.getSecond());
+            if (numberOfMatchingFiles > 0) {
+                final String msg = format(SCANNED_FILES_MESSAGE, numberOfMatchingFiles,
+                    numberOfMatchingFiles + numberOfFilteredFiles, numberOfFilteredFiles);
                 toReturn = mkSuccess(msg);
             } else {
                 toReturn = mkError(NO_FILES_MATCHED_FILTER_MESSAGE);
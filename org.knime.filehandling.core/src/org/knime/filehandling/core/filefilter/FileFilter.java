@@ -53,6 +53,7 @@
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -154,8 +155,8 @@ public boolean isDefault() {
         }
     }
 
-    /** Total number of filtered files */
-    private int m_numberOfFilteredFiles;
+    /** Total number of filtered files, atomic as the filter may be used by several threads */
+    private final AtomicInteger m_numberOfFilteredFiles = new AtomicInteger();
 
     private final FileFilterSettings m_fileFilterSettings;
 
@@ -193,7 +194,7 @@ private final boolean isSatisfiedFileExtension(final Path path) {
                 .anyMatch(ext -> pathAsString.toLowerCase().endsWith(ext.toLowerCase()));
         }
         if (!accept) {
-            m_numberOfFilteredFiles++;
+            m_numberOfFilteredFiles.incrementAndGet();
         }
 
         return accept;
@@ -223,7 +224,7 @@ private final boolean isSatisfiedFileName(final Path path) {
         accept = regex.matcher(pathAsString).matches();
 
         if (!accept) {
-            m_numberOfFilteredFiles++;
+            m_numberOfFilteredFiles.incrementAndGet();
         }
 
         return accept;
@@ -235,14 +236,14 @@ private final boolean isSatisfiedFileName(final Path path) {
      * @return the number of filtered files
      */
     public final int getNumberOfFilteredFiles() {
-        return m_numberOfFilteredFiles;
+        return m_numberOfFilteredFiles.get();
     }
 
     /**
      * Resets the count.
      */
     public final void resetCount() {
-        m_numberOfFilteredFiles = 0;
+        m_numberOfFilteredFiles.set(0);
     }
 
     /**
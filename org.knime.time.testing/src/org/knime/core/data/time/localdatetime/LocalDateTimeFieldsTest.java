@@ -0,0 +1,136 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.time.localdatetime;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoField;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LocalDateTimeFields}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public class LocalDateTimeFieldsTest {
+
+    private static final ChronoField[] FIELDS = new ChronoField[]{ChronoField.YEAR, ChronoField.MONTH_OF_YEAR,
+        ChronoField.DAY_OF_MONTH, ChronoField.DAY_OF_YEAR, ChronoField.DAY_OF_WEEK, ChronoField.HOUR_OF_DAY,
+        ChronoField.MINUTE_OF_HOUR, ChronoField.SECOND_OF_MINUTE, ChronoField.MILLI_OF_SECOND,
+        ChronoField.MICRO_OF_SECOND, ChronoField.NANO_OF_SECOND};
+
+    private static long[] randomEpochDays(final Random random, final int count) {
+        final long min = LocalDate.MIN.toEpochDay();
+        final long max = LocalDate.MAX.toEpochDay();
+        final long[] epochDays = new long[count];
+        for (int i = 0; i < count; i++) {
+            switch (i % 3) {
+                case 0:
+                    epochDays[i] = min + (long)(random.nextDouble() * (max - min));
+                    break;
+                case 1:
+                    epochDays[i] = random.nextInt(200_000) - 100_000;
+                    break;
+                default:
+                    epochDays[i] = random.nextBoolean() ? min + random.nextInt(1000) : max - random.nextInt(1000);
+            }
+        }
+        return epochDays;
+    }
+
+    private static long[] randomNanosOfDay(final Random random, final int count) {
+        final long[] nanosOfDay = new long[count];
+        for (int i = 0; i < count; i++) {
+            nanosOfDay[i] = (long)(random.nextDouble() * ChronoField.NANO_OF_DAY.range().getMaximum());
+        }
+        return nanosOfDay;
+    }
+
+    @Test
+    public void testFieldsMatchJavaTime() {
+        final Random random = new Random(42);
+        final long[] epochDays = randomEpochDays(random, 100_000);
+        final long[] nanosOfDay = randomNanosOfDay(random, epochDays.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            final LocalDateTime expected =
+                LocalDateTime.of(LocalDate.ofEpochDay(epochDays[i]), LocalTime.ofNanoOfDay(nanosOfDay[i]));
+            for (final ChronoField field : FIELDS) {
+                assertEquals(expected + ": " + field, expected.get(field),
+                    LocalDateTimeFields.get(field, epochDays[i], nanosOfDay[i]));
+            }
+            assertEquals(expected.hashCode(), LocalDateTimeFields.hashCode(epochDays[i], nanosOfDay[i]));
+        }
+    }
+
+    @Test
+    public void testPackedDate() {
+        final Random random = new Random(7);
+        final long[] epochDays = randomEpochDays(random, 10_000);
+        for (final long epochDay : epochDays) {
+            final LocalDate expected = LocalDate.ofEpochDay(epochDay);
+            final long packed = LocalDateTimeFields.packDate(epochDay);
+            assertEquals(expected.getYear(), LocalDateTimeFields.unpackYear(packed));
+            assertEquals(expected.getMonthValue(), LocalDateTimeFields.unpackMonth(packed));
+            assertEquals(expected.getDayOfMonth(), LocalDateTimeFields.unpackDayOfMonth(packed));
+        }
+    }
+
+    @Test
+    public void testFirstEpochDayOfYear() {
+        for (int year = -2001; year <= 2401; year++) {
+            assertEquals(LocalDate.of(year, 1, 1).toEpochDay(), LocalDateTimeFields.firstEpochDayOfYear(year));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.time.node.convert.stringtodatetime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.chrono.Chronology;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FastDateTimeParser}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public class FastDateTimeParserTest {
+
+    private static DateTimeFormatter formatter(final String pattern) {
+        return DateTimeFormatter.ofPattern(pattern, Locale.US).withChronology(Chronology.ofLocale(Locale.US));
+    }
+
+    @Test
+    public void testUnsupportedPatterns() {
+        assertNull(FastDateTimeParser.compile("yyyy-MM-dd'T'HH:mm[:ss[.SSS]]", Locale.US));
+        assertNull(FastDateTimeParser.compile("dd MMM yyyy", Locale.US));
+        assertNull(FastDateTimeParser.compile("d.M.yyyy", Locale.US));
+        assertNull(FastDateTimeParser.compile("yyyy-MM-dd'T'HH:mm:ssVV", Locale.US));
+        assertNull(FastDateTimeParser.compile("yyyy-MM-dd", Locale.forLanguageTag("ja-JP-u-ca-japanese")));
+    }
+
+    @Test
+    public void testLocalDateTime() {
+        final String pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+        final FastDateTimeParser parser = FastDateTimeParser.compile(pattern, Locale.US);
+        assertNotNull(parser);
+        assertEquals(LocalDateTime.of(2020, 2, 29, 23, 59, 1, 7_000_000),
+            parser.parseLocalDateTime("2020-02-29T23:59:01.007"));
+        assertEquals(LocalDateTime.parse("2020-02-29T23:59:01.007", formatter(pattern)),
+            parser.parseLocalDateTime("2020-02-29T23:59:01.007"));
+        assertEquals(LocalDate.of(2020, 2, 29), parser.parseLocalDate("2020-02-29T23:59:01.007"));
+        assertEquals(LocalTime.of(23, 59, 1, 7_000_000), parser.parseLocalTime("2020-02-29T23:59:01.007"));
+    }
+
+    @Test
+    public void testQuotedLiterals() {
+        final FastDateTimeParser parser = FastDateTimeParser.compile("'at' HH:mm 'o''clock' yyyyMMdd", Locale.US);
+        assertNotNull(parser);
+        assertEquals(LocalDateTime.of(2019, 12, 31, 5, 0), parser.parseLocalDateTime("at 05:00 o'clock 20191231"));
+        assertNull(FastDateTimeParser.compile("'at' HH:mm 'o''clock' yyyyMMdd", Locale.US).parseLocalDateTime(
+            "at 05:00 oclock 20191231"));
+    }
+
+    @Test
+    public void testInputsResolvedByFormatter() {
+        final FastDateTimeParser parser = FastDateTimeParser.compile("yyyy-MM-dd HH:mm", Locale.US);
+        // wrong length or characters
+        assertNull(parser.parseLocalDateTime("2020-1-01 10:00"));
+        assertNull(parser.parseLocalDateTime("2020-01-01T10:00"));
+        assertNull(parser.parseLocalDateTime("2020-01-01 10:00 "));
+        // values the smart resolver adjusts or rejects
+        assertNull(parser.parseLocalDateTime("2021-02-30 10:00"));
+        assertNull(parser.parseLocalDateTime("2021-13-01 10:00"));
+        assertNull(parser.parseLocalDateTime("2021-01-01 24:00"));
+        assertNull(parser.parseLocalDateTime("0000-01-01 10:00"));
+        // missing fields
+        assertNull(FastDateTimeParser.compile("yyyy-MM-dd", Locale.US).parseLocalDateTime("2021-01-01"));
+        assertNull(FastDateTimeParser.compile("HH:mm", Locale.US).parseLocalDate("10:00"));
+    }
+
+    @Test
+    public void testFractions() {
+        for (int digits = 1; digits <= 9; digits++) {
+            final String pattern = "HH:mm:ss." + "SSSSSSSSS".substring(0, digits);
+            final String input = "12:34:56." + "123456789".substring(0, digits);
+            assertEquals(LocalTime.parse(input, formatter(pattern)),
+                FastDateTimeParser.compile(pattern, Locale.US).parseLocalTime(input));
+        }
+    }
+}
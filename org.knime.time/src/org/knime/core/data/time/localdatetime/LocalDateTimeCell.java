@@ -47,8 +47,10 @@
  */
 package org.knime.core.data.time.localdatetime;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Objects;
+import java.time.LocalTime;
+import java.time.temporal.ChronoField;
 
 import org.knime.core.data.BoundedValue;
 import org.knime.core.data.DataCell;
@@ -59,6 +61,11 @@
  * Cell implementation to represent local date and time in KNIME such as 2007-12-03T10:15:30.
  * It's the default implementation of {@link LocalDateTimeValue}.
  *
+ * <p>
+ * The cell only keeps the epoch day and the nano of day. The {@link LocalDateTime} is created on first access,
+ * individual fields can be decoded without it by means of {@link LocalDateTimeFields}.
+ * </p>
+ *
  * @since 3.3
  * @see LocalDateTimeCellFactory
  * @author Simon Schmid, KNIME.com, Konstanz, Germany
@@ -69,33 +76,70 @@ public final class LocalDateTimeCell extends DataCell implements LocalDateTimeVa
     /** {@link DataType} of this cell. */
     static final DataType TYPE = DataType.getType(LocalDateTimeCell.class);
 
-    private final LocalDateTime m_localDateTime;
+    private final long m_epochDay;
+
+    private final long m_nanoOfDay;
+
+    /** Lazily created, racy initialization is fine as {@link LocalDateTime} is immutable. */
+    private transient LocalDateTime m_localDateTime;
 
     /** Package scope constructor, called from factory.
      * @param localDateTime Non-null argument.
      */
     LocalDateTimeCell(final LocalDateTime localDateTime) {
-        m_localDateTime = Objects.requireNonNull(localDateTime);
+        this(localDateTime.getLong(ChronoField.EPOCH_DAY), localDateTime.getLong(ChronoField.NANO_OF_DAY));
+        m_localDateTime = localDateTime;
+    }
+
+    /** Package scope constructor, called from factory and serializer.
+     * @param epochDay the epoch day, must be valid for {@link ChronoField#EPOCH_DAY}
+     * @param nanoOfDay the nano of day, must be valid for {@link ChronoField#NANO_OF_DAY}
+     */
+    LocalDateTimeCell(final long epochDay, final long nanoOfDay) {
+        m_epochDay = epochDay;
+        m_nanoOfDay = nanoOfDay;
     }
 
     @Override
     public LocalDateTime getLocalDateTime() {
-        return m_localDateTime;
+        LocalDateTime localDateTime = m_localDateTime;
+        if (localDateTime == null) {
+            localDateTime = LocalDateTime.of(LocalDate.ofEpochDay(m_epochDay), LocalTime.ofNanoOfDay(m_nanoOfDay));
+            m_localDateTime = localDateTime;
+        }
+        return localDateTime;
+    }
+
+    /**
+     * @return the epoch day of the date, see {@link LocalDate#toEpochDay()}
+     * @since 4.2
+     */
+    public long getEpochDay() {
+        return m_epochDay;
+    }
+
+    /**
+     * @return the nano of day of the time, see {@link LocalTime#toNanoOfDay()}
+     * @since 4.2
+     */
+    public long getNanoOfDay() {
+        return m_nanoOfDay;
     }
 
     @Override
     public String getStringValue() {
-        return m_localDateTime.toString();
+        return getLocalDateTime().toString();
     }
 
     @Override
     protected boolean equalsDataCell(final DataCell dc) {
-        return ((LocalDateTimeCell)dc).m_localDateTime.equals(m_localDateTime);
+        final LocalDateTimeCell other = (LocalDateTimeCell)dc;
+        return other.m_epochDay == m_epochDay && other.m_nanoOfDay == m_nanoOfDay;
     }
 
     @Override
     public int hashCode() {
-        return m_localDateTime.hashCode();
+        return LocalDateTimeFields.hashCode(m_epochDay, m_nanoOfDay);
     }
 
     @Override
@@ -103,4 +147,17 @@ public String toString() {
         return getStringValue();
     }
 
+    /**
+     * Compares the epoch day and nano of day of two cells, which is equivalent to comparing their
+     * {@link LocalDateTime LocalDateTimes}.
+     *
+     * @param c1 the first cell
+     * @param c2 the second cell
+     * @return the comparison result
+     */
+    static int compare(final LocalDateTimeCell c1, final LocalDateTimeCell c2) {
+        final int cmp = Long.compare(c1.m_epochDay, c2.m_epochDay);
+        return cmp != 0 ? cmp : Long.compare(c1.m_nanoOfDay, c2.m_nanoOfDay);
+    }
+
 }
@@ -48,9 +48,11 @@
  */
 package org.knime.core.data.time.localdatetime;
 
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataCellFactory.FromComplexString;
@@ -125,4 +127,18 @@ public static DataCell create(final LocalDateTime localDateTime) {
         return new LocalDateTimeCell(CheckUtils.checkArgumentNotNull(localDateTime, "Argument must not be null"));
     }
 
+    /**
+     * Creates a new LocalDateTimeCell from its epoch day and nano of day without creating a {@link LocalDateTime}.
+     *
+     * @param epochDay the epoch day, see {@link ChronoField#EPOCH_DAY}
+     * @param nanoOfDay the nano of day, see {@link ChronoField#NANO_OF_DAY}
+     * @return the cell containing the local date time
+     * @throws DateTimeException if either value is out of range
+     * @since 4.2
+     */
+    public static DataCell create(final long epochDay, final long nanoOfDay) {
+        return new LocalDateTimeCell(ChronoField.EPOCH_DAY.checkValidValue(epochDay),
+            ChronoField.NANO_OF_DAY.checkValidValue(nanoOfDay));
+    }
+
 }
@@ -48,10 +48,6 @@
 package org.knime.core.data.time.localdatetime;
 
 import java.io.IOException;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.temporal.ChronoField;
 
 import org.knime.core.data.DataCellDataInput;
 import org.knime.core.data.DataCellDataOutput;
@@ -70,18 +66,14 @@ public final class LocalDateTimeCellSerializer implements DataCellSerializer<Loc
     public LocalDateTimeCell deserialize(final DataCellDataInput input) throws IOException {
         final long epochDay = input.readLong();
         final long nanoOfDay = input.readLong();
-        final LocalDateTime localDateTime =
-            LocalDateTime.of(LocalDate.ofEpochDay(epochDay), LocalTime.ofNanoOfDay(nanoOfDay));
-        return new LocalDateTimeCell(localDateTime);
+        // no validation here, the values have been written by #serialize
+        return new LocalDateTimeCell(epochDay, nanoOfDay);
     }
 
     @Override
     public void serialize(final LocalDateTimeCell cell, final DataCellDataOutput output) throws IOException {
-        final LocalDateTime localDateTime = cell.getLocalDateTime();
-        final long epochDay = localDateTime.getLong(ChronoField.EPOCH_DAY);
-        final long nanoOfDay = localDateTime.getLong(ChronoField.NANO_OF_DAY);
-        output.writeLong(epochDay);
-        output.writeLong(nanoOfDay);
+        output.writeLong(cell.getEpochDay());
+        output.writeLong(cell.getNanoOfDay());
     }
 
 }
@@ -0,0 +1,299 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.time.localdatetime;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.UnsupportedTemporalTypeException;
+
+/**
+ * Decodes the fields of a local date time that is given by its epoch day and nano of day, i.e. the two longs a
+ * {@link LocalDateTimeCell} is stored as. All methods work on primitive arithmetic and never create a
+ * {@link LocalDateTime}.
+ *
+ * <p>
+ * The results are identical to the corresponding getters of {@link LocalDate} and {@link LocalTime}, i.e. the
+ * proleptic ISO calendar is used.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ */
+public final class LocalDateTimeFields {
+
+    /** The number of days in a 400 year cycle. */
+    private static final long DAYS_PER_CYCLE = 146097L;
+
+    /** The number of days from year zero to 1970. */
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final long NANOS_PER_MINUTE = NANOS_PER_SECOND * 60L;
+
+    private static final long NANOS_PER_HOUR = NANOS_PER_MINUTE * 60L;
+
+    private LocalDateTimeFields() {
+        // utility class
+    }
+
+    /**
+     * Decodes year, month and day of month of an epoch day into a single long. Use {@link #unpackYear(long)},
+     * {@link #unpackMonth(long)} and {@link #unpackDayOfMonth(long)} to access the individual fields.
+     *
+     * @param epochDay the epoch day, must be in the range supported by {@link LocalDate}
+     * @return the packed year, month and day of month
+     */
+    public static long packDate(final long epochDay) {
+        // see LocalDate#ofEpochDay
+        long zeroDay = epochDay + DAYS_0000_TO_1970;
+        // find the march-based year
+        zeroDay -= 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            // adjust negative years to positive for calculation
+            final long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+        final int marchDoy0 = (int)doyEst;
+        // convert march-based values back to january-based
+        final int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        final int month = (marchMonth0 + 2) % 12 + 1;
+        final int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+        return (yearEst << 9) | (month << 5) | dom;
+    }
+
+    /**
+     * @param packedDate a date packed by {@link #packDate(long)}
+     * @return the year
+     */
+    public static int unpackYear(final long packedDate) {
+        return (int)(packedDate >> 9);
+    }
+
+    /**
+     * @param packedDate a date packed by {@link #packDate(long)}
+     * @return the month of year from 1 to 12
+     */
+    public static int unpackMonth(final long packedDate) {
+        return (int)(packedDate >> 5) & 0xF;
+    }
+
+    /**
+     * @param packedDate a date packed by {@link #packDate(long)}
+     * @return the day of month from 1 to 31
+     */
+    public static int unpackDayOfMonth(final long packedDate) {
+        return (int)packedDate & 0x1F;
+    }
+
+    /**
+     * @param epochDay the epoch day
+     * @return the year, see {@link LocalDate#getYear()}
+     */
+    public static int getYear(final long epochDay) {
+        return unpackYear(packDate(epochDay));
+    }
+
+    /**
+     * @param epochDay the epoch day
+     * @return the month of year from 1 to 12, see {@link LocalDate#getMonthValue()}
+     */
+    public static int getMonthValue(final long epochDay) {
+        return unpackMonth(packDate(epochDay));
+    }
+
+    /**
+     * @param epochDay the epoch day
+     * @return the quarter of year from 1 to 4
+     */
+    public static int getQuarter(final long epochDay) {
+        return (getMonthValue(epochDay) + 2) / 3;
+    }
+
+    /**
+     * @param epochDay the epoch day
+     * @return the day of month from 1 to 31, see {@link LocalDate#getDayOfMonth()}
+     */
+    public static int getDayOfMonth(final long epochDay) {
+        return unpackDayOfMonth(packDate(epochDay));
+    }
+
+    /**
+     * @param epochDay the epoch day
+     * @return the day of year from 1 to 366, see {@link LocalDate#getDayOfYear()}
+     */
+    public static int getDayOfYear(final long epochDay) {
+        return (int)(epochDay - firstEpochDayOfYear(getYear(epochDay))) + 1;
+    }
+
+    /**
+     * @param epochDay the epoch day
+     * @return the ISO day of week from 1 (Monday) to 7 (Sunday), see {@link LocalDate#getDayOfWeek()}
+     */
+    public static int getDayOfWeek(final long epochDay) {
+        return (int)Math.floorMod(epochDay + 3, 7L) + 1;
+    }
+
+    /**
+     * @param nanoOfDay the nano of day
+     * @return the hour of day from 0 to 23, see {@link LocalTime#getHour()}
+     */
+    public static int getHour(final long nanoOfDay) {
+        return (int)(nanoOfDay / NANOS_PER_HOUR);
+    }
+
+    /**
+     * @param nanoOfDay the nano of day
+     * @return the minute of hour from 0 to 59, see {@link LocalTime#getMinute()}
+     */
+    public static int getMinute(final long nanoOfDay) {
+        return (int)((nanoOfDay / NANOS_PER_MINUTE) % 60);
+    }
+
+    /**
+     * @param nanoOfDay the nano of day
+     * @return the second of minute from 0 to 59, see {@link LocalTime#getSecond()}
+     */
+    public static int getSecond(final long nanoOfDay) {
+        return (int)((nanoOfDay / NANOS_PER_SECOND) % 60);
+    }
+
+    /**
+     * @param nanoOfDay the nano of day
+     * @return the nano of second, see {@link LocalTime#getNano()}
+     */
+    public static int getNano(final long nanoOfDay) {
+        return (int)(nanoOfDay % NANOS_PER_SECOND);
+    }
+
+    /**
+     * Returns the value of the given field. Supported fields are {@link ChronoField#YEAR},
+     * {@link ChronoField#MONTH_OF_YEAR}, {@link ChronoField#DAY_OF_MONTH}, {@link ChronoField#DAY_OF_YEAR},
+     * {@link ChronoField#DAY_OF_WEEK}, {@link ChronoField#HOUR_OF_DAY}, {@link ChronoField#MINUTE_OF_HOUR},
+     * {@link ChronoField#SECOND_OF_MINUTE}, {@link ChronoField#MILLI_OF_SECOND}, {@link ChronoField#MICRO_OF_SECOND}
+     * and {@link ChronoField#NANO_OF_SECOND}.
+     *
+     * @param field the field to extract
+     * @param epochDay the epoch day
+     * @param nanoOfDay the nano of day
+     * @return the value of the field, see {@link LocalDateTime#get(java.time.temporal.TemporalField)}
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     */
+    public static int get(final ChronoField field, final long epochDay, final long nanoOfDay) {
+        switch (field) {
+            case YEAR:
+                return getYear(epochDay);
+            case MONTH_OF_YEAR:
+                return getMonthValue(epochDay);
+            case DAY_OF_MONTH:
+                return getDayOfMonth(epochDay);
+            case DAY_OF_YEAR:
+                return getDayOfYear(epochDay);
+            case DAY_OF_WEEK:
+                return getDayOfWeek(epochDay);
+            case HOUR_OF_DAY:
+                return getHour(nanoOfDay);
+            case MINUTE_OF_HOUR:
+                return getMinute(nanoOfDay);
+            case SECOND_OF_MINUTE:
+                return getSecond(nanoOfDay);
+            case MILLI_OF_SECOND:
+                return getNano(nanoOfDay) / 1_000_000;
+            case MICRO_OF_SECOND:
+                return getNano(nanoOfDay) / 1_000;
+            case NANO_OF_SECOND:
+                return getNano(nanoOfDay);
+            default:
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+    }
+
+    /**
+     * @param year the proleptic year
+     * @return the epoch day of the first of January of the year, see {@link LocalDate#toEpochDay()}
+     */
+    static long firstEpochDayOfYear(final int year) {
+        final long y = year;
+        long total = 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Computes the same hash code as {@link LocalDateTime#hashCode()}.
+     *
+     * @param epochDay the epoch day
+     * @param nanoOfDay the nano of day
+     * @return the hash code
+     */
+    static int hashCode(final long epochDay, final long nanoOfDay) {
+        final long packed = packDate(epochDay);
+        final int year = unpackYear(packed);
+        // see LocalDate#hashCode and LocalTime#hashCode
+        final int dateHash =
+            (year & 0xFFFFF800) ^ ((year << 11) + (unpackMonth(packed) << 6) + (unpackDayOfMonth(packed)));
+        return dateHash ^ Long.hashCode(nanoOfDay);
+    }
+}
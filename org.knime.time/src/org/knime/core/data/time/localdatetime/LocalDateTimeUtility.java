@@ -99,6 +99,9 @@ static class LocalDateTimeComparator extends DataValueComparator {
 
         @Override
         protected int compareDataValues(final DataValue v1, final DataValue v2) {
+            if (v1 instanceof LocalDateTimeCell && v2 instanceof LocalDateTimeCell) {
+                return LocalDateTimeCell.compare((LocalDateTimeCell)v1, (LocalDateTimeCell)v2);
+            }
             LocalDateTime lt1 = ((LocalDateTimeValue)v1).getLocalDateTime();
             LocalDateTime lt2 = ((LocalDateTimeValue)v2).getLocalDateTime();
             return lt1.compareTo(lt2);
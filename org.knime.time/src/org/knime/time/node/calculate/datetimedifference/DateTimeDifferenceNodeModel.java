@@ -70,6 +70,7 @@
 import org.knime.core.data.def.LongCell.LongCellFactory;
 import org.knime.core.data.time.duration.DurationCellFactory;
 import org.knime.core.data.time.localdate.LocalDateValue;
+import org.knime.core.data.time.localdatetime.LocalDateTimeCell;
 import org.knime.core.data.time.localdatetime.LocalDateTimeValue;
 import org.knime.core.data.time.localtime.LocalTimeValue;
 import org.knime.core.data.time.period.PeriodCellFactory;
@@ -104,6 +105,9 @@
  * @author Simon Schmid, KNIME.com, Konstanz, Germany
  */
 final class DateTimeDifferenceNodeModel extends NodeModel {
+
+    private static final long SECONDS_PER_DAY = 86400L;
+
     private final SettingsModelString m_col1stSelectModel = createColSelectModel(1);
 
     private final SettingsModelString m_col2ndSelectModel = createColSelectModel(2);
@@ -500,6 +504,17 @@ private DataCell calculateTime(final DataCell cell, final DataCell referenceCell
             return new MissingCell("Reference cell for calculating difference is missing.");
         }
 
+        final boolean isDuration = m_calculationSelectModel.getStringValue().equals(OutputMode.Duration.name());
+        if (isDuration && fixedDateTime == null && cell instanceof LocalDateTimeCell
+            && referenceCell instanceof LocalDateTimeCell) {
+            // compute the duration from the primitive representation, no need to create LocalDateTimes
+            final LocalDateTimeCell cell1 = (LocalDateTimeCell)cell;
+            final LocalDateTimeCell cell2 = (LocalDateTimeCell)referenceCell;
+            return DurationCellFactory.create(
+                Duration.ofSeconds(Math.multiplyExact(cell2.getEpochDay() - cell1.getEpochDay(), SECONDS_PER_DAY),
+                    cell2.getNanoOfDay() - cell1.getNanoOfDay()));
+        }
+
         final Temporal temporal1;
         final Temporal temporal2;
         if (cell instanceof ZonedDateTimeValue) {
@@ -515,7 +530,7 @@ private DataCell calculateTime(final DataCell cell, final DataCell referenceCell
                 fixedDateTime == null ? ((LocalTimeValue)referenceCell).getLocalTime() : fixedDateTime.toLocalTime();
         }
 
-        if (m_calculationSelectModel.getStringValue().equals(OutputMode.Duration.name())) {
+        if (isDuration) {
             final Duration diffDuration = Duration.between(temporal1, temporal2);
             return DurationCellFactory.create(diffDuration);
         } else {
@@ -0,0 +1,350 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.time.node.convert.stringtodatetime;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Parser for date&amp;time patterns that consist only of fixed-width numeric fields and literals, e.g.
+ * <code>yyyy-MM-dd'T'HH:mm:ss.SSS</code>. The pattern is compiled once into the positions of its fields, parsing a
+ * string then only checks the literals and reads the digits without creating any intermediate objects.
+ *
+ * The parser only handles inputs for which the result is guaranteed to be identical to the one of a
+ * {@link java.time.format.DateTimeFormatter} created from the same pattern. For all other inputs, e.g. inputs with
+ * a different length, out of range values or missing fields, the parse methods return <code>null</code> and the
+ * caller has to use the formatter which then either resolves the input or produces the appropriate error.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class FastDateTimeParser {
+
+    private static final int YEAR_OF_ERA = 0;
+
+    private static final int PROLEPTIC_YEAR = 1;
+
+    private static final int MONTH = 2;
+
+    private static final int DAY = 3;
+
+    private static final int HOUR = 4;
+
+    private static final int MINUTE = 5;
+
+    private static final int SECOND = 6;
+
+    private static final int FRACTION = 7;
+
+    private static final int NR_FIELDS = 8;
+
+    private static final int[] NANO_SCALES =
+        {0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+
+    /** The expected characters, digit positions are marked in {@link #m_isDigit}. */
+    private final char[] m_template;
+
+    private final boolean[] m_isDigit;
+
+    /** The start positions of the fields, -1 for fields that are not part of the pattern. */
+    private final int[] m_fieldStarts;
+
+    private final int[] m_fieldWidths;
+
+    private FastDateTimeParser(final char[] template, final boolean[] isDigit, final int[] fieldStarts,
+        final int[] fieldWidths) {
+        m_template = template;
+        m_isDigit = isDigit;
+        m_fieldStarts = fieldStarts;
+        m_fieldWidths = fieldWidths;
+    }
+
+    /**
+     * Compiles the given pattern into a parser.
+     *
+     * @param pattern the pattern as accepted by {@link java.time.format.DateTimeFormatter#ofPattern(String, Locale)}
+     * @param locale the locale of the formatter
+     * @return the parser or <code>null</code> if the pattern is not supported, e.g. because it contains text or
+     *         variable-width fields, optional sections or the locale uses a non-ISO chronology
+     */
+    static FastDateTimeParser compile(final String pattern, final Locale locale) {
+        if (pattern == null || !IsoChronology.INSTANCE.equals(Chronology.ofLocale(locale))) {
+            return null;
+        }
+        final StringBuilder template = new StringBuilder();
+        final int[] fieldStarts = new int[NR_FIELDS];
+        Arrays.fill(fieldStarts, -1);
+        final int[] fieldWidths = new int[NR_FIELDS];
+        for (int pos = 0; pos < pattern.length(); pos++) {
+            final char ch = pattern.charAt(pos);
+            if ((ch >= 'A' && ch <= 'Z') || (ch >= 'a' && ch <= 'z')) {
+                int end = pos + 1;
+                while (end < pattern.length() && pattern.charAt(end) == ch) {
+                    end++;
+                }
+                final int count = end - pos;
+                final int field = getField(ch, count);
+                if (field < 0 || fieldStarts[field] >= 0) {
+                    // unsupported or repeated field
+                    return null;
+                }
+                fieldStarts[field] = template.length();
+                fieldWidths[field] = count;
+                for (int i = 0; i < count; i++) {
+                    // digit positions are marked with '0'
+                    template.append('0');
+                }
+                pos = end - 1;
+            } else if (ch == '\'') {
+                int end = pos + 1;
+                for (; end < pattern.length(); end++) {
+                    if (pattern.charAt(end) == '\'') {
+                        if (end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'') {
+                            // escaped quote within a quoted literal
+                            end++;
+                        } else {
+                            break;
+                        }
+                    }
+                }
+                if (end >= pattern.length()) {
+                    // unterminated literal, the formatter reports the error
+                    return null;
+                }
+                final String literal = pattern.substring(pos + 1, end);
+                if (literal.isEmpty()) {
+                    template.append('\'');
+                } else {
+                    template.append(literal.replace("''", "'"));
+                }
+                pos = end;
+            } else if (ch == '[' || ch == ']' || ch == '{' || ch == '}' || ch == '#') {
+                return null;
+            } else {
+                template.append(ch);
+            }
+        }
+        if (!hasValidFieldCombination(fieldStarts)) {
+            return null;
+        }
+        final char[] templateChars = template.toString().toCharArray();
+        final boolean[] isDigit = new boolean[templateChars.length];
+        for (int field = 0; field < NR_FIELDS; field++) {
+            for (int i = 0; fieldStarts[field] >= 0 && i < fieldWidths[field]; i++) {
+                isDigit[fieldStarts[field] + i] = true;
+            }
+        }
+        return new FastDateTimeParser(templateChars, isDigit, fieldStarts, fieldWidths);
+    }
+
+    private static int getField(final char letter, final int count) {
+        switch (letter) {
+            case 'y':
+                return count == 4 ? YEAR_OF_ERA : -1;
+            case 'u':
+                return count == 4 ? PROLEPTIC_YEAR : -1;
+            case 'M':
+                return count == 2 ? MONTH : -1;
+            case 'd':
+                return count == 2 ? DAY : -1;
+            case 'H':
+                return count == 2 ? HOUR : -1;
+            case 'm':
+                return count == 2 ? MINUTE : -1;
+            case 's':
+                return count == 2 ? SECOND : -1;
+            case 'S':
+                return count <= 9 ? FRACTION : -1;
+            default:
+                return -1;
+        }
+    }
+
+    private static boolean hasValidFieldCombination(final int[] fieldStarts) {
+        if (fieldStarts[YEAR_OF_ERA] >= 0 && fieldStarts[PROLEPTIC_YEAR] >= 0) {
+            return false;
+        }
+        // the formatter resolves the time fields only top down
+        if (fieldStarts[FRACTION] >= 0 && fieldStarts[SECOND] < 0) {
+            return false;
+        }
+        if (fieldStarts[SECOND] >= 0 && fieldStarts[MINUTE] < 0) {
+            return false;
+        }
+        return fieldStarts[MINUTE] < 0 || fieldStarts[HOUR] >= 0;
+    }
+
+    /**
+     * Parses a {@link LocalDate}.
+     *
+     * @param input the string to parse
+     * @return the parsed date or <code>null</code> if the input has to be parsed by the formatter
+     */
+    LocalDate parseLocalDate(final CharSequence input) {
+        if (!hasDate() || !matches(input)) {
+            return null;
+        }
+        final int year = getYear(input);
+        final int month = getValue(input, MONTH);
+        final int day = getValue(input, DAY);
+        if (!isValidDate(year, month, day) || !isValidTime(input)) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Parses a {@link LocalTime}.
+     *
+     * @param input the string to parse
+     * @return the parsed time or <code>null</code> if the input has to be parsed by the formatter
+     */
+    LocalTime parseLocalTime(final CharSequence input) {
+        if (!hasTime() || !matches(input) || !isValidTime(input)) {
+            return null;
+        }
+        if (hasAnyDateField() && !(hasDate() && isValidDate(getYear(input), getValue(input, MONTH),
+            getValue(input, DAY)))) {
+            // partial or invalid dates are resolved by the formatter
+            return null;
+        }
+        return createTime(input);
+    }
+
+    /**
+     * Parses a {@link LocalDateTime}.
+     *
+     * @param input the string to parse
+     * @return the parsed date and time or <code>null</code> if the input has to be parsed by the formatter
+     */
+    LocalDateTime parseLocalDateTime(final CharSequence input) {
+        if (!hasDate() || !hasTime() || !matches(input)) {
+            return null;
+        }
+        final int year = getYear(input);
+        final int month = getValue(input, MONTH);
+        final int day = getValue(input, DAY);
+        if (!isValidDate(year, month, day) || !isValidTime(input)) {
+            return null;
+        }
+        return LocalDateTime.of(LocalDate.of(year, month, day), createTime(input));
+    }
+
+    private boolean hasDate() {
+        return (m_fieldStarts[YEAR_OF_ERA] >= 0 || m_fieldStarts[PROLEPTIC_YEAR] >= 0) && m_fieldStarts[MONTH] >= 0
+            && m_fieldStarts[DAY] >= 0;
+    }
+
+    private boolean hasAnyDateField() {
+        return m_fieldStarts[YEAR_OF_ERA] >= 0 || m_fieldStarts[PROLEPTIC_YEAR] >= 0 || m_fieldStarts[MONTH] >= 0
+            || m_fieldStarts[DAY] >= 0;
+    }
+
+    private boolean hasTime() {
+        return m_fieldStarts[HOUR] >= 0 && m_fieldStarts[MINUTE] >= 0;
+    }
+
+    private boolean matches(final CharSequence input) {
+        if (input.length() != m_template.length) {
+            return false;
+        }
+        for (int i = 0; i < m_template.length; i++) {
+            final char ch = input.charAt(i);
+            if (m_isDigit[i] ? (ch < '0' || ch > '9') : ch != m_template[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int getValue(final CharSequence input, final int field) {
+        final int start = m_fieldStarts[field];
+        final int end = start + m_fieldWidths[field];
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (input.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private int getYear(final CharSequence input) {
+        if (m_fieldStarts[YEAR_OF_ERA] >= 0) {
+            final int yearOfEra = getValue(input, YEAR_OF_ERA);
+            // year of era 0 doesn't exist
+            return yearOfEra == 0 ? -1 : yearOfEra;
+        }
+        return getValue(input, PROLEPTIC_YEAR);
+    }
+
+    private static boolean isValidDate(final int year, final int month, final int day) {
+        // days beyond the end of the month are adjusted by the smart resolver of the formatter
+        return year >= 0 && month >= 1 && month <= 12 && day >= 1
+            && day <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    private boolean isValidTime(final CharSequence input) {
+        // an hour of 24 is resolved to the next day by the formatter
+        return (m_fieldStarts[HOUR] < 0 || getValue(input, HOUR) <= 23)
+            && (m_fieldStarts[MINUTE] < 0 || getValue(input, MINUTE) <= 59)
+            && (m_fieldStarts[SECOND] < 0 || getValue(input, SECOND) <= 59);
+    }
+
+    private LocalTime createTime(final CharSequence input) {
+        final int second = m_fieldStarts[SECOND] < 0 ? 0 : getValue(input, SECOND);
+        final int nano =
+            m_fieldStarts[FRACTION] < 0 ? 0 : getValue(input, FRACTION) * NANO_SCALES[m_fieldWidths[FRACTION]];
+        return LocalTime.of(getValue(input, HOUR), getValue(input, MINUTE), second, nano);
+    }
+}
@@ -61,6 +61,7 @@
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.LocaleUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -118,7 +119,7 @@ final class StringToDateTimeNodeModel extends SimpleStreamableFunctionNodeModel
 
     private String m_selectedType = DateTimeType.LOCAL_DATE_TIME.name();
 
-    private int m_failCounter;
+    private final AtomicInteger m_failCounter = new AtomicInteger();
 
     private boolean m_hasValidatedConfiguration = false;
 
@@ -224,9 +225,9 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         throws Exception {
         final ColumnRearranger columnRearranger = createColumnRearranger(inData[0].getDataTableSpec());
         final BufferedDataTable out = exec.createColumnRearrangeTable(inData[0], columnRearranger, exec);
-        if (m_failCounter > 0) {
+        if (m_failCounter.get() > 0) {
             setWarningMessage(
-                m_failCounter + " rows could not be converted. Check the message in the missing cells for details.");
+                m_failCounter.get() + " rows could not be converted. Check the message in the missing cells for details.");
         }
         return new BufferedDataTable[]{out};
     }
@@ -349,22 +350,34 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
      */
     @Override
     protected void reset() {
-        m_failCounter = 0;
+        m_failCounter.set(0);
     }
 
     /**
-     * This cell factory converts a single Date&Time cell to a String cell.
+     * This cell factory converts a single Date&Time cell to a String cell. The rows are processed concurrently.
      */
     final class StringToTimeCellFactory extends SingleCellFactory {
         private final int m_colIndex;
 
+        private final DateTimeType m_type;
+
+        private final DateTimeFormatter m_formatter;
+
+        /** Parser for fixed-width numeric patterns or null if the pattern is not supported. */
+        private final FastDateTimeParser m_fastParser;
+
         /**
          * @param inSpec spec of the column after computation
          * @param colIndex index of the column to work on
          */
         public StringToTimeCellFactory(final DataColumnSpec inSpec, final int colIndex) {
-            super(inSpec);
+            super(true, inSpec);
             m_colIndex = colIndex;
+            m_type = DateTimeType.valueOf(m_selectedType);
+            final Locale locale = Locale.forLanguageTag(m_locale.getStringValue());
+            m_formatter = DateTimeFormatter.ofPattern(m_format.getStringValue(), locale)
+                .withChronology(Chronology.ofLocale(locale));
+            m_fastParser = FastDateTimeParser.compile(m_format.getStringValue(), locale);
         }
 
         /**
@@ -378,32 +391,39 @@ public DataCell getCell(final DataRow row) {
             }
             try {
                 final String input = ((StringValue)cell).getStringValue();
-                final Locale locale = Locale.forLanguageTag(m_locale.getStringValue());
-                final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(m_format.getStringValue(), locale)
-                    .withChronology(Chronology.ofLocale(locale));
 
-                switch (DateTimeType.valueOf(m_selectedType)) {
+                // the fast parser returns null for all inputs that need to be resolved by the formatter
+                switch (m_type) {
                     case LOCAL_DATE: {
-                        final LocalDate ld = LocalDate.parse(input, formatter);
+                        LocalDate ld = m_fastParser == null ? null : m_fastParser.parseLocalDate(input);
+                        if (ld == null) {
+                            ld = LocalDate.parse(input, m_formatter);
+                        }
                         return LocalDateCellFactory.create(ld);
                     }
                     case LOCAL_TIME: {
-                        final LocalTime lt = LocalTime.parse(input, formatter);
+                        LocalTime lt = m_fastParser == null ? null : m_fastParser.parseLocalTime(input);
+                        if (lt == null) {
+                            lt = LocalTime.parse(input, m_formatter);
+                        }
                         return LocalTimeCellFactory.create(lt);
                     }
                     case LOCAL_DATE_TIME: {
-                        final LocalDateTime ldt = LocalDateTime.parse(input, formatter);
+                        LocalDateTime ldt = m_fastParser == null ? null : m_fastParser.parseLocalDateTime(input);
+                        if (ldt == null) {
+                            ldt = LocalDateTime.parse(input, m_formatter);
+                        }
                         return LocalDateTimeCellFactory.create(ldt);
                     }
                     case ZONED_DATE_TIME: {
-                        final ZonedDateTime zdt = ZonedDateTime.parse(input, formatter);
+                        final ZonedDateTime zdt = ZonedDateTime.parse(input, m_formatter);
                         return ZonedDateTimeCellFactory.create(zdt);
                     }
                     default:
                         throw new IllegalStateException("Unhandled date&time type: " + m_selectedType);
                 }
             } catch (DateTimeParseException e) {
-                m_failCounter++;
+                m_failCounter.incrementAndGet();
                 if (m_cancelOnFail.getBooleanValue()) {
                     throw new IllegalArgumentException(
                         "Failed to parse date in row '" + row.getKey() + ": " + e.getMessage());
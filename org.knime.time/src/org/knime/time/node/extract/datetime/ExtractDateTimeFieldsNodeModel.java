@@ -70,6 +70,8 @@
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.def.StringCell.StringCellFactory;
 import org.knime.core.data.time.localdate.LocalDateValue;
+import org.knime.core.data.time.localdatetime.LocalDateTimeCell;
+import org.knime.core.data.time.localdatetime.LocalDateTimeFields;
 import org.knime.core.data.time.localdatetime.LocalDateTimeValue;
 import org.knime.core.data.time.localtime.LocalTimeValue;
 import org.knime.core.data.time.zoneddatetime.ZonedDateTimeValue;
@@ -255,7 +257,7 @@ protected DataCell getCell(final LocalDateValue value) {
 
                         @Override
                         protected DataCell getCell(final LocalDateTimeValue value) {
-                            return IntCellFactory.create(value.getLocalDateTime().getYear());
+                            return IntCellFactory.create(getField(value, ChronoField.YEAR));
                         }
                     });
                 } else if (isZonedDateTime) {
@@ -320,7 +322,7 @@ protected DataCell getCell(final LocalDateValue value) {
 
                         @Override
                         protected DataCell getCell(final LocalDateTimeValue value) {
-                            return IntCellFactory.create((value.getLocalDateTime().getMonthValue() + 2) / 3);
+                            return IntCellFactory.create((getField(value, ChronoField.MONTH_OF_YEAR) + 2) / 3);
                         }
                     });
                 } else if (isZonedDateTime) {
@@ -352,7 +354,7 @@ protected DataCell getCell(final LocalDateValue value) {
 
                         @Override
                         protected DataCell getCell(final LocalDateTimeValue value) {
-                            return IntCellFactory.create(value.getLocalDateTime().getMonthValue());
+                            return IntCellFactory.create(getField(value, ChronoField.MONTH_OF_YEAR));
                         }
                     });
                 } else if (isZonedDateTime) {
@@ -452,7 +454,7 @@ protected DataCell getCell(final LocalDateValue value) {
 
                         @Override
                         protected DataCell getCell(final LocalDateTimeValue value) {
-                            return IntCellFactory.create(value.getLocalDateTime().getDayOfYear());
+                            return IntCellFactory.create(getField(value, ChronoField.DAY_OF_YEAR));
                         }
                     });
                 } else if (isZonedDateTime) {
@@ -484,7 +486,7 @@ protected DataCell getCell(final LocalDateValue value) {
 
                         @Override
                         protected DataCell getCell(final LocalDateTimeValue value) {
-                            return IntCellFactory.create(value.getLocalDateTime().getDayOfMonth());
+                            return IntCellFactory.create(getField(value, ChronoField.DAY_OF_MONTH));
                         }
                     });
                 } else if (isZonedDateTime) {
@@ -587,7 +589,7 @@ protected DataCell getCell(final LocalTimeValue value) {
 
                         @Override
                         protected DataCell getCell(final LocalDateTimeValue value) {
-                            return IntCellFactory.create(value.getLocalDateTime().getHour());
+                            return IntCellFactory.create(getField(value, ChronoField.HOUR_OF_DAY));
                         }
                     });
                 } else if (isZonedDateTime) {
@@ -618,7 +620,7 @@ protected DataCell getCell(final LocalTimeValue value) {
 
                         @Override
                         protected DataCell getCell(final LocalDateTimeValue value) {
-                            return IntCellFactory.create(value.getLocalDateTime().getMinute());
+                            return IntCellFactory.create(getField(value, ChronoField.MINUTE_OF_HOUR));
                         }
                     });
                 } else if (isZonedDateTime) {
@@ -649,7 +651,7 @@ protected DataCell getCell(final LocalTimeValue value) {
 
                         @Override
                         protected DataCell getCell(final LocalDateTimeValue value) {
-                            return IntCellFactory.create(value.getLocalDateTime().getSecond());
+                            return IntCellFactory.create(getField(value, ChronoField.SECOND_OF_MINUTE));
                         }
                     });
                 } else if (isZonedDateTime) {
@@ -684,7 +686,7 @@ protected DataCell getCell(final LocalTimeValue value) {
 
                             @Override
                             protected DataCell getCell(final LocalDateTimeValue value) {
-                                return IntCellFactory.create(value.getLocalDateTime().get(ChronoField.MILLI_OF_SECOND));
+                                return IntCellFactory.create(getField(value, ChronoField.MILLI_OF_SECOND));
                             }
                         });
                     } else if (isZonedDateTime) {
@@ -713,7 +715,7 @@ protected DataCell getCell(final LocalTimeValue value) {
 
                             @Override
                             protected DataCell getCell(final LocalDateTimeValue value) {
-                                return IntCellFactory.create(value.getLocalDateTime().get(ChronoField.MICRO_OF_SECOND));
+                                return IntCellFactory.create(getField(value, ChronoField.MICRO_OF_SECOND));
                             }
                         });
                     } else if (isZonedDateTime) {
@@ -742,7 +744,7 @@ protected DataCell getCell(final LocalTimeValue value) {
 
                             @Override
                             protected DataCell getCell(final LocalDateTimeValue value) {
-                                return IntCellFactory.create(value.getLocalDateTime().getNano());
+                                return IntCellFactory.create(getField(value, ChronoField.NANO_OF_SECOND));
                             }
                         });
                     } else if (isZonedDateTime) {
@@ -918,6 +920,18 @@ private abstract class AbstractLocalTimeFieldCellFactory extends AbstractExtract
         AbstractLocalDateTimeFieldCellFactory(final int colIdx, final DataColumnSpec newColSpec) {
             super(colIdx, newColSpec);
         }
+
+        /**
+         * Decodes the field from the primitive representation of {@link LocalDateTimeCell} and only falls back to
+         * {@link LocalDateTimeValue#getLocalDateTime()} for other implementations.
+         */
+        protected int getField(final LocalDateTimeValue value, final ChronoField field) {
+            if (value instanceof LocalDateTimeCell) {
+                final LocalDateTimeCell cell = (LocalDateTimeCell)value;
+                return LocalDateTimeFields.get(field, cell.getEpochDay(), cell.getNanoOfDay());
+            }
+            return value.getLocalDateTime().get(field);
+        }
     }
 
     private abstract class AbstractZonedDateTimeFieldCellFactory